@@ -21,6 +21,7 @@ import com.google.caliper.Benchmark;
 import com.google.caliper.Param;
 import com.google.common.collect.BenchmarkHelpers.SetImpl;
 import com.google.common.collect.CollectionBenchmarkSampleData.Element;
+import com.google.common.primitives.ImmutableSortedIntSet;
 import java.util.Set;
 
 /**
@@ -31,7 +32,7 @@ import java.util.Set;
 public class SetContainsBenchmark {
   // Start at 4.88 then multiply by 2*2^phi <evil cackle> - The goal is be uniform
   // yet visit a variety of "values-relative-to-the-next-power-of-2"
-  @Param({"5", "30", "180", "1100", "6900", "43000", "260000"}) // "1600000", "9800000"
+  @Param({"5", "30", "180", "1100", "6900", "43000", "260000", "1600000", "9800000"})
   private int size;
 
   // TODO(kevinb): look at exact (==) hits vs. equals() hits?
@@ -45,12 +46,14 @@ public class SetContainsBenchmark {
   @Param("")
   private SpecialRandom random;
 
-  @Param({"HashSetImpl", "ImmutableSetImpl"})
+  @Param({"HashSetImpl", "ImmutableSetImpl", "ImmutableSortedSetImpl"})
   private SetImpl impl;
 
   // the following must be set during setUp
   private Element[] queries;
   private Set<Element> setToTest;
+  private int[] intQueries;
+  private ImmutableSortedIntSet intSetToTest;
 
   @BeforeExperiment
   void setUp() {
@@ -59,6 +62,17 @@ public class SetContainsBenchmark {
 
     this.setToTest = (Set<Element>) impl.create(sampleData.getValuesInSet());
     this.queries = sampleData.getQueries();
+
+    int[] hashes = new int[sampleData.getValuesInSet().size()];
+    int index = 0;
+    for (Element element : sampleData.getValuesInSet()) {
+      hashes[index++] = element.hash;
+    }
+    this.intSetToTest = ImmutableSortedIntSet.copyOf(hashes);
+    this.intQueries = new int[queries.length];
+    for (int i = 0; i < queries.length; i++) {
+      intQueries[i] = queries[i].hash;
+    }
   }
 
   @Benchmark
@@ -76,4 +90,23 @@ public class SetContainsBenchmark {
     }
     return dummy;
   }
+
+  /**
+   * Looks up the same values in an {@link ImmutableSortedIntSet} of the elements' hash codes. This
+   * ignores {@code impl} and {@code isUserTypeFast}, so compare it with {@code contains} for
+   * {@code ImmutableSortedSetImpl}.
+   */
+  @Benchmark
+  boolean containsSortedIntSet(int reps) {
+    ImmutableSortedIntSet set = intSetToTest;
+    int[] queries = this.intQueries;
+
+    int mask = queries.length - 1;
+
+    boolean dummy = false;
+    for (int i = 0; i < reps; i++) {
+      dummy ^= set.contains(queries[i & mask]);
+    }
+    return dummy;
+  }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.hash;
+
+import com.google.caliper.AfterExperiment;
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import com.google.common.primitives.Longs;
+import java.util.Random;
+
+/**
+ * Benchmarks comparing {@code mightContain} of the approximate-membership filters: {@link
+ * BloomFilter}, {@link BinaryFuseFilter} and {@link CuckooFilter}.
+ *
+ * <p>Parameters for the benchmark are:
+ *
+ * <ul>
+ *   <li>size: The number of elements in the filter.
+ *   <li>fpp: The false positive probability the filter is built for.
+ *   <li>impl: The filter to use.
+ * </ul>
+ *
+ * <p>After each experiment, the filter's size in bits per element and its observed false positive
+ * probability are printed.
+ */
+public class ApproximateMembershipBenchmark {
+
+  enum Impl {
+    BLOOM {
+      @Override
+      Filter build(long[] elements, double fpp) {
+        BloomFilter<Long> filter = BloomFilter.create(Funnels.longFunnel(), elements.length, fpp);
+        for (long element : elements) {
+          filter.put(element);
+        }
+        return new Filter(filter::mightContain, filter.bitSize());
+      }
+    },
+    BLOOM_BLOCKED {
+      @Override
+      Filter build(long[] elements, double fpp) {
+        BloomFilter<Long> filter =
+            BloomFilter.createBlocked(Funnels.longFunnel(), elements.length, fpp);
+        for (long element : elements) {
+          filter.put(element);
+        }
+        return new Filter(filter::mightContain, filter.bitSize());
+      }
+    },
+    BINARY_FUSE {
+      @Override
+      Filter build(long[] elements, double fpp) {
+        BinaryFuseFilter<Long> filter =
+            BinaryFuseFilter.copyOf(Longs.asList(elements), Funnels.longFunnel(), fpp);
+        return new Filter(filter::mightContain, filter.bitSize());
+      }
+    },
+    CUCKOO {
+      @Override
+      Filter build(long[] elements, double fpp) {
+        CuckooFilter<Long> filter = CuckooFilter.create(Funnels.longFunnel(), elements.length, fpp);
+        for (long element : elements) {
+          filter.put(element);
+        }
+        return new Filter(filter::mightContain, filter.bitSize());
+      }
+    };
+
+    abstract Filter build(long[] elements, double fpp);
+  }
+
+  interface Query {
+    boolean mightContain(long element);
+  }
+
+  static final class Filter {
+    final Query query;
+    final long bitSize;
+
+    Filter(Query query, long bitSize) {
+      this.query = query;
+      this.bitSize = bitSize;
+    }
+  }
+
+  @Param({"10000", "1000000", "50000000"})
+  private int size;
+
+  @Param({"0.004", "0.0001"})
+  private double fpp;
+
+  @Param private Impl impl;
+
+  private Filter filter;
+  private long[] queries;
+
+  @BeforeExperiment
+  void setUp() {
+    Random random = new Random(42);
+    long[] elements = new long[size];
+    for (int i = 0; i < size; i++) {
+      elements[i] = random.nextLong();
+    }
+    filter = impl.build(elements, fpp);
+    // Half of the queries are absent from the filter (almost certainly), half are present.
+    queries = new long[1 << 16];
+    for (int i = 0; i < queries.length; i++) {
+      queries[i] = (i % 2 == 0) ? elements[random.nextInt(size)] : random.nextLong();
+    }
+  }
+
+  @AfterExperiment
+  void tearDown() {
+    int falsePositives = 0;
+    for (int i = 1; i < queries.length; i += 2) {
+      if (filter.query.mightContain(queries[i])) {
+        falsePositives++;
+      }
+    }
+    System.out.println(
+        "bits per element: "
+            + (double) filter.bitSize / size
+            + ", observed fpp: "
+            + falsePositives * 2.0 / queries.length);
+  }
+
+  @Benchmark
+  int mightContain(int reps) {
+    Query query = this.filter.query;
+    long[] queries = this.queries;
+    int mask = queries.length - 1;
+    int result = 0;
+    for (int i = 0; i < reps; i++) {
+      result += query.mightContain(queries[i & mask]) ? 1 : 0;
+    }
+    return result;
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.hash;
+
+import com.google.caliper.AfterExperiment;
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import java.util.Random;
+
+/**
+ * Benchmarks for {@link BloomFilter#mightContain} under the different {@link
+ * BloomFilterStrategies}.
+ *
+ * <p>Parameters for the benchmark are:
+ *
+ * <ul>
+ *   <li>expectedInsertions: The number of elements the filter is sized for and filled with.
+ *   <li>fpp: The false positive probability the filter is sized for.
+ *   <li>strategy: The {@link BloomFilterStrategies strategy} to use.
+ * </ul>
+ *
+ * <p>After each experiment, the observed false positive probability is printed.
+ */
+public class BloomFilterBenchmark {
+
+  @Param({"10000", "1000000", "100000000"})
+  private int expectedInsertions;
+
+  @Param({"0.03", "0.001"})
+  private double fpp;
+
+  @Param({"MURMUR128_MITZ_64", "MURMUR128_BLOCKED_512"})
+  private BloomFilterStrategies strategy;
+
+  private BloomFilter<Long> filter;
+  private long[] queries;
+
+  @BeforeExperiment
+  void setUp() {
+    filter = BloomFilter.create(Funnels.longFunnel(), expectedInsertions, fpp, strategy);
+    Random random = new Random(42);
+    for (int i = 0; i < expectedInsertions; i++) {
+      filter.put(random.nextLong());
+    }
+    // Half of the queries are absent from the filter (almost certainly), half are present.
+    queries = new long[1 << 16];
+    for (int i = 0; i < queries.length; i++) {
+      queries[i] = random.nextLong();
+    }
+    random = new Random(42);
+    for (int i = 0; i < queries.length; i += 2) {
+      queries[i] = random.nextLong();
+    }
+  }
+
+  @AfterExperiment
+  void tearDown() {
+    int falsePositives = 0;
+    for (int i = 1; i < queries.length; i += 2) {
+      if (filter.mightContain(queries[i])) {
+        falsePositives++;
+      }
+    }
+    System.out.println(
+        "bits: " + filter.bitSize() + ", observed fpp: " + falsePositives * 2.0 / queries.length);
+  }
+
+  @Benchmark
+  int mightContain(int reps) {
+    BloomFilter<Long> filter = this.filter;
+    long[] queries = this.queries;
+    int mask = queries.length - 1;
+    int result = 0;
+    for (int i = 0; i < reps; i++) {
+      result += filter.mightContain(queries[i & mask]) ? 1 : 0;
+    }
+    return result;
+  }
+}
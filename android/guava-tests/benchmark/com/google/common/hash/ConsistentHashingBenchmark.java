@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.hash;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import java.util.Random;
+
+/**
+ * Benchmarks comparing the consistent hashing schemes: {@link Hashing#consistentHash}, {@link
+ * RendezvousHash}, {@link MaglevHash} and {@link ConsistentHashRing}.
+ *
+ * <p>Parameters for the benchmark are:
+ *
+ * <ul>
+ *   <li>nodes: The number of nodes.
+ *   <li>impl: The scheme to use.
+ * </ul>
+ */
+public class ConsistentHashingBenchmark {
+  private static final int KEY_COUNT = 1 << 12;
+
+  interface Sharder {
+    String get(long key);
+
+    void add(String node);
+
+    void remove(String node);
+  }
+
+  enum Impl {
+    JUMP {
+      @Override
+      Sharder create() {
+        // Jump hashing only supports adding and removing the last bucket.
+        return new Sharder() {
+          int buckets;
+
+          @Override
+          public String get(long key) {
+            return NODE_NAMES[Hashing.consistentHash(Hashing.murmur3_128().hashLong(key), buckets)];
+          }
+
+          @Override
+          public void add(String node) {
+            buckets++;
+          }
+
+          @Override
+          public void remove(String node) {
+            buckets--;
+          }
+        };
+      }
+    },
+    RENDEZVOUS {
+      @Override
+      Sharder create() {
+        RendezvousHash<Long, String> hash =
+            RendezvousHash.create(
+                Hashing.murmur3_128(), Funnels.longFunnel(), Funnels.stringFunnel(UTF_8));
+        return new Sharder() {
+          @Override
+          public String get(long key) {
+            return hash.get(key);
+          }
+
+          @Override
+          public void add(String node) {
+            hash.add(node);
+          }
+
+          @Override
+          public void remove(String node) {
+            hash.remove(node);
+          }
+        };
+      }
+    },
+    MAGLEV {
+      @Override
+      Sharder create() {
+        MaglevHash<Long, String> hash =
+            MaglevHash.create(
+                Hashing.murmur3_128(), Funnels.longFunnel(), Funnels.stringFunnel(UTF_8));
+        return new Sharder() {
+          @Override
+          public String get(long key) {
+            return hash.get(key);
+          }
+
+          @Override
+          public void add(String node) {
+            hash.add(node);
+          }
+
+          @Override
+          public void remove(String node) {
+            hash.remove(node);
+          }
+        };
+      }
+    },
+    RING {
+      @Override
+      Sharder create() {
+        ConsistentHashRing<Long, String> ring =
+            ConsistentHashRing.create(
+                Hashing.murmur3_128(), Funnels.longFunnel(), Funnels.stringFunnel(UTF_8));
+        return new Sharder() {
+          @Override
+          public String get(long key) {
+            return ring.get(key);
+          }
+
+          @Override
+          public void add(String node) {
+            ring.add(node);
+          }
+
+          @Override
+          public void remove(String node) {
+            ring.remove(node);
+          }
+        };
+      }
+    };
+
+    abstract Sharder create();
+  }
+
+  private static final String[] NODE_NAMES = new String[1000];
+
+  static {
+    for (int i = 0; i < NODE_NAMES.length; i++) {
+      NODE_NAMES[i] = "node-" + i;
+    }
+  }
+
+  @Param({"10", "100", "1000"})
+  int nodes;
+
+  @Param Impl impl;
+
+  private Sharder sharder;
+  private final long[] keys = new long[KEY_COUNT];
+
+  @BeforeExperiment
+  void setUp() {
+    sharder = impl.create();
+    for (int i = 0; i < nodes; i++) {
+      sharder.add(NODE_NAMES[i]);
+    }
+    Random random = new Random(42);
+    for (int i = 0; i < KEY_COUNT; i++) {
+      keys[i] = random.nextLong();
+    }
+  }
+
+  @Benchmark
+  int lookup(int reps) {
+    int result = 0;
+    for (int i = 0; i < reps; i++) {
+      result += sharder.get(keys[i & (KEY_COUNT - 1)]).length();
+    }
+    return result;
+  }
+
+  /** Measures the cost of removing a node, and of adding it back. */
+  @Benchmark
+  int rebalance(int reps) {
+    String last = NODE_NAMES[nodes - 1];
+    int result = 0;
+    for (int i = 0; i < reps; i++) {
+      sharder.remove(last);
+      sharder.add(last);
+      result += sharder.get(keys[i & (KEY_COUNT - 1)]).length();
+    }
+    return result;
+  }
+}
@@ -27,7 +27,7 @@ import java.util.Random;
  * <p>Parameters for the benchmark are:
  *
  * <ul>
- *   <li>size: The length of the byte array to hash.
+ *   <li>size: The length of the byte array to hash (ignored by {@link #hashLong}).
  *   <li>hashFunctionEnum: The {@link HashFunction} to use for hashing.
  * </ul>
  *
@@ -38,7 +38,7 @@ public class HashFunctionBenchmark {
   // Use a statically configured random instance for all of the benchmarks
   private static final Random random = new Random(42);
 
-  @Param({"10", "1000", "100000", "1000000"})
+  @Param({"8", "10", "32", "1000", "100000", "1000000"})
   private int size;
 
   @Param HashFunctionEnum hashFunctionEnum;
@@ -80,4 +80,14 @@ public class HashFunctionBenchmark {
     }
     return result;
   }
+
+  @Benchmark
+  int hashLong(int reps) {
+    HashFunction hashFunction = hashFunctionEnum.getHashFunction();
+    int result = 37;
+    for (int i = 0; i < reps; i++) {
+      result ^= hashFunction.hashLong(i).asBytes()[0];
+    }
+    return result;
+  }
 }
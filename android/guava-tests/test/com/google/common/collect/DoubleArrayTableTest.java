@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Arrays.asList;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.primitives.ImmutableDoubleArray;
+import com.google.common.testing.EqualsTester;
+import com.google.common.testing.NullPointerTester;
+import com.google.common.testing.SerializableTester;
+import java.util.Map;
+import junit.framework.TestCase;
+
+/** Tests for {@link DoubleArrayTable}. */
+@GwtIncompatible
+public class DoubleArrayTableTest extends TestCase {
+
+  private static DoubleArrayTable<String, Integer> create() {
+    DoubleArrayTable<String, Integer> table =
+        DoubleArrayTable.create(asList("foo", "bar", "cat"), asList(1, 2));
+    table.put("foo", 1, 1.5);
+    table.put("bar", 2, -2.0);
+    return table;
+  }
+
+  public void testCreate_filledWithZero() {
+    DoubleArrayTable<String, Integer> table =
+        DoubleArrayTable.create(asList("foo", "bar"), asList(1, 2, 3));
+    assertEquals(6, table.size());
+    assertThat(table.values()).containsExactly(0.0, 0.0, 0.0, 0.0, 0.0, 0.0);
+  }
+
+  public void testCreateDuplicateRows() {
+    try {
+      DoubleArrayTable.create(asList("foo", "bar", "foo"), asList(1, 2, 3));
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testCreateMissingColumns() {
+    try {
+      DoubleArrayTable.create(asList("foo"), ImmutableList.<Integer>of());
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testGetAndPut() {
+    DoubleArrayTable<String, Integer> table = create();
+    assertEquals(1.5, table.get("foo", 1));
+    assertEquals(0.0, table.get("cat", 2));
+    assertNull(table.get("dog", 1));
+    assertNull(table.get("foo", 3));
+    assertEquals(1.5, table.put("foo", 1, 4.0));
+    assertEquals(4.0, table.at(0, 0));
+  }
+
+  public void testPutIllegal() {
+    DoubleArrayTable<String, Integer> table = create();
+    try {
+      table.put("dog", 1, 1.0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      table.put("foo", 3, 1.0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testAtAndSet() {
+    DoubleArrayTable<String, Integer> table = create();
+    assertEquals(-2.0, table.at(1, 1));
+    assertEquals(-2.0, table.set(1, 1, 7.0));
+    assertEquals(7.0, table.get("bar", 2));
+    try {
+      table.at(3, 0);
+      fail();
+    } catch (IndexOutOfBoundsException expected) {
+    }
+    try {
+      table.set(0, 2, 1.0);
+      fail();
+    } catch (IndexOutOfBoundsException expected) {
+    }
+  }
+
+  public void testFill() {
+    DoubleArrayTable<String, Integer> table = create();
+    table.fill(2.0);
+    assertThat(table.values()).containsExactly(2.0, 2.0, 2.0, 2.0, 2.0, 2.0);
+    table.fillColumn(1, 3.0);
+    assertThat(table.values()).containsExactly(2.0, 3.0, 2.0, 3.0, 2.0, 3.0).inOrder();
+    assertThat(table.column(1)).containsExactly("foo", 2.0, "bar", 2.0, "cat", 2.0);
+    assertThat(table.column(2)).containsExactly("foo", 3.0, "bar", 3.0, "cat", 3.0);
+  }
+
+  public void testColumnValues() {
+    DoubleArrayTable<String, Integer> table = create();
+    ImmutableDoubleArray column = table.columnValues(2);
+    assertEquals(ImmutableDoubleArray.of(0.0, -2.0, 0.0), column);
+    table.put("foo", 2, 9.0);
+    assertEquals(ImmutableDoubleArray.of(0.0, -2.0, 0.0), column);
+    assertEquals(ImmutableDoubleArray.of(9.0, -2.0, 0.0), table.columnValuesAt(1));
+    try {
+      table.columnValues(3);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testToArray() {
+    DoubleArrayTable<String, Integer> table = create();
+    double[][] array = table.toArray();
+    assertEquals(3, array.length);
+    assertEquals(1.5, array[0][0]);
+    assertEquals(-2.0, array[1][1]);
+    array[0][0] = 8.0;
+    assertEquals(1.5, table.at(0, 0));
+  }
+
+  public void testRowAndColumnViews() {
+    DoubleArrayTable<String, Integer> table = create();
+    Map<Integer, Double> row = table.row("bar");
+    assertThat(row).containsExactly(1, 0.0, 2, -2.0).inOrder();
+    row.put(1, 5.0);
+    assertEquals(5.0, table.at(1, 0));
+    Map<String, Double> column = table.column(1);
+    column.put("cat", 6.0);
+    assertEquals(6.0, table.at(2, 0));
+    assertTrue(table.row("dog").isEmpty());
+    try {
+      row.put(1, null);
+      fail();
+    } catch (NullPointerException expected) {
+    }
+    try {
+      row.remove(1);
+      fail();
+    } catch (UnsupportedOperationException expected) {
+    }
+    assertThat(table.rowMap().keySet()).containsExactly("foo", "bar", "cat").inOrder();
+    assertThat(table.columnMap().get(2)).containsExactly("foo", 0.0, "bar", -2.0, "cat", 0.0);
+  }
+
+  public void testContainsValue() {
+    DoubleArrayTable<String, Integer> table = create();
+    assertTrue(table.containsValue(1.5));
+    assertTrue(table.containsValue(0.0));
+    assertFalse(table.containsValue(-0.0));
+    assertFalse(table.containsValue(1.5f));
+    assertFalse(table.containsValue(null));
+  }
+
+  public void testEquals() {
+    DoubleArrayTable<String, Integer> table = create();
+    Table<String, Integer, Double> hashCopy = HashBasedTable.create(table);
+    ArrayTable<String, Integer, Double> arrayCopy = ArrayTable.create(table);
+    DoubleArrayTable<String, Integer> other = create();
+    other.set(0, 0, 0.0);
+    new EqualsTester()
+        .addEqualityGroup(table, hashCopy, arrayCopy, DoubleArrayTable.create(table))
+        .addEqualityGroup(other)
+        .testEquals();
+  }
+
+  public void testCreateCopy() {
+    DoubleArrayTable<String, Integer> table = create();
+    DoubleArrayTable<String, Integer> copy = DoubleArrayTable.create(table);
+    table.fill(1.0);
+    assertEquals(1.5, copy.at(0, 0));
+    DoubleArrayTable<String, Integer> fromHash =
+        DoubleArrayTable.create(HashBasedTable.create(create()));
+    assertEquals(create(), fromHash);
+  }
+
+  public void testUnsupported() {
+    DoubleArrayTable<String, Integer> table = create();
+    try {
+      table.clear();
+      fail();
+    } catch (UnsupportedOperationException expected) {
+    }
+    try {
+      table.remove("foo", 1);
+      fail();
+    } catch (UnsupportedOperationException expected) {
+    }
+  }
+
+  public void testSerialization() {
+    DoubleArrayTable<String, Integer> table = create();
+    SerializableTester.reserializeAndAssert(table);
+  }
+
+  public void testNullPointers() {
+    new NullPointerTester().testAllPublicStaticMethods(DoubleArrayTable.class);
+    new NullPointerTester().testAllPublicInstanceMethods(create());
+  }
+}
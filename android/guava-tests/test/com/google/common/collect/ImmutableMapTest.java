@@ -31,6 +31,7 @@ import com.google.common.collect.testing.MapTestSuiteBuilder;
 import com.google.common.collect.testing.MinimalSet;
 import com.google.common.collect.testing.SampleElements.Colliders;
 import com.google.common.collect.testing.SampleElements.Unhashables;
+import com.google.common.collect.testing.TestStringMapGenerator;
 import com.google.common.collect.testing.UnhashableObject;
 import com.google.common.collect.testing.features.CollectionFeature;
 import com.google.common.collect.testing.features.CollectionSize;
@@ -51,6 +52,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.AbstractMap;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -86,6 +88,25 @@ public class ImmutableMapTest extends TestCase {
             .named("ImmutableMap")
             .createTestSuite());
 
+    suite.addTest(
+        MapTestSuiteBuilder.using(
+                new TestStringMapGenerator() {
+                  @Override
+                  protected Map<String, String> create(Entry<String, String>[] entries) {
+                    ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
+                    builder.putAll(Arrays.asList(entries));
+                    return builder.buildPerfectHash();
+                  }
+                })
+            .withFeatures(
+                CollectionSize.ANY,
+                CollectionFeature.SERIALIZABLE_INCLUDING_VIEWS,
+                CollectionFeature.KNOWN_ORDER,
+                MapFeature.REJECTS_DUPLICATES_AT_CREATION,
+                CollectionFeature.ALLOWS_NULL_QUERIES)
+            .named("ImmutableMap [perfect hash]")
+            .createTestSuite());
+
     suite.addTest(
         MapTestSuiteBuilder.using(new ImmutableMapCopyOfGenerator())
             .withFeatures(
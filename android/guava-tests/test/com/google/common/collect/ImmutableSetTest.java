@@ -34,6 +34,7 @@ import com.google.common.collect.testing.google.SetGenerators.ImmutableSetTooSma
 import com.google.common.collect.testing.google.SetGenerators.ImmutableSetUnsizedBuilderGenerator;
 import com.google.common.collect.testing.google.SetGenerators.ImmutableSetWithBadHashesGenerator;
 import com.google.common.testing.EqualsTester;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -321,6 +322,55 @@ public class ImmutableSetTest extends AbstractImmutableSetTest {
     assertNotSame(sortedSet, copy);
   }
 
+  public void testCopyOf_partialView() {
+    ImmutableMap<String, Integer> map = ImmutableMap.of("a", 1, "b", 2, "c", 3);
+    ImmutableSet<String> copy = ImmutableSet.copyOf(map.keySet());
+    assertThat(copy).containsExactly("a", "b", "c").inOrder();
+    assertFalse(copy.isPartialView());
+    assertTrue(copy.contains("b"));
+    assertFalse(copy.contains("d"));
+    assertEquals(map.keySet().hashCode(), copy.hashCode());
+  }
+
+  public void testCopyOf_partialViewWithCollidingHashCodes() {
+    class Colliding {
+      final int id;
+
+      Colliding(int id) {
+        this.id = id;
+      }
+
+      @Override
+      public int hashCode() {
+        return 0;
+      }
+
+      @Override
+      public boolean equals(Object obj) {
+        return obj instanceof Colliding && ((Colliding) obj).id == id;
+      }
+    }
+    ImmutableMap.Builder<Colliding, Integer> builder = ImmutableMap.builder();
+    for (int i = 0; i < 1000; i++) {
+      builder.put(new Colliding(i), i);
+    }
+    ImmutableMap<Colliding, Integer> map = builder.build();
+    ImmutableSet<Colliding> copy = ImmutableSet.copyOf(map.keySet());
+    assertEquals(1000, copy.size());
+    assertTrue(copy.contains(new Colliding(999)));
+    assertFalse(copy.contains(new Colliding(1000)));
+    assertEquals(map.keySet().asList(), copy.asList());
+  }
+
+  public void testBuilderAddAll_collections() {
+    ImmutableSet<Integer> set =
+        ImmutableSet.<Integer>builder()
+            .addAll(Arrays.asList(1, 2, 3, 2, 1))
+            .addAll(ImmutableSet.of(4, 3))
+            .build();
+    assertThat(set).containsExactly(1, 2, 3, 4).inOrder();
+  }
+
   // TODO(b/172823566): Use mainline testToImmutableSet once CollectorTester is usable to java7.
   public void testToImmutableSet_java7() {
     ImmutableSet.Builder<String> zis = ImmutableSet.<String>builder().add("a", "b", "a");
@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.testing.EqualsTester;
+import com.google.common.testing.NullPointerTester;
+import com.google.common.testing.SerializableTester;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import junit.framework.TestCase;
+
+/** Tests for {@link BinaryFuseFilter}. */
+public class BinaryFuseFilterTest extends TestCase {
+
+  private static List<Integer> range(int from, int to) {
+    List<Integer> list = new ArrayList<>();
+    for (int i = from; i < to; i++) {
+      list.add(i);
+    }
+    return list;
+  }
+
+  public void testNoFalseNegatives() {
+    for (int size : new int[] {0, 1, 2, 3, 10, 100, 1000, 12345, 100_000}) {
+      BinaryFuseFilter<Integer> filter =
+          BinaryFuseFilter.copyOf(range(0, size), Funnels.integerFunnel(), 0.01);
+      for (int i = 0; i < size; i++) {
+        assertTrue("size " + size + ", element " + i, filter.mightContain(i));
+      }
+    }
+  }
+
+  public void testFalsePositiveRate() {
+    for (double fpp : new double[] {0.01, 0.0001}) {
+      int size = 200_000;
+      BinaryFuseFilter<Integer> filter =
+          BinaryFuseFilter.copyOf(range(0, size), Funnels.integerFunnel(), fpp);
+      int falsePositives = 0;
+      int queries = 1_000_000;
+      for (int i = size; i < size + queries; i++) {
+        if (filter.mightContain(i)) {
+          falsePositives++;
+        }
+      }
+      double expected = filter.expectedFpp();
+      assertThat(expected).isAtMost(fpp);
+      assertThat((double) falsePositives / queries).isWithin(expected / 2).of(expected);
+    }
+  }
+
+  public void testFingerprintWidth() {
+    List<Integer> elements = range(0, 1000);
+    assertEquals(
+        1.0 / 256,
+        BinaryFuseFilter.copyOf(elements, Funnels.integerFunnel(), 0.01).expectedFpp());
+    assertEquals(
+        1.0 / 256,
+        BinaryFuseFilter.copyOf(elements, Funnels.integerFunnel(), 1.0 / 256).expectedFpp());
+    assertEquals(
+        1.0 / 65536,
+        BinaryFuseFilter.copyOf(elements, Funnels.integerFunnel(), 0.001).expectedFpp());
+    assertEquals(
+        Math.scalb(1.0, -32),
+        BinaryFuseFilter.copyOf(elements, Funnels.integerFunnel(), 1e-6).expectedFpp());
+  }
+
+  public void testSpaceEfficiency() {
+    int size = 1_000_000;
+    BinaryFuseFilter<Integer> filter =
+        BinaryFuseFilter.copyOf(range(0, size), Funnels.integerFunnel(), 1.0 / 256);
+    BloomFilter<Integer> bloomFilter =
+        BloomFilter.create(Funnels.integerFunnel(), size, filter.expectedFpp());
+    assertThat((double) filter.bitSize() / size).isLessThan(9.1);
+    assertThat((double) filter.bitSize() / bloomFilter.bitSize()).isLessThan(0.8);
+  }
+
+  public void testDuplicates() {
+    BinaryFuseFilter<String> filter =
+        BinaryFuseFilter.copyOf(
+            ImmutableList.of("a", "b", "a", "c", "b", "a"), Funnels.unencodedCharsFunnel(), 0.01);
+    assertTrue(filter.mightContain("a"));
+    assertTrue(filter.mightContain("b"));
+    assertTrue(filter.mightContain("c"));
+    BinaryFuseFilter<String> withoutDuplicates =
+        BinaryFuseFilter.copyOf(
+            ImmutableList.of("a", "b", "c"), Funnels.unencodedCharsFunnel(), 0.01);
+    assertEquals(withoutDuplicates, filter);
+  }
+
+  public void testEmpty() {
+    BinaryFuseFilter<String> filter =
+        BinaryFuseFilter.copyOf(ImmutableList.<String>of(), Funnels.unencodedCharsFunnel(), 0.01);
+    int falsePositives = 0;
+    for (int i = 0; i < 1000; i++) {
+      if (filter.mightContain("element" + i)) {
+        falsePositives++;
+      }
+    }
+    assertThat(falsePositives).isLessThan(20);
+  }
+
+  public void testWriteToAndReadFrom() throws IOException {
+    List<String> elements = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      elements.add("element" + i);
+    }
+    BinaryFuseFilter<String> filter =
+        BinaryFuseFilter.copyOf(elements, Funnels.stringFunnel(UTF_8), 0.001);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    filter.writeTo(out);
+    assertThat((long) out.size()).isLessThan(filter.bitSize() / 8 + 32);
+    BinaryFuseFilter<String> read =
+        BinaryFuseFilter.readFrom(
+            new ByteArrayInputStream(out.toByteArray()), Funnels.stringFunnel(UTF_8));
+    assertEquals(filter, read);
+    for (String element : elements) {
+      assertTrue(read.mightContain(element));
+    }
+  }
+
+  public void testReadFrom_corrupt() throws IOException {
+    BinaryFuseFilter<Integer> filter =
+        BinaryFuseFilter.copyOf(range(0, 100), Funnels.integerFunnel(), 0.01);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    filter.writeTo(out);
+    byte[] bytes = out.toByteArray();
+    bytes[11]++; // the segment length
+    try {
+      BinaryFuseFilter.readFrom(new ByteArrayInputStream(bytes), Funnels.integerFunnel());
+      fail();
+    } catch (IOException expected) {
+    }
+  }
+
+  public void testEquals() {
+    new EqualsTester()
+        .addEqualityGroup(
+            BinaryFuseFilter.copyOf(range(0, 100), Funnels.integerFunnel(), 0.01),
+            BinaryFuseFilter.copyOf(range(0, 100), Funnels.integerFunnel(), 0.01))
+        .addEqualityGroup(BinaryFuseFilter.copyOf(range(0, 101), Funnels.integerFunnel(), 0.01))
+        .addEqualityGroup(BinaryFuseFilter.copyOf(range(0, 100), Funnels.integerFunnel(), 0.0001))
+        .addEqualityGroup(
+            BinaryFuseFilter.copyOf(
+                ImmutableList.of("a", "b"), Funnels.unencodedCharsFunnel(), 0.01))
+        .testEquals();
+  }
+
+  public void testSerialization() {
+    BinaryFuseFilter<byte[]> filter =
+        BinaryFuseFilter.copyOf(
+            ImmutableList.of(new byte[] {1}, new byte[] {2, 3}), Funnels.byteArrayFunnel(), 0.01);
+    SerializableTester.reserializeAndAssert(filter);
+  }
+
+  public void testCopyOf_invalidArguments() {
+    try {
+      BinaryFuseFilter.copyOf(range(0, 10), Funnels.integerFunnel(), 0.0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      BinaryFuseFilter.copyOf(range(0, 10), Funnels.integerFunnel(), 1.0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testNullPointers() {
+    NullPointerTester tester = new NullPointerTester();
+    tester.testAllPublicInstanceMethods(
+        BinaryFuseFilter.copyOf(range(0, 10), Funnels.integerFunnel(), 0.01));
+    tester.testAllPublicStaticMethods(BinaryFuseFilter.class);
+  }
+}
@@ -30,9 +30,15 @@ import com.google.common.testing.SerializableTester;
 import com.google.common.util.concurrent.Uninterruptibles;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.Thread.UncaughtExceptionHandler;
 import java.math.RoundingMode;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
@@ -253,10 +259,16 @@ public class BloomFilterTest extends TestCase {
     }
   }
 
-  public void testNullPointers() {
+  public void testNullPointers() throws IOException {
     NullPointerTester tester = new NullPointerTester();
     tester.testAllPublicInstanceMethods(BloomFilter.create(Funnels.unencodedCharsFunnel(), 100));
-    tester.testAllPublicStaticMethods(BloomFilter.class);
+    Path file = Files.createTempFile("bloom", ".bin");
+    try (FileChannel channel = FileChannel.open(file)) {
+      tester.setDefault(FileChannel.class, channel);
+      tester.testAllPublicStaticMethods(BloomFilter.class);
+    } finally {
+      Files.delete(file);
+    }
   }
 
   /** Tests that we never get an optimal hashes number of zero. */
@@ -509,14 +521,224 @@ public class BloomFilterTest extends TestCase {
     assertEquals(bf, BloomFilter.readFrom(new ByteArrayInputStream(out.toByteArray()), funnel));
   }
 
+  public void testMapFrom() throws Exception {
+    Funnel<Integer> funnel = Funnels.integerFunnel();
+    BloomFilter<Integer> bf = BloomFilter.create(funnel, 10_000, 0.01);
+    for (int i = 0; i < 10_000; i += 3) {
+      bf.put(i);
+    }
+    Path file = Files.createTempFile("bloom", ".bin");
+    try {
+      try (OutputStream out = Files.newOutputStream(file)) {
+        bf.writeTo(out);
+      }
+      BloomFilter<Integer> mapped = mapFrom(file, funnel);
+      assertEquals(bf, mapped);
+      assertEquals(bf.hashCode(), mapped.hashCode());
+      for (int i = 0; i < 10_000; i++) {
+        assertEquals(bf.mightContain(i), mapped.mightContain(i));
+      }
+      assertEquals(bf.expectedFpp(), mapped.expectedFpp());
+      assertEquals(bf.approximateElementCount(), mapped.approximateElementCount());
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      mapped.writeTo(out);
+      assertEquals(bf, BloomFilter.readFrom(new ByteArrayInputStream(out.toByteArray()), funnel));
+      assertEquals(bf, SerializableTester.reserialize(mapped));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  public void testMapFrom_readOnly() throws Exception {
+    Funnel<Integer> funnel = Funnels.integerFunnel();
+    BloomFilter<Integer> bf = BloomFilter.createBlocked(funnel, 1000, 0.01);
+    bf.put(1);
+    Path file = Files.createTempFile("bloom", ".bin");
+    try {
+      try (OutputStream out = Files.newOutputStream(file)) {
+        bf.writeTo(out);
+      }
+      BloomFilter<Integer> mapped = mapFrom(file, funnel);
+      assertTrue(mapped.mightContain(1));
+      try {
+        mapped.put(2);
+        fail();
+      } catch (UnsupportedOperationException expected) {
+      }
+      try {
+        mapped.putAll(bf);
+        fail();
+      } catch (UnsupportedOperationException expected) {
+      }
+
+      BloomFilter<Integer> copy = mapped.copy();
+      assertTrue(copy.put(2));
+      assertTrue(copy.mightContain(2));
+      bf.putAll(mapped);
+      assertEquals(mapped, bf);
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  public void testMapFrom_channelPosition() throws Exception {
+    Funnel<Integer> funnel = Funnels.integerFunnel();
+    BloomFilter<Integer> bf = BloomFilter.create(funnel, 1000, 0.01);
+    bf.put(42);
+    Path file = Files.createTempFile("bloom", ".bin");
+    try {
+      try (OutputStream out = Files.newOutputStream(file)) {
+        out.write(new byte[] {1, 2, 3});
+        bf.writeTo(out);
+      }
+      try (FileChannel channel = FileChannel.open(file)) {
+        channel.position(3);
+        BloomFilter<Integer> mapped = BloomFilter.mapFrom(channel, funnel);
+        assertEquals(3, channel.position());
+        channel.close();
+        assertEquals(bf, mapped);
+        assertTrue(mapped.mightContain(42));
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  public void testMapFrom_truncated() throws Exception {
+    Funnel<Integer> funnel = Funnels.integerFunnel();
+    BloomFilter<Integer> bf = BloomFilter.create(funnel, 1000, 0.01);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    bf.writeTo(out);
+    byte[] bytes = out.toByteArray();
+    Path file = Files.createTempFile("bloom", ".bin");
+    try {
+      for (int length : new int[] {0, 3, bytes.length - 1}) {
+        Files.write(file, Arrays.copyOf(bytes, length));
+        try {
+          mapFrom(file, funnel);
+          fail();
+        } catch (IOException expected) {
+        }
+      }
+      bytes[0] = 100; // no such strategy
+      Files.write(file, bytes);
+      try {
+        mapFrom(file, funnel);
+        fail();
+      } catch (IOException expected) {
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  private static <T> BloomFilter<T> mapFrom(Path file, Funnel<T> funnel) throws IOException {
+    try (FileChannel channel = FileChannel.open(file)) {
+      return BloomFilter.mapFrom(channel, funnel);
+    }
+  }
+
   /**
    * This test will fail whenever someone updates/reorders the BloomFilterStrategies constants. Only
    * appending a new constant is allowed.
    */
   public void testBloomFilterStrategies() {
-    assertThat(BloomFilterStrategies.values()).hasLength(2);
+    assertThat(BloomFilterStrategies.values()).hasLength(3);
     assertEquals(BloomFilterStrategies.MURMUR128_MITZ_32, BloomFilterStrategies.values()[0]);
     assertEquals(BloomFilterStrategies.MURMUR128_MITZ_64, BloomFilterStrategies.values()[1]);
+    assertEquals(BloomFilterStrategies.MURMUR128_BLOCKED_512, BloomFilterStrategies.values()[2]);
+  }
+
+  public void testBlocked_falsePositiveRate() {
+    int numInsertions = 100_000;
+    for (double fpp : new double[] {0.03, 0.001, 0.00001}) {
+      BloomFilter<Integer> bf =
+          BloomFilter.createBlocked(Funnels.integerFunnel(), numInsertions, fpp);
+      assertEquals(0, bf.bitSize() % BloomFilterStrategies.BLOCK_BITS);
+      for (int i = 0; i < numInsertions; i++) {
+        bf.put(i);
+      }
+      for (int i = 0; i < numInsertions; i++) {
+        assertTrue(bf.mightContain(i));
+      }
+      int numQueries = 1_000_000;
+      int falsePositives = 0;
+      for (int i = numInsertions; i < numInsertions + numQueries; i++) {
+        if (bf.mightContain(i)) {
+          falsePositives++;
+        }
+      }
+      // Allow for sampling error, which dominates at the smallest fpp.
+      assertThat((double) falsePositives).isAtMost(1.2 * fpp * numQueries + 10);
+    }
+  }
+
+  public void testOptimalNumOfBlockedBits() {
+    for (long n : new long[] {1, 100, 1_000_000}) {
+      for (double p : new double[] {0.5, 0.03, 1e-6}) {
+        long m = BloomFilter.optimalNumOfBlockedBits(n, p);
+        assertEquals(0, m % BloomFilterStrategies.BLOCK_BITS);
+        assertThat(m).isAtLeast(BloomFilter.optimalNumOfBits(n, p));
+        int k = BloomFilter.optimalNumOfBlockedHashFunctions(n, m);
+        assertThat(k).isAtMost(255);
+        assertThat(BloomFilter.blockedFpp(n, m, k, 512)).isAtMost(p);
+      }
+    }
+  }
+
+  public void testCreateBlocked_tinyFpp() {
+    long n = 1_000_000;
+    long m = BloomFilter.optimalNumOfBlockedBits(n, 1e-9);
+    // Blocking costs about twice the bits at this probability, not orders of magnitude more.
+    assertThat(m).isLessThan(3 * BloomFilter.optimalNumOfBits(n, 1e-9));
+    int k = BloomFilter.optimalNumOfBlockedHashFunctions(n, m);
+    assertThat(k).isAtMost(255);
+    assertThat(BloomFilter.blockedFpp(n, m, k, 512)).isAtMost(1e-9);
+
+    BloomFilter<Integer> bf = BloomFilter.createBlocked(Funnels.integerFunnel(), 10_000, 1e-9);
+    for (int i = 0; i < 10_000; i++) {
+      bf.put(i);
+    }
+    for (int i = 10_000; i < 1_010_000; i++) {
+      assertFalse(bf.mightContain(i));
+    }
+  }
+
+  public void testCreateBlocked_fppBelowFloor() {
+    for (double fpp : new double[] {1e-15, Double.MIN_VALUE}) {
+      try {
+        BloomFilter.createBlocked(Funnels.integerFunnel(), 1_000_000, fpp);
+        fail();
+      } catch (IllegalArgumentException expected) {
+      }
+    }
+  }
+
+  public void testBlocked_serialization() throws Exception {
+    Funnel<byte[]> funnel = Funnels.byteArrayFunnel();
+    BloomFilter<byte[]> bf = BloomFilter.createBlocked(funnel, 1000, 0.01);
+    for (int i = 0; i < 100; i++) {
+      bf.put(Ints.toByteArray(i));
+    }
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    bf.writeTo(out);
+    BloomFilter<byte[]> copy =
+        BloomFilter.readFrom(new ByteArrayInputStream(out.toByteArray()), funnel);
+    assertEquals(bf, copy);
+    for (int i = 0; i < 100; i++) {
+      assertTrue(copy.mightContain(Ints.toByteArray(i)));
+    }
+
+    SerializableTester.reserializeAndAssert(bf);
+  }
+
+  public void testBlocked_incompatibleWithUnblocked() {
+    BloomFilter<Integer> blocked = BloomFilter.createBlocked(Funnels.integerFunnel(), 1000, 0.01);
+    BloomFilter<Integer> unblocked = BloomFilter.create(Funnels.integerFunnel(), 1000, 0.01);
+    assertFalse(blocked.isCompatible(unblocked));
+    assertFalse(blocked.equals(unblocked));
   }
 
 
@@ -0,0 +1,267 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.Range;
+import com.google.common.hash.CountingBloomFilter.LockFreeCounterArray;
+import com.google.common.testing.EqualsTester;
+import com.google.common.testing.NullPointerTester;
+import com.google.common.testing.SerializableTester;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import junit.framework.TestCase;
+
+/** Tests for {@link CountingBloomFilter}. */
+public class CountingBloomFilterTest extends TestCase {
+
+  public void testPutAndRemove() {
+    CountingBloomFilter<String> filter =
+        CountingBloomFilter.create(Funnels.unencodedCharsFunnel(), 1000, 0.01);
+    assertFalse(filter.mightContain("a"));
+    assertTrue(filter.put("a"));
+    assertTrue(filter.mightContain("a"));
+    filter.put("a");
+    assertTrue(filter.remove("a"));
+    assertTrue(filter.mightContain("a"));
+    assertTrue(filter.remove("a"));
+    assertFalse(filter.mightContain("a"));
+    assertFalse(filter.remove("a"));
+    assertEquals(CountingBloomFilter.create(Funnels.unencodedCharsFunnel(), 1000, 0.01), filter);
+  }
+
+  public void testNoFalseNegativesAfterRemovals() {
+    int numInsertions = 10_000;
+    CountingBloomFilter<Integer> filter =
+        CountingBloomFilter.create(Funnels.integerFunnel(), numInsertions, 0.03);
+    for (int i = 0; i < numInsertions; i++) {
+      filter.put(i);
+    }
+    for (int i = 0; i < numInsertions; i += 2) {
+      assertTrue(filter.remove(i));
+    }
+    for (int i = 1; i < numInsertions; i += 2) {
+      assertTrue(filter.mightContain(i));
+    }
+    int stillPresent = 0;
+    for (int i = 0; i < numInsertions; i += 2) {
+      if (filter.mightContain(i)) {
+        stillPresent++;
+      }
+    }
+    // The removed elements now only match as false positives, about 3% / 2 of the time
+    assertThat(stillPresent).isLessThan(numInsertions / 50);
+  }
+
+  public void testFalsePositiveRate() {
+    int numInsertions = 100_000;
+    double fpp = 0.01;
+    CountingBloomFilter<Integer> filter =
+        CountingBloomFilter.create(Funnels.integerFunnel(), numInsertions, fpp);
+    for (int i = 0; i < numInsertions; i++) {
+      filter.put(i);
+    }
+    int falsePositives = 0;
+    for (int i = numInsertions; i < 2 * numInsertions; i++) {
+      if (filter.mightContain(i)) {
+        falsePositives++;
+      }
+    }
+    double observed = (double) falsePositives / numInsertions;
+    assertThat(observed).isWithin(fpp / 2).of(fpp);
+    assertThat(filter.expectedFpp()).isWithin(fpp / 4).of(fpp);
+    assertThat(filter.approximateElementCount())
+        .isIn(Range.closed(95_000L, 105_000L));
+  }
+
+  public void testSaturatedCountersStick() {
+    LockFreeCounterArray counters = new LockFreeCounterArray(16);
+    for (int i = 0; i < LockFreeCounterArray.MAX_COUNT + 5; i++) {
+      counters.increment(3);
+    }
+    assertEquals(LockFreeCounterArray.MAX_COUNT, counters.get(3));
+    for (int i = 0; i < LockFreeCounterArray.MAX_COUNT + 5; i++) {
+      counters.decrement(3);
+    }
+    assertEquals(LockFreeCounterArray.MAX_COUNT, counters.get(3));
+    assertEquals(0, counters.get(2));
+    assertEquals(0, counters.get(4));
+    assertEquals(1, counters.nonZeroCount());
+  }
+
+  public void testCounterArrayPacking() {
+    LockFreeCounterArray counters = new LockFreeCounterArray(40);
+    assertEquals(48, counters.size());
+    for (int i = 0; i < 48; i++) {
+      for (int j = 0; j < i % 16; j++) {
+        counters.increment(i);
+      }
+    }
+    for (int i = 0; i < 48; i++) {
+      assertEquals(Math.min(i % 16, LockFreeCounterArray.MAX_COUNT), counters.get(i));
+    }
+    assertEquals(45, counters.nonZeroCount());
+    assertEquals(counters, new LockFreeCounterArray(counters.toPlainArray()));
+    assertEquals(45, new LockFreeCounterArray(counters.toPlainArray()).nonZeroCount());
+  }
+
+  public void testCopy() {
+    CountingBloomFilter<String> original =
+        CountingBloomFilter.create(Funnels.unencodedCharsFunnel(), 100, 0.01);
+    original.put("a");
+    CountingBloomFilter<String> copy = original.copy();
+    assertEquals(original, copy);
+    copy.remove("a");
+    assertTrue(original.mightContain("a"));
+    assertFalse(copy.mightContain("a"));
+    assertFalse(original.equals(copy));
+  }
+
+  public void testWriteToAndReadFrom() throws IOException {
+    CountingBloomFilter<String> filter =
+        CountingBloomFilter.create(Funnels.stringFunnel(UTF_8), 500, 0.01);
+    for (int i = 0; i < 300; i++) {
+      filter.put("element" + i);
+      filter.put("element" + (i / 2));
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    filter.writeTo(out);
+    CountingBloomFilter<String> read =
+        CountingBloomFilter.readFrom(
+            new ByteArrayInputStream(out.toByteArray()), Funnels.stringFunnel(UTF_8));
+    assertEquals(filter, read);
+    assertEquals(filter.approximateElementCount(), read.approximateElementCount());
+    for (int i = 0; i < 300; i++) {
+      assertTrue(read.remove("element" + i));
+    }
+  }
+
+  public void testReadFrom_truncated() {
+    CountingBloomFilter<String> filter =
+        CountingBloomFilter.create(Funnels.stringFunnel(UTF_8), 500, 0.01);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try {
+      filter.writeTo(out);
+    } catch (IOException e) {
+      throw new AssertionError(e);
+    }
+    byte[] bytes = out.toByteArray();
+    try {
+      CountingBloomFilter.readFrom(
+          new ByteArrayInputStream(bytes, 0, bytes.length - 1), Funnels.stringFunnel(UTF_8));
+      fail();
+    } catch (IOException expected) {
+    }
+  }
+
+  public void testEquals() {
+    CountingBloomFilter<Integer> filter1 =
+        CountingBloomFilter.create(Funnels.integerFunnel(), 100, 0.01);
+    filter1.put(1);
+    CountingBloomFilter<Integer> filter2 =
+        CountingBloomFilter.create(Funnels.integerFunnel(), 100, 0.01);
+    filter2.put(1);
+    new EqualsTester()
+        .addEqualityGroup(filter1, filter2)
+        .addEqualityGroup(CountingBloomFilter.create(Funnels.integerFunnel(), 100, 0.01))
+        .addEqualityGroup(CountingBloomFilter.create(Funnels.integerFunnel(), 100, 0.0001))
+        .addEqualityGroup(CountingBloomFilter.create(Funnels.integerFunnel(), 10_000, 0.01))
+        .addEqualityGroup(CountingBloomFilter.create(Funnels.unencodedCharsFunnel(), 100, 0.01))
+        .testEquals();
+  }
+
+  public void testSerialization() {
+    CountingBloomFilter<byte[]> filter =
+        CountingBloomFilter.create(Funnels.byteArrayFunnel(), 100, 0.01);
+    filter.put(new byte[] {1, 2, 3});
+    SerializableTester.reserializeAndAssert(filter);
+  }
+
+  public void testConcurrentPuts() throws Exception {
+    int numThreads = 4;
+    int perThread = 20_000;
+    CountingBloomFilter<Integer> filter =
+        CountingBloomFilter.create(Funnels.integerFunnel(), numThreads * perThread, 0.01);
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < numThreads; t++) {
+      int base = t * perThread;
+      futures.add(
+          executor.submit(
+              () -> {
+                for (int i = base; i < base + perThread; i++) {
+                  filter.put(i);
+                }
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    for (int i = 0; i < numThreads * perThread; i++) {
+      assertTrue(filter.mightContain(i));
+    }
+    // Every counter reflects exactly the puts that hit it, so removing everything empties it.
+    for (int i = 0; i < numThreads * perThread; i++) {
+      filter.remove(i);
+    }
+    Random random = new Random(0);
+    int falsePositives = 0;
+    for (int i = 0; i < 1000; i++) {
+      if (filter.mightContain(random.nextInt())) {
+        falsePositives++;
+      }
+    }
+    assertThat(falsePositives).isLessThan(10);
+  }
+
+  public void testCreate_invalidArguments() {
+    try {
+      CountingBloomFilter.create(Funnels.integerFunnel(), -1, 0.01);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      CountingBloomFilter.create(Funnels.integerFunnel(), 100, 0.0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      CountingBloomFilter.create(Funnels.integerFunnel(), 100, 1.0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testNullPointers() {
+    NullPointerTester tester = new NullPointerTester();
+    tester.testAllPublicInstanceMethods(
+        CountingBloomFilter.create(Funnels.unencodedCharsFunnel(), 100, 0.01));
+    tester.testAllPublicStaticMethods(CountingBloomFilter.class);
+  }
+}
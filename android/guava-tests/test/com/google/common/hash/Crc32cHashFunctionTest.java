@@ -135,6 +135,51 @@ public class Crc32cHashFunctionTest extends TestCase {
    * @param expectedCrc the expected crc value.
    * @param data the data to run the checksum on.
    */
+  public void testCombineCrc32c() {
+    Random random = new Random(2026);
+    for (int length : new int[] {0, 1, 7, 100, 4096, 100_000}) {
+      byte[] data = new byte[length];
+      random.nextBytes(data);
+      HashCode expected = Hashing.crc32c().hashBytes(data);
+      for (int split : new int[] {0, length / 3, length}) {
+        HashCode first = Hashing.crc32c().hashBytes(data, 0, split);
+        HashCode second = Hashing.crc32c().hashBytes(data, split, length - split);
+        assertEquals(expected, Hashing.combineCrc32c(first, second, length - split));
+      }
+    }
+  }
+
+  public void testCombineCrc32c_longSecondSequence() {
+    // The checksum of a sequence of zeros only depends on its length, so the second sequence can be
+    // longer than any array.
+    HashCode zeros = Hashing.crc32c().hashBytes(new byte[1 << 20]);
+    HashCode combined = zeros;
+    long length = 1 << 20;
+    for (int i = 0; i < 12; i++) {
+      combined = Hashing.combineCrc32c(combined, combined, length);
+      length *= 2;
+    }
+    HashCode expected = zeros;
+    for (int i = 1; i < 1 << 12; i++) {
+      expected = Hashing.combineCrc32c(expected, zeros, 1 << 20);
+    }
+    assertEquals(expected, combined);
+  }
+
+  public void testCombineCrc32c_invalid() {
+    HashCode crc = Hashing.crc32c().hashInt(0);
+    try {
+      Hashing.combineCrc32c(crc, HashCode.fromLong(0), 8);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      Hashing.combineCrc32c(crc, crc, -1);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
   private static void assertCrc(int expectedCrc, byte[] data) {
     int actualCrc = Hashing.crc32c().hashBytes(data).asInt();
     assertEquals(
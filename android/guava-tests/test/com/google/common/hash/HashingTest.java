@@ -27,9 +27,13 @@ import com.google.common.primitives.Ints;
 import com.google.common.testing.EqualsTester;
 import com.google.common.testing.NullPointerTester;
 import com.google.common.util.concurrent.AtomicLongMap;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -125,6 +129,42 @@ public class HashingTest extends TestCase {
         Hashing.sipHash24().toString());
   }
 
+  public void testXxHash64() {
+    HashTestUtils.check2BitAvalanche(Hashing.xxHash64(), 250, 0.20);
+    HashTestUtils.checkAvalanche(Hashing.xxHash64(), 250, 0.17);
+    HashTestUtils.checkNo2BitCharacteristics(Hashing.xxHash64());
+    HashTestUtils.checkNoFunnels(Hashing.xxHash64());
+    HashTestUtils.assertInvariants(Hashing.xxHash64());
+    assertEquals("Hashing.xxHash64(0)", Hashing.xxHash64().toString());
+  }
+
+  public void testXxh3_64() {
+    HashTestUtils.check2BitAvalanche(Hashing.xxh3_64(), 250, 0.20);
+    HashTestUtils.checkAvalanche(Hashing.xxh3_64(), 250, 0.17);
+    HashTestUtils.checkNo2BitCharacteristics(Hashing.xxh3_64());
+    HashTestUtils.checkNoFunnels(Hashing.xxh3_64());
+    HashTestUtils.assertInvariants(Hashing.xxh3_64());
+    assertEquals("Hashing.xxh3_64(0)", Hashing.xxh3_64().toString());
+  }
+
+  public void testXxh3_128() {
+    HashTestUtils.check2BitAvalanche(Hashing.xxh3_128(), 250, 0.20);
+    HashTestUtils.checkAvalanche(Hashing.xxh3_128(), 250, 0.17);
+    HashTestUtils.checkNo2BitCharacteristics(Hashing.xxh3_128());
+    HashTestUtils.checkNoFunnels(Hashing.xxh3_128());
+    HashTestUtils.assertInvariants(Hashing.xxh3_128());
+    assertEquals("Hashing.xxh3_128(0)", Hashing.xxh3_128().toString());
+  }
+
+  public void testWyhash() {
+    HashTestUtils.check2BitAvalanche(Hashing.wyhash(), 250, 0.20);
+    HashTestUtils.checkAvalanche(Hashing.wyhash(), 250, 0.17);
+    HashTestUtils.checkNo2BitCharacteristics(Hashing.wyhash());
+    HashTestUtils.checkNoFunnels(Hashing.wyhash());
+    HashTestUtils.assertInvariants(Hashing.wyhash());
+    assertEquals("Hashing.wyhash(0)", Hashing.wyhash().toString());
+  }
+
   @AndroidIncompatible // slow TODO(cpovirk): Maybe just reduce iterations under Android.
   public void testGoodFastHash() {
     for (int i = 1; i < 200; i += 17) {
@@ -492,6 +532,18 @@ public class HashingTest extends TestCase {
           .put(Hashing.farmHashFingerprint64(), EMPTY_STRING, "4f40902f3b6ae19a")
           .put(Hashing.farmHashFingerprint64(), TQBFJOTLD, "34511b3bf383beab")
           .put(Hashing.farmHashFingerprint64(), TQBFJOTLDP, "737d7e5f8660653e")
+          .put(Hashing.xxHash64(), EMPTY_STRING, "99e9d85137db46ef")
+          .put(Hashing.xxHash64(), TQBFJOTLD, "bc71da1f362d240b")
+          .put(Hashing.xxHash64(), TQBFJOTLDP, "73ad51577033ad44")
+          .put(Hashing.xxh3_64(), EMPTY_STRING, "c294d3380580062d")
+          .put(Hashing.xxh3_64(), TQBFJOTLD, "65b38f41a5197dce")
+          .put(Hashing.xxh3_64(), TQBFJOTLDP, "19db515d22e014b6")
+          .put(Hashing.xxh3_128(), EMPTY_STRING, "7f498d4624c30160d8984701d306aa99")
+          .put(Hashing.xxh3_128(), TQBFJOTLD, "51768a3a2ecca124fae7a35c2050d6dd")
+          .put(Hashing.xxh3_128(), TQBFJOTLDP, "3cc729b82de0f83f156a3e3195826ad0")
+          .put(Hashing.wyhash(), EMPTY_STRING, "a2c5eee04d8a2293")
+          .put(Hashing.wyhash(), TQBFJOTLD, "87b57b10df45e408")
+          .put(Hashing.wyhash(), TQBFJOTLDP, "2f8539b744f6dd0d")
           .build();
 
   public void testAllHashFunctionsHaveKnownHashes() throws Exception {
@@ -522,12 +574,18 @@ public class HashingTest extends TestCase {
     }
   }
 
-  public void testNullPointers() {
-    NullPointerTester tester =
-        new NullPointerTester()
-            .setDefault(byte[].class, "secret key".getBytes(UTF_8))
-            .setDefault(HashCode.class, HashCode.fromLong(0));
-    tester.testAllPublicStaticMethods(Hashing.class);
+  public void testNullPointers() throws IOException {
+    File file = File.createTempFile("HashingTest", ".bin");
+    try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+      NullPointerTester tester =
+          new NullPointerTester()
+              .setDefault(byte[].class, "secret key".getBytes(UTF_8))
+              .setDefault(HashCode.class, HashCode.fromLong(0))
+              .setDefault(FileChannel.class, raf.getChannel());
+      tester.testAllPublicStaticMethods(Hashing.class);
+    } finally {
+      file.delete();
+    }
   }
 
   public void testSeedlessHashFunctionEquals() throws Exception {
@@ -594,6 +652,7 @@ public class HashingTest extends TestCase {
           && method.getParameterTypes().length != 0 // only the seeded hash functions
           && !method.getName().equals("concatenating") // don't test Hashing.concatenating()
           && !method.getName().equals("goodFastHash") // tested in testGoodFastHashEquals
+          && !method.getName().equals("treeHash") // tested in TreeHashFunctionTest
           && !method.getName().startsWith("hmac")) { // skip hmac functions
         Object[] params1 = new Object[method.getParameterTypes().length];
         Object[] params2 = new Object[method.getParameterTypes().length];
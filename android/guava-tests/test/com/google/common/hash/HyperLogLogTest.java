@@ -0,0 +1,346 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.testing.EqualsTester;
+import com.google.common.testing.NullPointerTester;
+import com.google.common.testing.SerializableTester;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import junit.framework.TestCase;
+
+/** Tests for {@link HyperLogLog}. */
+public class HyperLogLogTest extends TestCase {
+
+  private static HyperLogLog<Long> sketch(int precision, long from, long to) {
+    HyperLogLog<Long> sketch = HyperLogLog.create(Funnels.longFunnel(), precision);
+    for (long i = from; i < to; i++) {
+      sketch.offer(i);
+    }
+    return sketch;
+  }
+
+  private static void assertEstimate(long expected, HyperLogLog<?> sketch, double relativeError) {
+    assertThat((double) sketch.cardinality())
+        .isWithin(Math.max(1, expected * relativeError))
+        .of(expected);
+  }
+
+  public void testEmpty() {
+    HyperLogLog<String> sketch = HyperLogLog.create(Funnels.unencodedCharsFunnel());
+    assertEquals(0, sketch.cardinality());
+    assertTrue(sketch.isSparse());
+  }
+
+  public void testSparseIsNearlyExact() {
+    HyperLogLog<Long> sketch = sketch(12, 0, 500);
+    assertTrue(sketch.isSparse());
+    assertEstimate(500, sketch, 0.01);
+  }
+
+  public void testAccuracy() {
+    for (int precision : new int[] {4, 10, 14}) {
+      // Four standard errors
+      double tolerance = 4 * 1.04 / Math.sqrt(1 << precision);
+      for (long cardinality : new long[] {10, 100, 1000, 10_000, 100_000, 1_000_000}) {
+        HyperLogLog<Long> sketch = sketch(precision, 0, cardinality);
+        assertEstimate(cardinality, sketch, tolerance);
+      }
+    }
+  }
+
+  public void testDuplicatesAreIgnored() {
+    HyperLogLog<Long> sketch = HyperLogLog.create(Funnels.longFunnel());
+    for (int repeat = 0; repeat < 5; repeat++) {
+      for (long i = 0; i < 20_000; i++) {
+        boolean changed = sketch.offer(i);
+        if (repeat > 0) {
+          assertFalse(changed);
+        }
+      }
+    }
+    assertFalse(sketch.isSparse());
+    assertEstimate(20_000, sketch, 0.07);
+  }
+
+  public void testSwitchesToDense() {
+    HyperLogLog<Long> sketch = HyperLogLog.create(Funnels.longFunnel(), 10);
+    long i = 0;
+    while (sketch.isSparse()) {
+      sketch.offer(i++);
+    }
+    assertThat(i).isEqualTo((1 << 10) / 8 + 1);
+    assertEstimate(i, sketch, 0.15);
+  }
+
+  public void testMerge() {
+    for (int[] sizes : new int[][] {{100, 200}, {100, 50_000}, {50_000, 100}, {50_000, 80_000}}) {
+      HyperLogLog<Long> a = sketch(12, 0, sizes[0]);
+      HyperLogLog<Long> b = sketch(12, sizes[0] / 2, sizes[0] / 2 + sizes[1]);
+      int union = Math.max(sizes[0], sizes[0] / 2 + sizes[1]);
+      HyperLogLog<Long> expected = sketch(12, 0, union);
+      a.merge(b);
+      if (!a.isSparse() && !expected.isSparse()) {
+        // Dense registers only depend on the set of hashes
+        assertEquals(expected, a);
+      }
+      assertEstimate(union, a, 0.07);
+    }
+  }
+
+  public void testMerge_sparseResultIsExact() {
+    HyperLogLog<Long> a = sketch(12, 0, 100);
+    a.merge(sketch(12, 50, 300));
+    assertTrue(a.isSparse());
+    assertEquals(sketch(12, 0, 300), a);
+  }
+
+  public void testMerge_incompatible() {
+    HyperLogLog<Long> sketch = HyperLogLog.create(Funnels.longFunnel(), 10);
+    assertFalse(sketch.isCompatible(sketch));
+    assertFalse(sketch.isCompatible(HyperLogLog.create(Funnels.longFunnel(), 11)));
+    assertFalse(
+        sketch.isCompatible(HyperLogLog.create(Funnels.longFunnel(), 10, Hashing.sipHash24())));
+    assertTrue(sketch.isCompatible(HyperLogLog.create(Funnels.longFunnel(), 10)));
+    try {
+      sketch.merge(sketch);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      sketch.merge(HyperLogLog.create(Funnels.longFunnel(), 11));
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testCreate_invalidArguments() {
+    try {
+      HyperLogLog.create(Funnels.longFunnel(), 3);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      HyperLogLog.create(Funnels.longFunnel(), 19);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      HyperLogLog.create(Funnels.longFunnel(), 12, Hashing.crc32());
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testCustomHashFunction() {
+    HyperLogLog<Long> sketch = HyperLogLog.create(Funnels.longFunnel(), 12, Hashing.sipHash24());
+    for (long i = 0; i < 100_000; i++) {
+      sketch.offer(i);
+    }
+    assertEstimate(100_000, sketch, 0.07);
+  }
+
+  public void testCopy() {
+    for (int size : new int[] {100, 10_000}) {
+      HyperLogLog<Long> original = sketch(12, 0, size);
+      HyperLogLog<Long> copy = original.copy();
+      assertEquals(original, copy);
+      assertEquals(original.hashCode(), copy.hashCode());
+      for (long i = size; i < 2 * size; i++) {
+        copy.offer(i);
+      }
+      assertFalse(original.equals(copy));
+      assertEstimate(size, original, 0.07);
+    }
+  }
+
+  public void testWriteToAndReadFrom() throws IOException {
+    for (int size : new int[] {0, 1, 300, 100_000}) {
+      HyperLogLog<String> sketch = HyperLogLog.create(Funnels.stringFunnel(UTF_8), 14);
+      for (int i = 0; i < size; i++) {
+        sketch.offer("element" + i);
+      }
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      sketch.writeTo(out);
+      if (sketch.isSparse()) {
+        // Sorted entries are close together, so their differences take few bytes
+        assertThat(out.size()).isAtMost(6 + 4 * size);
+      } else {
+        assertThat(out.size()).isAtMost(6 + (1 << 14) * 8 / 10 + 8);
+      }
+      HyperLogLog<String> read =
+          HyperLogLog.readFrom(
+              new ByteArrayInputStream(out.toByteArray()), Funnels.stringFunnel(UTF_8));
+      assertEquals(sketch, read);
+      assertEquals(sketch.cardinality(), read.cardinality());
+      assertEquals(sketch.isSparse(), read.isSparse());
+    }
+  }
+
+  public void testReadFrom_corrupt() {
+    byte[] bytes = {12, 7, 0, 0, 0, 0};
+    try {
+      HyperLogLog.readFrom(new ByteArrayInputStream(bytes), Funnels.longFunnel());
+      fail();
+    } catch (IOException expected) {
+    }
+  }
+
+  public void testReadFrom_invalidPrecision() {
+    assertReadFromFails(new byte[] {3, 0, 0, 0, 0, 0});
+    assertReadFromFails(new byte[] {19, 0, 0, 0, 0, 0});
+  }
+
+  public void testReadFrom_hugeLength() {
+    // Must fail without trying to allocate the arrays
+    assertReadFromFails(new byte[] {12, 0, 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF});
+    assertReadFromFails(new byte[] {12, 1, 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF});
+    assertReadFromFails(new byte[] {12, 0, (byte) 0x80, 0, 0, 0});
+  }
+
+  public void testReadFrom_sparseLengthTooLarge() {
+    // A sparse sketch of precision 4 has at most 2 entries
+    assertReadFromFails(new byte[] {4, 0, 0, 0, 0, 3, 1, 1, 1});
+  }
+
+  public void testReadFrom_sparseEntriesOutOfOrder() {
+    // Differences must be positive
+    assertReadFromFails(new byte[] {12, 0, 0, 0, 0, 2, 0x41, 0});
+    // A negative difference, encoded as a five-byte varint
+    assertReadFromFails(
+        new byte[] {
+          12, 0, 0, 0, 0, 2, 0x41, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F
+        });
+    // Two entries for the same index
+    assertReadFromFails(new byte[] {12, 0, 0, 0, 0, 2, 0x41, 1});
+  }
+
+  public void testReadFrom_sparseRhoOutOfRange() throws IOException {
+    // Index 1, rho 0
+    assertReadFromFails(new byte[] {12, 0, 0, 0, 0, 1, 0x40});
+    // Index 1, rho 41
+    assertReadFromFails(new byte[] {12, 0, 0, 0, 0, 1, 0x69});
+    // Index 1, rho 40 is the largest possible
+    HyperLogLog<Long> sketch =
+        HyperLogLog.readFrom(
+            new ByteArrayInputStream(new byte[] {12, 0, 0, 0, 0, 1, 0x68}), Funnels.longFunnel());
+    assertEquals(1, sketch.cardinality());
+  }
+
+  public void testReadFrom_denseLengthMismatch() {
+    // Precision 4 has 16 registers, in 2 longs
+    assertReadFromFails(denseBytes(4, new long[1]));
+    assertReadFromFails(denseBytes(4, new long[3]));
+  }
+
+  public void testReadFrom_registerOutOfRange() throws IOException {
+    // Precision 4 allows register values up to 61
+    HyperLogLog<Long> sketch =
+        HyperLogLog.readFrom(
+            new ByteArrayInputStream(denseBytes(4, new long[] {61, 0})), Funnels.longFunnel());
+    assertThat(sketch.cardinality()).isAtLeast(0L);
+    assertReadFromFails(denseBytes(4, new long[] {62, 0}));
+    assertReadFromFails(denseBytes(4, new long[] {0, 63L << 30}));
+  }
+
+  public void testReadFrom_nonzeroPadding() {
+    // The top 4 bits of each long, and the bits past the 16th register, don't hold registers
+    assertReadFromFails(denseBytes(4, new long[] {1L << 60, 0}));
+    assertReadFromFails(denseBytes(4, new long[] {0, 1L << 36}));
+  }
+
+  private static byte[] denseBytes(int precision, long[] data) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    try {
+      out.writeByte(precision);
+      out.writeByte(1);
+      out.writeInt(data.length);
+      for (long l : data) {
+        out.writeLong(l);
+      }
+    } catch (IOException impossible) {
+      throw new AssertionError(impossible);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static void assertReadFromFails(byte[] bytes) {
+    try {
+      HyperLogLog.readFrom(new ByteArrayInputStream(bytes), Funnels.longFunnel());
+      fail();
+    } catch (IOException expected) {
+    }
+  }
+
+  public void testEquals() {
+    new EqualsTester()
+        .addEqualityGroup(sketch(12, 0, 10), sketch(12, 0, 10))
+        .addEqualityGroup(sketch(12, 0, 11))
+        .addEqualityGroup(sketch(12, 0, 10_000))
+        .addEqualityGroup(sketch(14, 0, 10))
+        .addEqualityGroup(HyperLogLog.create(Funnels.longFunnel(), 12, Hashing.sipHash24()))
+        .addEqualityGroup(HyperLogLog.create(Funnels.integerFunnel(), 12))
+        .testEquals();
+  }
+
+  public void testSerialization() {
+    SerializableTester.reserializeAndAssert(sketch(12, 0, 10));
+    SerializableTester.reserializeAndAssert(sketch(12, 0, 10_000));
+  }
+
+  public void testConcurrentOffers() throws Exception {
+    int numThreads = 4;
+    int perThread = 50_000;
+    HyperLogLog<Long> sketch = HyperLogLog.create(Funnels.longFunnel(), 14);
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < numThreads; t++) {
+      long base = (long) t * perThread;
+      futures.add(
+          executor.submit(
+              () -> {
+                for (long i = base; i < base + perThread; i++) {
+                  sketch.offer(i);
+                }
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertEquals(sketch(14, 0, numThreads * perThread), sketch);
+  }
+
+  public void testNullPointers() {
+    NullPointerTester tester = new NullPointerTester();
+    tester.testAllPublicInstanceMethods(HyperLogLog.create(Funnels.unencodedCharsFunnel()));
+    tester.testAllPublicStaticMethods(HyperLogLog.class);
+  }
+}
@@ -16,6 +16,7 @@
 
 package com.google.common.hash;
 
+import com.google.common.hash.BloomFilterStrategies.BitArray;
 import com.google.common.hash.BloomFilterStrategies.LockFreeBitArray;
 import com.google.common.testing.AbstractPackageSanityTests;
 
@@ -28,8 +29,18 @@ import com.google.common.testing.AbstractPackageSanityTests;
 public class PackageSanityTests extends AbstractPackageSanityTests {
   public PackageSanityTests() {
     setDefault(LockFreeBitArray.class, new LockFreeBitArray(1));
+    setDefault(BitArray.class, new LockFreeBitArray(1));
     setDefault(HashCode.class, HashCode.fromInt(1));
     setDefault(String.class, "MD5");
     setDefault(int.class, 32);
+    // Its methods need an open FileChannel; HashingTest and TreeHashFunctionTest cover them.
+    ignoreClasses(c -> c == ParallelHashing.class);
+    // Their package-private methods read arrays through Unsafe without checking for null, so the
+    // nulls test would crash the JVM.
+    ignoreClasses(
+        c ->
+            c == LittleEndianByteArray.class
+                || c == FarmHashFingerprint64.class
+                || c == XxHash64HashFunction.class);
   }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.google.common.hash;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.Range;
+import com.google.common.testing.NullPointerTester;
+import java.util.HashMap;
+import java.util.Map;
+import junit.framework.TestCase;
+
+/** Tests for {@link RendezvousHash}. */
+public class RendezvousHashTest extends TestCase {
+  private static final int KEYS = 100_000;
+
+  public void testEmpty() {
+    RendezvousHash<Integer, String> hash = newHash();
+    assertEquals(0, hash.size());
+    try {
+      hash.get(1);
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+  }
+
+  public void testSingleNode() {
+    RendezvousHash<Integer, String> hash = newHash();
+    assertTrue(hash.add("a"));
+    for (int key = 0; key < 100; key++) {
+      assertEquals("a", hash.get(key));
+    }
+  }
+
+  public void testAddAndRemove() {
+    RendezvousHash<Integer, String> hash = newHash();
+    assertTrue(hash.add("a"));
+    assertFalse(hash.add("a", 2));
+    assertTrue(hash.add("b"));
+    assertThat(hash.nodes()).containsExactly("a", 2.0, "b", 1.0).inOrder();
+    assertTrue(hash.remove("a"));
+    assertFalse(hash.remove("a"));
+    assertThat(hash.nodes()).containsExactly("b", 1.0);
+  }
+
+  public void testInvalidWeight() {
+    RendezvousHash<Integer, String> hash = newHash();
+    for (double weight : new double[] {0, -1, Double.NaN, Double.POSITIVE_INFINITY}) {
+      try {
+        hash.add("a", weight);
+        fail();
+      } catch (IllegalArgumentException expected) {
+      }
+    }
+  }
+
+  public void testInvalidHashFunction() {
+    try {
+      RendezvousHash.create(Hashing.murmur3_32_fixed(), Funnels.integerFunnel(), stringFunnel());
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testUniformDistribution() {
+    RendezvousHash<Integer, String> hash = newHash();
+    for (int i = 0; i < 10; i++) {
+      hash.add("node" + i);
+    }
+    Map<String, Integer> counts = countKeys(hash);
+    for (int count : counts.values()) {
+      assertThat(count).isIn(Range.closed(9_000, 11_000));
+    }
+  }
+
+  public void testWeightedDistribution() {
+    RendezvousHash<Integer, String> hash = newHash();
+    hash.add("light", 1);
+    hash.add("heavy", 3);
+    Map<String, Integer> counts = countKeys(hash);
+    assertThat((double) counts.get("heavy") / KEYS).isWithin(0.01).of(0.75);
+  }
+
+  public void testRemoveOnlyMovesKeysOfRemovedNode() {
+    RendezvousHash<Integer, String> hash = newHash();
+    for (int i = 0; i < 10; i++) {
+      hash.add("node" + i, 1 + i % 3);
+    }
+    String[] before = assignments(hash);
+    hash.remove("node3");
+    String[] after = assignments(hash);
+    for (int key = 0; key < KEYS; key++) {
+      if (!before[key].equals("node3")) {
+        assertEquals(before[key], after[key]);
+      }
+    }
+  }
+
+  public void testAddOnlyMovesKeysToAddedNode() {
+    RendezvousHash<Integer, String> hash = newHash();
+    for (int i = 0; i < 10; i++) {
+      hash.add("node" + i);
+    }
+    String[] before = assignments(hash);
+    hash.add("new");
+    String[] after = assignments(hash);
+    int moved = 0;
+    for (int key = 0; key < KEYS; key++) {
+      if (!before[key].equals(after[key])) {
+        assertEquals("new", after[key]);
+        moved++;
+      }
+    }
+    assertThat((double) moved / KEYS).isWithin(0.01).of(1.0 / 11);
+  }
+
+  public void testNullPointers() {
+    NullPointerTester tester = new NullPointerTester();
+    RendezvousHash<Integer, String> hash = newHash();
+    hash.add("a");
+    tester.testAllPublicInstanceMethods(hash);
+    tester.testAllPublicStaticMethods(RendezvousHash.class);
+  }
+
+  private static RendezvousHash<Integer, String> newHash() {
+    return RendezvousHash.create(Hashing.murmur3_128(), Funnels.integerFunnel(), stringFunnel());
+  }
+
+  private static Funnel<CharSequence> stringFunnel() {
+    return Funnels.stringFunnel(UTF_8);
+  }
+
+  private static String[] assignments(RendezvousHash<Integer, String> hash) {
+    String[] result = new String[KEYS];
+    for (int key = 0; key < KEYS; key++) {
+      result[key] = hash.get(key);
+    }
+    return result;
+  }
+
+  private static Map<String, Integer> countKeys(RendezvousHash<Integer, String> hash) {
+    Map<String, Integer> counts = new HashMap<>();
+    for (int key = 0; key < KEYS; key++) {
+      String node = hash.get(key);
+      Integer count = counts.get(node);
+      counts.put(node, count == null ? 1 : count + 1);
+    }
+    return counts;
+  }
+}
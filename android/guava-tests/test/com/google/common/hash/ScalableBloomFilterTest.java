@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.Range;
+import com.google.common.testing.EqualsTester;
+import com.google.common.testing.NullPointerTester;
+import com.google.common.testing.SerializableTester;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import junit.framework.TestCase;
+
+/** Tests for {@link ScalableBloomFilter}. */
+public class ScalableBloomFilterTest extends TestCase {
+
+  public void testGrowth() {
+    ScalableBloomFilter<Integer> filter =
+        ScalableBloomFilter.create(Funnels.integerFunnel(), 1000, 0.01);
+    assertEquals(1, filter.filterCount());
+    for (int i = 0; i < 1000; i++) {
+      filter.put(i);
+    }
+    assertThat(filter.filterCount()).isAtMost(2);
+    // 1000 + 2000 + 4000 + 8000 + 16000 < 50000 < 1000 * (2^6 - 1)
+    for (int i = 1000; i < 50_000; i++) {
+      filter.put(i);
+    }
+    assertThat(filter.filterCount()).isIn(Range.closed(5, 7));
+    for (int i = 0; i < 50_000; i++) {
+      assertTrue(filter.mightContain(i));
+    }
+  }
+
+  public void testFppStaysBounded() {
+    double fpp = 0.01;
+    int numInsertions = 200_000;
+    ScalableBloomFilter<Integer> filter =
+        ScalableBloomFilter.create(Funnels.integerFunnel(), 1000, fpp);
+    for (int i = 0; i < numInsertions; i++) {
+      filter.put(i);
+    }
+    int falsePositives = 0;
+    for (int i = numInsertions; i < 2 * numInsertions; i++) {
+      if (filter.mightContain(i)) {
+        falsePositives++;
+      }
+    }
+    // Each underlying filter is full, so the chain is at its bound; allow for sampling noise.
+    assertThat((double) falsePositives / numInsertions).isLessThan(fpp * 1.1);
+    assertThat(filter.expectedFpp()).isLessThan(fpp);
+    assertThat(filter.approximateElementCount())
+        .isIn(Range.closed(190_000L, 210_000L));
+  }
+
+  public void testStageSizing() {
+    ScalableBloomFilter<Integer> filter =
+        ScalableBloomFilter.create(Funnels.integerFunnel(), 100, 0.02);
+    assertEquals(100, filter.capacity(0));
+    assertEquals(400, filter.capacity(2));
+    assertThat(filter.capacity(100)).isGreaterThan(Long.MAX_VALUE / 4);
+    assertEquals(0.01, filter.fpp(0), 1e-12);
+    assertEquals(0.0025, filter.fpp(2), 1e-12);
+    double sum = 0;
+    for (int i = 0; i < 60; i++) {
+      sum += filter.fpp(i);
+    }
+    assertThat(sum).isLessThan(0.02);
+  }
+
+  public void testPutReturnValue() {
+    ScalableBloomFilter<String> filter =
+        ScalableBloomFilter.create(Funnels.unencodedCharsFunnel(), 10, 0.01);
+    assertTrue(filter.put("a"));
+    assertFalse(filter.put("a"));
+    assertTrue(filter.mightContain("a"));
+    assertFalse(filter.mightContain("b"));
+  }
+
+  public void testCopy() {
+    ScalableBloomFilter<Integer> original =
+        ScalableBloomFilter.create(Funnels.integerFunnel(), 10, 0.01);
+    for (int i = 0; i < 100; i++) {
+      original.put(i);
+    }
+    ScalableBloomFilter<Integer> copy = original.copy();
+    assertEquals(original, copy);
+    assertEquals(original.hashCode(), copy.hashCode());
+    for (int i = 100; i < 200; i++) {
+      copy.put(i);
+    }
+    assertFalse(original.equals(copy));
+  }
+
+  public void testWriteToAndReadFrom() throws IOException {
+    ScalableBloomFilter<String> filter =
+        ScalableBloomFilter.create(Funnels.stringFunnel(UTF_8), 50, 0.01);
+    for (int i = 0; i < 500; i++) {
+      filter.put("element" + i);
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    filter.writeTo(out);
+    ScalableBloomFilter<String> read =
+        ScalableBloomFilter.readFrom(
+            new ByteArrayInputStream(out.toByteArray()), Funnels.stringFunnel(UTF_8));
+    assertEquals(filter, read);
+    assertEquals(filter.filterCount(), read.filterCount());
+    for (int i = 0; i < 500; i++) {
+      assertTrue(read.mightContain("element" + i));
+    }
+    // The read filter keeps growing from where the written one stopped.
+    for (int i = 500; i < 5000; i++) {
+      read.put("element" + i);
+    }
+    assertThat(read.filterCount()).isGreaterThan(filter.filterCount());
+  }
+
+  public void testReadFrom_corrupt() {
+    byte[] bytes = new byte[20];
+    try {
+      ScalableBloomFilter.readFrom(new ByteArrayInputStream(bytes), Funnels.integerFunnel());
+      fail();
+    } catch (IOException expected) {
+    }
+  }
+
+  public void testEquals() {
+    ScalableBloomFilter<Integer> filter1 =
+        ScalableBloomFilter.create(Funnels.integerFunnel(), 2, 0.01);
+    ScalableBloomFilter<Integer> filter2 =
+        ScalableBloomFilter.create(Funnels.integerFunnel(), 2, 0.01);
+    ScalableBloomFilter<Integer> grown =
+        ScalableBloomFilter.create(Funnels.integerFunnel(), 2, 0.01);
+    for (int i = 0; i < 10; i++) {
+      grown.put(i);
+    }
+    new EqualsTester()
+        .addEqualityGroup(filter1, filter2)
+        .addEqualityGroup(ScalableBloomFilter.create(Funnels.integerFunnel(), 3, 0.01))
+        .addEqualityGroup(ScalableBloomFilter.create(Funnels.integerFunnel(), 2, 0.02))
+        .addEqualityGroup(ScalableBloomFilter.create(Funnels.unencodedCharsFunnel(), 2, 0.01))
+        .addEqualityGroup(grown)
+        .testEquals();
+  }
+
+  public void testSerialization() {
+    ScalableBloomFilter<byte[]> filter =
+        ScalableBloomFilter.create(Funnels.byteArrayFunnel(), 2, 0.01);
+    for (byte i = 0; i < 10; i++) {
+      filter.put(new byte[] {i});
+    }
+    SerializableTester.reserializeAndAssert(filter);
+  }
+
+  public void testConcurrentPuts() throws Exception {
+    int numThreads = 4;
+    int perThread = 20_000;
+    ScalableBloomFilter<Integer> filter =
+        ScalableBloomFilter.create(Funnels.integerFunnel(), 1000, 0.01);
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < numThreads; t++) {
+      int base = t * perThread;
+      futures.add(
+          executor.submit(
+              () -> {
+                for (int i = base; i < base + perThread; i++) {
+                  filter.put(i);
+                }
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    for (int i = 0; i < numThreads * perThread; i++) {
+      assertTrue(filter.mightContain(i));
+    }
+  }
+
+  public void testCreate_invalidArguments() {
+    try {
+      ScalableBloomFilter.create(Funnels.integerFunnel(), 0, 0.01);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      ScalableBloomFilter.create(Funnels.integerFunnel(), 100, 0.0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      ScalableBloomFilter.create(Funnels.integerFunnel(), 100, 1.0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testNullPointers() {
+    NullPointerTester tester = new NullPointerTester();
+    tester.testAllPublicInstanceMethods(
+        ScalableBloomFilter.create(Funnels.unencodedCharsFunnel(), 100, 0.01));
+    tester.testAllPublicStaticMethods(ScalableBloomFilter.class);
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.testing.EqualsTester;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import junit.framework.TestCase;
+
+/** Tests for {@link TreeHashFunction} and {@link Hashing#hashInParallel}. */
+public class TreeHashFunctionTest extends TestCase {
+  private static final HashFunction SHA_256_TREE = Hashing.treeHash(Hashing.sha256(), 4);
+
+  public void testInvariants() {
+    HashTestUtils.assertInvariants(SHA_256_TREE);
+    HashTestUtils.assertInvariants(Hashing.treeHash(Hashing.murmur3_128(), 1));
+    HashTestUtils.assertInvariants(Hashing.treeHash(Hashing.crc32(), 1000));
+  }
+
+  public void testEmptyInput() {
+    assertEquals(leaf(""), SHA_256_TREE.hashBytes(new byte[0]));
+  }
+
+  public void testSingleChunk() {
+    assertEquals(leaf("abc"), SHA_256_TREE.hashString("abc", UTF_8));
+    assertEquals(leaf("abcd"), SHA_256_TREE.hashString("abcd", UTF_8));
+  }
+
+  public void testTreeShape() {
+    assertEquals(node(leaf("abcd"), leaf("e")), SHA_256_TREE.hashString("abcde", UTF_8));
+    assertEquals(node(leaf("abcd"), leaf("efgh")), SHA_256_TREE.hashString("abcdefgh", UTF_8));
+    assertEquals(
+        node(node(leaf("abcd"), leaf("efgh")), leaf("ij")),
+        SHA_256_TREE.hashString("abcdefghij", UTF_8));
+    assertEquals(
+        node(node(node(leaf("abcd"), leaf("efgh")), node(leaf("ijkl"), leaf("mnop"))), leaf("q")),
+        SHA_256_TREE.hashString("abcdefghijklmnopq", UTF_8));
+    assertEquals(
+        node(
+            node(node(leaf("abcd"), leaf("efgh")), node(leaf("ijkl"), leaf("mnop"))),
+            node(leaf("qrst"), leaf("uv"))),
+        SHA_256_TREE.hashString("abcdefghijklmnopqrstuv", UTF_8));
+  }
+
+  public void testBits() {
+    assertEquals(256, SHA_256_TREE.bits());
+    assertEquals(32, Hashing.treeHash(Hashing.crc32c(), 10).bits());
+  }
+
+  public void testInvalidChunkSize() {
+    try {
+      Hashing.treeHash(Hashing.sha256(), 0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testEqualsAndToString() {
+    new EqualsTester()
+        .addEqualityGroup(SHA_256_TREE, Hashing.treeHash(Hashing.sha256(), 4))
+        .addEqualityGroup(Hashing.treeHash(Hashing.sha256(), 8))
+        .addEqualityGroup(Hashing.treeHash(Hashing.sha512(), 4))
+        .testEquals();
+    assertThat(SHA_256_TREE.toString()).isEqualTo("Hashing.treeHash(Hashing.sha256(), 4)");
+  }
+
+  public void testHashInParallel_treeHash() throws IOException {
+    byte[] data = randomBytes(20 << 20);
+    // A chunk size that does not divide the segment size.
+    HashFunction function = Hashing.treeHash(Hashing.murmur3_128(), (1 << 20) + 3);
+    assertHashInParallel(function, data);
+    assertHashInParallel(function, new byte[0]);
+    assertHashInParallel(Hashing.treeHash(Hashing.murmur3_128(), 64 << 20), data);
+  }
+
+  public void testHashInParallel_crc32c() throws IOException {
+    assertHashInParallel(Hashing.crc32c(), randomBytes((20 << 20) + 5));
+    assertHashInParallel(Hashing.crc32c(), randomBytes(100));
+    assertHashInParallel(Hashing.crc32c(), new byte[0]);
+  }
+
+  public void testHashInParallel_otherFunction() throws IOException {
+    assertHashInParallel(Hashing.sha256(), randomBytes((8 << 20) + 1));
+    assertHashInParallel(Hashing.murmur3_32_fixed(), new byte[0]);
+  }
+
+  public void testHashInParallel_doesNotChangePosition() throws IOException {
+    File file = writeTempFile(randomBytes(1000));
+    try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+      FileChannel channel = raf.getChannel();
+      channel.position(10);
+      assertEquals(
+          Hashing.crc32c().hashBytes(Files.readAllBytes(file.toPath())),
+          Hashing.hashInParallel(Hashing.crc32c(), channel, MoreExecutors.directExecutor()));
+      assertEquals(10, channel.position());
+    } finally {
+      file.delete();
+    }
+  }
+
+  private static void assertHashInParallel(HashFunction function, byte[] data)
+      throws IOException {
+    HashCode expected = function.hashBytes(data);
+    File file = writeTempFile(data);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+      assertEquals(expected, Hashing.hashInParallel(function, raf.getChannel(), executor));
+      assertEquals(
+          expected,
+          Hashing.hashInParallel(function, raf.getChannel(), MoreExecutors.directExecutor()));
+    } finally {
+      executor.shutdown();
+      file.delete();
+    }
+  }
+
+  private static File writeTempFile(byte[] data) throws IOException {
+    File file = File.createTempFile("TreeHashFunctionTest", ".bin");
+    try (OutputStream out = new FileOutputStream(file)) {
+      out.write(data);
+    }
+    return file;
+  }
+
+  private static byte[] randomBytes(int length) {
+    byte[] bytes = new byte[length];
+    new Random(length).nextBytes(bytes);
+    return bytes;
+  }
+
+  private static HashCode leaf(String chunk) {
+    return Hashing.sha256().newHasher().putByte((byte) 0).putString(chunk, UTF_8).hash();
+  }
+
+  private static HashCode node(HashCode left, HashCode right) {
+    return Hashing.sha256()
+        .newHasher()
+        .putByte((byte) 1)
+        .putBytes(left.asBytes())
+        .putBytes(right.asBytes())
+        .hash();
+  }
+}
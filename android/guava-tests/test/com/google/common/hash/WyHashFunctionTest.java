@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.hash.Hashing.wyhash;
+
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests for {@link WyHashFunction}. */
+public class WyHashFunctionTest extends TestCase {
+
+  // The test vectors published with wyhash final version 4, where the seed is the vector's index.
+  public void testKnownValues() {
+    assertHash(0, 0x93228a4de0eec5a2L, "");
+    assertHash(1, 0xc5bac3db178713c4L, "a");
+    assertHash(2, 0xa97f2f7b1d9b3314L, "abc");
+    assertHash(3, 0x786d1f1df3801df4L, "message digest");
+    assertHash(4, 0xdca5a8138ad37c87L, "abcdefghijklmnopqrstuvwxyz");
+    assertHash(
+        5, 0xb9e734f117cfaf70L, "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789");
+    assertHash(
+        6,
+        0x6cc5eab49a92d617L,
+        "12345678901234567890123456789012345678901234567890123456789012345678901234567890");
+  }
+
+  public void testStreamingMatchesOneShot() {
+    Random random = new Random(0);
+    byte[] input = new byte[600];
+    random.nextBytes(input);
+    HashFunction function = wyhash(42);
+    for (int len = 0; len <= input.length; len++) {
+      Hasher hasher = function.newHasher();
+      for (int off = 0; off < len; ) {
+        int chunk = Math.min(len - off, random.nextInt(60));
+        hasher.putBytes(input, off, chunk);
+        off += chunk;
+      }
+      assertEquals("length " + len, function.hashBytes(input, 0, len), hasher.hash());
+    }
+  }
+
+  public void testInvariants() {
+    HashTestUtils.assertInvariants(wyhash());
+    HashTestUtils.assertInvariants(wyhash(42));
+  }
+
+  private static void assertHash(long seed, long expected, String input) {
+    byte[] bytes = input.getBytes(UTF_8);
+    assertEquals(expected, wyhash(seed).hashBytes(bytes).asLong());
+    assertEquals(expected, wyhash(seed).newHasher().putBytes(bytes).hash().asLong());
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.hash.Hashing.xxHash64;
+
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests for {@link XxHash64HashFunction}. */
+public class XxHash64HashFunctionTest extends TestCase {
+  private static final long SEED = 0x9E3779B97F4A7C15L;
+
+  // Expected values computed with the reference C library (libxxhash 0.8.1), for inputs of the
+  // bytes 0, 1, 2, ...
+  public void testKnownValues() {
+    assertHash(0, 0xef46db3751d8e999L, 0xc4349fc93c010000L);
+    assertHash(1, 0xe934a84adb052768L, 0x126bb57a12364aa5L);
+    assertHash(4, 0xffced8604453cc1eL, 0xd89842cd31e24e54L);
+    assertHash(8, 0x884a173614b81b8dL, 0xd18b6d7a5a668732L);
+    assertHash(31, 0xc346d2b59b4d8ee1L, 0xf3da6d05709c035dL);
+    assertHash(32, 0xcbf59c5116ff32b4L, 0xa1c89217e9d50750L);
+    assertHash(33, 0x0c535d1acafb8eadL, 0xe6a3c00cd6e74075L);
+    assertHash(63, 0xe26aa9e2a95f8e4fL, 0x26a0acd772de057eL);
+    assertHash(64, 0xf7c67301db6713f0L, 0x2589245e62a1969bL);
+    assertHash(100, 0x6ac1e58032166597L, 0x3b97d91eba03e785L);
+    assertHash(1000, 0x6ef436b00eba4078L, 0xdb4568e0faaf632cL);
+  }
+
+  public void testShortcutsMatchHasher() {
+    HashFunction function = xxHash64(SEED);
+    Random random = new Random(0);
+    for (int i = 0; i < 100; i++) {
+      int intValue = random.nextInt();
+      long longValue = random.nextLong();
+      assertEquals(function.newHasher().putInt(intValue).hash(), function.hashInt(intValue));
+      assertEquals(function.newHasher().putLong(longValue).hash(), function.hashLong(longValue));
+    }
+  }
+
+  public void testInvariants() {
+    HashTestUtils.assertInvariants(xxHash64());
+    HashTestUtils.assertInvariants(xxHash64(SEED));
+  }
+
+  private static void assertHash(int length, long expected, long expectedWithSeed) {
+    byte[] input = new byte[length];
+    for (int i = 0; i < length; i++) {
+      input[i] = (byte) i;
+    }
+    assertEquals(expected, xxHash64().hashBytes(input).asLong());
+    assertEquals(expected, xxHash64().newHasher().putBytes(input).hash().asLong());
+    assertEquals(expectedWithSeed, xxHash64(SEED).hashBytes(input).asLong());
+    assertEquals(expectedWithSeed, xxHash64(SEED).newHasher().putBytes(input).hash().asLong());
+  }
+}
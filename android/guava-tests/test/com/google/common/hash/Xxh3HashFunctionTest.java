@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.hash.Hashing.xxh3_128;
+import static com.google.common.hash.Hashing.xxh3_64;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/** Tests for {@link Xxh3HashFunction}. */
+public class Xxh3HashFunctionTest extends TestCase {
+  private static final long SEED = 0x9E3779B97F4A7C15L;
+
+  // Expected values computed with the reference C library (libxxhash 0.8.1), for inputs of the
+  // bytes 0, 1, 2, ... The lengths cover each of XXH3's code paths and their boundaries.
+  public void testKnownValues64() {
+    assertHash64(0, 0x2d06800538d394c2L, 0x602b0e2cd6662c8bL);
+    assertHash64(1, 0xc44bdff4074eecdbL, 0x062b185e4e01441aL);
+    assertHash64(3, 0x5f4299fc161c9cbbL, 0xbe1fd1f503b5d59eL);
+    assertHash64(4, 0x60dab036a58211f2L, 0x89878861fce0da55L);
+    assertHash64(8, 0x3a1c2d7c85af88f8L, 0xb82d9ef5fd6b3172L);
+    assertHash64(9, 0xe9612598145bb9dcL, 0xfe11eeff350b91efL);
+    assertHash64(16, 0x8355e3a6f61770dbL, 0x3d392960bfd9df8aL);
+    assertHash64(17, 0x9ef341a99de37328L, 0x89e5f063c641de9fL);
+    assertHash64(33, 0xe68c56ba88991e58L, 0x3b39cdb25965e390L);
+    assertHash64(65, 0x6928c76ce90422d0L, 0xa87508fa98055c07L);
+    assertHash64(97, 0xe7220282dc4e14f4L, 0xc425356a198956e8L);
+    assertHash64(128, 0x85c6174c7ff4c46bL, 0x77bf966868f4b200L);
+    assertHash64(129, 0xec7642b431ba3e5aL, 0x747f159fdd2d2177L);
+    assertHash64(240, 0x375a384d957fe865L, 0xe6e766db0868c372L);
+    assertHash64(241, 0x02e8cd95421c6d02L, 0x172114de208c5a80L);
+    assertHash64(1024, 0xa870f92984398d22L, 0x998502a823864329L);
+    assertHash64(1025, 0x78c86e91ee939852L, 0x7a2da45362d89ae8L);
+    assertHash64(2049, 0x62dff343e7dbac9bL, 0x1286a0cec3392c57L);
+  }
+
+  public void testKnownValues128() {
+    assertHash128(
+        0, 0x6001c324468d497fL, 0x99aa06d3014798d8L, 0x4ca5176998171787L, 0xd142977a2cca554bL);
+    assertHash128(
+        3, 0x5f4299fc161c9cbbL, 0xe3b55f57945a17cfL, 0xbe1fd1f503b5d59eL, 0xbf2a55a01a4ef588L);
+    assertHash128(
+        8, 0xcfd50c61c8bb98c1L, 0xe1e4432a62217fe4L, 0x549c1de02797ab53L, 0x59d3dcef02ca1563L);
+    assertHash128(
+        16, 0x842812cc870dcae2L, 0x72950631827607e2L, 0xe463c7e2458d78d5L, 0x5071618c2d2c17b4L);
+    assertHash128(
+        97, 0x5b3284a61f91e97dL, 0x9b09227e063da5a2L, 0x11b8826751c738e7L, 0xf481acd8ee5d41bfL);
+    assertHash128(
+        240, 0xc92b68e16f83bbb6L, 0x65b5be86da5540e7L, 0x5bd854a1231155f7L, 0xf0bc4cae6b4ab7ebL);
+    assertHash128(
+        1024, 0xa870f92984398d22L, 0x83885e853bb6640cL, 0x998502a823864329L, 0x12cca4e9b38af123L);
+    assertHash128(
+        2049, 0x62dff343e7dbac9bL, 0x95f65d47a8aa2316L, 0x1286a0cec3392c57L, 0x8d4816b27e0584aeL);
+  }
+
+  public void testStreamingMatchesOneShot() {
+    Random random = new Random(0);
+    byte[] input = input(2200);
+    for (HashFunction function : new HashFunction[] {xxh3_64(), xxh3_128(SEED)}) {
+      for (int len = 0; len <= input.length; len += 1 + random.nextInt(7)) {
+        Hasher hasher = function.newHasher();
+        for (int off = 0; off < len; ) {
+          int chunk = Math.min(len - off, random.nextInt(100));
+          hasher.putBytes(input, off, chunk);
+          off += chunk;
+        }
+        assertEquals(
+            function + ", length " + len, function.hashBytes(input, 0, len), hasher.hash());
+      }
+    }
+  }
+
+  public void testInvariants() {
+    HashTestUtils.assertInvariants(xxh3_64());
+    HashTestUtils.assertInvariants(xxh3_128());
+    HashTestUtils.assertInvariants(xxh3_64(SEED));
+    HashTestUtils.assertInvariants(xxh3_128(SEED));
+  }
+
+  private static void assertHash64(int length, long expected, long expectedWithSeed) {
+    byte[] input = input(length);
+    assertEquals(expected, xxh3_64().hashBytes(input).asLong());
+    assertEquals(expected, xxh3_64().newHasher().putBytes(input).hash().asLong());
+    assertEquals(expectedWithSeed, xxh3_64(SEED).hashBytes(input).asLong());
+    assertEquals(expectedWithSeed, xxh3_64(SEED).newHasher().putBytes(input).hash().asLong());
+  }
+
+  private static void assertHash128(
+      int length, long low, long high, long lowWithSeed, long highWithSeed) {
+    byte[] input = input(length);
+    assertEquals(toHashCode(low, high), xxh3_128().hashBytes(input));
+    assertEquals(toHashCode(low, high), xxh3_128().newHasher().putBytes(input).hash());
+    assertEquals(toHashCode(lowWithSeed, highWithSeed), xxh3_128(SEED).hashBytes(input));
+    assertEquals(
+        toHashCode(lowWithSeed, highWithSeed), xxh3_128(SEED).newHasher().putBytes(input).hash());
+  }
+
+  private static HashCode toHashCode(long low, long high) {
+    return HashCode.fromBytes(
+        ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN).putLong(low).putLong(high).array());
+  }
+
+  private static byte[] input(int length) {
+    byte[] input = new byte[length];
+    for (int i = 0; i < length; i++) {
+      input[i] = (byte) i;
+    }
+    return input;
+  }
+}
@@ -196,6 +196,19 @@ public class ByteSourceTest extends IoTestCase {
     assertFalse(source.contentEquals(oneByteOff));
   }
 
+  public void testContentEquals_staleScratchBuffers() throws IOException {
+    // Leave different garbage in the recycled buffers that contentEquals will reuse.
+    byte[] buf1 = ScratchBuffers.takeBytes();
+    byte[] buf2 = ScratchBuffers.takeBytes();
+    Arrays.fill(buf1, (byte) 1);
+    Arrays.fill(buf2, (byte) 2);
+    ScratchBuffers.recycle(buf1);
+    ScratchBuffers.recycle(buf2);
+
+    ByteSource shortSource = new TestByteSource(newPreFilledByteArray(10));
+    assertTrue(shortSource.contentEquals(new TestByteSource(newPreFilledByteArray(10))));
+  }
+
   public void testSlice() throws IOException {
     // Test preconditions
     try {
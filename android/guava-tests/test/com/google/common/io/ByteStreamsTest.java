@@ -29,6 +29,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
@@ -425,6 +427,40 @@ public class ByteStreamsTest extends IoTestCase {
     assertThat(baos.toByteArray()).isEqualTo(new byte[] {0x12, 0x34, 0x56, 0x78});
   }
 
+  public void testNewDataInput_readLine_crAtEnd() {
+    ByteArrayDataInput in = ByteStreams.newDataInput("one\r".getBytes(Charsets.UTF_8));
+    assertEquals("one", in.readLine());
+    assertNull(in.readLine());
+  }
+
+  public void testNewDataInput_failedReadConsumesNothing() {
+    ByteArrayDataInput in = ByteStreams.newDataInput(new byte[] {1, 2, 3});
+    try {
+      in.readInt();
+      fail("expected exception");
+    } catch (IllegalStateException expected) {
+      assertThat(expected).hasCauseThat().isInstanceOf(EOFException.class);
+    }
+    assertEquals(0x0102, in.readShort());
+  }
+
+  public void testNewDataInput_byteBuffer() {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(12).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.put(new byte[] {0, 0}).put(bytes);
+    Java8Compatibility.position(buffer, 2);
+    ByteArrayDataInput in = ByteStreams.newDataInput(buffer);
+    // Big-endian, whatever the order of the buffer.
+    assertEquals(0x1234567876543210L, in.readLong());
+    assertEquals(0, in.readShort());
+    try {
+      in.readByte();
+      fail("expected exception");
+    } catch (IllegalStateException expected) {
+      assertThat(expected).hasCauseThat().isInstanceOf(EOFException.class);
+    }
+    assertEquals(2, buffer.position());
+  }
+
   private static final byte[] PRE_FILLED_100 = newPreFilledByteArray(100);
 
   public void testToByteArray() throws IOException {
@@ -143,4 +143,44 @@ public class LittleEndianDataOutputStreamTest extends TestCase {
   private static void assertEquals(byte[] expected, byte[] actual) {
     assertEquals(Bytes.asList(expected), Bytes.asList(actual));
   }
+
+  public void testWriteInts() throws IOException {
+    // More values than fit in one scratch buffer, so that they are written in several chunks.
+    int[] values = new int[5000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i * 0x9E3779B9;
+    }
+    out.writeInts(values, 1, values.length - 1);
+
+    LittleEndianDataInputStream in =
+        new LittleEndianDataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+    for (int i = 1; i < values.length; i++) {
+      assertEquals(values[i], in.readInt());
+    }
+    assertEquals(-1, in.read());
+  }
+
+  public void testWriteLongs() throws IOException {
+    long[] values = new long[3000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i * 0x9E3779B97F4A7C15L;
+    }
+    out.writeLongs(values);
+
+    LittleEndianDataInputStream in =
+        new LittleEndianDataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+    for (long value : values) {
+      assertEquals(value, in.readLong());
+    }
+    assertEquals(-1, in.read());
+  }
+
+  public void testWriteInts_outOfBounds() throws IOException {
+    try {
+      out.writeInts(new int[2], 1, 2);
+      fail();
+    } catch (IndexOutOfBoundsException expected) {
+    }
+    assertEquals(0, baos.size());
+  }
 }
@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.io;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicReference;
+import junit.framework.TestCase;
+
+/** Tests for {@link ScratchBuffers}. */
+public class ScratchBuffersTest extends TestCase {
+
+  private boolean wasEnabled;
+
+  @Override
+  protected void setUp() {
+    wasEnabled = ScratchBuffers.isEnabled();
+    ScratchBuffers.setEnabled(true);
+    ScratchBuffers.clearThreadBuffers();
+  }
+
+  @Override
+  protected void tearDown() {
+    ScratchBuffers.setEnabled(wasEnabled);
+  }
+
+  public void testBytes_recycled() {
+    byte[] buffer = ScratchBuffers.takeBytes();
+    assertThat(buffer).hasLength(ScratchBuffers.BYTE_BUFFER_SIZE);
+    ScratchBuffers.recycle(buffer);
+
+    long hits = ScratchBuffers.hitCount();
+    assertThat(ScratchBuffers.takeBytes()).isSameInstanceAs(buffer);
+    assertThat(ScratchBuffers.hitCount()).isEqualTo(hits + 1);
+  }
+
+  public void testBytes_neverSharedWhileTaken() {
+    byte[][] taken = new byte[ScratchBuffers.SLOTS + 1][];
+    for (int i = 0; i < taken.length; i++) {
+      taken[i] = ScratchBuffers.takeBytes();
+      for (int j = 0; j < i; j++) {
+        assertThat(taken[i]).isNotSameInstanceAs(taken[j]);
+      }
+    }
+    for (byte[] buffer : taken) {
+      ScratchBuffers.recycle(buffer);
+    }
+  }
+
+  public void testBytes_otherSizesNotRecycled() {
+    drainByteSlots();
+    ScratchBuffers.recycle(new byte[10]);
+    assertThat(ScratchBuffers.takeBytes()).hasLength(ScratchBuffers.BYTE_BUFFER_SIZE);
+  }
+
+  public void testBytes_foreignArraysNotRecycled() {
+    drainByteSlots();
+    byte[] foreign = new byte[ScratchBuffers.BYTE_BUFFER_SIZE];
+    ScratchBuffers.recycle(foreign);
+    assertThat(ScratchBuffers.takeBytes()).isNotSameInstanceAs(foreign);
+  }
+
+  public void testBytes_untrustedStreamGetsNewBuffer() {
+    byte[] buffer = ScratchBuffers.takeBytes();
+    ScratchBuffers.recycle(buffer);
+    InputStream untrusted = new ByteArrayInputStream(new byte[0]) {};
+    assertFalse(ScratchBuffers.isTrusted(untrusted));
+
+    byte[] forUntrusted = ScratchBuffers.takeBytes(untrusted);
+    assertThat(forUntrusted).isNotSameInstanceAs(buffer);
+    ScratchBuffers.recycle(forUntrusted);
+    assertThat(ScratchBuffers.takeBytes()).isSameInstanceAs(buffer);
+    assertThat(ScratchBuffers.takeBytes()).isNotSameInstanceAs(forUntrusted);
+  }
+
+  public void testBytes_trustedStreamsGetRecycledBuffer() {
+    byte[] buffer = ScratchBuffers.takeBytes();
+    ScratchBuffers.recycle(buffer);
+    assertThat(
+            ScratchBuffers.takeBytes(
+                new ByteArrayInputStream(new byte[0]), ByteStreams.nullOutputStream()))
+        .isSameInstanceAs(buffer);
+  }
+
+  public void testCopy_untrustedStreamNeverSeesRecycledBuffer() throws IOException {
+    byte[] buffer = ScratchBuffers.takeBytes();
+    ScratchBuffers.recycle(buffer);
+    AtomicReference<byte[]> seen = new AtomicReference<>();
+    InputStream in =
+        new ByteArrayInputStream(new byte[] {1, 2, 3}) {
+          @Override
+          public synchronized int read(byte[] b, int off, int len) {
+            seen.set(b);
+            return super.read(b, off, len);
+          }
+        };
+    ByteStreams.copy(in, new ByteArrayOutputStream());
+    assertThat(seen.get()).isNotSameInstanceAs(buffer);
+    assertThat(ScratchBuffers.takeBytes()).isSameInstanceAs(buffer);
+  }
+
+  public void testBytes_disabled() {
+    byte[] buffer = ScratchBuffers.takeBytes();
+    ScratchBuffers.recycle(buffer);
+    ScratchBuffers.setEnabled(false);
+    long hits = ScratchBuffers.hitCount();
+    long misses = ScratchBuffers.missCount();
+    assertThat(ScratchBuffers.takeBytes()).isNotSameInstanceAs(buffer);
+    assertThat(ScratchBuffers.hitCount()).isEqualTo(hits);
+    assertThat(ScratchBuffers.missCount()).isEqualTo(misses);
+  }
+
+  public void testChars_recycled() {
+    char[] buffer = ScratchBuffers.takeChars();
+    assertThat(buffer).hasLength(ScratchBuffers.CHAR_BUFFER_SIZE);
+    ScratchBuffers.recycle(buffer);
+    assertThat(ScratchBuffers.takeChars()).isSameInstanceAs(buffer);
+  }
+
+  public void testBuffersArePerThread() throws Exception {
+    byte[] buffer = ScratchBuffers.takeBytes();
+    ScratchBuffers.recycle(buffer);
+    AtomicReference<byte[]> otherThreadBuffer = new AtomicReference<>();
+    Thread thread = new Thread(() -> otherThreadBuffer.set(ScratchBuffers.takeBytes()));
+    thread.start();
+    thread.join();
+    assertThat(otherThreadBuffer.get()).isNotSameInstanceAs(buffer);
+  }
+
+  public void testCopy_reentrant() throws IOException {
+    byte[] data = IoTestCase.newPreFilledByteArray(3 * ScratchBuffers.BYTE_BUFFER_SIZE + 1);
+    ByteArrayOutputStream inner = new ByteArrayOutputStream();
+    // A stream whose reads copy another stream, so that copy is called from within copy.
+    InputStream in =
+        new ByteArrayInputStream(data) {
+          @Override
+          public synchronized int read(byte[] b, int off, int len) {
+            try {
+              ByteStreams.copy(new ByteArrayInputStream(data), inner);
+            } catch (IOException e) {
+              throw new AssertionError(e);
+            }
+            return super.read(b, off, len);
+          }
+        };
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ByteStreams.copy(in, out);
+    assertThat(out.toByteArray()).isEqualTo(data);
+    assertThat(inner.size() % data.length).isEqualTo(0);
+  }
+
+  public void testWriteInts_untrustedStreamNeverSeesRecycledBuffer() throws IOException {
+    byte[] buffer = ScratchBuffers.takeBytes();
+    ScratchBuffers.recycle(buffer);
+    AtomicReference<byte[]> seen = new AtomicReference<>();
+    ByteArrayOutputStream out =
+        new ByteArrayOutputStream() {
+          @Override
+          public synchronized void write(byte[] b, int off, int len) {
+            seen.set(b);
+            super.write(b, off, len);
+          }
+        };
+    ByteStreams.writeInts(out, new int[] {1, 2, 3}, 0, 3, ByteOrder.BIG_ENDIAN);
+    assertThat(out.size()).isEqualTo(12);
+    assertThat(seen.get()).isNotSameInstanceAs(buffer);
+    assertThat(ScratchBuffers.takeBytes()).isSameInstanceAs(buffer);
+  }
+
+  public void testCharStreamsCopy_untrustedAppendableGetsNewBuffer() throws IOException {
+    char[] buffer = ScratchBuffers.takeChars();
+    ScratchBuffers.recycle(buffer);
+    AtomicReference<char[]> seen = new AtomicReference<>();
+    StringBuilder sb = new StringBuilder();
+    CharStreams.copy(
+        new StringReader("hamburger"),
+        new CharArrayWriter() {
+          @Override
+          public void write(char[] c, int off, int len) {
+            seen.set(c);
+            sb.append(c, off, len);
+          }
+        });
+    assertThat(sb.toString()).isEqualTo("hamburger");
+    assertThat(seen.get()).isNotSameInstanceAs(buffer);
+  }
+
+  public void testCharStreamsCopy_recyclesBuffer() throws IOException {
+    char[] buffer = ScratchBuffers.takeChars();
+    ScratchBuffers.recycle(buffer);
+    StringBuilder sb = new StringBuilder();
+    CharStreams.copy(new StringReader("hamburger"), sb);
+    assertThat(sb.toString()).isEqualTo("hamburger");
+    assertThat(ScratchBuffers.takeChars()).isSameInstanceAs(buffer);
+  }
+
+  /** Takes all of this thread's byte buffers, so that the next one taken is a new array. */
+  private static void drainByteSlots() {
+    for (int i = 0; i < ScratchBuffers.SLOTS; i++) {
+      ScratchBuffers.takeBytes();
+    }
+  }
+}
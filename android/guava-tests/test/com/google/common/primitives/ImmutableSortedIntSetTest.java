@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.primitives;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.testing.EqualsTester;
+import com.google.common.testing.NullPointerTester;
+import com.google.common.testing.SerializableTester;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import junit.framework.TestCase;
+
+/** Tests for {@link ImmutableSortedIntSet}. */
+@GwtIncompatible
+public class ImmutableSortedIntSetTest extends TestCase {
+
+  public void testOf() {
+    assertThat(ImmutableSortedIntSet.of().toArray()).isEmpty();
+    assertThat(ImmutableSortedIntSet.of(3, 1, 2, 1).toArray())
+        .asList()
+        .containsExactly(1, 2, 3)
+        .inOrder();
+  }
+
+  public void testCopyOf() {
+    int[] values = {5, -1, 5, 3};
+    ImmutableSortedIntSet set = ImmutableSortedIntSet.copyOf(values);
+    values[0] = 100;
+    assertEquals("[-1, 3, 5]", set.toString());
+    assertEquals(set, ImmutableSortedIntSet.copyOf(Arrays.asList(3, 5, -1)));
+    assertEquals(set, ImmutableSortedIntSet.copyOf(ImmutableIntArray.of(-1, 3, 5)));
+  }
+
+  public void testContains_matchesTreeSet() {
+    Random random = new Random(0);
+    for (int size : new int[] {0, 1, 15, 16, 17, 271, 272, 273, 288, 289, 1000, 100_000}) {
+      TreeSet<Integer> expected = new TreeSet<>();
+      while (expected.size() < size) {
+        expected.add(random.nextInt(4 * size + 1));
+      }
+      ImmutableSortedIntSet set = ImmutableSortedIntSet.copyOf(expected);
+      assertEquals(size, set.size());
+      assertThat(set.toArray()).asList().containsExactlyElementsIn(expected).inOrder();
+      for (int i = -1; i <= 4 * size + 1; i++) {
+        assertEquals(expected.contains(i), set.contains(i));
+      }
+    }
+  }
+
+  public void testContains_extremeValues() {
+    ImmutableSortedIntSet set = ImmutableSortedIntSet.of(Integer.MIN_VALUE, 0, 42);
+    assertTrue(set.contains(Integer.MIN_VALUE));
+    assertFalse(set.contains(Integer.MAX_VALUE));
+    assertFalse(set.contains(Integer.MIN_VALUE + 1));
+
+    set = ImmutableSortedIntSet.of(Integer.MAX_VALUE, 1);
+    assertTrue(set.contains(Integer.MAX_VALUE));
+    assertTrue(set.contains(1));
+    assertFalse(set.contains(Integer.MAX_VALUE - 1));
+    assertFalse(ImmutableSortedIntSet.of().contains(Integer.MAX_VALUE));
+  }
+
+  public void testGetAndIndexOf() {
+    ImmutableSortedIntSet set = ImmutableSortedIntSet.of(30, 10, 20);
+    assertEquals(10, set.get(0));
+    assertEquals(30, set.get(2));
+    assertEquals(1, set.indexOf(20));
+    assertEquals(-1, set.indexOf(25));
+    try {
+      set.get(3);
+      fail();
+    } catch (IndexOutOfBoundsException expected) {
+    }
+  }
+
+  public void testFirstAndLast() {
+    ImmutableSortedIntSet set = ImmutableSortedIntSet.of(30, 10, 20);
+    assertEquals(10, set.first());
+    assertEquals(30, set.last());
+    try {
+      ImmutableSortedIntSet.of().first();
+      fail();
+    } catch (NoSuchElementException expected) {
+    }
+    try {
+      ImmutableSortedIntSet.of().last();
+      fail();
+    } catch (NoSuchElementException expected) {
+    }
+  }
+
+  public void testEquals() {
+    new EqualsTester()
+        .addEqualityGroup(ImmutableSortedIntSet.of(), ImmutableSortedIntSet.copyOf(new int[0]))
+        .addEqualityGroup(ImmutableSortedIntSet.of(1, 2), ImmutableSortedIntSet.of(2, 1, 2))
+        .addEqualityGroup(ImmutableSortedIntSet.of(1, 3))
+        .addEqualityGroup(ImmutableIntArray.of(1, 2))
+        .testEquals();
+  }
+
+  public void testSerialization() {
+    ImmutableSortedIntSet set = ImmutableSortedIntSet.of(1, 5, Integer.MAX_VALUE);
+    ImmutableSortedIntSet copy = SerializableTester.reserializeAndAssert(set);
+    assertTrue(copy.contains(5));
+    assertTrue(copy.contains(Integer.MAX_VALUE));
+    ImmutableSortedIntSet empty = ImmutableSortedIntSet.of();
+    assertSame(empty, SerializableTester.reserialize(empty));
+  }
+
+  public void testNulls() {
+    new NullPointerTester().testAllPublicStaticMethods(ImmutableSortedIntSet.class);
+    new NullPointerTester().testAllPublicInstanceMethods(ImmutableSortedIntSet.of(1, 2));
+  }
+}
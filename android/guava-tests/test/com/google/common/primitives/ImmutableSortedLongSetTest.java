@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.primitives;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.testing.EqualsTester;
+import com.google.common.testing.NullPointerTester;
+import com.google.common.testing.SerializableTester;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import junit.framework.TestCase;
+
+/** Tests for {@link ImmutableSortedLongSet}. */
+@GwtIncompatible
+public class ImmutableSortedLongSetTest extends TestCase {
+
+  public void testOf() {
+    assertThat(ImmutableSortedLongSet.of().toArray()).isEmpty();
+    assertThat(ImmutableSortedLongSet.of(3, 1, 2, 1).toArray())
+        .asList()
+        .containsExactly(1L, 2L, 3L)
+        .inOrder();
+  }
+
+  public void testCopyOf() {
+    long[] values = {5, -1, 5, 3};
+    ImmutableSortedLongSet set = ImmutableSortedLongSet.copyOf(values);
+    values[0] = 100;
+    assertEquals("[-1, 3, 5]", set.toString());
+    assertEquals(set, ImmutableSortedLongSet.copyOf(Arrays.asList(3L, 5L, -1L)));
+    assertEquals(set, ImmutableSortedLongSet.copyOf(ImmutableLongArray.of(-1, 3, 5)));
+  }
+
+  public void testContains_matchesTreeSet() {
+    Random random = new Random(0);
+    for (int size : new int[] {0, 1, 7, 8, 9, 71, 72, 73, 80, 81, 1000, 100_000}) {
+      TreeSet<Long> expected = new TreeSet<>();
+      while (expected.size() < size) {
+        expected.add((long) random.nextInt(4 * size + 1));
+      }
+      ImmutableSortedLongSet set = ImmutableSortedLongSet.copyOf(expected);
+      assertEquals(size, set.size());
+      assertThat(set.toArray()).asList().containsExactlyElementsIn(expected).inOrder();
+      for (long i = -1; i <= 4 * size + 1; i++) {
+        assertEquals(expected.contains(i), set.contains(i));
+      }
+    }
+  }
+
+  public void testContains_extremeValues() {
+    ImmutableSortedLongSet set = ImmutableSortedLongSet.of(Long.MIN_VALUE, 0, 42);
+    assertTrue(set.contains(Long.MIN_VALUE));
+    assertFalse(set.contains(Long.MAX_VALUE));
+    assertFalse(set.contains(Long.MIN_VALUE + 1));
+
+    set = ImmutableSortedLongSet.of(Long.MAX_VALUE, 1);
+    assertTrue(set.contains(Long.MAX_VALUE));
+    assertTrue(set.contains(1));
+    assertFalse(set.contains(Long.MAX_VALUE - 1));
+    assertFalse(ImmutableSortedLongSet.of().contains(Long.MAX_VALUE));
+  }
+
+  public void testGetAndIndexOf() {
+    ImmutableSortedLongSet set = ImmutableSortedLongSet.of(30, 10, 20);
+    assertEquals(10, set.get(0));
+    assertEquals(30, set.get(2));
+    assertEquals(1, set.indexOf(20));
+    assertEquals(-1, set.indexOf(25));
+    try {
+      set.get(3);
+      fail();
+    } catch (IndexOutOfBoundsException expected) {
+    }
+  }
+
+  public void testFirstAndLast() {
+    ImmutableSortedLongSet set = ImmutableSortedLongSet.of(30, 10, 20);
+    assertEquals(10, set.first());
+    assertEquals(30, set.last());
+    try {
+      ImmutableSortedLongSet.of().first();
+      fail();
+    } catch (NoSuchElementException expected) {
+    }
+    try {
+      ImmutableSortedLongSet.of().last();
+      fail();
+    } catch (NoSuchElementException expected) {
+    }
+  }
+
+  public void testEquals() {
+    new EqualsTester()
+        .addEqualityGroup(ImmutableSortedLongSet.of(), ImmutableSortedLongSet.copyOf(new long[0]))
+        .addEqualityGroup(ImmutableSortedLongSet.of(1, 2), ImmutableSortedLongSet.of(2, 1, 2))
+        .addEqualityGroup(ImmutableSortedLongSet.of(1, 3))
+        .addEqualityGroup(ImmutableLongArray.of(1, 2))
+        .testEquals();
+  }
+
+  public void testSerialization() {
+    ImmutableSortedLongSet set = ImmutableSortedLongSet.of(1, 5, Long.MAX_VALUE);
+    ImmutableSortedLongSet copy = SerializableTester.reserializeAndAssert(set);
+    assertTrue(copy.contains(5));
+    assertTrue(copy.contains(Long.MAX_VALUE));
+    ImmutableSortedLongSet empty = ImmutableSortedLongSet.of();
+    assertSame(empty, SerializableTester.reserialize(empty));
+  }
+
+  public void testNulls() {
+    new NullPointerTester().testAllPublicStaticMethods(ImmutableSortedLongSet.class);
+    new NullPointerTester().testAllPublicInstanceMethods(ImmutableSortedLongSet.of(1, 2));
+  }
+}
@@ -21,6 +21,7 @@ import static com.google.common.collect.CollectPreconditions.checkNonnegative;
 
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.GwtCompatible;
+import com.google.common.annotations.GwtIncompatible;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.errorprone.annotations.DoNotCall;
 import java.util.Arrays;
@@ -452,6 +453,21 @@ public abstract class ImmutableBiMap<K, V> extends ImmutableMap<K, V> implements
       entriesUsed = true;
       return new RegularImmutableBiMap<K, V>(alternatingKeysAndValues, size);
     }
+
+    /**
+     * Throws an {@code UnsupportedOperationException}.
+     *
+     * @since NEXT
+     * @deprecated Unsupported by ImmutableBiMap.Builder.
+     */
+    @Beta
+    @GwtIncompatible // PerfectHashImmutableMap
+    @Override
+    @Deprecated
+    @DoNotCall("Always throws UnsupportedOperationException")
+    public final ImmutableBiMap<K, V> buildPerfectHash() {
+      throw new UnsupportedOperationException("Not available on ImmutableBiMap.Builder");
+    }
   }
 
   /**
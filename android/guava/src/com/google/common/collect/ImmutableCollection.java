@@ -528,12 +528,24 @@ public abstract class ImmutableCollection<E> extends AbstractCollection<E> imple
     public Builder<E> addAll(Iterable<? extends E> elements) {
       if (elements instanceof Collection) {
         Collection<?> collection = (Collection<?>) elements;
-        getReadyToExpandTo(size + collection.size());
         if (collection instanceof ImmutableCollection) {
+          getReadyToExpandTo(size + collection.size());
           ImmutableCollection<?> immutableCollection = (ImmutableCollection<?>) collection;
           size = immutableCollection.copyIntoArray(contents, size);
           return this;
         }
+        // One bulk copy instead of an add() per element. toArray() returns a fresh array, so an
+        // empty builder can adopt it outright when that doesn't discard a presized buffer.
+        Object[] array = collection.toArray();
+        if (size == 0 && array.getClass() == Object[].class && array.length >= contents.length) {
+          checkElementsNotNull(array);
+          contents = array;
+          size = array.length;
+          forceCopy = false;
+        } else {
+          addAll(array, array.length);
+        }
+        return this;
       }
       super.addAll(elements);
       return this;
@@ -24,6 +24,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.GwtCompatible;
+import com.google.common.annotations.GwtIncompatible;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.errorprone.annotations.DoNotCall;
 import com.google.errorprone.annotations.DoNotMock;
@@ -541,6 +542,40 @@ public abstract class ImmutableMap<K, V> implements Map<K, V>, Serializable {
       return RegularImmutableMap.create(size, alternatingKeysAndValues);
     }
 
+    /**
+     * Returns a newly-created immutable map backed by a minimal perfect hash function over its
+     * keys, or throws an exception if any key was added more than once. The iteration order of the
+     * returned map is the same as for {@link #buildOrThrow}.
+     *
+     * <p>Building the map takes longer than {@link #buildOrThrow}, but lookups in the result always
+     * examine a single slot and the map holds no per-entry objects. This suits maps that are built
+     * once and then queried heavily. If the keys' {@link Object#hashCode} values don't allow a
+     * perfect hash (for example, because two distinct keys have the same hash code), an ordinary
+     * hash-based map is returned instead.
+     *
+     * @throws IllegalArgumentException if duplicate keys were added
+     * @since NEXT
+     */
+    @Beta
+    @GwtIncompatible // PerfectHashImmutableMap
+    @SuppressWarnings("unchecked")
+    public ImmutableMap<K, V> buildPerfectHash() {
+      sortEntries();
+      switch (size) {
+        case 0:
+          return of();
+        case 1:
+          // requireNonNull is safe because the first `2*size` elements have been filled in.
+          return of(
+              (K) requireNonNull(alternatingKeysAndValues[0]),
+              (V) requireNonNull(alternatingKeysAndValues[1]));
+        default:
+          entriesUsed = true;
+          return PerfectHashImmutableMap.fromAlternatingKeysAndValues(
+              size, alternatingKeysAndValues);
+      }
+    }
+
     void sortEntries() {
       if (valueComparator != null) {
         if (entriesUsed) {
@@ -195,6 +195,43 @@ public abstract class ImmutableSet<E> extends ImmutableCollection<E> implements
     }
   }
 
+  /**
+   * Constructs an {@code ImmutableSet} from an array whose elements are non-null and already
+   * distinct, such as the contents of another {@code ImmutableSet}. Unlike {@link #construct}, this
+   * never calls {@code equals}: each element simply goes into the first free slot of its probe
+   * sequence.
+   *
+   * <p>{@code elements} may be used without copying in the returned {@code ImmutableSet}, in which
+   * case the caller must not modify it.
+   */
+  private static <E> ImmutableSet<E> constructDistinct(Object[] elements) {
+    int n = elements.length;
+    switch (n) {
+      case 0:
+        return of();
+      case 1:
+        @SuppressWarnings("unchecked") // safe; elements contains only E's
+        E elem = (E) elements[0];
+        return of(elem);
+      default:
+        // continue below to handle the general case
+    }
+    int tableSize = chooseTableSize(n);
+    Object[] table = new Object[tableSize];
+    int mask = tableSize - 1;
+    int hashCode = 0;
+    for (Object element : elements) {
+      int hash = element.hashCode();
+      int j = Hashing.smear(hash);
+      while (table[j & mask] != null) {
+        j++;
+      }
+      table[j & mask] = element;
+      hashCode += hash;
+    }
+    return new RegularImmutableSet<E>(elements, hashCode, table, mask, n);
+  }
+
   private static boolean shouldTrim(int actualUnique, int expectedUnique) {
     return actualUnique < (expectedUnique >> 1) + (expectedUnique >> 2);
   }
@@ -255,6 +292,8 @@ public abstract class ImmutableSet<E> extends ImmutableCollection<E> implements
       if (!set.isPartialView()) {
         return set;
       }
+      // e.g. ImmutableMap.keySet(): the elements are already known to be distinct.
+      return constructDistinct(set.toArray());
     }
     Object[] array = elements.toArray();
     return construct(array.length, array);
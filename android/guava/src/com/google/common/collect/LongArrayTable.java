@@ -0,0 +1,540 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.emptyMap;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.collect.ArrayTable.ArrayMap;
+import com.google.common.primitives.ImmutableLongArray;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.DoNotCall;
+import com.google.j2objc.annotations.WeakOuter;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import javax.annotation.CheckForNull;
+
+/**
+ * Fixed-size {@link Table} implementation whose values are {@code long} primitives, stored
+ * column by column in one {@code long[]} per column key.
+ *
+ * <p>This class is the primitive counterpart of {@link ArrayTable}: the complete universe of rows
+ * and columns must be specified at construction time, and every combination of row and column
+ * keys always has a value. Cells start out as {@code 0}. Since values are never boxed in
+ * storage, a table of {@code m} rows and {@code n} columns occupies roughly {@code 8 * m * n}
+ * bytes, compared to several times that for an {@code ArrayTable<R, C, Long>}.
+ *
+ * <p>The {@link Table} views ({@link #row}, {@link #column}, {@link #cellSet}, {@link #values} and
+ * so on) box values on access. Performance-sensitive code should prefer the index-based methods
+ * {@link #at}, {@link #set}, the bulk operations {@link #fill} and {@link #fillColumn}, and {@link
+ * #columnValuesAt}, which exports a column as an {@link ImmutableLongArray}.
+ *
+ * <p>The table's size is constant: the product of the number of supplied row keys and the number of
+ * supplied column keys. The {@code remove} and {@code clear} methods are not supported by the table
+ * or its views, and {@code null} values are rejected.
+ *
+ * <p>The ordering of the row and column keys provided when the table is constructed determines the
+ * iteration ordering across rows and columns in the table's views. None of the view iterators
+ * support {@link Iterator#remove}.
+ *
+ * <p>Note that this implementation is not synchronized. See {@link ArrayTable} for the visibility
+ * guarantees that apply when multiple threads access the same table.
+ *
+ * @since NEXT
+ */
+@Beta
+@GwtIncompatible
+@ElementTypesAreNonnullByDefault
+public final class LongArrayTable<R, C> extends AbstractTable<R, C, Long>
+    implements Serializable {
+
+  /**
+   * Creates a {@code LongArrayTable} filled with {@code 0}.
+   *
+   * @param rowKeys row keys that may be stored in the generated table
+   * @param columnKeys column keys that may be stored in the generated table
+   * @throws NullPointerException if any of the provided keys is null
+   * @throws IllegalArgumentException if {@code rowKeys} or {@code columnKeys} contains duplicates
+   *     or if exactly one of {@code rowKeys} or {@code columnKeys} is empty.
+   */
+  public static <R, C> LongArrayTable<R, C> create(
+      Iterable<? extends R> rowKeys, Iterable<? extends C> columnKeys) {
+    return new LongArrayTable<>(rowKeys, columnKeys);
+  }
+
+  /**
+   * Creates a {@code LongArrayTable} with the mappings in the provided table. Row key / column
+   * key pairs that are not in {@code table} map to {@code 0} in the generated table.
+   *
+   * <p>The ordering of {@code table.rowKeySet()} and {@code table.columnKeySet()} determines the
+   * row and column iteration ordering of the returned table.
+   *
+   * @throws NullPointerException if {@code table} has a null key or value
+   */
+  public static <R, C> LongArrayTable<R, C> create(Table<R, C, ? extends Long> table) {
+    if (table instanceof LongArrayTable) {
+      @SuppressWarnings("unchecked") // the row and column key types are those of table
+      LongArrayTable<R, C> arrayTable = (LongArrayTable<R, C>) table;
+      return new LongArrayTable<R, C>(arrayTable);
+    }
+    return new LongArrayTable<R, C>(table);
+  }
+
+  private final ImmutableList<R> rowList;
+  private final ImmutableList<C> columnList;
+  private final ImmutableMap<R, Integer> rowKeyToIndex;
+  private final ImmutableMap<C, Integer> columnKeyToIndex;
+
+  /** Column-major storage: {@code columns[columnIndex][rowIndex]}. */
+  private final long[][] columns;
+
+  private LongArrayTable(Iterable<? extends R> rowKeys, Iterable<? extends C> columnKeys) {
+    this.rowList = ImmutableList.copyOf(rowKeys);
+    this.columnList = ImmutableList.copyOf(columnKeys);
+    checkArgument(rowList.isEmpty() == columnList.isEmpty());
+    rowKeyToIndex = Maps.indexMap(rowList);
+    columnKeyToIndex = Maps.indexMap(columnList);
+    columns = new long[columnList.size()][rowList.size()];
+  }
+
+  private LongArrayTable(Table<R, C, ? extends Long> table) {
+    this(table.rowKeySet(), table.columnKeySet());
+    putAll(table);
+  }
+
+  private LongArrayTable(LongArrayTable<R, C> table) {
+    rowList = table.rowList;
+    columnList = table.columnList;
+    rowKeyToIndex = table.rowKeyToIndex;
+    columnKeyToIndex = table.columnKeyToIndex;
+    columns = new long[columnList.size()][];
+    for (int j = 0; j < columns.length; j++) {
+      columns[j] = table.columns[j].clone();
+    }
+  }
+
+  /** Returns, as an immutable list, the row keys provided when the table was constructed. */
+  public ImmutableList<R> rowKeyList() {
+    return rowList;
+  }
+
+  /** Returns, as an immutable list, the column keys provided when the table was constructed. */
+  public ImmutableList<C> columnKeyList() {
+    return columnList;
+  }
+
+  /**
+   * Returns the value corresponding to the specified row and column indices, without boxing.
+   *
+   * @param rowIndex position of the row key in {@link #rowKeyList()}
+   * @param columnIndex position of the column key in {@link #columnKeyList()}
+   * @throws IndexOutOfBoundsException if either index is out of range
+   */
+  public long at(int rowIndex, int columnIndex) {
+    return columns[columnIndex][rowIndex];
+  }
+
+  /**
+   * Associates {@code value} with the specified row and column indices.
+   *
+   * @param rowIndex position of the row key in {@link #rowKeyList()}
+   * @param columnIndex position of the column key in {@link #columnKeyList()}
+   * @param value value to store in the table
+   * @return the previous value with the specified row and column
+   * @throws IndexOutOfBoundsException if either index is out of range
+   */
+  @CanIgnoreReturnValue
+  public long set(int rowIndex, int columnIndex, long value) {
+    long[] column = columns[columnIndex];
+    long oldValue = column[rowIndex];
+    column[rowIndex] = value;
+    return oldValue;
+  }
+
+  /** Associates {@code value} with every pair of allowed row and column keys. */
+  public void fill(long value) {
+    for (long[] column : columns) {
+      Arrays.fill(column, value);
+    }
+  }
+
+  /**
+   * Associates {@code value} with every row key in the column at {@code columnIndex}.
+   *
+   * @throws IndexOutOfBoundsException if {@code columnIndex} is out of range
+   */
+  public void fillColumn(int columnIndex, long value) {
+    checkElementIndex(columnIndex, columns.length);
+    Arrays.fill(columns[columnIndex], value);
+  }
+
+  /**
+   * Returns the values of the column at {@code columnIndex}, ordered as in {@link #rowKeyList()}.
+   * Since a column is stored contiguously, this is a single array copy; subsequent table changes
+   * do not affect the returned array.
+   *
+   * @throws IndexOutOfBoundsException if {@code columnIndex} is out of range
+   */
+  public ImmutableLongArray columnValuesAt(int columnIndex) {
+    checkElementIndex(columnIndex, columns.length);
+    return ImmutableLongArray.copyOf(columns[columnIndex]);
+  }
+
+  /**
+   * Returns the values of the column with the given key, ordered as in {@link #rowKeyList()}.
+   *
+   * @throws IllegalArgumentException if {@code columnKey} is not in {@link #columnKeySet()}
+   */
+  public ImmutableLongArray columnValues(C columnKey) {
+    return columnValuesAt(columnIndex(columnKey));
+  }
+
+  /**
+   * Returns a two-dimensional array with the table contents, indexed as {@code
+   * [rowIndex][columnIndex]}. Subsequent table changes will not modify the array, and vice versa.
+   */
+  public long[][] toArray() {
+    long[][] copy = new long[rowList.size()][columnList.size()];
+    for (int j = 0; j < columns.length; j++) {
+      long[] column = columns[j];
+      for (int i = 0; i < column.length; i++) {
+        copy[i][j] = column[i];
+      }
+    }
+    return copy;
+  }
+
+  private int columnIndex(C columnKey) {
+    checkNotNull(columnKey);
+    Integer columnIndex = columnKeyToIndex.get(columnKey);
+    checkArgument(columnIndex != null, "Column %s not in %s", columnKey, columnList);
+    return columnIndex;
+  }
+
+  /**
+   * Not supported. Use {@link #fill} instead.
+   *
+   * @throws UnsupportedOperationException always
+   * @deprecated Use {@link #fill}
+   */
+  @DoNotCall("Always throws UnsupportedOperationException")
+  @Override
+  @Deprecated
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public boolean contains(@CheckForNull Object rowKey, @CheckForNull Object columnKey) {
+    return containsRow(rowKey) && containsColumn(columnKey);
+  }
+
+  @Override
+  public boolean containsColumn(@CheckForNull Object columnKey) {
+    return columnKeyToIndex.containsKey(columnKey);
+  }
+
+  @Override
+  public boolean containsRow(@CheckForNull Object rowKey) {
+    return rowKeyToIndex.containsKey(rowKey);
+  }
+
+  @Override
+  public boolean containsValue(@CheckForNull Object value) {
+    if (value instanceof Long) {
+      long target = (Long) value;
+      for (long[] column : columns) {
+        for (long element : column) {
+          if (element == target) {
+            return true;
+          }
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  @CheckForNull
+  public Long get(@CheckForNull Object rowKey, @CheckForNull Object columnKey) {
+    Integer rowIndex = rowKeyToIndex.get(rowKey);
+    Integer columnIndex = columnKeyToIndex.get(columnKey);
+    return (rowIndex == null || columnIndex == null) ? null : at(rowIndex, columnIndex);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return rowList.isEmpty() || columnList.isEmpty();
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IllegalArgumentException if {@code rowKey} is not in {@link #rowKeySet()} or {@code
+   *     columnKey} is not in {@link #columnKeySet()}.
+   */
+  @CanIgnoreReturnValue
+  @Override
+  public Long put(R rowKey, C columnKey, Long value) {
+    checkNotNull(rowKey);
+    checkNotNull(columnKey);
+    checkNotNull(value);
+    Integer rowIndex = rowKeyToIndex.get(rowKey);
+    checkArgument(rowIndex != null, "Row %s not in %s", rowKey, rowList);
+    return set(rowIndex, columnIndex(columnKey), value);
+  }
+
+  /**
+   * Not supported. Use {@link #put} or {@link #set} instead.
+   *
+   * @throws UnsupportedOperationException always
+   * @deprecated Use {@link #put} or {@link #set}
+   */
+  @DoNotCall("Always throws UnsupportedOperationException")
+  @CanIgnoreReturnValue
+  @Override
+  @Deprecated
+  @CheckForNull
+  public Long remove(@CheckForNull Object rowKey, @CheckForNull Object columnKey) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public int size() {
+    return rowList.size() * columnList.size();
+  }
+
+  @Override
+  Iterator<Cell<R, C, Long>> cellIterator() {
+    return new AbstractIndexedListIterator<Cell<R, C, Long>>(size()) {
+      @Override
+      protected Cell<R, C, Long> get(final int index) {
+        return getCell(index);
+      }
+    };
+  }
+
+  private Cell<R, C, Long> getCell(final int index) {
+    return new Tables.AbstractCell<R, C, Long>() {
+      final int rowIndex = index / columnList.size();
+      final int columnIndex = index % columnList.size();
+
+      @Override
+      public R getRowKey() {
+        return rowList.get(rowIndex);
+      }
+
+      @Override
+      public C getColumnKey() {
+        return columnList.get(columnIndex);
+      }
+
+      @Override
+      public Long getValue() {
+        return at(rowIndex, columnIndex);
+      }
+    };
+  }
+
+  private Long getValue(int index) {
+    return at(index / columnList.size(), index % columnList.size());
+  }
+
+  /**
+   * Returns a view of all mappings that have the given column key. If the column key isn't in
+   * {@link #columnKeySet()}, an empty immutable map is returned. Changes to the returned map will
+   * update the underlying table, and vice versa.
+   */
+  @Override
+  public Map<R, Long> column(C columnKey) {
+    checkNotNull(columnKey);
+    Integer columnIndex = columnKeyToIndex.get(columnKey);
+    return (columnIndex == null) ? emptyMap() : new Column(columnIndex);
+  }
+
+  private class Column extends ArrayMap<R, Long> {
+    final int columnIndex;
+
+    Column(int columnIndex) {
+      super(rowKeyToIndex);
+      this.columnIndex = columnIndex;
+    }
+
+    @Override
+    String getKeyRole() {
+      return "Row";
+    }
+
+    @Override
+    Long getValue(int index) {
+      return at(index, columnIndex);
+    }
+
+    @Override
+    Long setValue(int index, Long newValue) {
+      return set(index, columnIndex, checkNotNull(newValue));
+    }
+  }
+
+  @Override
+  public ImmutableSet<C> columnKeySet() {
+    return columnKeyToIndex.keySet();
+  }
+
+  @CheckForNull private transient ColumnMap columnMap;
+
+  @Override
+  public Map<C, Map<R, Long>> columnMap() {
+    ColumnMap map = columnMap;
+    return (map == null) ? columnMap = new ColumnMap() : map;
+  }
+
+  @WeakOuter
+  private class ColumnMap extends ArrayMap<C, Map<R, Long>> {
+    private ColumnMap() {
+      super(columnKeyToIndex);
+    }
+
+    @Override
+    String getKeyRole() {
+      return "Column";
+    }
+
+    @Override
+    Map<R, Long> getValue(int index) {
+      return new Column(index);
+    }
+
+    @Override
+    Map<R, Long> setValue(int index, Map<R, Long> newValue) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @CheckForNull
+    public Map<R, Long> put(C key, Map<R, Long> value) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  /**
+   * Returns a view of all mappings that have the given row key. If the row key isn't in {@link
+   * #rowKeySet()}, an empty immutable map is returned. Changes to the returned map will update the
+   * underlying table, and vice versa.
+   */
+  @Override
+  public Map<C, Long> row(R rowKey) {
+    checkNotNull(rowKey);
+    Integer rowIndex = rowKeyToIndex.get(rowKey);
+    return (rowIndex == null) ? emptyMap() : new Row(rowIndex);
+  }
+
+  private class Row extends ArrayMap<C, Long> {
+    final int rowIndex;
+
+    Row(int rowIndex) {
+      super(columnKeyToIndex);
+      this.rowIndex = rowIndex;
+    }
+
+    @Override
+    String getKeyRole() {
+      return "Column";
+    }
+
+    @Override
+    Long getValue(int index) {
+      return at(rowIndex, index);
+    }
+
+    @Override
+    Long setValue(int index, Long newValue) {
+      return set(rowIndex, index, checkNotNull(newValue));
+    }
+  }
+
+  @Override
+  public ImmutableSet<R> rowKeySet() {
+    return rowKeyToIndex.keySet();
+  }
+
+  @CheckForNull private transient RowMap rowMap;
+
+  @Override
+  public Map<R, Map<C, Long>> rowMap() {
+    RowMap map = rowMap;
+    return (map == null) ? rowMap = new RowMap() : map;
+  }
+
+  @WeakOuter
+  private class RowMap extends ArrayMap<R, Map<C, Long>> {
+    private RowMap() {
+      super(rowKeyToIndex);
+    }
+
+    @Override
+    String getKeyRole() {
+      return "Row";
+    }
+
+    @Override
+    Map<C, Long> getValue(int index) {
+      return new Row(index);
+    }
+
+    @Override
+    Map<C, Long> setValue(int index, Map<C, Long> newValue) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @CheckForNull
+    public Map<C, Long> put(R key, Map<C, Long> value) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  /**
+   * Returns an unmodifiable collection of all values, which may contain duplicates. The returned
+   * collection's iterator traverses the values of the first row key, the values of the second row
+   * key, and so on.
+   */
+  @Override
+  public Collection<Long> values() {
+    return super.values();
+  }
+
+  @Override
+  Iterator<Long> valuesIterator() {
+    return new AbstractIndexedListIterator<Long>(size()) {
+      @Override
+      protected Long get(int index) {
+        return getValue(index);
+      }
+    };
+  }
+
+
+  private static final long serialVersionUID = 0;
+}
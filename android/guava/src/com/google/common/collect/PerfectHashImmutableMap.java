@@ -0,0 +1,351 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.collect.CollectPreconditions.checkEntryNotNull;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.AbstractMap;
+import javax.annotation.CheckForNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Implementation of {@link ImmutableMap} backed by a minimal perfect hash function over its keys,
+ * built with the "hash, displace and compress" (CHD) scheme.
+ *
+ * <p>Keys are grouped into buckets of about {@link #AVERAGE_BUCKET_SIZE} keys by their hash code.
+ * Each bucket with two or more keys gets a seed under which all of its keys land in distinct free
+ * slots; each single-key bucket is then given a free slot directly. The keys and values are stored
+ * in flat arrays indexed by slot, so there are no entry objects, and {@link #get} always examines
+ * exactly one slot.
+ *
+ * <p>The perfect hash is computed from {@link Object#hashCode} alone, so two distinct keys with
+ * equal hash codes can never be separated. In that case, or if some bucket is large enough to
+ * suggest hash flooding, {@link #fromAlternatingKeysAndValues} falls back to {@link
+ * RegularImmutableMap}.
+ */
+@GwtIncompatible
+@ElementTypesAreNonnullByDefault
+final class PerfectHashImmutableMap<K, V> extends ImmutableMap<K, V> {
+  /**
+   * The average number of keys per bucket. Smaller buckets cost more space for seeds but leave
+   * more single-key buckets, which fill the last free slots without any search.
+   */
+  @VisibleForTesting static final int AVERAGE_BUCKET_SIZE = 2;
+
+  /** Larger buckets are too unlikely for well-distributed hash codes, so we give up. */
+  @VisibleForTesting static final int MAX_BUCKET_SIZE = 24;
+
+  /** The number of seeds to try for any one bucket before giving up. */
+  private static final int MAX_SEED_ATTEMPTS = 1 << 16;
+
+  /**
+   * Creates a perfect-hash map from the first {@code n} keys and values in {@code
+   * alternatingKeysAndValues}, or a {@link RegularImmutableMap} if the keys' hash codes don't allow
+   * a perfect hash. In the latter case, {@code alternatingKeysAndValues} may be used without
+   * copying, as by {@link RegularImmutableMap#create}.
+   *
+   * @throws IllegalArgumentException if two entries have equal keys
+   */
+  static <K, V> ImmutableMap<K, V> fromAlternatingKeysAndValues(
+      int n, @Nullable Object[] alternatingKeysAndValues) {
+    ImmutableMap<K, V> map = tryCreate(n, alternatingKeysAndValues);
+    return (map != null) ? map : RegularImmutableMap.<K, V>create(n, alternatingKeysAndValues);
+  }
+
+  @CheckForNull
+  @VisibleForTesting
+  static <K, V> PerfectHashImmutableMap<K, V> tryCreate(
+      int n, @Nullable Object[] alternatingKeysAndValues) {
+    int[] hashes = new int[n];
+    for (int i = 0; i < n; i++) {
+      // requireNonNull is safe because the first `2*n` elements have been filled in.
+      Object key = requireNonNull(alternatingKeysAndValues[2 * i]);
+      Object value = requireNonNull(alternatingKeysAndValues[2 * i + 1]);
+      checkEntryNotNull(key, value);
+      hashes[i] = Hashing.smear(key.hashCode());
+    }
+
+    // Group entry indices by bucket with a counting sort.
+    int bucketCount = Math.max(1, (n + AVERAGE_BUCKET_SIZE - 1) / AVERAGE_BUCKET_SIZE);
+    int[] bucketStart = new int[bucketCount + 1];
+    for (int i = 0; i < n; i++) {
+      bucketStart[bucket(hashes[i], bucketCount) + 1]++;
+    }
+    for (int b = 0; b < bucketCount; b++) {
+      if (bucketStart[b + 1] > MAX_BUCKET_SIZE) {
+        return null;
+      }
+      bucketStart[b + 1] += bucketStart[b];
+    }
+    int[] members = new int[n];
+    int[] fill = new int[bucketCount];
+    for (int i = 0; i < n; i++) {
+      int b = bucket(hashes[i], bucketCount);
+      members[bucketStart[b] + fill[b]++] = i;
+    }
+
+    // Visit buckets from largest to smallest, again with a counting sort.
+    int[] bucketsBySize = new int[bucketCount];
+    int[] sizeStart = new int[MAX_BUCKET_SIZE + 2];
+    for (int b = 0; b < bucketCount; b++) {
+      sizeStart[MAX_BUCKET_SIZE - fill[b] + 1]++;
+    }
+    for (int s = 0; s <= MAX_BUCKET_SIZE; s++) {
+      sizeStart[s + 1] += sizeStart[s];
+    }
+    for (int b = 0; b < bucketCount; b++) {
+      bucketsBySize[sizeStart[MAX_BUCKET_SIZE - fill[b]]++] = b;
+    }
+
+    @Nullable Object[] keys = new @Nullable Object[n];
+    @Nullable Object[] values = new @Nullable Object[n];
+    int[] slotOfEntry = new int[n];
+    int[] seeds = new int[bucketCount];
+    int[] candidateSlots = new int[MAX_BUCKET_SIZE];
+    int nextFreeSlot = 0;
+
+    for (int b : bucketsBySize) {
+      int start = bucketStart[b];
+      int size = fill[b];
+      if (size == 0) {
+        break; // all remaining buckets are empty too
+      } else if (size == 1) {
+        while (keys[nextFreeSlot] != null) {
+          nextFreeSlot++;
+        }
+        seeds[b] = ~nextFreeSlot;
+        place(members[start], nextFreeSlot, alternatingKeysAndValues, keys, values, slotOfEntry);
+        continue;
+      }
+      if (!checkDistinctHashes(members, start, size, hashes, alternatingKeysAndValues)) {
+        return null;
+      }
+      int seed = findSeed(members, start, size, hashes, keys, candidateSlots);
+      if (seed < 0) {
+        return null;
+      }
+      seeds[b] = seed;
+      for (int j = 0; j < size; j++) {
+        place(
+            members[start + j],
+            candidateSlots[j],
+            alternatingKeysAndValues,
+            keys,
+            values,
+            slotOfEntry);
+      }
+    }
+    return new PerfectHashImmutableMap<>(seeds, keys, values, slotOfEntry);
+  }
+
+  /**
+   * Returns false if two keys in the bucket have equal hash codes, and so can't be separated.
+   *
+   * @throws IllegalArgumentException if two keys in the bucket are equal
+   */
+  private static boolean checkDistinctHashes(
+      int[] members,
+      int start,
+      int size,
+      int[] hashes,
+      @Nullable Object[] alternatingKeysAndValues) {
+    for (int j = 0; j < size; j++) {
+      int a = members[start + j];
+      for (int k = j + 1; k < size; k++) {
+        int b = members[start + k];
+        if (hashes[a] == hashes[b]) {
+          Object keyA = requireNonNull(alternatingKeysAndValues[2 * a]);
+          Object keyB = requireNonNull(alternatingKeysAndValues[2 * b]);
+          if (keyA.equals(keyB)) {
+            throw conflictException(
+                "key",
+                keyA + "=" + alternatingKeysAndValues[2 * a + 1],
+                keyB + "=" + alternatingKeysAndValues[2 * b + 1]);
+          }
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Finds a seed under which every key in the bucket maps to a distinct free slot, leaving those
+   * slots in {@code candidateSlots}. Returns -1 if no seed is found within {@link
+   * #MAX_SEED_ATTEMPTS}.
+   */
+  private static int findSeed(
+      int[] members,
+      int start,
+      int size,
+      int[] hashes,
+      @Nullable Object[] keys,
+      int[] candidateSlots) {
+    int n = keys.length;
+    seedLoop:
+    for (int seed = 0; seed < MAX_SEED_ATTEMPTS; seed++) {
+      for (int j = 0; j < size; j++) {
+        int slot = slot(hashes[members[start + j]], seed, n);
+        if (keys[slot] != null) {
+          continue seedLoop;
+        }
+        for (int k = 0; k < j; k++) {
+          if (candidateSlots[k] == slot) {
+            continue seedLoop;
+          }
+        }
+        candidateSlots[j] = slot;
+      }
+      return seed;
+    }
+    return -1;
+  }
+
+  private static void place(
+      int entryIndex,
+      int slot,
+      @Nullable Object[] alternatingKeysAndValues,
+      @Nullable Object[] keys,
+      @Nullable Object[] values,
+      int[] slotOfEntry) {
+    keys[slot] = alternatingKeysAndValues[2 * entryIndex];
+    values[slot] = alternatingKeysAndValues[2 * entryIndex + 1];
+    slotOfEntry[entryIndex] = slot;
+  }
+
+  /** Maps a smeared hash code uniformly onto {@code [0, bucketCount)}. */
+  private static int bucket(int hash, int bucketCount) {
+    return (int) (((hash & 0xFFFFFFFFL) * bucketCount) >>> 32);
+  }
+
+  /** Maps a smeared hash code and a seed onto a slot in {@code [0, n)}. */
+  private static int slot(int hash, int seed, int n) {
+    // The finalization step of MurmurHash3's 64-bit variant, over the hash and seed together.
+    long x = (hash & 0xFFFFFFFFL) | ((long) seed << 32);
+    x ^= x >>> 33;
+    x *= 0xff51afd7ed558ccdL;
+    x ^= x >>> 33;
+    x *= 0xc4ceb9fe1a85ec53L;
+    x ^= x >>> 33;
+    return (int) (((x >>> 32) * n) >>> 32);
+  }
+
+  /**
+   * For each bucket, either the nonnegative seed used to place its keys or, for a single-key
+   * bucket, the bitwise complement of its key's slot.
+   */
+  private final transient int[] seeds;
+
+  // keys and values are indexed by slot; the first `size` elements are all non-null.
+  private final transient @Nullable Object[] keys;
+  private final transient @Nullable Object[] values;
+
+  /** The slot of each entry, in iteration order. */
+  private final transient int[] slotOfEntry;
+
+  private PerfectHashImmutableMap(
+      int[] seeds, @Nullable Object[] keys, @Nullable Object[] values, int[] slotOfEntry) {
+    this.seeds = seeds;
+    this.keys = keys;
+    this.values = values;
+    this.slotOfEntry = slotOfEntry;
+  }
+
+  @Override
+  public int size() {
+    return slotOfEntry.length;
+  }
+
+  @Override
+  @CheckForNull
+  public V get(@CheckForNull Object key) {
+    if (key == null) {
+      return null;
+    }
+    int hash = Hashing.smear(key.hashCode());
+    int seed = seeds[bucket(hash, seeds.length)];
+    int slot = (seed < 0) ? ~seed : slot(hash, seed, keys.length);
+    @SuppressWarnings("unchecked") // only V instances are stored in values
+    V value = key.equals(keys[slot]) ? (V) values[slot] : null;
+    return value;
+  }
+
+  @SuppressWarnings("unchecked") // only K instances are stored in keys
+  private K keyAt(int index) {
+    return (K) requireNonNull(keys[slotOfEntry[index]]);
+  }
+
+  @SuppressWarnings("unchecked") // only V instances are stored in values
+  private V valueAt(int index) {
+    return (V) requireNonNull(values[slotOfEntry[index]]);
+  }
+
+  @Override
+  ImmutableSet<Entry<K, V>> createEntrySet() {
+    class EntrySet extends ImmutableMapEntrySet<K, V> {
+      @Override
+      public UnmodifiableIterator<Entry<K, V>> iterator() {
+        return asList().iterator();
+      }
+
+      @Override
+      ImmutableList<Entry<K, V>> createAsList() {
+        return new ImmutableAsList<Entry<K, V>>() {
+          @Override
+          public Entry<K, V> get(int index) {
+            return new AbstractMap.SimpleImmutableEntry<>(keyAt(index), valueAt(index));
+          }
+
+          @Override
+          ImmutableCollection<Entry<K, V>> delegateCollection() {
+            return EntrySet.this;
+          }
+        };
+      }
+
+      @Override
+      ImmutableMap<K, V> map() {
+        return PerfectHashImmutableMap.this;
+      }
+
+      private static final long serialVersionUID = 0;
+    }
+    return new EntrySet();
+  }
+
+  @Override
+  ImmutableSet<K> createKeySet() {
+    return new ImmutableMapKeySet<K, V>(this);
+  }
+
+  @Override
+  ImmutableCollection<V> createValues() {
+    return new ImmutableMapValues<K, V>(this);
+  }
+
+  @Override
+  boolean isPartialView() {
+    return false;
+  }
+
+  // This class is never actually serialized directly, but we have to make the
+  // warning go away (and suppressing would suppress for all nested classes too)
+  private static final long serialVersionUID = 0;
+}
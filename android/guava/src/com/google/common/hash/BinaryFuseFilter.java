@@ -0,0 +1,437 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Objects;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import javax.annotation.CheckForNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable approximate-membership filter for a fixed set of instances of {@code T}, with the
+ * same one-sided error as a {@link BloomFilter}: {@link #mightContain} returns {@code true} for
+ * every element of the set, and rarely for other objects.
+ *
+ * <p>This is a 3-wise binary fuse filter, as described in "Binary Fuse Filters: Fast and Smaller
+ * Than Xor Filters" by Thomas Mueller Graf and Daniel Lemire, a refinement of the xor filter. Each
+ * element maps to three fingerprint slots whose XOR equals the element's fingerprint; the slots
+ * are solved for once, when the filter is built. For sets of more than a hundred thousand or so
+ * elements the filter takes about 1.13 fingerprints per element, compared to about 1.44 for a
+ * {@code BloomFilter} with the same false positive probability, and {@code mightContain} reads
+ * exactly three slots, independently of the false positive probability.
+ *
+ * <p>Elements cannot be added to a filter after it is built; see {@link BloomFilter}, {@link
+ * ScalableBloomFilter} or {@link CuckooFilter} for filters that support that.
+ *
+ * <p>Binary fuse filters are serializable, and support a more compact serial representation via
+ * the {@link #writeTo} and {@link #readFrom} methods.
+ *
+ * @param <T> the type of instances that the {@code BinaryFuseFilter} accepts
+ * @since NEXT
+ */
+@Beta
+@ElementTypesAreNonnullByDefault
+public final class BinaryFuseFilter<T extends @Nullable Object> implements Serializable {
+  /** The number of slots each element maps to. */
+  private static final int ARITY = 3;
+
+  private static final int MAX_SEGMENT_LENGTH = 1 << 18;
+
+  /** Construction fails with probability well under 1% per attempt for any number of elements. */
+  private static final int MAX_ATTEMPTS = 100;
+
+  private final long seed;
+  private final int segmentLength;
+  private final int segmentCount;
+  private final FingerprintArray fingerprints;
+  private final Funnel<? super T> funnel;
+
+  // Derived from the fields above
+  private final int segmentLengthMask;
+  private final int segmentCountLength;
+  private final int fingerprintMask;
+
+  private BinaryFuseFilter(
+      long seed,
+      int segmentLength,
+      int segmentCount,
+      FingerprintArray fingerprints,
+      Funnel<? super T> funnel) {
+    checkArgument(
+        segmentLength > 0 && Integer.bitCount(segmentLength) == 1,
+        "segmentLength (%s) must be a power of 2",
+        segmentLength);
+    checkArgument(segmentCount > 0, "segmentCount (%s) must be > 0", segmentCount);
+    checkArgument(
+        (long) (segmentCount + ARITY - 1) * segmentLength == fingerprints.size(),
+        "%s segments of length %s don't match %s fingerprints",
+        segmentCount,
+        segmentLength,
+        fingerprints.size());
+    this.seed = seed;
+    this.segmentLength = segmentLength;
+    this.segmentCount = segmentCount;
+    this.fingerprints = fingerprints;
+    this.funnel = checkNotNull(funnel);
+    this.segmentLengthMask = segmentLength - 1;
+    this.segmentCountLength = segmentCount * segmentLength;
+    this.fingerprintMask = fingerprints.mask();
+  }
+
+  /**
+   * Creates a {@code BinaryFuseFilter} of the given elements with a false positive probability of
+   * at most {@code fpp}. Depending on {@code fpp}, each fingerprint is 8, 16 or 32 bits, for a
+   * false positive probability of 2<sup>-8</sup>, 2<sup>-16</sup> or 2<sup>-32</sup>; see {@link
+   * #expectedFpp}. Duplicate elements are ignored.
+   *
+   * <p>Building the filter takes time linear in the number of elements, and temporarily uses
+   * about 30 bytes per element.
+   *
+   * @param elements the elements that the filter will contain
+   * @param funnel the funnel of T's that the constructed filter will use
+   * @param fpp the desired false positive probability (must be positive and less than 1.0)
+   */
+  public static <T extends @Nullable Object> BinaryFuseFilter<T> copyOf(
+      Collection<? extends T> elements, Funnel<? super T> funnel, double fpp) {
+    checkNotNull(elements);
+    checkNotNull(funnel);
+    checkArgument(fpp > 0.0, "False positive probability (%s) must be > 0.0", fpp);
+    checkArgument(fpp < 1.0, "False positive probability (%s) must be < 1.0", fpp);
+    long[] keys = new long[elements.size()];
+    int size = 0;
+    for (T element : elements) {
+      if (size == keys.length) {
+        // The collection grew while we iterated over it
+        keys = Arrays.copyOf(keys, size * 2 + 1);
+      }
+      keys[size++] = Hashing.murmur3_128().hashObject(element, funnel).asLong();
+    }
+    Arrays.sort(keys, 0, size);
+    int distinct = 0;
+    for (int i = 0; i < size; i++) {
+      if (distinct == 0 || keys[i] != keys[distinct - 1]) {
+        keys[distinct++] = keys[i];
+      }
+    }
+    return build(keys, distinct, FingerprintArray.bytesPerFingerprint(fpp, 1), funnel);
+  }
+
+  private static <T extends @Nullable Object> BinaryFuseFilter<T> build(
+      long[] keys, int size, int bytesPerFingerprint, Funnel<? super T> funnel) {
+    // The parameters below are from the reference implementation; the construction time and the
+    // probability of construction failing are both very sensitive to them.
+    int segmentLength =
+        (size == 0)
+            ? 4
+            : Math.min(
+                1 << (int) Math.floor(Math.log(size) / Math.log(3.33) + 2.25), MAX_SEGMENT_LENGTH);
+    double sizeFactor =
+        (size <= 1) ? 0 : Math.max(1.125, 0.875 + 0.25 * Math.log(1000000.0) / Math.log(size));
+    long capacity = Math.round(size * sizeFactor);
+    long segmentCount = Math.max(1, (capacity + segmentLength - 1) / segmentLength - (ARITY - 1));
+    long arrayLength = (segmentCount + ARITY - 1) * segmentLength;
+    checkArgument(arrayLength <= Integer.MAX_VALUE, "Too many elements: %s", size);
+
+    FingerprintArray fingerprints = new FingerprintArray((int) arrayLength, bytesPerFingerprint);
+    long seedState = 0x726b2b9d438b9d4dL;
+    for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+      seedState += 0x9E3779B97F4A7C15L;
+      BinaryFuseFilter<T> filter =
+          new BinaryFuseFilter<T>(
+              mix(seedState), segmentLength, (int) segmentCount, fingerprints, funnel);
+      if (filter.populate(keys, size)) {
+        return filter;
+      }
+    }
+    throw new IllegalStateException("Unable to build a BinaryFuseFilter of " + size + " elements");
+  }
+
+  /**
+   * Attempts to assign fingerprints so that each key's three slots XOR to its fingerprint, by
+   * repeatedly peeling off a slot that only one remaining key maps to. Returns false if some keys
+   * can't be peeled with this filter's seed.
+   */
+  private boolean populate(long[] keys, int size) {
+    int arrayLength = fingerprints.size();
+    // For each slot, the number of keys mapping to it times 4, XOR which of its 3 slots it is for
+    // each of those keys, and the XOR of those keys' hashes. Once only one key is left, these
+    // identify it.
+    byte[] slotCounts = new byte[arrayLength];
+    long[] slotHashes = new long[arrayLength];
+    for (int i = 0; i < size; i++) {
+      long hash = mix(keys[i] + seed);
+      for (int index = 0; index < ARITY; index++) {
+        int slot = slot(index, hash);
+        slotCounts[slot] += 4;
+        slotCounts[slot] ^= index;
+        slotHashes[slot] ^= hash;
+        if ((slotCounts[slot] & 0xFF) < 4) {
+          // Over 63 keys map to one slot, overflowing its count
+          return false;
+        }
+      }
+    }
+
+    int[] alone = new int[arrayLength];
+    int aloneCount = 0;
+    for (int slot = 0; slot < arrayLength; slot++) {
+      if ((slotCounts[slot] & 0xFF) >> 2 == 1) {
+        alone[aloneCount++] = slot;
+      }
+    }
+    long[] stackHashes = new long[size];
+    byte[] stackIndexes = new byte[size];
+    int stackSize = 0;
+    int[] slots = new int[ARITY + ARITY - 1];
+    while (aloneCount > 0) {
+      int slot = alone[--aloneCount];
+      if ((slotCounts[slot] & 0xFF) >> 2 != 1) {
+        continue;
+      }
+      long hash = slotHashes[slot];
+      int found = slotCounts[slot] & 3;
+      stackHashes[stackSize] = hash;
+      stackIndexes[stackSize] = (byte) found;
+      stackSize++;
+      slots(hash, slots);
+      for (int i = 1; i < ARITY; i++) {
+        int other = slots[found + i];
+        if ((slotCounts[other] & 0xFF) >> 2 == 2) {
+          alone[aloneCount++] = other;
+        }
+        slotCounts[other] -= 4;
+        slotCounts[other] ^= (found + i) % ARITY;
+        slotHashes[other] ^= hash;
+      }
+    }
+    if (stackSize != size) {
+      return false;
+    }
+
+    // Assign in reverse peeling order, so that each key's own slot is assigned after the other two
+    for (int i = size - 1; i >= 0; i--) {
+      long hash = stackHashes[i];
+      int found = stackIndexes[i];
+      slots(hash, slots);
+      fingerprints.set(
+          slots[found],
+          fingerprint(hash)
+              ^ fingerprints.get(slots[found + 1])
+              ^ fingerprints.get(slots[found + 2]));
+    }
+    return true;
+  }
+
+  /**
+   * Fills {@code slots} with the three slots of {@code hash}, followed by the first two again, so
+   * that the other two slots of the {@code i}th are {@code slots[i + 1]} and {@code slots[i + 2]}.
+   */
+  private void slots(long hash, int[] slots) {
+    for (int index = 0; index < ARITY; index++) {
+      slots[index] = slot(index, hash);
+    }
+    for (int index = ARITY; index < slots.length; index++) {
+      slots[index] = slots[index - ARITY];
+    }
+  }
+
+  /**
+   * Returns the {@code index}th slot of {@code hash}. The first is anywhere in the first {@code
+   * segmentCount} segments, and each of the others is in the segment after its predecessor's.
+   */
+  private int slot(int index, long hash) {
+    int slot = multiplyHigh(hash, segmentCountLength) + index * segmentLength;
+    // Index 0 keeps its offset in the segment; 1 and 2 take theirs from bits 18-35 and 0-17.
+    return slot ^ (int) ((hash & ((1L << 36) - 1)) >>> (36 - 18 * index)) & segmentLengthMask;
+  }
+
+  /** Returns the high 32 bits of the unsigned product of {@code hash} and {@code n}. */
+  private static int multiplyHigh(long hash, int n) {
+    return (int) (((hash >>> 32) * n + (((hash & 0xFFFFFFFFL) * n) >>> 32)) >>> 32);
+  }
+
+  private static int fingerprint(long hash) {
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  /** The 64-bit finalizer of Murmur3. */
+  private static long mix(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+  /**
+   * Returns {@code true} if the element <i>might</i> be in the set this filter was built from,
+   * {@code false} if this is <i>definitely</i> not the case.
+   */
+  public boolean mightContain(@ParametricNullness T object) {
+    long hash = mix(Hashing.murmur3_128().hashObject(object, funnel).asLong() + seed);
+    int slot0 = multiplyHigh(hash, segmentCountLength);
+    int slot1 = (slot0 + segmentLength) ^ ((int) (hash >>> 18) & segmentLengthMask);
+    int slot2 = (slot0 + 2 * segmentLength) ^ ((int) hash & segmentLengthMask);
+    FingerprintArray fingerprints = this.fingerprints;
+    int xor =
+        fingerprint(hash)
+            ^ fingerprints.get(slot0)
+            ^ fingerprints.get(slot1)
+            ^ fingerprints.get(slot2);
+    return (xor & fingerprintMask) == 0;
+  }
+
+  /**
+   * Returns the probability that {@link #mightContain} will erroneously return {@code true} for an
+   * object that is not in the set this filter was built from: 2<sup>-b</sup>, where <i>b</i> is
+   * the width of the fingerprints in bits.
+   */
+  public double expectedFpp() {
+    return Math.scalb(1.0, -fingerprints.bitsPerFingerprint());
+  }
+
+  /** Returns the number of bits in the fingerprint array. */
+  @VisibleForTesting
+  long bitSize() {
+    return (long) fingerprints.data.length * Byte.SIZE;
+  }
+
+  @Override
+  public boolean equals(@CheckForNull Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (object instanceof BinaryFuseFilter) {
+      BinaryFuseFilter<?> that = (BinaryFuseFilter<?>) object;
+      return this.seed == that.seed
+          && this.segmentLength == that.segmentLength
+          && this.funnel.equals(that.funnel)
+          && this.fingerprints.equals(that.fingerprints);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(seed, segmentLength, funnel, fingerprints);
+  }
+
+  private static final long serialVersionUID = 0;
+
+  private Object writeReplace() {
+    return new SerialForm<T>(this);
+  }
+
+  private static class SerialForm<T extends @Nullable Object> implements Serializable {
+    final long seed;
+    final int segmentLength;
+    final int segmentCount;
+    final byte[] data;
+    final int bytesPerFingerprint;
+    final Funnel<? super T> funnel;
+
+    SerialForm(BinaryFuseFilter<T> filter) {
+      this.seed = filter.seed;
+      this.segmentLength = filter.segmentLength;
+      this.segmentCount = filter.segmentCount;
+      this.data = filter.fingerprints.data;
+      this.bytesPerFingerprint = filter.fingerprints.bytesPerFingerprint;
+      this.funnel = filter.funnel;
+    }
+
+    Object readResolve() {
+      return new BinaryFuseFilter<T>(
+          seed,
+          segmentLength,
+          segmentCount,
+          new FingerprintArray(data, bytesPerFingerprint),
+          funnel);
+    }
+
+    private static final long serialVersionUID = 1;
+  }
+
+  /**
+   * Writes this {@code BinaryFuseFilter} to an output stream, with a custom format (not Java
+   * serialization).
+   *
+   * <p>Use {@linkplain #readFrom(InputStream, Funnel)} to reconstruct the written filter.
+   */
+  public void writeTo(OutputStream out) throws IOException {
+    // Serial form:
+    // 1 big endian long, the seed
+    // 1 big endian int, the segment length
+    // 1 big endian int, the segment count
+    // 1 byte, the number of bytes per fingerprint
+    // 1 big endian int, the number of bytes of fingerprints
+    // N bytes of fingerprints, each little endian
+    DataOutputStream dout = new DataOutputStream(out);
+    dout.writeLong(seed);
+    dout.writeInt(segmentLength);
+    dout.writeInt(segmentCount);
+    fingerprints.writeTo(dout);
+  }
+
+  /**
+   * Reads a byte stream, which was written by {@linkplain #writeTo(OutputStream)}, into a {@code
+   * BinaryFuseFilter}.
+   *
+   * <p>The {@code Funnel} to be used is not encoded in the stream, so it must be provided here.
+   * <b>Warning:</b> the funnel provided <b>must</b> behave identically to the one used to build
+   * the original filter!
+   *
+   * @throws IOException if the InputStream throws an {@code IOException}, or if its data does not
+   *     appear to be a BinaryFuseFilter serialized using the {@linkplain #writeTo(OutputStream)}
+   *     method.
+   */
+  public static <T extends @Nullable Object> BinaryFuseFilter<T> readFrom(
+      InputStream in, Funnel<? super T> funnel) throws IOException {
+    checkNotNull(in, "InputStream");
+    checkNotNull(funnel, "Funnel");
+    int segmentLength = -1;
+    int segmentCount = -1;
+    try {
+      DataInputStream din = new DataInputStream(in);
+      long seed = din.readLong();
+      segmentLength = din.readInt();
+      segmentCount = din.readInt();
+      FingerprintArray fingerprints = FingerprintArray.readFrom(din);
+      return new BinaryFuseFilter<T>(seed, segmentLength, segmentCount, fingerprints, funnel);
+    } catch (RuntimeException e) {
+      String message =
+          "Unable to deserialize BinaryFuseFilter from InputStream."
+              + " segmentLength: "
+              + segmentLength
+              + " segmentCount: "
+              + segmentCount;
+      throw new IOException(message, e);
+    }
+  }
+}
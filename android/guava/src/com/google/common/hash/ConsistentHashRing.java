@@ -0,0 +1,389 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.hash.WeightedNodes.mix;
+import static com.google.common.hash.WeightedNodes.removeAt;
+
+import com.google.common.annotations.Beta;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import java.util.Arrays;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Assigns keys to a changing set of weighted nodes with a consistent hash ring, optionally with
+ * bounded loads. Each node owns points on a ring of 2<sup>64</sup> positions, in number
+ * proportional to its weight, and a key goes to the owner of the first point at or after its hash.
+ * Adding a node only moves keys to it, and removing a node only moves the keys that it held. A
+ * lookup takes a hash and a binary search among the points.
+ *
+ * <p>With {@link #acquire}, which counts the keys assigned to each node until they are {@linkplain
+ * #release released}, the ring also implements "Consistent Hashing with Bounded Loads" by Vahab
+ * Mirrokni, Mikkel Thorup and Morteza Zadimoghaddam: a key skips the nodes that already hold their
+ * share of the keys, times the {@linkplain #create(HashFunction, Funnel, Funnel, int, double) load
+ * factor}, and goes to the first node after them. No node then holds more than that, however
+ * unevenly the keys hash.
+ *
+ * <p>Each change in membership or weight updates the sorted points of the previous ring, in time
+ * linear in their number, rather than sorting them all again.
+ *
+ * <p>This class is thread-safe. {@link #get} never blocks: changes are serialized, and each
+ * publishes a new copy of the ring. {@link #acquire} and {@link #release} synchronize on the ring.
+ *
+ * @param <K> the type of keys
+ * @param <N> the type of nodes, which must have consistent {@code equals} and {@code hashCode}
+ * @since NEXT
+ */
+@Beta
+@ElementTypesAreNonnullByDefault
+public final class ConsistentHashRing<K extends @Nullable Object, N> {
+  /** The number of points of a node of weight 1, in a ring created without one. */
+  public static final int DEFAULT_POINTS_PER_WEIGHT = 100;
+
+  /** The load factor of a ring created without one. */
+  public static final double DEFAULT_LOAD_FACTOR = 1.25;
+
+  private static final int MAX_POINTS_PER_NODE = 1 << 20;
+
+  private final HashFunction hashFunction;
+  private final Funnel<? super K> keyFunnel;
+  private final Funnel<? super N> nodeFunnel;
+  private final int pointsPerWeight;
+  private final double loadFactor;
+
+  private volatile Ring<N> ring = new Ring<>(new Object[0], new double[0], new long[0], new int[0]);
+
+  // The number of acquired keys of each node, in the order of ring.nodes, and their sum.
+  @GuardedBy("this")
+  private long[] loads = new long[0];
+
+  @GuardedBy("this")
+  private long totalLoad;
+
+  private ConsistentHashRing(
+      HashFunction hashFunction,
+      Funnel<? super K> keyFunnel,
+      Funnel<? super N> nodeFunnel,
+      int pointsPerWeight,
+      double loadFactor) {
+    this.hashFunction = checkNotNull(hashFunction);
+    this.keyFunnel = checkNotNull(keyFunnel);
+    this.nodeFunnel = checkNotNull(nodeFunnel);
+    checkArgument(
+        hashFunction.bits() >= Long.SIZE,
+        "hashFunction must produce at least 64 bits, but produces %s",
+        hashFunction.bits());
+    checkArgument(pointsPerWeight > 0, "pointsPerWeight (%s) must be positive", pointsPerWeight);
+    checkArgument(
+        loadFactor >= 1 && loadFactor < Double.POSITIVE_INFINITY,
+        "loadFactor (%s) must be finite and at least 1",
+        loadFactor);
+    this.pointsPerWeight = pointsPerWeight;
+    this.loadFactor = loadFactor;
+  }
+
+  /**
+   * Creates a {@code ConsistentHashRing} without any nodes, with {@value
+   * #DEFAULT_POINTS_PER_WEIGHT} points per unit of weight and a load factor of {@value
+   * #DEFAULT_LOAD_FACTOR}, which hashes keys and nodes with {@code hashFunction}.
+   *
+   * @throws IllegalArgumentException if {@code hashFunction} produces fewer than 64 bits
+   */
+  public static <K extends @Nullable Object, N> ConsistentHashRing<K, N> create(
+      HashFunction hashFunction, Funnel<? super K> keyFunnel, Funnel<? super N> nodeFunnel) {
+    return create(
+        hashFunction, keyFunnel, nodeFunnel, DEFAULT_POINTS_PER_WEIGHT, DEFAULT_LOAD_FACTOR);
+  }
+
+  /**
+   * Creates a {@code ConsistentHashRing} without any nodes, which hashes keys and nodes with {@code
+   * hashFunction}.
+   *
+   * @param pointsPerWeight the number of points of a node of weight 1 on the ring. More points
+   *     spread keys more evenly among nodes, at the cost of memory and of slower changes.
+   * @param loadFactor how many times its share of the acquired keys a node may hold, which must be
+   *     at least 1. Smaller factors balance loads more tightly, but move more keys away from the
+   *     nodes they hash to.
+   * @throws IllegalArgumentException if {@code hashFunction} produces fewer than 64 bits, {@code
+   *     pointsPerWeight} is not positive, or {@code loadFactor} is less than 1 or infinite
+   */
+  public static <K extends @Nullable Object, N> ConsistentHashRing<K, N> create(
+      HashFunction hashFunction,
+      Funnel<? super K> keyFunnel,
+      Funnel<? super N> nodeFunnel,
+      int pointsPerWeight,
+      double loadFactor) {
+    return new ConsistentHashRing<>(
+        hashFunction, keyFunnel, nodeFunnel, pointsPerWeight, loadFactor);
+  }
+
+  /**
+   * Adds {@code node} with a weight of 1, or sets its weight to 1 if it is already present.
+   *
+   * @return {@code true} if the node was not already present
+   */
+  @CanIgnoreReturnValue
+  public boolean add(N node) {
+    return add(node, 1.0);
+  }
+
+  /**
+   * Adds {@code node} with the given weight, or sets its weight if it is already present. The node
+   * gets {@code weight * pointsPerWeight} points on the ring, rounded, and at least one.
+   *
+   * @return {@code true} if the node was not already present
+   * @throws IllegalArgumentException if {@code weight} is not positive and finite, or would give
+   *     the node more than 2<sup>20</sup> points
+   */
+  @CanIgnoreReturnValue
+  public synchronized boolean add(N node, double weight) {
+    checkNotNull(node);
+    checkArgument(
+        weight > 0 && weight < Double.POSITIVE_INFINITY,
+        "weight (%s) must be positive and finite",
+        weight);
+    long pointCount = Math.max(1, Math.round(weight * pointsPerWeight));
+    checkArgument(
+        pointCount <= MAX_POINTS_PER_NODE,
+        "weight (%s) would give the node too many points",
+        weight);
+    long[] nodePoints = new long[(int) pointCount];
+    long nodeHash = hashFunction.hashObject(node, nodeFunnel).padToLong();
+    for (int i = 0; i < nodePoints.length; i++) {
+      nodePoints[i] = mix(nodeHash + i * 0x9E3779B97F4A7C15L);
+    }
+    Arrays.sort(nodePoints);
+
+    Ring<N> current = ring;
+    int index = current.indexOf(node);
+    if (index >= 0) {
+      double[] weights = current.weights.clone();
+      weights[index] = weight;
+      Ring<N> without = current.withoutPointsOf(index, /* shiftOwners= */ false);
+      ring = without.withPoints(current.nodes, weights, nodePoints, index);
+      return false;
+    }
+    int size = current.nodes.length;
+    Object[] nodes = Arrays.copyOf(current.nodes, size + 1);
+    double[] weights = Arrays.copyOf(current.weights, size + 1);
+    nodes[size] = node;
+    weights[size] = weight;
+    ring = current.withPoints(nodes, weights, nodePoints, size);
+    loads = Arrays.copyOf(loads, size + 1);
+    return true;
+  }
+
+  /**
+   * Removes {@code node}. Only the keys that it held move, each to the owner of the next point on
+   * the ring. Its acquired keys are forgotten: they count neither towards the loads of the other
+   * nodes, nor towards the shares of the keys that are acquired next.
+   *
+   * @return {@code true} if the node was present
+   */
+  @CanIgnoreReturnValue
+  public synchronized boolean remove(N node) {
+    checkNotNull(node);
+    Ring<N> current = ring;
+    int index = current.indexOf(node);
+    if (index < 0) {
+      return false;
+    }
+    Ring<N> without = current.withoutPointsOf(index, /* shiftOwners= */ true);
+    ring =
+        new Ring<>(
+            removeAt(current.nodes, index),
+            removeAt(current.weights, index),
+            without.points,
+            without.owners);
+    totalLoad -= loads[index];
+    loads = removeAt(loads, index);
+    return true;
+  }
+
+  /** Returns the number of nodes. */
+  public int size() {
+    return ring.nodes.length;
+  }
+
+  /**
+   * Returns an unmodifiable snapshot of the nodes and their weights, in the order they were first
+   * added.
+   */
+  public Map<N, Double> nodes() {
+    return ring.asMap();
+  }
+
+  /**
+   * Returns the node that {@code key} hashes to, regardless of loads.
+   *
+   * @throws IllegalStateException if there are no nodes
+   */
+  public N get(@ParametricNullness K key) {
+    Ring<N> current = ring;
+    checkState(current.nodes.length > 0, "There are no nodes");
+    return current.node(current.owners[current.firstPointAtOrAfter(hashKey(key))]);
+  }
+
+  /**
+   * Assigns {@code key} to the first node on the ring, starting from the one that it hashes to,
+   * that holds fewer keys than its capacity, and counts the key towards the load of that node until
+   * it is {@linkplain #release released}. The capacity of a node is the number of acquired keys,
+   * this one included, times its share of the total weight, times the load factor, rounded up.
+   *
+   * @throws IllegalStateException if there are no nodes
+   */
+  public synchronized N acquire(@ParametricNullness K key) {
+    Ring<N> current = ring;
+    checkState(current.nodes.length > 0, "There are no nodes");
+    double capacityPerWeight = loadFactor * (totalLoad + 1) / current.totalWeight;
+    int start = current.firstPointAtOrAfter(hashKey(key));
+    int[] owners = current.owners;
+    // The capacities add up to more than the current total load, so some node has room.
+    for (int i = start; ; ) {
+      int owner = owners[i];
+      if (loads[owner] < Math.ceil(capacityPerWeight * current.weights[owner])) {
+        loads[owner]++;
+        totalLoad++;
+        return current.node(owner);
+      }
+      i = (i + 1 == owners.length) ? 0 : i + 1;
+      checkState(i != start, "No node has room for the key");
+    }
+  }
+
+  /**
+   * Releases a key that was {@linkplain #acquire acquired} from {@code node}, so that it no longer
+   * counts towards its load.
+   *
+   * @return {@code false} if {@code node} is not present, or holds no keys, which can happen if it
+   *     was removed since the key was acquired
+   */
+  @CanIgnoreReturnValue
+  public synchronized boolean release(N node) {
+    checkNotNull(node);
+    int index = ring.indexOf(node);
+    if (index < 0 || loads[index] == 0) {
+      return false;
+    }
+    loads[index]--;
+    totalLoad--;
+    return true;
+  }
+
+  /** Returns the number of keys that were acquired from {@code node} and not released yet. */
+  public synchronized long load(N node) {
+    checkNotNull(node);
+    int index = ring.indexOf(node);
+    return (index < 0) ? 0 : loads[index];
+  }
+
+  @Override
+  public String toString() {
+    return "ConsistentHashRing{hashFunction="
+        + hashFunction
+        + ", pointsPerWeight="
+        + pointsPerWeight
+        + ", loadFactor="
+        + loadFactor
+        + ", nodes="
+        + nodes()
+        + "}";
+  }
+
+  private long hashKey(@ParametricNullness K key) {
+    return hashFunction.hashObject(key, keyFunnel).padToLong();
+  }
+
+  /**
+   * An immutable snapshot of the ring: the nodes with their weights, and the points of all nodes in
+   * increasing order, with the index in {@code nodes} of the owner of each.
+   */
+  private static final class Ring<N> extends WeightedNodes<N> {
+    final double totalWeight;
+    final long[] points;
+    final int[] owners;
+
+    Ring(Object[] nodes, double[] weights, long[] points, int[] owners) {
+      super(nodes, weights);
+      double total = 0;
+      for (double weight : weights) {
+        total += weight;
+      }
+      this.totalWeight = total;
+      this.points = points;
+      this.owners = owners;
+    }
+
+    /** Returns the index of the first point at or after {@code hash}, wrapping around. */
+    int firstPointAtOrAfter(long hash) {
+      int index = Arrays.binarySearch(points, hash);
+      if (index < 0) {
+        index = -index - 1;
+      }
+      return (index == points.length) ? 0 : index;
+    }
+
+    /**
+     * Returns a ring with the given nodes and weights, and with the points of this ring merged with
+     * the sorted {@code newPoints}, owned by node {@code owner}.
+     */
+    Ring<N> withPoints(Object[] nodes, double[] weights, long[] newPoints, int owner) {
+      long[] mergedPoints = new long[points.length + newPoints.length];
+      int[] mergedOwners = new int[mergedPoints.length];
+      int i = 0;
+      int j = 0;
+      for (int k = 0; k < mergedPoints.length; k++) {
+        if (j == newPoints.length || (i < points.length && points[i] <= newPoints[j])) {
+          mergedPoints[k] = points[i];
+          mergedOwners[k] = owners[i++];
+        } else {
+          mergedPoints[k] = newPoints[j++];
+          mergedOwners[k] = owner;
+        }
+      }
+      return new Ring<>(nodes, weights, mergedPoints, mergedOwners);
+    }
+
+    /**
+     * Returns a ring with the same nodes and weights, but without the points of node {@code owner}.
+     * If {@code shiftOwners}, the indexes of the owners after it are decremented, for a ring
+     * without that node.
+     */
+    Ring<N> withoutPointsOf(int owner, boolean shiftOwners) {
+      int count = 0;
+      for (int o : owners) {
+        if (o != owner) {
+          count++;
+        }
+      }
+      long[] keptPoints = new long[count];
+      int[] keptOwners = new int[count];
+      int k = 0;
+      for (int i = 0; i < points.length; i++) {
+        int o = owners[i];
+        if (o != owner) {
+          keptPoints[k] = points[i];
+          keptOwners[k++] = (shiftOwners && o > owner) ? o - 1 : o;
+        }
+      }
+      return new Ring<>(nodes, weights, keptPoints, keptOwners);
+    }
+  }
+}
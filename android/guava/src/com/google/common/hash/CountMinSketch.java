@@ -0,0 +1,418 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.Objects;
+import com.google.common.primitives.Ints;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.CheckForNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A Count-Min sketch, which estimates how many times each instance of {@code T} has been added to
+ * it, in an amount of memory independent of the number of distinct instances. See "An Improved
+ * Data Stream Summary: The Count-Min Sketch and its Applications" by Graham Cormode and S.
+ * Muthukrishnan.
+ *
+ * <p>The sketch is a table of counters with {@code depth} rows of {@code width} counters each. An
+ * added object increments one counter per row, chosen by hashing, and its count is estimated as
+ * the minimum of those counters. Estimates never undercount. With a sketch {@linkplain #create
+ * created} for an error of {@code epsilon} with confidence {@code 1 - delta}, an estimate exceeds
+ * the true count by at most {@code epsilon} times the {@linkplain #totalCount total count} with
+ * probability at least {@code 1 - delta}.
+ *
+ * <p>Sketches with the same dimensions, hash function and funnel can be {@linkplain #merge
+ * merged}: the result estimates the sum of the counts in either of them.
+ *
+ * <p>Sketches are serializable, and support a more compact serial representation via the {@link
+ * #writeTo} and {@link #readFrom} methods.
+ *
+ * <p>This class is thread-safe and lock-free: counters are updated with atomic adds.
+ *
+ * @param <T> the type of instances that the {@code CountMinSketch} accepts
+ * @see SpaceSaving
+ * @since NEXT
+ */
+@Beta
+@ElementTypesAreNonnullByDefault
+public final class CountMinSketch<T extends @Nullable Object> implements Serializable {
+  private final int depth;
+  private final int width;
+
+  /** The counters, row by row. */
+  private final AtomicLongArray counters;
+
+  private final LongAddable totalCount;
+  private final Funnel<? super T> funnel;
+  private final HashFunction hashFunction;
+
+  private CountMinSketch(
+      int depth,
+      int width,
+      AtomicLongArray counters,
+      long totalCount,
+      Funnel<? super T> funnel,
+      HashFunction hashFunction) {
+    checkArgument(depth > 0, "depth (%s) must be > 0", depth);
+    checkArgument(width > 0, "width (%s) must be > 0", width);
+    checkArgument(
+        counters.length() == (long) depth * width,
+        "%s counters don't match depth %s and width %s",
+        counters.length(),
+        depth,
+        width);
+    checkArgument(totalCount >= 0, "totalCount (%s) must be >= 0", totalCount);
+    checkArgument(
+        hashFunction.bits() >= Long.SIZE,
+        "hashFunction must produce at least 64 bits, but produces %s",
+        hashFunction.bits());
+    this.depth = depth;
+    this.width = width;
+    this.counters = counters;
+    this.totalCount = LongAddables.create();
+    this.totalCount.add(totalCount);
+    this.funnel = checkNotNull(funnel);
+    this.hashFunction = hashFunction;
+  }
+
+  /**
+   * Creates a {@code CountMinSketch} whose estimates exceed the true counts by at most {@code
+   * epsilon} times the total count, with probability at least {@code 1 - delta}. It hashes objects
+   * with {@link Hashing#murmur3_128()}.
+   *
+   * <p>The sketch takes {@code 8 * ceil(e / epsilon) * ceil(ln(1 / delta))} bytes.
+   *
+   * @param funnel the funnel of T's that the constructed sketch will use
+   * @param epsilon the relative error; must be positive and less than 1.0
+   * @param delta the probability of exceeding the error; must be positive and less than 1.0
+   */
+  public static <T extends @Nullable Object> CountMinSketch<T> create(
+      Funnel<? super T> funnel, double epsilon, double delta) {
+    return create(funnel, epsilon, delta, Hashing.murmur3_128());
+  }
+
+  /**
+   * Creates a {@code CountMinSketch} whose estimates exceed the true counts by at most {@code
+   * epsilon} times the total count, with probability at least {@code 1 - delta}. It hashes objects
+   * with the given hash function.
+   *
+   * @param funnel the funnel of T's that the constructed sketch will use
+   * @param epsilon the relative error; must be positive and less than 1.0
+   * @param delta the probability of exceeding the error; must be positive and less than 1.0
+   * @param hashFunction the hash function to use; must produce at least 64 bits
+   */
+  public static <T extends @Nullable Object> CountMinSketch<T> create(
+      Funnel<? super T> funnel, double epsilon, double delta, HashFunction hashFunction) {
+    checkNotNull(funnel);
+    checkNotNull(hashFunction);
+    checkArgument(epsilon > 0.0 && epsilon < 1.0, "epsilon (%s) must be in (0, 1)", epsilon);
+    checkArgument(delta > 0.0 && delta < 1.0, "delta (%s) must be in (0, 1)", delta);
+    long width = (long) Math.ceil(Math.E / epsilon);
+    long depth = (long) Math.ceil(Math.log(1 / delta));
+    checkArgument(
+        width * depth <= Integer.MAX_VALUE,
+        "A sketch of depth %s and width %s is too large",
+        depth,
+        width);
+    return new CountMinSketch<T>(
+        (int) depth,
+        (int) width,
+        new AtomicLongArray((int) (width * depth)),
+        0,
+        funnel,
+        hashFunction);
+  }
+
+  /**
+   * Creates a new {@code CountMinSketch} that's a copy of this instance. The new instance is equal
+   * to this instance but shares no mutable state.
+   */
+  public CountMinSketch<T> copy() {
+    return new CountMinSketch<T>(
+        depth, width, new AtomicLongArray(toPlainArray()), totalCount(), funnel, hashFunction);
+  }
+
+  /** Adds one occurrence of {@code object} to this sketch. */
+  public void add(@ParametricNullness T object) {
+    add(object, 1);
+  }
+
+  /**
+   * Adds {@code occurrences} occurrences of {@code object} to this sketch.
+   *
+   * @throws IllegalArgumentException if {@code occurrences} is negative
+   */
+  public void add(@ParametricNullness T object, long occurrences) {
+    checkArgument(occurrences >= 0, "occurrences (%s) must be >= 0", occurrences);
+    if (occurrences == 0) {
+      return;
+    }
+    long hash = hashFunction.hashObject(object, funnel).asLong();
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    for (int row = 0; row < depth; row++) {
+      counters.getAndAdd(row * width + column(hash1, hash2, row), occurrences);
+    }
+    totalCount.add(occurrences);
+  }
+
+  /**
+   * Returns an estimate of the number of times {@code object} has been added to this sketch. The
+   * estimate is never less than the actual count.
+   */
+  public long estimateCount(@ParametricNullness T object) {
+    long hash = hashFunction.hashObject(object, funnel).asLong();
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, counters.get(row * width + column(hash1, hash2, row)));
+    }
+    return estimate;
+  }
+
+  /**
+   * Returns the column of a row's counter, by double hashing as in {@link
+   * BloomFilterStrategies#MURMUR128_MITZ_32}.
+   */
+  private int column(int hash1, int hash2, int row) {
+    int combinedHash = hash1 + (row + 1) * hash2;
+    // Flip all the bits if it's negative (guaranteed positive number)
+    if (combinedHash < 0) {
+      combinedHash = ~combinedHash;
+    }
+    return combinedHash % width;
+  }
+
+  /** Returns the total number of occurrences added to this sketch. */
+  public long totalCount() {
+    return totalCount.sum();
+  }
+
+  /**
+   * Determines whether a given sketch is compatible with this one, so that it can be {@linkplain
+   * #merge merged} into this one. Sketches are compatible if they have the same dimensions, hash
+   * function and funnel.
+   */
+  public boolean isCompatible(CountMinSketch<T> that) {
+    checkNotNull(that);
+    return this != that
+        && this.depth == that.depth
+        && this.width == that.width
+        && this.hashFunction.equals(that.hashFunction)
+        && this.funnel.equals(that.funnel);
+  }
+
+  /**
+   * Merges another sketch into this one, so that this sketch estimates the sum of the counts in
+   * both. The other sketch is not modified.
+   *
+   * @throws IllegalArgumentException if {@code that} is not {@linkplain #isCompatible compatible}
+   *     with this sketch
+   */
+  public void merge(CountMinSketch<T> that) {
+    checkNotNull(that);
+    checkArgument(this != that, "Cannot combine a CountMinSketch with itself.");
+    checkArgument(
+        this.depth == that.depth && this.width == that.width,
+        "CountMinSketches must have the same dimensions (%sx%s != %sx%s)",
+        this.depth,
+        this.width,
+        that.depth,
+        that.width);
+    checkArgument(
+        this.hashFunction.equals(that.hashFunction),
+        "CountMinSketches must have equal hash functions (%s != %s)",
+        this.hashFunction,
+        that.hashFunction);
+    checkArgument(
+        this.funnel.equals(that.funnel),
+        "CountMinSketches must have equal funnels (%s != %s)",
+        this.funnel,
+        that.funnel);
+    for (int i = 0; i < counters.length(); i++) {
+      long count = that.counters.get(i);
+      if (count != 0) {
+        counters.getAndAdd(i, count);
+      }
+    }
+    totalCount.add(that.totalCount());
+  }
+
+  private long[] toPlainArray() {
+    long[] array = new long[counters.length()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = counters.get(i);
+    }
+    return array;
+  }
+
+  @Override
+  public boolean equals(@CheckForNull Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (object instanceof CountMinSketch) {
+      CountMinSketch<?> that = (CountMinSketch<?>) object;
+      if (this.depth != that.depth
+          || this.width != that.width
+          || !this.hashFunction.equals(that.hashFunction)
+          || !this.funnel.equals(that.funnel)) {
+        return false;
+      }
+      for (int i = 0; i < counters.length(); i++) {
+        if (this.counters.get(i) != that.counters.get(i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = Objects.hashCode(depth, width, funnel, hashFunction);
+    for (int i = 0; i < counters.length(); i++) {
+      long count = counters.get(i);
+      hash = 31 * hash + (int) (count ^ (count >>> 32));
+    }
+    return hash;
+  }
+
+  private static final long serialVersionUID = 0;
+
+  private Object writeReplace() {
+    return new SerialForm<T>(this);
+  }
+
+  private static class SerialForm<T extends @Nullable Object> implements Serializable {
+    final int depth;
+    final int width;
+    final long[] counters;
+    final long totalCount;
+    final Funnel<? super T> funnel;
+    final HashFunction hashFunction;
+
+    SerialForm(CountMinSketch<T> sketch) {
+      this.depth = sketch.depth;
+      this.width = sketch.width;
+      this.counters = sketch.toPlainArray();
+      this.totalCount = sketch.totalCount();
+      this.funnel = sketch.funnel;
+      this.hashFunction = sketch.hashFunction;
+    }
+
+    Object readResolve() {
+      return new CountMinSketch<T>(
+          depth, width, new AtomicLongArray(counters), totalCount, funnel, hashFunction);
+    }
+
+    private static final long serialVersionUID = 1;
+  }
+
+  /**
+   * Writes this {@code CountMinSketch} to an output stream, with a custom format (not Java
+   * serialization).
+   *
+   * <p>Use {@linkplain #readFrom(InputStream, Funnel, HashFunction)} to reconstruct the written
+   * sketch.
+   */
+  public void writeTo(OutputStream out) throws IOException {
+    // Serial form:
+    // 1 big endian int, the depth
+    // 1 big endian int, the width
+    // 1 big endian long, the total count
+    // depth * width big endian longs, the counters row by row
+    DataOutputStream dout = new DataOutputStream(out);
+    dout.writeInt(depth);
+    dout.writeInt(width);
+    dout.writeLong(totalCount());
+    for (int i = 0; i < counters.length(); i++) {
+      dout.writeLong(counters.get(i));
+    }
+  }
+
+  /**
+   * Reads a byte stream, which was written by {@linkplain #writeTo(OutputStream)}, into a {@code
+   * CountMinSketch} that hashes objects with {@link Hashing#murmur3_128()}.
+   *
+   * <p>The {@code Funnel} to be used is not encoded in the stream, so it must be provided here.
+   * <b>Warning:</b> the funnel provided <b>must</b> behave identically to the one used to populate
+   * the original sketch!
+   *
+   * @throws IOException if the InputStream throws an {@code IOException}, or if its data does not
+   *     appear to be a CountMinSketch serialized using the {@linkplain #writeTo(OutputStream)}
+   *     method.
+   */
+  public static <T extends @Nullable Object> CountMinSketch<T> readFrom(
+      InputStream in, Funnel<? super T> funnel) throws IOException {
+    return readFrom(in, funnel, Hashing.murmur3_128());
+  }
+
+  /**
+   * Reads a byte stream, which was written by {@linkplain #writeTo(OutputStream)}, into a {@code
+   * CountMinSketch}.
+   *
+   * <p>Neither the {@code Funnel} nor the {@code HashFunction} to be used is encoded in the stream,
+   * so they must be provided here. <b>Warning:</b> they <b>must</b> behave identically to the ones
+   * used to populate the original sketch!
+   *
+   * @throws IOException if the InputStream throws an {@code IOException}, or if its data does not
+   *     appear to be a CountMinSketch serialized using the {@linkplain #writeTo(OutputStream)}
+   *     method.
+   */
+  public static <T extends @Nullable Object> CountMinSketch<T> readFrom(
+      InputStream in, Funnel<? super T> funnel, HashFunction hashFunction) throws IOException {
+    checkNotNull(in, "InputStream");
+    checkNotNull(funnel, "Funnel");
+    checkNotNull(hashFunction, "HashFunction");
+    int depth = -1;
+    int width = -1;
+    try {
+      DataInputStream din = new DataInputStream(in);
+      depth = din.readInt();
+      width = din.readInt();
+      long totalCount = din.readLong();
+      checkArgument(depth > 0 && width > 0, "depth and width must be > 0");
+      long[] counters = new long[Ints.checkedCast((long) depth * width)];
+      for (int i = 0; i < counters.length; i++) {
+        counters[i] = din.readLong();
+      }
+      return new CountMinSketch<T>(
+          depth, width, new AtomicLongArray(counters), totalCount, funnel, hashFunction);
+    } catch (RuntimeException e) {
+      String message =
+          "Unable to deserialize CountMinSketch from InputStream."
+              + " depth: "
+              + depth
+              + " width: "
+              + width;
+      throw new IOException(message, e);
+    }
+  }
+}
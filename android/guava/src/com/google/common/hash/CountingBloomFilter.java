@@ -0,0 +1,467 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Objects;
+import com.google.common.math.DoubleMath;
+import com.google.common.math.LongMath;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import com.google.common.primitives.UnsignedBytes;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.RoundingMode;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.CheckForNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A counting Bloom filter for instances of {@code T}. Like a {@link BloomFilter}, it offers an
+ * approximate containment test with one-sided error, but it also supports {@linkplain #remove
+ * removing} elements.
+ *
+ * <p>Where a Bloom filter has one bit per position, a counting Bloom filter has a 4-bit counter,
+ * packed sixteen to a {@code long}, so it takes four times the memory of a {@code BloomFilter} with
+ * the same false positive probability. A counter that reaches 15 sticks there: it is never
+ * decremented again, since it may be counting more elements than it can represent. With the
+ * counter array sized by {@link #create}, overflow is vanishingly rare.
+ *
+ * <p>Removing an element that was never put in the filter, but which {@link #mightContain} anyway,
+ * decrements counters belonging to other elements and can cause false negatives. Only remove
+ * elements that are known to have been added.
+ *
+ * <p>Counting Bloom filters are serializable, and support a more compact serial representation via
+ * the {@link #writeTo} and {@link #readFrom} methods.
+ *
+ * <p>This class is thread-safe and lock-free. It internally uses atomics and compare-and-swap to
+ * ensure correctness when multiple threads are used to access it.
+ *
+ * @param <T> the type of instances that the {@code CountingBloomFilter} accepts
+ * @since NEXT
+ */
+@Beta
+@ElementTypesAreNonnullByDefault
+public final class CountingBloomFilter<T extends @Nullable Object> implements Serializable {
+  /** The counters of the filter (not necessarily power of 2!) */
+  private final LockFreeCounterArray counters;
+
+  /** Number of hashes per element */
+  private final int numHashFunctions;
+
+  /** The funnel to translate Ts to bytes */
+  private final Funnel<? super T> funnel;
+
+  private CountingBloomFilter(
+      LockFreeCounterArray counters, int numHashFunctions, Funnel<? super T> funnel) {
+    checkArgument(numHashFunctions > 0, "numHashFunctions (%s) must be > 0", numHashFunctions);
+    checkArgument(
+        numHashFunctions <= 255, "numHashFunctions (%s) must be <= 255", numHashFunctions);
+    this.counters = checkNotNull(counters);
+    this.numHashFunctions = numHashFunctions;
+    this.funnel = checkNotNull(funnel);
+  }
+
+  /**
+   * Creates a {@code CountingBloomFilter} with the expected number of insertions and expected
+   * false positive probability.
+   *
+   * <p>Note that overflowing a {@code CountingBloomFilter} with significantly more elements than
+   * specified will result in its saturation, and a sharp deterioration of its false positive
+   * probability.
+   *
+   * @param funnel the funnel of T's that the constructed filter will use
+   * @param expectedInsertions the number of expected insertions to the constructed filter; must
+   *     be positive
+   * @param fpp the desired false positive probability (must be positive and less than 1.0)
+   */
+  public static <T extends @Nullable Object> CountingBloomFilter<T> create(
+      Funnel<? super T> funnel, long expectedInsertions, double fpp) {
+    checkNotNull(funnel);
+    checkArgument(
+        expectedInsertions >= 0, "Expected insertions (%s) must be >= 0", expectedInsertions);
+    checkArgument(fpp > 0.0, "False positive probability (%s) must be > 0.0", fpp);
+    checkArgument(fpp < 1.0, "False positive probability (%s) must be < 1.0", fpp);
+    if (expectedInsertions == 0) {
+      expectedInsertions = 1;
+    }
+    long numCounters = BloomFilter.optimalNumOfBits(expectedInsertions, fpp);
+    int numHashFunctions = BloomFilter.optimalNumOfHashFunctions(expectedInsertions, numCounters);
+    try {
+      return new CountingBloomFilter<T>(
+          new LockFreeCounterArray(numCounters), numHashFunctions, funnel);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          "Could not create CountingBloomFilter of " + numCounters + " counters", e);
+    }
+  }
+
+  /**
+   * Creates a new {@code CountingBloomFilter} that's a copy of this instance. The new instance is
+   * equal to this instance but shares no mutable state.
+   */
+  public CountingBloomFilter<T> copy() {
+    return new CountingBloomFilter<T>(counters.copy(), numHashFunctions, funnel);
+  }
+
+  /**
+   * Returns {@code true} if the element <i>might</i> be in this filter, {@code false} if this is
+   * <i>definitely</i> not the case.
+   */
+  public boolean mightContain(@ParametricNullness T object) {
+    long[] hashes = hashes(object);
+    long combinedHash = hashes[0];
+    for (int i = 0; i < numHashFunctions; i++) {
+      if (counters.get(index(combinedHash)) == 0) {
+        return false;
+      }
+      combinedHash += hashes[1];
+    }
+    return true;
+  }
+
+  /**
+   * Puts an element into this filter. Ensures that subsequent invocations of {@link #mightContain}
+   * with the same element will return {@code true} until it is {@linkplain #remove removed} as
+   * many times as it has been put.
+   *
+   * @return true if any counter went from zero to one as a result of this operation. If so, this is
+   *     <i>definitely</i> the only copy of {@code object} in the filter. If not, it <i>might</i> be
+   *     a duplicate.
+   */
+  public boolean put(@ParametricNullness T object) {
+    long[] hashes = hashes(object);
+    boolean becameNonZero = false;
+    long combinedHash = hashes[0];
+    for (int i = 0; i < numHashFunctions; i++) {
+      becameNonZero |= counters.increment(index(combinedHash));
+      combinedHash += hashes[1];
+    }
+    return becameNonZero;
+  }
+
+  /**
+   * Removes one copy of an element from this filter, if the filter might contain it.
+   *
+   * <p>The element must have been {@linkplain #put put} in this filter; removing an element that is
+   * merely a false positive can cause false negatives for other elements.
+   *
+   * @return true if the filter might have contained {@code object}, and so was changed
+   */
+  public boolean remove(@ParametricNullness T object) {
+    if (!mightContain(object)) {
+      return false;
+    }
+    long[] hashes = hashes(object);
+    long combinedHash = hashes[0];
+    for (int i = 0; i < numHashFunctions; i++) {
+      counters.decrement(index(combinedHash));
+      combinedHash += hashes[1];
+    }
+    return true;
+  }
+
+  /** Hashes as in {@link BloomFilterStrategies#MURMUR128_MITZ_64}. */
+  private long[] hashes(@ParametricNullness T object) {
+    byte[] bytes = Hashing.murmur3_128().hashObject(object, funnel).getBytesInternal();
+    return new long[] {
+      BloomFilterStrategies.lowerEight(bytes), BloomFilterStrategies.upperEight(bytes)
+    };
+  }
+
+  private long index(long combinedHash) {
+    // Make the combined hash positive and indexable
+    return (combinedHash & Long.MAX_VALUE) % counters.size();
+  }
+
+  /**
+   * Returns the probability that {@link #mightContain} will erroneously return {@code true} for an
+   * object that is not in the filter.
+   */
+  public double expectedFpp() {
+    return Math.pow((double) counters.nonZeroCount() / counters.size(), numHashFunctions);
+  }
+
+  /**
+   * Returns an estimate for the total number of distinct elements in this filter. This
+   * approximation is reasonably accurate if it does not exceed the value of {@code
+   * expectedInsertions} that was used when constructing the filter.
+   */
+  public long approximateElementCount() {
+    // See BloomFilter.approximateElementCount
+    double fractionNonZero = (double) counters.nonZeroCount() / counters.size();
+    return DoubleMath.roundToLong(
+        -Math.log1p(-fractionNonZero) * counters.size() / numHashFunctions, RoundingMode.HALF_UP);
+  }
+
+  /** Returns the number of counters in the underlying counter array. */
+  @VisibleForTesting
+  long counterCount() {
+    return counters.size();
+  }
+
+  @Override
+  public boolean equals(@CheckForNull Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (object instanceof CountingBloomFilter) {
+      CountingBloomFilter<?> that = (CountingBloomFilter<?>) object;
+      return this.numHashFunctions == that.numHashFunctions
+          && this.funnel.equals(that.funnel)
+          && this.counters.equals(that.counters);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(numHashFunctions, funnel, counters);
+  }
+
+  private static final long serialVersionUID = 0;
+
+  private Object writeReplace() {
+    return new SerialForm<T>(this);
+  }
+
+  private static class SerialForm<T extends @Nullable Object> implements Serializable {
+    final long[] data;
+    final int numHashFunctions;
+    final Funnel<? super T> funnel;
+
+    SerialForm(CountingBloomFilter<T> filter) {
+      this.data = filter.counters.toPlainArray();
+      this.numHashFunctions = filter.numHashFunctions;
+      this.funnel = filter.funnel;
+    }
+
+    Object readResolve() {
+      return new CountingBloomFilter<T>(new LockFreeCounterArray(data), numHashFunctions, funnel);
+    }
+
+    private static final long serialVersionUID = 1;
+  }
+
+  /**
+   * Writes this {@code CountingBloomFilter} to an output stream, with a custom format (not Java
+   * serialization).
+   *
+   * <p>Use {@linkplain #readFrom(InputStream, Funnel)} to reconstruct the written filter.
+   */
+  public void writeTo(OutputStream out) throws IOException {
+    // Serial form:
+    // 1 unsigned byte for the number of hash functions
+    // 1 big endian int, the number of longs holding our counters
+    // N big endian longs of our counters, sixteen 4-bit counters each, lowest bits first
+    DataOutputStream dout = new DataOutputStream(out);
+    dout.writeByte(UnsignedBytes.checkedCast(numHashFunctions)); // note: checked at the c'tor
+    dout.writeInt(counters.data.length());
+    for (int i = 0; i < counters.data.length(); i++) {
+      dout.writeLong(counters.data.get(i));
+    }
+  }
+
+  /**
+   * Reads a byte stream, which was written by {@linkplain #writeTo(OutputStream)}, into a {@code
+   * CountingBloomFilter}.
+   *
+   * <p>The {@code Funnel} to be used is not encoded in the stream, so it must be provided here.
+   * <b>Warning:</b> the funnel provided <b>must</b> behave identically to the one used to populate
+   * the original filter!
+   *
+   * @throws IOException if the InputStream throws an {@code IOException}, or if its data does not
+   *     appear to be a CountingBloomFilter serialized using the {@linkplain #writeTo(OutputStream)}
+   *     method.
+   */
+  public static <T extends @Nullable Object> CountingBloomFilter<T> readFrom(
+      InputStream in, Funnel<? super T> funnel) throws IOException {
+    checkNotNull(in, "InputStream");
+    checkNotNull(funnel, "Funnel");
+    int numHashFunctions = -1;
+    int dataLength = -1;
+    try {
+      DataInputStream din = new DataInputStream(in);
+      numHashFunctions = UnsignedBytes.toInt(din.readByte());
+      dataLength = din.readInt();
+
+      long[] data = new long[dataLength];
+      for (int i = 0; i < data.length; i++) {
+        data[i] = din.readLong();
+      }
+      return new CountingBloomFilter<T>(new LockFreeCounterArray(data), numHashFunctions, funnel);
+    } catch (RuntimeException e) {
+      String message =
+          "Unable to deserialize CountingBloomFilter from InputStream."
+              + " numHashFunctions: "
+              + numHashFunctions
+              + " dataLength: "
+              + dataLength;
+      throw new IOException(message, e);
+    }
+  }
+
+  /**
+   * Models a lock-free array of 4-bit saturating counters, sixteen to a {@code long}, in the manner
+   * of {@link BloomFilterStrategies.LockFreeBitArray}.
+   */
+  static final class LockFreeCounterArray {
+    private static final int COUNTERS_PER_LONG_LOG2 = 4;
+    private static final int BITS_PER_COUNTER = 4;
+    static final int MAX_COUNT = (1 << BITS_PER_COUNTER) - 1;
+
+    final AtomicLongArray data;
+    private final LongAddable nonZeroCount;
+
+    LockFreeCounterArray(long counters) {
+      checkArgument(counters > 0, "data length is zero!");
+      this.data =
+          new AtomicLongArray(
+              Ints.checkedCast(
+                  LongMath.divide(
+                      counters, 1 << COUNTERS_PER_LONG_LOG2, RoundingMode.CEILING)));
+      this.nonZeroCount = LongAddables.create();
+    }
+
+    // Used by serialization
+    LockFreeCounterArray(long[] data) {
+      checkArgument(data.length > 0, "data length is zero!");
+      this.data = new AtomicLongArray(data);
+      this.nonZeroCount = LongAddables.create();
+      long nonZeroCount = 0;
+      for (long value : data) {
+        for (int shift = 0; shift < Long.SIZE; shift += BITS_PER_COUNTER) {
+          if (((value >>> shift) & MAX_COUNT) != 0) {
+            nonZeroCount++;
+          }
+        }
+      }
+      this.nonZeroCount.add(nonZeroCount);
+    }
+
+    /** Number of counters */
+    long size() {
+      return (long) data.length() << COUNTERS_PER_LONG_LOG2;
+    }
+
+    int get(long index) {
+      return (int) ((data.get(longIndex(index)) >>> shift(index)) & MAX_COUNT);
+    }
+
+    /** Increments a counter unless it is saturated. Returns true if it went from zero to one. */
+    boolean increment(long index) {
+      int longIndex = longIndex(index);
+      int shift = shift(index);
+      long oldValue;
+      long count;
+      do {
+        oldValue = data.get(longIndex);
+        count = (oldValue >>> shift) & MAX_COUNT;
+        if (count == MAX_COUNT) {
+          return false;
+        }
+      } while (!data.compareAndSet(longIndex, oldValue, oldValue + (1L << shift)));
+
+      if (count == 0) {
+        nonZeroCount.increment();
+        return true;
+      }
+      return false;
+    }
+
+    /** Decrements a counter unless it is zero or saturated. */
+    void decrement(long index) {
+      int longIndex = longIndex(index);
+      int shift = shift(index);
+      long oldValue;
+      long count;
+      do {
+        oldValue = data.get(longIndex);
+        count = (oldValue >>> shift) & MAX_COUNT;
+        if (count == 0 || count == MAX_COUNT) {
+          return;
+        }
+      } while (!data.compareAndSet(longIndex, oldValue, oldValue - (1L << shift)));
+
+      if (count == 1) {
+        nonZeroCount.add(-1);
+      }
+    }
+
+    private static int longIndex(long index) {
+      return (int) (index >>> COUNTERS_PER_LONG_LOG2);
+    }
+
+    private static int shift(long index) {
+      return (int) (index & ((1 << COUNTERS_PER_LONG_LOG2) - 1)) * BITS_PER_COUNTER;
+    }
+
+    /**
+     * Number of non-zero counters. Like {@link BloomFilterStrategies.LockFreeBitArray#bitCount},
+     * this is a close estimate while other threads are updating the array.
+     */
+    long nonZeroCount() {
+      return nonZeroCount.sum();
+    }
+
+    long[] toPlainArray() {
+      long[] array = new long[data.length()];
+      for (int i = 0; i < array.length; ++i) {
+        array[i] = data.get(i);
+      }
+      return array;
+    }
+
+    LockFreeCounterArray copy() {
+      return new LockFreeCounterArray(toPlainArray());
+    }
+
+    @Override
+    public boolean equals(@CheckForNull Object o) {
+      if (o instanceof LockFreeCounterArray) {
+        LockFreeCounterArray that = (LockFreeCounterArray) o;
+        if (this.data.length() != that.data.length()) {
+          return false;
+        }
+        for (int i = 0; i < data.length(); i++) {
+          if (this.data.get(i) != that.data.get(i)) {
+            return false;
+          }
+        }
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      int result = 1;
+      for (int i = 0; i < data.length(); i++) {
+        result = 31 * result + Longs.hashCode(data.get(i));
+      }
+      return result;
+    }
+  }
+}
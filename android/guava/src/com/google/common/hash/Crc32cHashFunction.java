@@ -43,6 +43,52 @@ final class Crc32cHashFunction extends AbstractHashFunction {
     return "Hashing.crc32c()";
   }
 
+  // The CRC32C polynomial, in the reversed bit order that the checksum uses.
+  private static final int POLYNOMIAL = 0x82f63b78;
+
+  // X_POW_2N[n] is x^(2^n) modulo the polynomial. The table wraps around after 31 entries, because
+  // x^(2^31) == x modulo this polynomial.
+  private static final int[] X_POW_2N = new int[31];
+
+  static {
+    X_POW_2N[0] = 1 << 30; // x^1
+    for (int n = 1; n < X_POW_2N.length; n++) {
+      X_POW_2N[n] = multiplyModP(X_POW_2N[n - 1], X_POW_2N[n - 1]);
+    }
+  }
+
+  /**
+   * Returns the CRC32C checksum of the concatenation of two byte sequences, given the checksum of
+   * each and the length of the second, in time logarithmic in that length. This is the same
+   * computation as {@code crc32_combine} in zlib.
+   */
+  static int concat(int firstCrc, int secondCrc, long secondLength) {
+    // Appending n bytes multiplies the first checksum by x^(8n); the second one adds to it.
+    int xPow8N = 1 << 31; // x^0
+    for (int n = 3; secondLength != 0; secondLength >>>= 1, n++) {
+      if ((secondLength & 1) != 0) {
+        xPow8N = multiplyModP(X_POW_2N[n % X_POW_2N.length], xPow8N);
+      }
+    }
+    return multiplyModP(xPow8N, firstCrc) ^ secondCrc;
+  }
+
+  /** Returns {@code a * b} modulo the polynomial, where {@code a} must not be zero. */
+  private static int multiplyModP(int a, int b) {
+    int m = 1 << 31;
+    int product = 0;
+    while (true) {
+      if ((a & m) != 0) {
+        product ^= b;
+        if ((a & (m - 1)) == 0) {
+          return product;
+        }
+      }
+      m >>>= 1;
+      b = ((b & 1) != 0) ? (b >>> 1) ^ POLYNOMIAL : b >>> 1;
+    }
+  }
+
   static final class Crc32cHasher extends AbstractStreamingHasher {
 
     /*
@@ -0,0 +1,483 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.math.LongMath;
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import javax.annotation.CheckForNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An approximate-membership filter for instances of {@code T} that supports {@linkplain #remove
+ * removing} elements. Like a {@link BloomFilter}, {@link #mightContain} returns {@code true} for
+ * every element that has been put and not removed, and rarely for other objects.
+ *
+ * <p>This is a cuckoo filter, as described in "Cuckoo Filter: Practically Better Than Bloom" by Bin
+ * Fan, David G. Andersen, Michael Kaminsky and Michael D. Mitzenmacher. Each element is stored as a
+ * fingerprint in one of two buckets of {@value #BUCKET_SIZE} slots, so {@code mightContain} reads
+ * at most two cache lines. Compared to a {@link CountingBloomFilter}, a cuckoo filter takes a
+ * fraction of the memory for the same false positive probability.
+ *
+ * <p>Unlike a Bloom filter, a cuckoo filter can fill up. When {@link #put} can't make room for an
+ * element by relocating others, the one fingerprint left without a slot is kept aside, and that put
+ * still succeeds. From then on, {@code put} returns {@code false} without adding the element, until
+ * a {@link #remove} makes room for the fingerprint that was kept aside. With the table sized by
+ * {@link #create}, this doesn't happen before {@code expectedInsertions} elements have been put.
+ *
+ * <p>Putting the same element several times stores several copies of its fingerprint, and each
+ * {@link #remove} removes one. Removing an element that was never put in the filter, but which
+ * {@link #mightContain} anyway, removes another element's fingerprint and can cause a false
+ * negative for it. Only remove elements that are known to have been added.
+ *
+ * <p>Cuckoo filters are serializable, and support a more compact serial representation via the
+ * {@link #writeTo} and {@link #readFrom} methods.
+ *
+ * <p>This class is thread-safe. Since a put can relocate any number of fingerprints, all
+ * operations synchronize on the filter.
+ *
+ * @param <T> the type of instances that the {@code CuckooFilter} accepts
+ * @since NEXT
+ */
+@Beta
+@ElementTypesAreNonnullByDefault
+public final class CuckooFilter<T extends @Nullable Object> implements Serializable {
+  /** The number of fingerprints per bucket. */
+  static final int BUCKET_SIZE = 4;
+
+  /** The fraction of slots that can be filled before puts are likely to start failing. */
+  private static final double MAX_LOAD_FACTOR = 0.95;
+
+  /** The number of fingerprints a put relocates before giving up. */
+  @VisibleForTesting static final int MAX_KICKS = 500;
+
+  /** The fingerprint tables, {@link #BUCKET_SIZE} per bucket; 0 marks an empty slot. */
+  @GuardedBy("this")
+  private final FingerprintArray table;
+
+  /** The number of buckets minus 1; the number of buckets is a power of 2. */
+  private final int bucketMask;
+
+  /** The funnel to translate Ts to bytes */
+  private final Funnel<? super T> funnel;
+
+  /** The number of fingerprints in the table and the victim slot. */
+  @GuardedBy("this")
+  private int count;
+
+  /**
+   * The bucket of a fingerprint that was evicted by a put which ran out of kicks, or -1. While
+   * there is such a fingerprint, the filter is full.
+   */
+  @GuardedBy("this")
+  private int victimBucket = -1;
+
+  @GuardedBy("this")
+  private int victimFingerprint;
+
+  /** The state of the generator used to choose fingerprints to relocate. */
+  @GuardedBy("this")
+  private long randomState = 0x2545F4914F6CDD1DL;
+
+  private CuckooFilter(
+      FingerprintArray table, int victimBucket, int victimFingerprint, Funnel<? super T> funnel) {
+    int buckets = table.size() / BUCKET_SIZE;
+    checkArgument(
+        buckets > 0 && Integer.bitCount(buckets) == 1 && table.size() % BUCKET_SIZE == 0,
+        "table size (%s) must be %s times a power of 2",
+        table.size(),
+        BUCKET_SIZE);
+    checkArgument(
+        victimBucket >= -1 && victimBucket < buckets,
+        "victim bucket (%s) must be in [-1, %s)",
+        victimBucket,
+        buckets);
+    this.table = table;
+    this.bucketMask = buckets - 1;
+    this.funnel = checkNotNull(funnel);
+    this.victimBucket = victimBucket;
+    this.victimFingerprint = victimFingerprint;
+    int count = (victimBucket >= 0) ? 1 : 0;
+    for (int i = 0; i < table.size(); i++) {
+      if (table.get(i) != 0) {
+        count++;
+      }
+    }
+    this.count = count;
+  }
+
+  /**
+   * Creates a {@link CuckooFilter} with the expected number of insertions and expected false
+   * positive probability.
+   *
+   * <p>Fingerprints are 8, 16 or 32 bits, whichever is the narrowest that achieves {@code fpp}.
+   *
+   * @param funnel the funnel of T's that the constructed filter will use
+   * @param expectedInsertions the number of expected insertions to the constructed filter; must
+   *     be positive
+   * @param fpp the desired false positive probability (must be positive and less than 1.0)
+   */
+  public static <T extends @Nullable Object> CuckooFilter<T> create(
+      Funnel<? super T> funnel, long expectedInsertions, double fpp) {
+    checkNotNull(funnel);
+    checkArgument(
+        expectedInsertions >= 0, "Expected insertions (%s) must be >= 0", expectedInsertions);
+    checkArgument(fpp > 0.0, "False positive probability (%s) must be > 0.0", fpp);
+    checkArgument(fpp < 1.0, "False positive probability (%s) must be < 1.0", fpp);
+    long minBuckets =
+        Math.max(1, (long) Math.ceil(expectedInsertions / (BUCKET_SIZE * MAX_LOAD_FACTOR)));
+    checkArgument(
+        minBuckets <= Integer.MAX_VALUE / (2 * BUCKET_SIZE),
+        "Expected insertions (%s) too large",
+        expectedInsertions);
+    long buckets = LongMath.ceilingPowerOfTwo(minBuckets);
+    // A query compares against the fingerprints in two buckets.
+    int bytesPerFingerprint = FingerprintArray.bytesPerFingerprint(fpp, 2 * BUCKET_SIZE);
+    try {
+      return new CuckooFilter<T>(
+          new FingerprintArray((int) buckets * BUCKET_SIZE, bytesPerFingerprint), -1, 0, funnel);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          "Could not create CuckooFilter of " + buckets + " buckets", e);
+    }
+  }
+
+  /**
+   * Creates a new {@code CuckooFilter} that's a copy of this instance. The new instance is equal to
+   * this instance but shares no mutable state.
+   */
+  public synchronized CuckooFilter<T> copy() {
+    return new CuckooFilter<T>(table.copy(), victimBucket, victimFingerprint, funnel);
+  }
+
+  /**
+   * Returns {@code true} if the element <i>might</i> be in this filter, {@code false} if this is
+   * <i>definitely</i> not the case.
+   */
+  public synchronized boolean mightContain(@ParametricNullness T object) {
+    long hash = hash(object);
+    int fingerprint = fingerprint(hash);
+    int bucket1 = bucket(hash);
+    int bucket2 = alternateBucket(bucket1, fingerprint);
+    return bucketIndexOf(bucket1, fingerprint) >= 0
+        || bucketIndexOf(bucket2, fingerprint) >= 0
+        || isVictim(bucket1, bucket2, fingerprint);
+  }
+
+  /**
+   * Puts an element into this filter. Unless the filter is full, ensures that subsequent
+   * invocations of {@link #mightContain} with the same element will return {@code true} until it is
+   * {@linkplain #remove removed} as many times as it has been put.
+   *
+   * <p>If the filter is nearly full, this put may succeed while leaving the filter full, so that
+   * subsequent puts fail until an element is removed.
+   *
+   * @return true if the element was added, false if the filter is full
+   */
+  public synchronized boolean put(@ParametricNullness T object) {
+    if (victimBucket >= 0) {
+      return false;
+    }
+    long hash = hash(object);
+    int fingerprint = fingerprint(hash);
+    int bucket = bucket(hash);
+    if (!insertIntoBucket(bucket, fingerprint)
+        && !insertIntoBucket(alternateBucket(bucket, fingerprint), fingerprint)) {
+      relocate(bucket, fingerprint);
+    }
+    count++;
+    return true;
+  }
+
+  /**
+   * Removes one copy of an element from this filter, if the filter might contain it.
+   *
+   * <p>The element must have been {@linkplain #put put} in this filter; removing an element that is
+   * merely a false positive can cause false negatives for other elements.
+   *
+   * @return true if the filter might have contained {@code object}, and so was changed
+   */
+  public synchronized boolean remove(@ParametricNullness T object) {
+    long hash = hash(object);
+    int fingerprint = fingerprint(hash);
+    int bucket1 = bucket(hash);
+    int bucket2 = alternateBucket(bucket1, fingerprint);
+    if (isVictim(bucket1, bucket2, fingerprint)) {
+      victimBucket = -1;
+      count--;
+      return true;
+    }
+    if (!removeFromBucket(bucket1, fingerprint) && !removeFromBucket(bucket2, fingerprint)) {
+      return false;
+    }
+    count--;
+    if (victimBucket >= 0) {
+      // There is room now, so try again to place the victim
+      int bucket = victimBucket;
+      victimBucket = -1;
+      if (!insertIntoBucket(bucket, victimFingerprint)
+          && !insertIntoBucket(alternateBucket(bucket, victimFingerprint), victimFingerprint)) {
+        relocate(bucket, victimFingerprint);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Makes room for {@code fingerprint} in {@code bucket} by evicting a random fingerprint to its
+   * alternate bucket, and so on, up to {@link #MAX_KICKS} times. If that fails, the fingerprint
+   * left over becomes the victim.
+   */
+  @GuardedBy("this")
+  private void relocate(int bucket, int fingerprint) {
+    for (int kick = 0; kick < MAX_KICKS; kick++) {
+      int slot = bucket * BUCKET_SIZE + nextRandom(BUCKET_SIZE);
+      int evicted = table.get(slot);
+      table.set(slot, fingerprint);
+      fingerprint = evicted;
+      bucket = alternateBucket(bucket, fingerprint);
+      if (insertIntoBucket(bucket, fingerprint)) {
+        return;
+      }
+    }
+    victimBucket = bucket;
+    victimFingerprint = fingerprint;
+  }
+
+  @GuardedBy("this")
+  private boolean isVictim(int bucket1, int bucket2, int fingerprint) {
+    return victimBucket >= 0
+        && victimFingerprint == fingerprint
+        && (victimBucket == bucket1 || victimBucket == bucket2);
+  }
+
+  @GuardedBy("this")
+  private int bucketIndexOf(int bucket, int fingerprint) {
+    int base = bucket * BUCKET_SIZE;
+    for (int i = 0; i < BUCKET_SIZE; i++) {
+      if (table.get(base + i) == fingerprint) {
+        return base + i;
+      }
+    }
+    return -1;
+  }
+
+  @GuardedBy("this")
+  private boolean insertIntoBucket(int bucket, int fingerprint) {
+    int slot = bucketIndexOf(bucket, 0);
+    if (slot < 0) {
+      return false;
+    }
+    table.set(slot, fingerprint);
+    return true;
+  }
+
+  @GuardedBy("this")
+  private boolean removeFromBucket(int bucket, int fingerprint) {
+    int slot = bucketIndexOf(bucket, fingerprint);
+    if (slot < 0) {
+      return false;
+    }
+    table.set(slot, 0);
+    return true;
+  }
+
+  /** Returns a pseudorandom number in {@code [0, bound)}, where {@code bound} is a power of 2. */
+  @GuardedBy("this")
+  private int nextRandom(int bound) {
+    // xorshift64
+    long x = randomState;
+    x ^= x << 13;
+    x ^= x >>> 7;
+    x ^= x << 17;
+    randomState = x;
+    return (int) (x >>> 32) & (bound - 1);
+  }
+
+  /**
+   * Returns a hash whose lower half determines the bucket and whose upper half the fingerprint.
+   * They come from the two halves of a 128-bit hash: the low and high words of the first half turn
+   * out to be correlated enough to raise the false positive probability noticeably.
+   */
+  private long hash(@ParametricNullness T object) {
+    byte[] bytes = Hashing.murmur3_128().hashObject(object, funnel).getBytesInternal();
+    return (BloomFilterStrategies.lowerEight(bytes) & 0xFFFFFFFFL)
+        | BloomFilterStrategies.upperEight(bytes) << 32;
+  }
+
+  private int bucket(long hash) {
+    return (int) hash & bucketMask;
+  }
+
+  /** Returns a nonzero fingerprint from the upper half of {@code hash}. */
+  private int fingerprint(long hash) {
+    int fingerprint = (int) (hash >>> 32) & table.mask();
+    return (fingerprint == 0) ? 1 : fingerprint;
+  }
+
+  /** Returns the other bucket {@code fingerprint} may be stored in, given one of them. */
+  private int alternateBucket(int bucket, int fingerprint) {
+    // Since this is an involution, a fingerprint can be moved without knowing its element's hash
+    return (bucket ^ (fingerprint * 0x5bd1e995)) & bucketMask;
+  }
+
+  /**
+   * Returns the probability that {@link #mightContain} will erroneously return {@code true} for an
+   * object that is not in the filter.
+   */
+  public synchronized double expectedFpp() {
+    // Each of the occupied slots in a query's two buckets matches with probability 1 / (2^f - 1)
+    double fingerprints = 2.0 * BUCKET_SIZE * count / table.size();
+    long nonZeroFingerprints = (1L << table.bitsPerFingerprint()) - 1;
+    return -Math.expm1(fingerprints * Math.log1p(-1.0 / nonZeroFingerprints));
+  }
+
+  /**
+   * Returns the number of elements in this filter: the number of successful puts minus the number
+   * of successful removes.
+   */
+  public synchronized long approximateElementCount() {
+    return count;
+  }
+
+  /** Returns the number of bits in the fingerprint table. */
+  @VisibleForTesting
+  long bitSize() {
+    return (long) table.data.length * Byte.SIZE;
+  }
+
+  @Override
+  public boolean equals(@CheckForNull Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (object instanceof CuckooFilter) {
+      // Compare snapshots, rather than holding both locks and risking a deadlock
+      SerialForm<?> thisForm = this.snapshot();
+      SerialForm<?> thatForm = ((CuckooFilter<?>) object).snapshot();
+      return thisForm.bytesPerFingerprint == thatForm.bytesPerFingerprint
+          && thisForm.victimBucket == thatForm.victimBucket
+          && (thisForm.victimBucket < 0 || thisForm.victimFingerprint == thatForm.victimFingerprint)
+          && thisForm.funnel.equals(thatForm.funnel)
+          && Arrays.equals(thisForm.data, thatForm.data);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    SerialForm<T> form = snapshot();
+    return Arrays.hashCode(form.data) * 31 + funnel.hashCode();
+  }
+
+  private synchronized SerialForm<T> snapshot() {
+    return new SerialForm<T>(this);
+  }
+
+  private static final long serialVersionUID = 0;
+
+  private Object writeReplace() {
+    return snapshot();
+  }
+
+  private static class SerialForm<T extends @Nullable Object> implements Serializable {
+    final byte[] data;
+    final int bytesPerFingerprint;
+    final int victimBucket;
+    final int victimFingerprint;
+    final Funnel<? super T> funnel;
+
+    @SuppressWarnings("GuardedBy") // called from synchronized methods
+    SerialForm(CuckooFilter<T> filter) {
+      this.data = filter.table.data.clone();
+      this.bytesPerFingerprint = filter.table.bytesPerFingerprint;
+      this.victimBucket = filter.victimBucket;
+      this.victimFingerprint = filter.victimFingerprint;
+      this.funnel = filter.funnel;
+    }
+
+    Object readResolve() {
+      return new CuckooFilter<T>(
+          new FingerprintArray(data, bytesPerFingerprint),
+          victimBucket,
+          victimFingerprint,
+          funnel);
+    }
+
+    private static final long serialVersionUID = 1;
+  }
+
+  /**
+   * Writes this {@code CuckooFilter} to an output stream, with a custom format (not Java
+   * serialization).
+   *
+   * <p>Use {@linkplain #readFrom(InputStream, Funnel)} to reconstruct the written filter.
+   */
+  public synchronized void writeTo(OutputStream out) throws IOException {
+    // Serial form:
+    // 1 big endian int, the victim's bucket, or -1
+    // 1 big endian int, the victim's fingerprint
+    // 1 byte, the number of bytes per fingerprint
+    // 1 big endian int, the number of bytes of fingerprints
+    // N bytes of fingerprints, each little endian, BUCKET_SIZE per bucket
+    DataOutputStream dout = new DataOutputStream(out);
+    dout.writeInt(victimBucket);
+    dout.writeInt(victimFingerprint);
+    table.writeTo(dout);
+  }
+
+  /**
+   * Reads a byte stream, which was written by {@linkplain #writeTo(OutputStream)}, into a {@code
+   * CuckooFilter}.
+   *
+   * <p>The {@code Funnel} to be used is not encoded in the stream, so it must be provided here.
+   * <b>Warning:</b> the funnel provided <b>must</b> behave identically to the one used to populate
+   * the original filter!
+   *
+   * @throws IOException if the InputStream throws an {@code IOException}, or if its data does not
+   *     appear to be a CuckooFilter serialized using the {@linkplain #writeTo(OutputStream)}
+   *     method.
+   */
+  public static <T extends @Nullable Object> CuckooFilter<T> readFrom(
+      InputStream in, Funnel<? super T> funnel) throws IOException {
+    checkNotNull(in, "InputStream");
+    checkNotNull(funnel, "Funnel");
+    int victimBucket = -2;
+    try {
+      DataInputStream din = new DataInputStream(in);
+      victimBucket = din.readInt();
+      int victimFingerprint = din.readInt();
+      FingerprintArray table = FingerprintArray.readFrom(din);
+      return new CuckooFilter<T>(table, victimBucket, victimFingerprint, funnel);
+    } catch (RuntimeException e) {
+      String message =
+          "Unable to deserialize CuckooFilter from InputStream. victimBucket: " + victimBucket;
+      throw new IOException(message, e);
+    }
+  }
+}
@@ -19,11 +19,14 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.annotations.Beta;
 import com.google.errorprone.annotations.Immutable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.security.Key;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.zip.Adler32;
 import java.util.zip.CRC32;
 import java.util.zip.Checksum;
@@ -393,6 +396,30 @@ public final class Hashing {
     return Crc32cHashFunction.CRC_32_C;
   }
 
+  /**
+   * Returns the {@linkplain #crc32c CRC32C} checksum of the concatenation of two byte sequences,
+   * given the checksum of each and the length of the second, without reading either of them. This
+   * takes time logarithmic in {@code secondLength}, which makes it possible to checksum the parts
+   * of a large input independently, for example in parallel, and then to combine the results.
+   *
+   * @param first the checksum of the first sequence
+   * @param second the checksum of the second sequence
+   * @param secondLength the length of the second sequence, in bytes
+   * @throws IllegalArgumentException if either hash code does not have 32 bits, or {@code
+   *     secondLength} is negative
+   * @since NEXT
+   */
+  @Beta
+  public static HashCode combineCrc32c(HashCode first, HashCode second, long secondLength) {
+    checkNotNull(first);
+    checkNotNull(second);
+    checkArgument(first.bits() == 32, "first (%s) must be a 32-bit hash code", first);
+    checkArgument(second.bits() == 32, "second (%s) must be a 32-bit hash code", second);
+    checkArgument(secondLength >= 0, "secondLength (%s) must be nonnegative", secondLength);
+    return HashCode.fromInt(
+        Crc32cHashFunction.concat(first.asInt(), second.asInt(), secondLength));
+  }
+
   /**
    * Returns a hash function implementing the CRC-32 checksum algorithm (32 hash bits).
    *
@@ -469,6 +496,112 @@ public final class Hashing {
     return FarmHashFingerprint64.FARMHASH_FINGERPRINT_64;
   }
 
+  /**
+   * Returns a hash function implementing the <a href="https://github.com/Cyan4973/xxHash">64-bit
+   * xxHash algorithm</a> (XXH64) using a seed value of zero.
+   *
+   * <p>The hash code's {@link HashCode#asLong} is the value that the C function {@code XXH64}
+   * returns for the same input.
+   *
+   * @since NEXT
+   */
+  public static HashFunction xxHash64() {
+    return XxHash64HashFunction.XXHASH_64;
+  }
+
+  /**
+   * Returns a hash function implementing the <a href="https://github.com/Cyan4973/xxHash">64-bit
+   * xxHash algorithm</a> (XXH64) using the given seed value.
+   *
+   * <p>The hash code's {@link HashCode#asLong} is the value that the C function {@code XXH64}
+   * returns for the same input and seed.
+   *
+   * @since NEXT
+   */
+  public static HashFunction xxHash64(long seed) {
+    return new XxHash64HashFunction(seed);
+  }
+
+  /**
+   * Returns a hash function implementing the <a href="https://github.com/Cyan4973/xxHash">64-bit
+   * XXH3 algorithm</a> using a seed value of zero.
+   *
+   * <p>XXH3 is considerably faster than {@link #murmur3_128()} on short inputs and on long ones,
+   * with comparable quality. The hash code's {@link HashCode#asLong} is the value that the C
+   * function {@code XXH3_64bits} returns for the same input.
+   *
+   * @since NEXT
+   */
+  public static HashFunction xxh3_64() {
+    return Xxh3HashFunction.XXH3_64;
+  }
+
+  /**
+   * Returns a hash function implementing the <a href="https://github.com/Cyan4973/xxHash">64-bit
+   * XXH3 algorithm</a> using the given seed value.
+   *
+   * <p>The hash code's {@link HashCode#asLong} is the value that the C function {@code
+   * XXH3_64bits_withSeed} returns for the same input and seed.
+   *
+   * @since NEXT
+   */
+  public static HashFunction xxh3_64(long seed) {
+    return new Xxh3HashFunction(64, seed);
+  }
+
+  /**
+   * Returns a hash function implementing the <a href="https://github.com/Cyan4973/xxHash">128-bit
+   * XXH3 algorithm</a> using a seed value of zero.
+   *
+   * <p>The hash code holds the {@code low64} and then the {@code high64} half of the result of the
+   * C function {@code XXH3_128bits}, each little-endian, so {@link HashCode#asLong} returns
+   * {@code low64}. Note that this is not the byte order of xxHash's canonical representation.
+   *
+   * @since NEXT
+   */
+  public static HashFunction xxh3_128() {
+    return Xxh3HashFunction.XXH3_128;
+  }
+
+  /**
+   * Returns a hash function implementing the <a href="https://github.com/Cyan4973/xxHash">128-bit
+   * XXH3 algorithm</a> using the given seed value.
+   *
+   * <p>The hash code is laid out as described for {@link #xxh3_128()}, for the result of the C
+   * function {@code XXH3_128bits_withSeed}.
+   *
+   * @since NEXT
+   */
+  public static HashFunction xxh3_128(long seed) {
+    return new Xxh3HashFunction(128, seed);
+  }
+
+  /**
+   * Returns a hash function implementing the <a
+   * href="https://github.com/wangyi-fudan/wyhash">64-bit wyhash algorithm</a> (final version 4,
+   * with its default secret) using a seed value of zero.
+   *
+   * <p>wyhash is among the fastest hash functions available for short keys, such as the ones used
+   * for hash partitioning. The hash code's {@link HashCode#asLong} is the value that the C function
+   * {@code wyhash} returns for the same input.
+   *
+   * @since NEXT
+   */
+  public static HashFunction wyhash() {
+    return WyHashFunction.WYHASH;
+  }
+
+  /**
+   * Returns a hash function implementing the <a
+   * href="https://github.com/wangyi-fudan/wyhash">64-bit wyhash algorithm</a> (final version 4,
+   * with its default secret) using the given seed value.
+   *
+   * @since NEXT
+   */
+  public static HashFunction wyhash(long seed) {
+    return new WyHashFunction(seed);
+  }
+
   /**
    * Assigns to {@code hashCode} a "bucket" in the range {@code [0, buckets)}, in a uniform manner
    * that minimizes the need for remapping as {@code buckets} grows. That is, {@code
@@ -605,6 +738,48 @@ public final class Hashing {
     return (bits + 31) & ~31;
   }
 
+  /**
+   * Returns a hash function that splits its input into chunks of {@code chunkSize} bytes, hashes
+   * each chunk with {@code function}, and hashes the results pairwise, again with {@code function},
+   * up to the root of a binary Merkle tree. The tree has the shape described in RFC 6962, section
+   * 2.1, and leaves are hashed with a different prefix byte than inner nodes. The hash codes that
+   * the returned function produces have as many bits as those of {@code function}, but differ from
+   * them.
+   *
+   * <p>Because its chunks are hashed independently, {@link #hashInParallel} can hash large files
+   * with this function on several threads at once. A chunk size of a megabyte or so keeps the cost
+   * of the inner nodes negligible.
+   *
+   * @throws IllegalArgumentException if {@code chunkSize} is not positive
+   * @since NEXT
+   */
+  @Beta
+  public static HashFunction treeHash(HashFunction function, int chunkSize) {
+    return new TreeHashFunction(function, chunkSize);
+  }
+
+  /**
+   * Returns the hash code of the entire contents of {@code channel}, as {@code function} computes
+   * it, hashing parts of the contents in parallel on {@code executor} where {@code function} allows
+   * it. The contents are memory-mapped in segments of a few megabytes, and the position of the
+   * channel is neither used nor changed.
+   *
+   * <p>The contents are hashed in parallel for the functions returned by {@link #treeHash}, whose
+   * chunks are independent, and for {@link #crc32c}, whose checksums of consecutive segments are
+   * {@linkplain #combineCrc32c combined}. For any other function, they are read in order by the
+   * calling thread, and {@code executor} is not used.
+   *
+   * @throws IOException if an I/O error occurs while mapping the channel
+   * @since NEXT
+   */
+  @Beta
+  public static HashCode hashInParallel(
+      HashFunction function, FileChannel channel, Executor executor) throws IOException {
+    checkNotNull(function);
+    checkNotNull(executor);
+    return ParallelHashing.hash(function, channel, executor);
+  }
+
   /**
    * Returns a hash function which computes its hash code by concatenating the hash codes of the
    * underlying hash functions together. This can be useful if you need to generate hash codes of a
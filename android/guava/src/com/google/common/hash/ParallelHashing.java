@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Throwables.throwIfInstanceOf;
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Hashes the contents of a {@link FileChannel} by mapping it in segments, and hashing the segments
+ * in parallel when the hash function allows it. See {@link Hashing#hashInParallel}.
+ */
+@ElementTypesAreNonnullByDefault
+final class ParallelHashing {
+  // Large enough that the cost of mapping a segment and of a task is negligible, small enough that
+  // files of a few tens of megabytes are split among several tasks.
+  private static final int SEGMENT_SIZE = 8 << 20;
+
+  static HashCode hash(HashFunction function, FileChannel channel, Executor executor)
+      throws IOException {
+    long size = channel.size();
+    if (size == 0) {
+      return function.hashBytes(new byte[0]);
+    }
+    if (function instanceof TreeHashFunction) {
+      TreeHashFunction treeFunction = (TreeHashFunction) function;
+      int chunkSize = treeFunction.chunkSize();
+      long segmentSize = Math.max(1, SEGMENT_SIZE / chunkSize) * (long) chunkSize;
+      List<HashCode[]> segments =
+          hashSegments(channel, size, segmentSize, executor, treeFunction::hashChunks);
+      TreeHashFunction.TreeBuilder tree = treeFunction.new TreeBuilder();
+      for (HashCode[] chunks : segments) {
+        for (HashCode chunk : chunks) {
+          tree.addChunk(chunk);
+        }
+      }
+      return tree.build();
+    } else if (function.equals(Crc32cHashFunction.CRC_32_C)) {
+      List<Integer> segments =
+          hashSegments(
+              channel,
+              size,
+              SEGMENT_SIZE,
+              executor,
+              segment -> Crc32cHashFunction.CRC_32_C.hashBytes(segment).asInt());
+      int crc = segments.get(0);
+      for (int i = 1; i < segments.size(); i++) {
+        long length = Math.min(SEGMENT_SIZE, size - (long) i * SEGMENT_SIZE);
+        crc = Crc32cHashFunction.concat(crc, segments.get(i), length);
+      }
+      return HashCode.fromInt(crc);
+    } else {
+      Hasher hasher = function.newHasher();
+      for (long position = 0; position < size; position += SEGMENT_SIZE) {
+        hasher.putBytes(channel.map(READ_ONLY, position, Math.min(SEGMENT_SIZE, size - position)));
+      }
+      return hasher.hash();
+    }
+  }
+
+  private interface SegmentHasher<T> {
+    T hash(ByteBuffer segment);
+  }
+
+  /**
+   * Maps consecutive segments of {@code segmentSize} bytes of the channel, up to {@code size}, and
+   * returns the results of hashing each of them on {@code executor}, in order.
+   */
+  private static <T> List<T> hashSegments(
+      FileChannel channel,
+      long size,
+      long segmentSize,
+      Executor executor,
+      SegmentHasher<T> segmentHasher)
+      throws IOException {
+    List<ListenableFutureTask<T>> tasks = new ArrayList<>();
+    for (long position = 0; position < size; position += segmentSize) {
+      long start = position;
+      long length = Math.min(segmentSize, size - position);
+      tasks.add(
+          ListenableFutureTask.create(
+              () -> segmentHasher.hash(channel.map(READ_ONLY, start, length))));
+    }
+    try {
+      for (ListenableFutureTask<T> task : tasks) {
+        executor.execute(task);
+      }
+      return Futures.allAsList(tasks).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      InterruptedIOException interrupted = new InterruptedIOException();
+      interrupted.initCause(e);
+      throw interrupted;
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      throwIfInstanceOf(cause, IOException.class);
+      throwIfUnchecked(cause);
+      throw new AssertionError(cause); // tasks only throw IOException
+    } finally {
+      // Does nothing to the tasks that have completed, and spares the others after a failure. The
+      // tasks are not interrupted, as that would close the channel.
+      for (ListenableFutureTask<T> task : tasks) {
+        task.cancel(false);
+      }
+    }
+  }
+
+  private ParallelHashing() {}
+}
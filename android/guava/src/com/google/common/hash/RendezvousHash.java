@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.hash.WeightedNodes.mix;
+import static com.google.common.hash.WeightedNodes.removeAt;
+
+import com.google.common.annotations.Beta;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Arrays;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Assigns keys to a changing set of weighted nodes with rendezvous hashing, also known as highest
+ * random weight (HRW) hashing: each key goes to the node for which a hash of the key and the node
+ * scores highest. Adding a node only moves the keys that it wins, and removing a node only moves
+ * the keys that it held, whichever node it is.
+ *
+ * <p>A key goes to a node with a probability proportional to the node's weight, as in "Weighted
+ * Distributed Hash Tables" by Christian Schindelhauer and Gunnar Schomaker: the score of a node of
+ * weight <i>w</i> is <i>w</i> / -ln(<i>u</i>), where <i>u</i> is the hash of the key and the node,
+ * as a number in (0, 1). Changing the weight of one node only moves keys to or from that node.
+ *
+ * <p>Each lookup hashes the key once, and then scores every node, in time linear in the number of
+ * nodes. For many nodes, {@link MaglevHash} and {@link ConsistentHashRing} look keys up in constant
+ * and logarithmic time.
+ *
+ * <p>This class is thread-safe. Lookups never block: changes are serialized, and each publishes a
+ * new copy of the nodes.
+ *
+ * @param <K> the type of keys
+ * @param <N> the type of nodes, which must have consistent {@code equals} and {@code hashCode}
+ * @since NEXT
+ */
+@Beta
+@ElementTypesAreNonnullByDefault
+public final class RendezvousHash<K extends @Nullable Object, N> {
+  // The number of low bits of a hash that toUnitInterval drops.
+  private static final int UNIT_INTERVAL_SHIFT = 11;
+
+  private final HashFunction hashFunction;
+  private final Funnel<? super K> keyFunnel;
+  private final Funnel<? super N> nodeFunnel;
+
+  private volatile Nodes<N> nodes = new Nodes<>(new Object[0], new long[0], new double[0]);
+
+  private RendezvousHash(
+      HashFunction hashFunction, Funnel<? super K> keyFunnel, Funnel<? super N> nodeFunnel) {
+    this.hashFunction = checkNotNull(hashFunction);
+    this.keyFunnel = checkNotNull(keyFunnel);
+    this.nodeFunnel = checkNotNull(nodeFunnel);
+    checkArgument(
+        hashFunction.bits() >= Long.SIZE,
+        "hashFunction must produce at least 64 bits, but produces %s",
+        hashFunction.bits());
+  }
+
+  /**
+   * Creates a {@code RendezvousHash} without any nodes, which hashes keys and nodes with {@code
+   * hashFunction}.
+   *
+   * @throws IllegalArgumentException if {@code hashFunction} produces fewer than 64 bits
+   */
+  public static <K extends @Nullable Object, N> RendezvousHash<K, N> create(
+      HashFunction hashFunction, Funnel<? super K> keyFunnel, Funnel<? super N> nodeFunnel) {
+    return new RendezvousHash<>(hashFunction, keyFunnel, nodeFunnel);
+  }
+
+  /**
+   * Adds {@code node} with a weight of 1, or sets its weight to 1 if it is already present.
+   *
+   * @return {@code true} if the node was not already present
+   */
+  @CanIgnoreReturnValue
+  public boolean add(N node) {
+    return add(node, 1.0);
+  }
+
+  /**
+   * Adds {@code node} with the given weight, or sets its weight if it is already present.
+   *
+   * @return {@code true} if the node was not already present
+   * @throws IllegalArgumentException if {@code weight} is not positive and finite
+   */
+  @CanIgnoreReturnValue
+  public synchronized boolean add(N node, double weight) {
+    checkNotNull(node);
+    checkArgument(
+        weight > 0 && weight < Double.POSITIVE_INFINITY,
+        "weight (%s) must be positive and finite",
+        weight);
+    Nodes<N> current = nodes;
+    int index = current.indexOf(node);
+    if (index >= 0) {
+      double[] weights = current.weights.clone();
+      weights[index] = weight;
+      nodes = new Nodes<>(current.nodes, current.hashes, weights);
+      return false;
+    }
+    int size = current.nodes.length;
+    Object[] newNodes = Arrays.copyOf(current.nodes, size + 1);
+    long[] hashes = Arrays.copyOf(current.hashes, size + 1);
+    double[] weights = Arrays.copyOf(current.weights, size + 1);
+    newNodes[size] = node;
+    hashes[size] = hashFunction.hashObject(node, nodeFunnel).padToLong();
+    weights[size] = weight;
+    nodes = new Nodes<>(newNodes, hashes, weights);
+    return true;
+  }
+
+  /**
+   * Removes {@code node}. Only the keys that it held move, each to the node that scores highest
+   * among the remaining ones.
+   *
+   * @return {@code true} if the node was present
+   */
+  @CanIgnoreReturnValue
+  public synchronized boolean remove(N node) {
+    checkNotNull(node);
+    Nodes<N> current = nodes;
+    int index = current.indexOf(node);
+    if (index < 0) {
+      return false;
+    }
+    nodes =
+        new Nodes<>(
+            removeAt(current.nodes, index),
+            removeAt(current.hashes, index),
+            removeAt(current.weights, index));
+    return true;
+  }
+
+  /** Returns the number of nodes. */
+  public int size() {
+    return nodes.nodes.length;
+  }
+
+  /**
+   * Returns an unmodifiable snapshot of the nodes and their weights, in the order they were first
+   * added.
+   */
+  public Map<N, Double> nodes() {
+    return nodes.asMap();
+  }
+
+  /**
+   * Returns the node that {@code key} is assigned to.
+   *
+   * @throws IllegalStateException if there are no nodes
+   */
+  public N get(@ParametricNullness K key) {
+    long keyHash = hashFunction.hashObject(key, keyFunnel).padToLong();
+    Nodes<N> current = nodes;
+    long[] hashes = current.hashes;
+    checkState(hashes.length > 0, "There are no nodes");
+    int best = 0;
+    if (current.uniformWeights) {
+      // The score is then increasing in u, so the node with the highest u wins, without logarithms.
+      long bestScore = -1;
+      for (int i = 0; i < hashes.length; i++) {
+        long score = mix(keyHash ^ hashes[i]) >>> UNIT_INTERVAL_SHIFT;
+        if (score > bestScore) {
+          bestScore = score;
+          best = i;
+        }
+      }
+    } else {
+      double[] weights = current.weights;
+      double bestScore = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < hashes.length; i++) {
+        double score = -weights[i] / Math.log(toUnitInterval(mix(keyHash ^ hashes[i])));
+        if (score > bestScore) {
+          bestScore = score;
+          best = i;
+        }
+      }
+    }
+    return current.node(best);
+  }
+
+  @Override
+  public String toString() {
+    return "RendezvousHash{hashFunction=" + hashFunction + ", nodes=" + nodes() + "}";
+  }
+
+  /** Returns the top 53 bits of {@code hash} as a number strictly between 0 and 1. */
+  private static double toUnitInterval(long hash) {
+    return ((hash >>> UNIT_INTERVAL_SHIFT) + 0.5) * 0x1.0p-53;
+  }
+
+  /** An immutable snapshot of the nodes, with the hash and weight of each. */
+  private static final class Nodes<N> extends WeightedNodes<N> {
+    final long[] hashes;
+    final boolean uniformWeights;
+
+    Nodes(Object[] nodes, long[] hashes, double[] weights) {
+      super(nodes, weights);
+      this.hashes = hashes;
+      boolean uniform = true;
+      for (double weight : weights) {
+        uniform &= weight == weights[0];
+      }
+      this.uniformWeights = uniform;
+    }
+  }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Objects;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.CheckForNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A Bloom filter for instances of {@code T} that grows to accommodate any number of elements while
+ * keeping its false positive probability below a fixed bound. See "Scalable Bloom Filters" by
+ * Paulo Sérgio Almeida, Carlos Baquero, Nuno Preguiça and David Hutchison.
+ *
+ * <p>The filter is a chain of {@link BloomFilter}s. Elements are put in the newest one; once that
+ * holds as many elements as it was sized for, a new filter with {@value #GROWTH_FACTOR} times the
+ * capacity is appended. Each filter's false positive probability is half its predecessor's, so the
+ * false positive probability of the whole chain, which is about the sum of theirs, never exceeds
+ * the {@code fpp} given to {@link #create}. An element might be contained if any filter in the
+ * chain might contain it.
+ *
+ * <p>Compared to a {@code BloomFilter} sized for the same number of elements in advance, a
+ * scalable filter uses somewhat more memory and queries take longer, by a factor that grows with
+ * the logarithm of the number of elements put relative to the initial capacity. Its advantage is
+ * that it never saturates.
+ *
+ * <p>Scalable Bloom filters are serializable, and support a more compact serial representation via
+ * the {@link #writeTo} and {@link #readFrom} methods.
+ *
+ * <p>This class is thread-safe and lock-free: puts go to the underlying lock-free {@code
+ * BloomFilter}s, and a new filter is appended with compare-and-swap.
+ *
+ * @param <T> the type of instances that the {@code ScalableBloomFilter} accepts
+ * @since NEXT
+ */
+@Beta
+@ElementTypesAreNonnullByDefault
+public final class ScalableBloomFilter<T extends @Nullable Object> implements Serializable {
+  /** The factor by which each filter's capacity exceeds its predecessor's. */
+  @VisibleForTesting static final int GROWTH_FACTOR = 2;
+
+  /** The factor by which each filter's false positive probability is below its predecessor's. */
+  @VisibleForTesting static final double TIGHTENING_RATIO = 0.5;
+
+  private final long initialCapacity;
+
+  /** The false positive probability bound of the whole filter. */
+  private final double fpp;
+
+  private final Funnel<? super T> funnel;
+
+  /** The chain of filters, oldest first. */
+  private final AtomicReference<List<BloomFilter<T>>> filters;
+
+  private ScalableBloomFilter(
+      long initialCapacity,
+      double fpp,
+      Funnel<? super T> funnel,
+      List<BloomFilter<T>> filters) {
+    this.initialCapacity = initialCapacity;
+    this.fpp = fpp;
+    this.funnel = funnel;
+    this.filters = new AtomicReference<>(filters);
+  }
+
+  /**
+   * Creates a {@code ScalableBloomFilter} whose first underlying filter is sized for {@code
+   * initialCapacity} elements, and whose false positive probability stays below {@code fpp} however
+   * many elements are put in it.
+   *
+   * @param funnel the funnel of T's that the constructed filter will use
+   * @param initialCapacity the number of elements the first underlying filter is sized for; must be
+   *     positive
+   * @param fpp the desired false positive probability (must be positive and less than 1.0)
+   */
+  public static <T extends @Nullable Object> ScalableBloomFilter<T> create(
+      Funnel<? super T> funnel, long initialCapacity, double fpp) {
+    checkNotNull(funnel);
+    checkArgument(initialCapacity > 0, "Initial capacity (%s) must be > 0", initialCapacity);
+    checkArgument(fpp > 0.0, "False positive probability (%s) must be > 0.0", fpp);
+    checkArgument(fpp < 1.0, "False positive probability (%s) must be < 1.0", fpp);
+    ScalableBloomFilter<T> filter =
+        new ScalableBloomFilter<T>(
+            initialCapacity, fpp, funnel, Collections.<BloomFilter<T>>emptyList());
+    filter.filters.set(Collections.singletonList(filter.newFilter(0)));
+    return filter;
+  }
+
+  /** Returns the number of elements the {@code index}th filter in the chain is sized for. */
+  @VisibleForTesting
+  long capacity(int index) {
+    long capacity = initialCapacity;
+    for (int i = 0; i < index && capacity <= Long.MAX_VALUE / GROWTH_FACTOR; i++) {
+      capacity *= GROWTH_FACTOR;
+    }
+    return capacity;
+  }
+
+  /**
+   * Returns the false positive probability the {@code index}th filter in the chain is sized for.
+   * These form a geometric series summing to {@link #fpp}.
+   */
+  @VisibleForTesting
+  double fpp(int index) {
+    return Math.max(
+        fpp * (1 - TIGHTENING_RATIO) * Math.pow(TIGHTENING_RATIO, index), Double.MIN_NORMAL);
+  }
+
+  private BloomFilter<T> newFilter(int index) {
+    return BloomFilter.create(funnel, capacity(index), fpp(index));
+  }
+
+  /**
+   * Creates a new {@code ScalableBloomFilter} that's a copy of this instance. The new instance is
+   * equal to this instance but shares no mutable state.
+   */
+  public ScalableBloomFilter<T> copy() {
+    List<BloomFilter<T>> copies = new ArrayList<>();
+    for (BloomFilter<T> filter : filters.get()) {
+      copies.add(filter.copy());
+    }
+    return new ScalableBloomFilter<T>(
+        initialCapacity, fpp, funnel, Collections.unmodifiableList(copies));
+  }
+
+  /**
+   * Returns {@code true} if the element <i>might</i> have been put in this filter, {@code false} if
+   * this is <i>definitely</i> not the case.
+   */
+  public boolean mightContain(@ParametricNullness T object) {
+    List<BloomFilter<T>> filters = this.filters.get();
+    // The newest filters are the largest, so they are the most likely to contain the object.
+    for (int i = filters.size() - 1; i >= 0; i--) {
+      if (filters.get(i).mightContain(object)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Puts an element into this filter. Ensures that subsequent invocations of {@link #mightContain}
+   * with the same element will always return {@code true}.
+   *
+   * @return true if the filter changed as a result of this operation. If so, this is
+   *     <i>definitely</i> the first time {@code object} has been added to the filter. If not, it
+   *     <i>might</i> have been added before, or a false positive might have hidden it.
+   */
+  public boolean put(@ParametricNullness T object) {
+    if (mightContain(object)) {
+      return false;
+    }
+    List<BloomFilter<T>> current = filters.get();
+    int lastIndex = current.size() - 1;
+    BloomFilter<T> last = current.get(lastIndex);
+    boolean changed = last.put(object);
+    if (changed && last.approximateElementCount() >= capacity(lastIndex)) {
+      List<BloomFilter<T>> grown = new ArrayList<>(current);
+      grown.add(newFilter(lastIndex + 1));
+      // If another thread has already appended a filter, the CAS fails and that filter is used.
+      filters.compareAndSet(current, Collections.unmodifiableList(grown));
+    }
+    return changed;
+  }
+
+  /**
+   * Returns the probability that {@link #mightContain} will erroneously return {@code true} for an
+   * object that has not actually been put in the filter.
+   */
+  public double expectedFpp() {
+    double probabilityOfNoFalsePositive = 1;
+    for (BloomFilter<T> filter : filters.get()) {
+      probabilityOfNoFalsePositive *= 1 - filter.expectedFpp();
+    }
+    return 1 - probabilityOfNoFalsePositive;
+  }
+
+  /** Returns an estimate for the total number of distinct elements that have been put. */
+  public long approximateElementCount() {
+    long count = 0;
+    for (BloomFilter<T> filter : filters.get()) {
+      count += filter.approximateElementCount();
+    }
+    return count;
+  }
+
+  /** Returns the number of underlying {@link BloomFilter}s. */
+  @VisibleForTesting
+  int filterCount() {
+    return filters.get().size();
+  }
+
+  @Override
+  public boolean equals(@CheckForNull Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (object instanceof ScalableBloomFilter) {
+      ScalableBloomFilter<?> that = (ScalableBloomFilter<?>) object;
+      return this.initialCapacity == that.initialCapacity
+          && this.fpp == that.fpp
+          && this.funnel.equals(that.funnel)
+          && this.filters.get().equals(that.filters.get());
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(initialCapacity, fpp, funnel, filters.get());
+  }
+
+  private static final long serialVersionUID = 0;
+
+  private Object writeReplace() {
+    return new SerialForm<T>(this);
+  }
+
+  private static class SerialForm<T extends @Nullable Object> implements Serializable {
+    final long initialCapacity;
+    final double fpp;
+    final Funnel<? super T> funnel;
+    final List<BloomFilter<T>> filters;
+
+    SerialForm(ScalableBloomFilter<T> filter) {
+      this.initialCapacity = filter.initialCapacity;
+      this.fpp = filter.fpp;
+      this.funnel = filter.funnel;
+      this.filters = filter.filters.get();
+    }
+
+    Object readResolve() {
+      return new ScalableBloomFilter<T>(initialCapacity, fpp, funnel, filters);
+    }
+
+    private static final long serialVersionUID = 1;
+  }
+
+  /**
+   * Writes this {@code ScalableBloomFilter} to an output stream, with a custom format (not Java
+   * serialization).
+   *
+   * <p>Use {@linkplain #readFrom(InputStream, Funnel)} to reconstruct the written filter.
+   */
+  public void writeTo(OutputStream out) throws IOException {
+    // Serial form:
+    // 1 big endian long, the initial capacity
+    // 1 big endian double, the false positive probability
+    // 1 big endian int, the number of underlying filters
+    // each underlying filter, as written by BloomFilter.writeTo
+    DataOutputStream dout = new DataOutputStream(out);
+    List<BloomFilter<T>> filters = this.filters.get();
+    dout.writeLong(initialCapacity);
+    dout.writeDouble(fpp);
+    dout.writeInt(filters.size());
+    for (BloomFilter<T> filter : filters) {
+      filter.writeTo(dout);
+    }
+  }
+
+  /**
+   * Reads a byte stream, which was written by {@linkplain #writeTo(OutputStream)}, into a {@code
+   * ScalableBloomFilter}.
+   *
+   * <p>The {@code Funnel} to be used is not encoded in the stream, so it must be provided here.
+   * <b>Warning:</b> the funnel provided <b>must</b> behave identically to the one used to populate
+   * the original filter!
+   *
+   * @throws IOException if the InputStream throws an {@code IOException}, or if its data does not
+   *     appear to be a ScalableBloomFilter serialized using the {@linkplain #writeTo(OutputStream)}
+   *     method.
+   */
+  public static <T extends @Nullable Object> ScalableBloomFilter<T> readFrom(
+      InputStream in, Funnel<? super T> funnel) throws IOException {
+    checkNotNull(in, "InputStream");
+    checkNotNull(funnel, "Funnel");
+    long initialCapacity = -1;
+    double fpp = -1;
+    int filterCount = -1;
+    try {
+      DataInputStream din = new DataInputStream(in);
+      initialCapacity = din.readLong();
+      fpp = din.readDouble();
+      filterCount = din.readInt();
+      checkArgument(initialCapacity > 0 && fpp > 0 && fpp < 1 && filterCount > 0);
+
+      List<BloomFilter<T>> filters = new ArrayList<>(filterCount);
+      for (int i = 0; i < filterCount; i++) {
+        filters.add(BloomFilter.readFrom(din, funnel));
+      }
+      return new ScalableBloomFilter<T>(
+          initialCapacity, fpp, funnel, Collections.unmodifiableList(filters));
+    } catch (RuntimeException e) {
+      String message =
+          "Unable to deserialize ScalableBloomFilter from InputStream."
+              + " initialCapacity: "
+              + initialCapacity
+              + " fpp: "
+              + fpp
+              + " filterCount: "
+              + filterCount;
+      throw new IOException(message, e);
+    }
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.errorprone.annotations.Immutable;
+import java.nio.ByteBuffer;
+import javax.annotation.CheckForNull;
+
+/**
+ * A hash function that hashes fixed-size chunks of its input independently, and combines their hash
+ * codes into a binary Merkle tree. The tree has the shape described in RFC 6962, section 2.1: the
+ * left subtree of each node holds the largest power of two of chunks that leaves at least one chunk
+ * to the right. Leaves and inner nodes are hashed with distinct prefixes, so that no inner node
+ * hashes like a leaf.
+ *
+ * <p>Any input, even an empty one, has at least one chunk.
+ */
+@Immutable
+@ElementTypesAreNonnullByDefault
+final class TreeHashFunction extends AbstractHashFunction {
+  private static final byte LEAF_PREFIX = 0;
+  private static final byte NODE_PREFIX = 1;
+
+  private final HashFunction function;
+  private final int chunkSize;
+
+  TreeHashFunction(HashFunction function, int chunkSize) {
+    this.function = checkNotNull(function);
+    checkArgument(chunkSize > 0, "chunkSize (%s) must be positive", chunkSize);
+    this.chunkSize = chunkSize;
+  }
+
+  int chunkSize() {
+    return chunkSize;
+  }
+
+  @Override
+  public int bits() {
+    return function.bits();
+  }
+
+  @Override
+  public Hasher newHasher() {
+    return new TreeHasher();
+  }
+
+  /** Returns the hash codes of the chunks of {@code segment}, in order. */
+  HashCode[] hashChunks(ByteBuffer segment) {
+    int length = segment.remaining();
+    HashCode[] chunks = new HashCode[length / chunkSize + (length % chunkSize == 0 ? 0 : 1)];
+    int limit = segment.limit();
+    for (int i = 0; i < chunks.length; i++) {
+      Java8Compatibility.limit(segment, Math.min(segment.position() + chunkSize, limit));
+      chunks[i] = newChunkHasher().putBytes(segment).hash();
+    }
+    Java8Compatibility.limit(segment, limit);
+    return chunks;
+  }
+
+  private Hasher newChunkHasher() {
+    return function.newHasher().putByte(LEAF_PREFIX);
+  }
+
+  private HashCode hashNode(HashCode left, HashCode right) {
+    return function
+        .newHasher()
+        .putByte(NODE_PREFIX)
+        .putBytes(left.getBytesInternal())
+        .putBytes(right.getBytesInternal())
+        .hash();
+  }
+
+  @Override
+  public String toString() {
+    return "Hashing.treeHash(" + function + ", " + chunkSize + ")";
+  }
+
+  @Override
+  public boolean equals(@CheckForNull Object object) {
+    if (object instanceof TreeHashFunction) {
+      TreeHashFunction other = (TreeHashFunction) object;
+      return function.equals(other.function) && chunkSize == other.chunkSize;
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return function.hashCode() * 31 + chunkSize;
+  }
+
+  /**
+   * Builds the tree from the hash codes of its chunks, given in order. It only holds the roots of
+   * the complete subtrees seen so far, at most one per height, as the binary digits of the number
+   * of chunks dictate.
+   */
+  final class TreeBuilder {
+    private final HashCode[] subtrees = new HashCode[Long.SIZE];
+    private int size;
+    private long chunkCount;
+
+    void addChunk(HashCode chunk) {
+      subtrees[size++] = chunk;
+      chunkCount++;
+      // Each trailing zero of the count is a pair of subtrees of equal height to merge.
+      for (long n = chunkCount; (n & 1) == 0; n >>>= 1) {
+        HashCode right = subtrees[--size];
+        HashCode left = subtrees[--size];
+        subtrees[size++] = hashNode(left, right);
+      }
+    }
+
+    /** Returns the root of the tree. At least one chunk must have been added. */
+    HashCode build() {
+      HashCode root = subtrees[--size];
+      while (size > 0) {
+        root = hashNode(subtrees[--size], root);
+      }
+      return root;
+    }
+  }
+
+  private final class TreeHasher extends AbstractByteHasher {
+    private final TreeBuilder tree = new TreeBuilder();
+    private Hasher chunk = newChunkHasher();
+    private int chunkLength;
+
+    @Override
+    protected void update(byte b) {
+      startChunkIfFull();
+      chunk.putByte(b);
+      chunkLength++;
+    }
+
+    @Override
+    protected void update(byte[] b, int off, int len) {
+      while (len > 0) {
+        startChunkIfFull();
+        int n = Math.min(len, chunkSize - chunkLength);
+        chunk.putBytes(b, off, n);
+        chunkLength += n;
+        off += n;
+        len -= n;
+      }
+    }
+
+    @Override
+    protected void update(ByteBuffer b) {
+      int limit = b.limit();
+      while (b.hasRemaining()) {
+        startChunkIfFull();
+        int n = Math.min(b.remaining(), chunkSize - chunkLength);
+        Java8Compatibility.limit(b, b.position() + n);
+        chunk.putBytes(b);
+        Java8Compatibility.limit(b, limit);
+        chunkLength += n;
+      }
+    }
+
+    // A full chunk is only hashed once more input arrives, so that an input whose length is a
+    // multiple of chunkSize does not end with an empty chunk.
+    private void startChunkIfFull() {
+      if (chunkLength == chunkSize) {
+        tree.addChunk(chunk.hash());
+        chunk = newChunkHasher();
+        chunkLength = 0;
+      }
+    }
+
+    @Override
+    public HashCode hash() {
+      tree.addChunk(chunk.hash());
+      return tree.build();
+    }
+  }
+}
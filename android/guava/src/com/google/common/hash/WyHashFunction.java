@@ -0,0 +1,259 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+/*
+ * wyhash was written by Wang Yi, and is released into the public domain (The Unlicense).
+ *
+ * Source:
+ * https://github.com/wangyi-fudan/wyhash/blob/master/wyhash.h
+ * (Modified to adapt to Guava coding conventions and to use the HashFunction interface)
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+import static com.google.common.hash.LittleEndianByteArray.load32;
+import static com.google.common.hash.LittleEndianByteArray.load64;
+import static com.google.common.hash.Xxh3HashFunction.unsignedMultiplyHigh;
+
+import com.google.errorprone.annotations.Immutable;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import javax.annotation.CheckForNull;
+
+/**
+ * See the final version 4 of wyhash in <a
+ * href="https://github.com/wangyi-fudan/wyhash/blob/master/wyhash.h">the C implementation</a>, with
+ * its default secret and default settings ({@code WYHASH_CONDOM == 1}, full 64x64 multiplication).
+ *
+ * @author Wang Yi
+ */
+@Immutable
+@ElementTypesAreNonnullByDefault
+final class WyHashFunction extends AbstractHashFunction implements Serializable {
+  static final HashFunction WYHASH = new WyHashFunction(0);
+
+  private static final long SECRET_0 = 0x2d358dccaa6c78a5L;
+  private static final long SECRET_1 = 0x8bb84b93962eacc9L;
+  private static final long SECRET_2 = 0x4b33a62ed433d4a3L;
+  private static final long SECRET_3 = 0x4d5a2da51de1aa47L;
+
+  private static final int CHUNK_SIZE = 48;
+
+  private final long seed;
+  // The seed after the initial mixing step that every input goes through.
+  private final long mixedSeed;
+
+  WyHashFunction(long seed) {
+    this.seed = seed;
+    this.mixedSeed = seed ^ mix(seed ^ SECRET_0, SECRET_1);
+  }
+
+  @Override
+  public int bits() {
+    return 64;
+  }
+
+  @Override
+  public Hasher newHasher() {
+    return new WyHasher(mixedSeed);
+  }
+
+  @Override
+  public HashCode hashInt(int input) {
+    long word = input & 0xFFFFFFFFL;
+    long a = (word << 32) | word;
+    return HashCode.fromLong(finish(mixedSeed, a, a, 4));
+  }
+
+  @Override
+  public HashCode hashLong(long input) {
+    long low = input & 0xFFFFFFFFL;
+    long high = input >>> 32;
+    return HashCode.fromLong(finish(mixedSeed, (low << 32) | high, (high << 32) | low, 8));
+  }
+
+  @Override
+  public HashCode hashString(CharSequence input, Charset charset) {
+    return hashBytes(input.toString().getBytes(charset));
+  }
+
+  @Override
+  public HashCode hashBytes(byte[] input, int off, int len) {
+    checkPositionIndexes(off, off + len, input.length);
+    return HashCode.fromLong(wyhash(mixedSeed, input, off, len));
+  }
+
+  @Override
+  public String toString() {
+    return "Hashing.wyhash(" + seed + ")";
+  }
+
+  @Override
+  public boolean equals(@CheckForNull Object object) {
+    if (object instanceof WyHashFunction) {
+      WyHashFunction other = (WyHashFunction) object;
+      return seed == other.seed;
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode() ^ (int) (seed ^ (seed >>> 32));
+  }
+
+  private static long wyhash(long seed, byte[] input, int off, int len) {
+    if (len <= 16) {
+      return hashLength0To16(seed, input, off, len);
+    }
+    int remaining = len;
+    if (remaining > CHUNK_SIZE) {
+      long see1 = seed;
+      long see2 = seed;
+      do {
+        seed = mix(load64(input, off) ^ SECRET_1, load64(input, off + 8) ^ seed);
+        see1 = mix(load64(input, off + 16) ^ SECRET_2, load64(input, off + 24) ^ see1);
+        see2 = mix(load64(input, off + 32) ^ SECRET_3, load64(input, off + 40) ^ see2);
+        off += CHUNK_SIZE;
+        remaining -= CHUNK_SIZE;
+      } while (remaining > CHUNK_SIZE);
+      seed ^= see1 ^ see2;
+    }
+    return hashTail(seed, input, off, remaining, len);
+  }
+
+  private static long hashLength0To16(long seed, byte[] input, int off, int len) {
+    long a;
+    long b;
+    if (len >= 4) {
+      int quarter = (len >>> 3) << 2;
+      a = (load32Unsigned(input, off) << 32) | load32Unsigned(input, off + quarter);
+      b =
+          (load32Unsigned(input, off + len - 4) << 32)
+              | load32Unsigned(input, off + len - 4 - quarter);
+    } else if (len > 0) {
+      a =
+          ((input[off] & 0xFFL) << 16)
+              | ((input[off + (len >>> 1)] & 0xFFL) << 8)
+              | (input[off + len - 1] & 0xFFL);
+      b = 0;
+    } else {
+      a = 0;
+      b = 0;
+    }
+    return finish(seed, a, b, len);
+  }
+
+  /**
+   * Mixes in the last {@code 0 < remaining <= 48} bytes of an input longer than 16 bytes. The 16
+   * bytes before {@code off} are read if {@code remaining < 16}.
+   */
+  private static long hashTail(long seed, byte[] input, int off, int remaining, long len) {
+    while (remaining > 16) {
+      seed = mix(load64(input, off) ^ SECRET_1, load64(input, off + 8) ^ seed);
+      off += 16;
+      remaining -= 16;
+    }
+    long a = load64(input, off + remaining - 16);
+    long b = load64(input, off + remaining - 8);
+    return finish(seed, a, b, len);
+  }
+
+  private static long finish(long seed, long a, long b, long len) {
+    a ^= SECRET_1;
+    b ^= seed;
+    long low = a * b;
+    long high = unsignedMultiplyHigh(a, b);
+    return mix(low ^ SECRET_0 ^ len, high ^ SECRET_1);
+  }
+
+  /** Returns the high and low halves of the 128-bit product of {@code a} and {@code b}, xored. */
+  private static long mix(long a, long b) {
+    return (a * b) ^ unsignedMultiplyHigh(a, b);
+  }
+
+  private static long load32Unsigned(byte[] input, int off) {
+    return load32(input, off) & 0xFFFFFFFFL;
+  }
+
+  /**
+   * wyhash reads the last 16 bytes of the input, which may overlap data that has already been
+   * mixed in, and runs its 48-byte loop only while more than 48 bytes remain. This hasher therefore
+   * holds back the latest chunk until more input arrives, along with the 16 bytes before it.
+   */
+  private static final class WyHasher extends AbstractStreamingHasher {
+    // Bytes [0, 16) hold the end of the last consumed chunk; pending input starts at 16.
+    private static final int PENDING_OFFSET = 16;
+
+    private long seed;
+    private long see1;
+    private long see2;
+    private final byte[] buffer = new byte[PENDING_OFFSET + 2 * CHUNK_SIZE];
+    private int pendingLength;
+    private long length;
+
+    WyHasher(long seed) {
+      super(CHUNK_SIZE);
+      this.seed = seed;
+      this.see1 = seed;
+      this.see2 = seed;
+    }
+
+    @Override
+    protected void process(ByteBuffer bb) {
+      if (pendingLength == CHUNK_SIZE) {
+        consumeChunk(PENDING_OFFSET);
+        System.arraycopy(buffer, PENDING_OFFSET + CHUNK_SIZE - 16, buffer, 0, 16);
+        pendingLength = 0;
+      }
+      bb.get(buffer, PENDING_OFFSET, CHUNK_SIZE);
+      pendingLength = CHUNK_SIZE;
+      length += CHUNK_SIZE;
+    }
+
+    @Override
+    protected void processRemaining(ByteBuffer bb) {
+      int remaining = bb.remaining();
+      bb.get(buffer, PENDING_OFFSET + pendingLength, remaining);
+      pendingLength += remaining;
+      length += remaining;
+    }
+
+    private void consumeChunk(int off) {
+      seed = mix(load64(buffer, off) ^ SECRET_1, load64(buffer, off + 8) ^ seed);
+      see1 = mix(load64(buffer, off + 16) ^ SECRET_2, load64(buffer, off + 24) ^ see1);
+      see2 = mix(load64(buffer, off + 32) ^ SECRET_3, load64(buffer, off + 40) ^ see2);
+    }
+
+    @Override
+    protected HashCode makeHash() {
+      if (length <= 16) {
+        return HashCode.fromLong(hashLength0To16(seed, buffer, PENDING_OFFSET, (int) length));
+      }
+      int off = PENDING_OFFSET;
+      int remaining = pendingLength;
+      if (length > CHUNK_SIZE) {
+        for (; remaining > CHUNK_SIZE; off += CHUNK_SIZE, remaining -= CHUNK_SIZE) {
+          consumeChunk(off);
+        }
+        seed ^= see1 ^ see2;
+      }
+      return HashCode.fromLong(hashTail(seed, buffer, off, remaining, length));
+    }
+  }
+
+  private static final long serialVersionUID = 0L;
+}
@@ -0,0 +1,556 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+/*
+ * xxHash was written by Yann Collet, and is released under the BSD 2-Clause license.
+ *
+ * Source:
+ * https://github.com/Cyan4973/xxHash/blob/release/xxhash.h
+ * (Modified to adapt to Guava coding conventions and to use the HashFunction interface)
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+import static com.google.common.hash.LittleEndianByteArray.load32;
+import static com.google.common.hash.LittleEndianByteArray.load64;
+import static com.google.common.hash.LittleEndianByteArray.store64;
+
+import com.google.errorprone.annotations.Immutable;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import javax.annotation.CheckForNull;
+
+/**
+ * See XXH3_64bits_withSeed and XXH3_128bits_withSeed in <a
+ * href="https://github.com/Cyan4973/xxHash/blob/release/xxhash.h">the C implementation</a>. Only
+ * the scalar code path is ported; its output is identical to that of the vectorized ones.
+ *
+ * <p>Note to maintainers: as in {@link FarmHashFingerprint64}, this implementation relies on signed
+ * arithmetic being bit-wise equivalent to unsigned arithmetic, except that right shifts must be
+ * unsigned.
+ *
+ * @author Yann Collet
+ */
+@Immutable
+@ElementTypesAreNonnullByDefault
+final class Xxh3HashFunction extends AbstractHashFunction implements Serializable {
+  private static final long PRIME32_1 = 0x9E3779B1L;
+  private static final long PRIME32_2 = 0x85EBCA77L;
+  private static final long PRIME32_3 = 0xC2B2AE3DL;
+  private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME64_3 = 0x165667B19E3779F9L;
+  private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+  private static final long PRIME_MX1 = 0x165667919E3779F9L;
+  private static final long PRIME_MX2 = 0x9FB21C651E98DF25L;
+
+  private static final int SECRET_SIZE = 192;
+  private static final int STRIPE_LEN = 64;
+  private static final int STRIPES_PER_BLOCK = (SECRET_SIZE - STRIPE_LEN) / 8;
+  private static final int BLOCK_LEN = STRIPE_LEN * STRIPES_PER_BLOCK;
+  private static final int MIDSIZE_MAX = 240;
+  private static final int LAST_STRIPE_SECRET_OFF = SECRET_SIZE - STRIPE_LEN - 7;
+
+  /** The default secret, kSecret, in little-endian words. */
+  private static final long[] DEFAULT_SECRET_WORDS = {
+    0xbe4ba423396cfeb8L, 0x1cad21f72c81017cL, 0xdb979083e96dd4deL, 0x1f67b3b7a4a44072L,
+    0x78e5c0cc4ee679cbL, 0x2172ffcc7dd05a82L, 0x8e2443f7744608b8L, 0x4c263a81e69035e0L,
+    0xcb00c391bb52283cL, 0xa32e531b8b65d088L, 0x4ef90da297486471L, 0xd8acdea946ef1938L,
+    0x3f349ce33f76faa8L, 0x1d4f0bc7c7bbdcf9L, 0x3159b4cd4be0518aL, 0x647378d9c97e9fc8L,
+    0xc3ebd33483acc5eaL, 0xeb6313faffa081c5L, 0x49daf0b751dd0d17L, 0x9e68d429265516d3L,
+    0xfca1477d58be162bL, 0xce31d07ad1b8f88fL, 0x280416958f3acb45L, 0x7e404bbbcafbd7afL,
+  };
+
+  // Declared after DEFAULT_SECRET_WORDS, which the constructor reads.
+  static final HashFunction XXH3_64 = new Xxh3HashFunction(64, 0);
+
+  static final HashFunction XXH3_128 = new Xxh3HashFunction(128, 0);
+
+  private final int bits;
+  private final long seed;
+
+  /**
+   * The secret used for inputs longer than {@value #MIDSIZE_MAX} bytes: the default secret when the
+   * seed is zero, and one derived from the seed otherwise.
+   */
+  @SuppressWarnings("Immutable") // array not modified after creation
+  private final byte[] secret;
+
+  Xxh3HashFunction(int bits, long seed) {
+    this.bits = bits;
+    this.seed = seed;
+    this.secret = new byte[SECRET_SIZE];
+    for (int i = 0; i < SECRET_SIZE / 16; i++) {
+      store64(secret, 16 * i, DEFAULT_SECRET_WORDS[2 * i] + seed);
+      store64(secret, 16 * i + 8, DEFAULT_SECRET_WORDS[2 * i + 1] - seed);
+    }
+  }
+
+  @Override
+  public int bits() {
+    return bits;
+  }
+
+  @Override
+  public Hasher newHasher() {
+    return new Xxh3Hasher(bits, seed, secret);
+  }
+
+  @Override
+  public HashCode hashInt(int input) {
+    return hashLength4To8(bits, seed, input, input, 4);
+  }
+
+  @Override
+  public HashCode hashLong(long input) {
+    return hashLength4To8(bits, seed, (int) input, (int) (input >>> 32), 8);
+  }
+
+  @Override
+  public HashCode hashString(CharSequence input, Charset charset) {
+    return hashBytes(input.toString().getBytes(charset));
+  }
+
+  @Override
+  public HashCode hashBytes(byte[] input, int off, int len) {
+    checkPositionIndexes(off, off + len, input.length);
+    return xxh3(bits, seed, secret, input, off, len);
+  }
+
+  @Override
+  public String toString() {
+    return "Hashing.xxh3_" + bits + "(" + seed + ")";
+  }
+
+  @Override
+  public boolean equals(@CheckForNull Object object) {
+    if (object instanceof Xxh3HashFunction) {
+      Xxh3HashFunction other = (Xxh3HashFunction) object;
+      return bits == other.bits && seed == other.seed;
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode() ^ bits ^ (int) (seed ^ (seed >>> 32));
+  }
+
+  private static HashCode xxh3(int bits, long seed, byte[] secret, byte[] input, int off, int len) {
+    if (len <= 16) {
+      if (len > 8) {
+        return hashLength9To16(bits, seed, input, off, len);
+      } else if (len >= 4) {
+        return hashLength4To8(bits, seed, load32(input, off), load32(input, off + len - 4), len);
+      } else if (len > 0) {
+        return hashLength1To3(bits, seed, input, off, len);
+      } else {
+        return hashLength0(bits, seed);
+      }
+    } else if (len <= 128) {
+      return hashLength17To128(bits, seed, input, off, len);
+    } else if (len <= MIDSIZE_MAX) {
+      return hashLength129To240(bits, seed, input, off, len);
+    }
+
+    long[] acc = initAccumulators();
+    int blocks = (len - 1) / BLOCK_LEN;
+    for (int block = 0; block < blocks; block++, off += BLOCK_LEN) {
+      accumulate(acc, input, off, secret, 0, STRIPES_PER_BLOCK);
+      scramble(acc, secret);
+    }
+    int lastBlockLength = len - BLOCK_LEN * blocks;
+    accumulate(acc, input, off, secret, 0, (lastBlockLength - 1) / STRIPE_LEN);
+    accumulate(acc, input, off + lastBlockLength - STRIPE_LEN, secret, LAST_STRIPE_SECRET_OFF, 1);
+    return digestLong(bits, acc, secret, len);
+  }
+
+  private static HashCode hashLength0(int bits, long seed) {
+    if (bits == 64) {
+      return HashCode.fromLong(xxh64Avalanche(seed ^ defaultSecret(56) ^ defaultSecret(64)));
+    }
+    return fromLongs(
+        xxh64Avalanche(seed ^ defaultSecret(64) ^ defaultSecret(72)),
+        xxh64Avalanche(seed ^ defaultSecret(80) ^ defaultSecret(88)));
+  }
+
+  private static HashCode hashLength1To3(int bits, long seed, byte[] input, int off, int len) {
+    int combined =
+        ((input[off] & 0xFF) << 16)
+            | ((input[off + (len >>> 1)] & 0xFF) << 24)
+            | (input[off + len - 1] & 0xFF)
+            | (len << 8);
+    long bitflipLow = (defaultSecret(0) ^ (defaultSecret(0) >>> 32)) & 0xFFFFFFFFL;
+    if (bits == 64) {
+      return HashCode.fromLong(xxh64Avalanche((combined & 0xFFFFFFFFL) ^ (bitflipLow + seed)));
+    }
+    int combinedHigh = Integer.rotateLeft(Integer.reverseBytes(combined), 13);
+    long bitflipHigh = (defaultSecret(8) ^ (defaultSecret(8) >>> 32)) & 0xFFFFFFFFL;
+    return fromLongs(
+        xxh64Avalanche((combined & 0xFFFFFFFFL) ^ (bitflipLow + seed)),
+        xxh64Avalanche((combinedHigh & 0xFFFFFFFFL) ^ (bitflipHigh - seed)));
+  }
+
+  private static HashCode hashLength4To8(int bits, long seed, int first, int last, int len) {
+    seed ^= (long) Integer.reverseBytes((int) seed) << 32;
+    if (bits == 64) {
+      long bitflip = (defaultSecret(8) ^ defaultSecret(16)) - seed;
+      long keyed = ((last & 0xFFFFFFFFL) + ((long) first << 32)) ^ bitflip;
+      return HashCode.fromLong(rrmxmx(keyed, len));
+    }
+    long bitflip = (defaultSecret(16) ^ defaultSecret(24)) + seed;
+    long keyed = ((first & 0xFFFFFFFFL) + ((long) last << 32)) ^ bitflip;
+    long multiplier = PRIME64_1 + ((long) len << 2);
+    long low = keyed * multiplier;
+    long high = unsignedMultiplyHigh(keyed, multiplier);
+    high += low << 1;
+    low ^= high >>> 3;
+    low ^= low >>> 35;
+    low *= PRIME_MX2;
+    low ^= low >>> 28;
+    return fromLongs(low, avalanche(high));
+  }
+
+  private static HashCode hashLength9To16(int bits, long seed, byte[] input, int off, int len) {
+    if (bits == 64) {
+      long bitflip1 = (defaultSecret(24) ^ defaultSecret(32)) + seed;
+      long bitflip2 = (defaultSecret(40) ^ defaultSecret(48)) - seed;
+      long inputLow = load64(input, off) ^ bitflip1;
+      long inputHigh = load64(input, off + len - 8) ^ bitflip2;
+      long acc =
+          len + Long.reverseBytes(inputLow) + inputHigh + mul128Fold64(inputLow, inputHigh);
+      return HashCode.fromLong(avalanche(acc));
+    }
+    long bitflipLow = (defaultSecret(32) ^ defaultSecret(40)) - seed;
+    long bitflipHigh = (defaultSecret(48) ^ defaultSecret(56)) + seed;
+    long inputLow = load64(input, off);
+    long inputHigh = load64(input, off + len - 8);
+    long mixed = inputLow ^ inputHigh ^ bitflipLow;
+    long low = mixed * PRIME64_1;
+    long high = unsignedMultiplyHigh(mixed, PRIME64_1);
+    low += (long) (len - 1) << 54;
+    inputHigh ^= bitflipHigh;
+    high += inputHigh + (inputHigh & 0xFFFFFFFFL) * (PRIME32_2 - 1);
+    low ^= Long.reverseBytes(high);
+    long finalLow = low * PRIME64_2;
+    long finalHigh = unsignedMultiplyHigh(low, PRIME64_2) + high * PRIME64_2;
+    return fromLongs(avalanche(finalLow), avalanche(finalHigh));
+  }
+
+  private static HashCode hashLength17To128(int bits, long seed, byte[] input, int off, int len) {
+    if (bits == 64) {
+      long acc = len * PRIME64_1;
+      if (len > 32) {
+        if (len > 64) {
+          if (len > 96) {
+            acc += mix16(input, off + 48, 96, seed);
+            acc += mix16(input, off + len - 64, 112, seed);
+          }
+          acc += mix16(input, off + 32, 64, seed);
+          acc += mix16(input, off + len - 48, 80, seed);
+        }
+        acc += mix16(input, off + 16, 32, seed);
+        acc += mix16(input, off + len - 32, 48, seed);
+      }
+      acc += mix16(input, off, 0, seed);
+      acc += mix16(input, off + len - 16, 16, seed);
+      return HashCode.fromLong(avalanche(acc));
+    }
+    long[] acc = {len * PRIME64_1, 0};
+    if (len > 32) {
+      if (len > 64) {
+        if (len > 96) {
+          mix32(acc, input, off + 48, off + len - 64, 96, seed);
+        }
+        mix32(acc, input, off + 32, off + len - 48, 64, seed);
+      }
+      mix32(acc, input, off + 16, off + len - 32, 32, seed);
+    }
+    mix32(acc, input, off, off + len - 16, 0, seed);
+    return digestMidsize128(acc, len, seed);
+  }
+
+  private static HashCode hashLength129To240(
+      int bits, long seed, byte[] input, int off, int len) {
+    if (bits == 64) {
+      long acc = len * PRIME64_1;
+      for (int i = 0; i < 8; i++) {
+        acc += mix16(input, off + 16 * i, 16 * i, seed);
+      }
+      acc = avalanche(acc);
+      for (int i = 8; i < len / 16; i++) {
+        acc += mix16(input, off + 16 * i, 16 * (i - 8) + 3, seed);
+      }
+      acc += mix16(input, off + len - 16, 136 - 17, seed);
+      return HashCode.fromLong(avalanche(acc));
+    }
+    long[] acc = {len * PRIME64_1, 0};
+    for (int i = 0; i < 4; i++) {
+      mix32(acc, input, off + 32 * i, off + 32 * i + 16, 32 * i, seed);
+    }
+    acc[0] = avalanche(acc[0]);
+    acc[1] = avalanche(acc[1]);
+    for (int i = 4; i < len / 32; i++) {
+      mix32(acc, input, off + 32 * i, off + 32 * i + 16, 32 * (i - 4) + 3, seed);
+    }
+    mix32(acc, input, off + len - 16, off + len - 32, 136 - 17 - 16, -seed);
+    return digestMidsize128(acc, len, seed);
+  }
+
+  private static HashCode digestMidsize128(long[] acc, int len, long seed) {
+    long low = acc[0] + acc[1];
+    long high = acc[0] * PRIME64_1 + acc[1] * PRIME64_4 + (len - seed) * PRIME64_2;
+    return fromLongs(avalanche(low), -avalanche(high));
+  }
+
+  private static long mix16(byte[] input, int off, int secretOff, long seed) {
+    return mul128Fold64(
+        load64(input, off) ^ (defaultSecret(secretOff) + seed),
+        load64(input, off + 8) ^ (defaultSecret(secretOff + 8) - seed));
+  }
+
+  private static void mix32(
+      long[] acc, byte[] input, int off1, int off2, int secretOff, long seed) {
+    acc[0] += mix16(input, off1, secretOff, seed);
+    acc[0] ^= load64(input, off2) + load64(input, off2 + 8);
+    acc[1] += mix16(input, off2, secretOff + 16, seed);
+    acc[1] ^= load64(input, off1) + load64(input, off1 + 8);
+  }
+
+  private static long[] initAccumulators() {
+    return new long[] {
+      PRIME32_3, PRIME64_1, PRIME64_2, PRIME64_3, PRIME64_4, PRIME32_2, PRIME64_5, PRIME32_1
+    };
+  }
+
+  /**
+   * Accumulates {@code stripes} consecutive stripes of the input, starting at {@code off}, using
+   * the secret from {@code secretOff} on and advancing it by 8 bytes per stripe.
+   */
+  private static void accumulate(
+      long[] acc, byte[] input, int off, byte[] secret, int secretOff, int stripes) {
+    // Keeping the accumulators in locals lets them live in registers for the whole loop.
+    long a0 = acc[0];
+    long a1 = acc[1];
+    long a2 = acc[2];
+    long a3 = acc[3];
+    long a4 = acc[4];
+    long a5 = acc[5];
+    long a6 = acc[6];
+    long a7 = acc[7];
+    for (int stripe = 0; stripe < stripes; stripe++, off += STRIPE_LEN, secretOff += 8) {
+      // Each lane also adds its input to its neighbor, so lanes are processed in pairs.
+      long data0 = load64(input, off);
+      long data1 = load64(input, off + 8);
+      long key0 = data0 ^ load64(secret, secretOff);
+      long key1 = data1 ^ load64(secret, secretOff + 8);
+      a0 += data1 + (key0 & 0xFFFFFFFFL) * (key0 >>> 32);
+      a1 += data0 + (key1 & 0xFFFFFFFFL) * (key1 >>> 32);
+      data0 = load64(input, off + 16);
+      data1 = load64(input, off + 24);
+      key0 = data0 ^ load64(secret, secretOff + 16);
+      key1 = data1 ^ load64(secret, secretOff + 24);
+      a2 += data1 + (key0 & 0xFFFFFFFFL) * (key0 >>> 32);
+      a3 += data0 + (key1 & 0xFFFFFFFFL) * (key1 >>> 32);
+      data0 = load64(input, off + 32);
+      data1 = load64(input, off + 40);
+      key0 = data0 ^ load64(secret, secretOff + 32);
+      key1 = data1 ^ load64(secret, secretOff + 40);
+      a4 += data1 + (key0 & 0xFFFFFFFFL) * (key0 >>> 32);
+      a5 += data0 + (key1 & 0xFFFFFFFFL) * (key1 >>> 32);
+      data0 = load64(input, off + 48);
+      data1 = load64(input, off + 56);
+      key0 = data0 ^ load64(secret, secretOff + 48);
+      key1 = data1 ^ load64(secret, secretOff + 56);
+      a6 += data1 + (key0 & 0xFFFFFFFFL) * (key0 >>> 32);
+      a7 += data0 + (key1 & 0xFFFFFFFFL) * (key1 >>> 32);
+    }
+    acc[0] = a0;
+    acc[1] = a1;
+    acc[2] = a2;
+    acc[3] = a3;
+    acc[4] = a4;
+    acc[5] = a5;
+    acc[6] = a6;
+    acc[7] = a7;
+  }
+
+  private static void scramble(long[] acc, byte[] secret) {
+    for (int i = 0; i < 8; i++) {
+      long a = acc[i];
+      a ^= a >>> 47;
+      a ^= load64(secret, SECRET_SIZE - STRIPE_LEN + 8 * i);
+      acc[i] = a * PRIME32_1;
+    }
+  }
+
+  private static HashCode digestLong(int bits, long[] acc, byte[] secret, long len) {
+    long low = mergeAccumulators(acc, secret, 11, len * PRIME64_1);
+    if (bits == 64) {
+      return HashCode.fromLong(low);
+    }
+    long high = mergeAccumulators(acc, secret, SECRET_SIZE - STRIPE_LEN - 11, ~(len * PRIME64_2));
+    return fromLongs(low, high);
+  }
+
+  private static long mergeAccumulators(long[] acc, byte[] secret, int secretOff, long start) {
+    long result = start;
+    for (int i = 0; i < 4; i++) {
+      result +=
+          mul128Fold64(
+              acc[2 * i] ^ load64(secret, secretOff + 16 * i),
+              acc[2 * i + 1] ^ load64(secret, secretOff + 16 * i + 8));
+    }
+    return avalanche(result);
+  }
+
+  /** Reads 8 bytes of the default secret, starting at byte {@code offset}. */
+  private static long defaultSecret(int offset) {
+    int word = offset >>> 3;
+    int shift = (offset & 7) * 8;
+    if (shift == 0) {
+      return DEFAULT_SECRET_WORDS[word];
+    }
+    return (DEFAULT_SECRET_WORDS[word] >>> shift) | (DEFAULT_SECRET_WORDS[word + 1] << -shift);
+  }
+
+  private static long mul128Fold64(long a, long b) {
+    return (a * b) ^ unsignedMultiplyHigh(a, b);
+  }
+
+  /** Returns the high 64 bits of the unsigned 128-bit product of {@code a} and {@code b}. */
+  static long unsignedMultiplyHigh(long a, long b) {
+    long aLow = a & 0xFFFFFFFFL;
+    long aHigh = a >>> 32;
+    long bLow = b & 0xFFFFFFFFL;
+    long bHigh = b >>> 32;
+    long lowLow = aLow * bLow;
+    long highLow = aHigh * bLow;
+    long cross = (lowLow >>> 32) + (highLow & 0xFFFFFFFFL) + aLow * bHigh;
+    return aHigh * bHigh + (highLow >>> 32) + (cross >>> 32);
+  }
+
+  private static long xxh64Avalanche(long h) {
+    h ^= h >>> 33;
+    h *= PRIME64_2;
+    h ^= h >>> 29;
+    h *= PRIME64_3;
+    return h ^ (h >>> 32);
+  }
+
+  private static long avalanche(long h) {
+    h ^= h >>> 37;
+    h *= PRIME_MX1;
+    return h ^ (h >>> 32);
+  }
+
+  private static long rrmxmx(long h, int len) {
+    h ^= Long.rotateLeft(h, 49) ^ Long.rotateLeft(h, 24);
+    h *= PRIME_MX2;
+    h ^= (h >>> 35) + len;
+    h *= PRIME_MX2;
+    return h ^ (h >>> 28);
+  }
+
+  /**
+   * Returns the 128-bit hash code {@code (high, low)}, laid out so that {@link HashCode#asLong}
+   * returns {@code low}, as murmur3_128 does for its first word.
+   */
+  private static HashCode fromLongs(long low, long high) {
+    return HashCode.fromBytesNoCopy(
+        ByteBuffer.wrap(new byte[16])
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .putLong(low)
+            .putLong(high)
+            .array());
+  }
+
+  /**
+   * XXH3 takes entirely different paths for inputs of up to {@value #MIDSIZE_MAX} bytes and for
+   * longer ones, and the last stripe of a long input is mixed in differently from the others. This
+   * hasher therefore only accumulates a stripe once it has seen at least one more, keeping up to
+   * {@value #BUFFER_SIZE} bytes buffered, and hashes short inputs in one shot from that buffer.
+   */
+  private static final class Xxh3Hasher extends AbstractStreamingHasher {
+    private static final int BUFFER_SIZE = 256;
+
+    private final int bits;
+    private final long seed;
+    private final byte[] secret;
+    // Room for a full buffer plus a trailing partial stripe.
+    private final byte[] buffer = new byte[BUFFER_SIZE + STRIPE_LEN];
+    private int bufferedLength;
+    private long length;
+    private final long[] acc = initAccumulators();
+    private int stripesSoFar;
+
+    Xxh3Hasher(int bits, long seed, byte[] secret) {
+      super(STRIPE_LEN);
+      this.bits = bits;
+      this.seed = seed;
+      this.secret = secret;
+    }
+
+    @Override
+    protected void process(ByteBuffer bb) {
+      if (bufferedLength == BUFFER_SIZE) {
+        // More input has arrived, so none of the buffered stripes is the last one.
+        consumeStripes(BUFFER_SIZE / STRIPE_LEN);
+        bufferedLength = 0;
+      }
+      bb.get(buffer, bufferedLength, STRIPE_LEN);
+      bufferedLength += STRIPE_LEN;
+      length += STRIPE_LEN;
+    }
+
+    @Override
+    protected void processRemaining(ByteBuffer bb) {
+      int remaining = bb.remaining();
+      bb.get(buffer, bufferedLength, remaining);
+      bufferedLength += remaining;
+      length += remaining;
+    }
+
+    /** Accumulates the first {@code stripes} buffered stripes, scrambling at block boundaries. */
+    private void consumeStripes(int stripes) {
+      int stripesToEndOfBlock = STRIPES_PER_BLOCK - stripesSoFar;
+      if (stripes < stripesToEndOfBlock) {
+        accumulate(acc, buffer, 0, secret, stripesSoFar * 8, stripes);
+        stripesSoFar += stripes;
+      } else {
+        accumulate(acc, buffer, 0, secret, stripesSoFar * 8, stripesToEndOfBlock);
+        scramble(acc, secret);
+        stripesSoFar = stripes - stripesToEndOfBlock;
+        accumulate(acc, buffer, stripesToEndOfBlock * STRIPE_LEN, secret, 0, stripesSoFar);
+      }
+    }
+
+    @Override
+    protected HashCode makeHash() {
+      if (length <= MIDSIZE_MAX) {
+        return xxh3(bits, seed, secret, buffer, 0, (int) length);
+      }
+      // There are always at least STRIPE_LEN bytes buffered here.
+      consumeStripes((bufferedLength - 1) / STRIPE_LEN);
+      accumulate(acc, buffer, bufferedLength - STRIPE_LEN, secret, LAST_STRIPE_SECRET_OFF, 1);
+      return digestLong(bits, acc, secret, length);
+    }
+  }
+
+  private static final long serialVersionUID = 0L;
+}
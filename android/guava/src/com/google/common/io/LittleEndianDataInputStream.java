@@ -27,6 +27,7 @@ import java.io.EOFException;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteOrder;
 
 /**
  * An implementation of {@link DataInput} that uses little-endian byte ordering for reading {@code
@@ -174,6 +175,56 @@ public final class LittleEndianDataInputStream extends FilterInputStream impleme
     return Double.longBitsToDouble(readLong());
   }
 
+  /**
+   * Fills {@code dst} with {@code int} values, each read as by {@link #readInt()}. This is
+   * equivalent to reading the values one by one, but faster.
+   *
+   * @throws EOFException if the stream ends before {@code dst} is filled
+   * @throws IOException if an I/O error occurs
+   * @since NEXT
+   */
+  public void readInts(int[] dst) throws IOException {
+    readInts(dst, 0, dst.length);
+  }
+
+  /**
+   * Reads {@code len} {@code int} values into {@code dst}, starting at index {@code off}, each read
+   * as by {@link #readInt()}.
+   *
+   * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of range for {@code dst}
+   * @throws EOFException if the stream ends before {@code len} values are read
+   * @throws IOException if an I/O error occurs
+   * @since NEXT
+   */
+  public void readInts(int[] dst, int off, int len) throws IOException {
+    ByteStreams.readInts(in, dst, off, len, ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * Fills {@code dst} with {@code long} values, each read as by {@link #readLong()}. This is
+   * equivalent to reading the values one by one, but faster.
+   *
+   * @throws EOFException if the stream ends before {@code dst} is filled
+   * @throws IOException if an I/O error occurs
+   * @since NEXT
+   */
+  public void readLongs(long[] dst) throws IOException {
+    readLongs(dst, 0, dst.length);
+  }
+
+  /**
+   * Reads {@code len} {@code long} values into {@code dst}, starting at index {@code off}, each
+   * read as by {@link #readLong()}.
+   *
+   * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of range for {@code dst}
+   * @throws EOFException if the stream ends before {@code len} values are read
+   * @throws IOException if an I/O error occurs
+   * @since NEXT
+   */
+  public void readLongs(long[] dst, int off, int len) throws IOException {
+    ByteStreams.readLongs(in, dst, off, len, ByteOrder.LITTLE_ENDIAN);
+  }
+
   @CanIgnoreReturnValue // to skip a field
   @Override
   public String readUTF() throws IOException {
@@ -0,0 +1,283 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.io;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.CharArrayReader;
+import java.io.CharArrayWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recycles the scratch buffers that the copying and reading methods of this package use, so that
+ * calling them doesn't allocate a new buffer each time.
+ *
+ * <p>Each thread owns up to {@link #SLOTS} byte arrays of {@link #BYTE_BUFFER_SIZE} bytes and as
+ * many char arrays of {@link #CHAR_BUFFER_SIZE} chars. A method takes the buffers it needs at the
+ * start and recycles them in a {@code finally} block when it no longer uses them. A buffer is never
+ * handed out twice at the same time: if a method is reentered (say, from the {@code InputStream}
+ * it is reading), the inner call finds its thread's buffers taken and allocates new ones. Only
+ * buffers that a thread owns are recycled, so recycling any other array does nothing.
+ *
+ * <p>A recycled buffer is only handed to streams, readers and writers of a few JDK and Guava
+ * classes that neither keep nor pass on the arrays they read into or write from. Any other stream
+ * could keep a reference to the buffer, and see what later, unrelated calls on the same thread put
+ * in it, so methods that pass their buffer to one get a new buffer instead.
+ *
+ * <p>The thread-local values are plain arrays, so they don't keep any class loader alive.
+ *
+ * <p>Recycling can be turned off by setting the system property {@code guava.io.recycle_buffers}
+ * to {@code false}. The hit and miss counts are only for tests and benchmarks; they aren't exposed
+ * outside this package.
+ */
+@GwtIncompatible
+@ElementTypesAreNonnullByDefault
+final class ScratchBuffers {
+  static final int BYTE_BUFFER_SIZE = 8192;
+
+  // 2K chars (4K bytes)
+  static final int CHAR_BUFFER_SIZE = 0x800;
+
+  /** The number of buffers of each kind that a thread owns; enough for contentEquals. */
+  static final int SLOTS = 2;
+
+  /**
+   * The classes whose instances may be handed recycled buffers. These only copy the bytes or chars
+   * between the given array and their own storage, or encode or decode them with a charset.
+   * Subclasses aren't included, since they may override the methods that use the array.
+   */
+  private static final ImmutableSet<Class<?>> TRUSTED_CLASSES =
+      ImmutableSet.of(
+          ByteArrayInputStream.class,
+          ByteArrayOutputStream.class,
+          FileInputStream.class,
+          FileOutputStream.class,
+          ByteStreams.nullOutputStream().getClass(),
+          CharArrayReader.class,
+          InputStreamReader.class,
+          StringReader.class,
+          CharArrayWriter.class,
+          OutputStreamWriter.class,
+          StringWriter.class,
+          StringBuilder.class,
+          CharStreams.nullWriter().getClass());
+
+  /*
+   * The first SLOTS elements of a thread's array are the buffers that it owns, or null where it
+   * doesn't own one yet. The element SLOTS places after an owned buffer is that same buffer when it
+   * is available, and null while it is taken.
+   */
+  private static final ThreadLocal<byte[][]> BYTE_BUFFERS = new ThreadLocal<>();
+  private static final ThreadLocal<char[][]> CHAR_BUFFERS = new ThreadLocal<>();
+
+  private static final AtomicLong hits = new AtomicLong();
+  private static final AtomicLong misses = new AtomicLong();
+
+  private static volatile boolean enabled;
+
+  static {
+    // System.getProperty may throw if the security policy does not permit access.
+    boolean recycleBuffers;
+    try {
+      recycleBuffers = Boolean.parseBoolean(System.getProperty("guava.io.recycle_buffers", "true"));
+    } catch (SecurityException e) {
+      recycleBuffers = true;
+    }
+    enabled = recycleBuffers;
+  }
+
+  private ScratchBuffers() {}
+
+  /**
+   * Returns a byte array of {@link #BYTE_BUFFER_SIZE} bytes, with arbitrary contents, for use only
+   * by the caller and by streams of the {@linkplain #isTrusted trusted} classes.
+   */
+  static byte[] takeBytes() {
+    if (enabled) {
+      byte[][] slots = BYTE_BUFFERS.get();
+      if (slots == null) {
+        slots = new byte[2 * SLOTS][];
+        BYTE_BUFFERS.set(slots);
+      }
+      for (int i = 0; i < SLOTS; i++) {
+        byte[] buffer = slots[SLOTS + i];
+        if (buffer != null) {
+          slots[SLOTS + i] = null;
+          hits.incrementAndGet();
+          return buffer;
+        }
+      }
+      misses.incrementAndGet();
+      for (int i = 0; i < SLOTS; i++) {
+        if (slots[i] == null) {
+          byte[] buffer = new byte[BYTE_BUFFER_SIZE];
+          slots[i] = buffer;
+          return buffer;
+        }
+      }
+    }
+    return new byte[BYTE_BUFFER_SIZE];
+  }
+
+  /**
+   * Returns a byte array of {@link #BYTE_BUFFER_SIZE} bytes, with arbitrary contents, to be passed
+   * to {@code stream}. The array is a recycled one only if {@code stream} is trusted.
+   */
+  static byte[] takeBytes(Object stream) {
+    return isTrusted(stream) ? takeBytes() : new byte[BYTE_BUFFER_SIZE];
+  }
+
+  /**
+   * Returns a byte array of {@link #BYTE_BUFFER_SIZE} bytes, with arbitrary contents, to be passed
+   * to both {@code from} and {@code to}. The array is a recycled one only if both are trusted.
+   */
+  static byte[] takeBytes(Object from, Object to) {
+    boolean trusted = isTrusted(from);
+    return isTrusted(to) && trusted ? takeBytes() : new byte[BYTE_BUFFER_SIZE];
+  }
+
+  /**
+   * Makes a buffer returned by {@link #takeBytes} available to later calls on this thread, if this
+   * thread owns it. The caller must not use {@code buffer} afterwards.
+   */
+  static void recycle(byte[] buffer) {
+    checkNotNull(buffer);
+    byte[][] slots = BYTE_BUFFERS.get();
+    if (slots != null) {
+      for (int i = 0; i < SLOTS; i++) {
+        if (slots[i] == buffer) {
+          slots[SLOTS + i] = buffer;
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns a char array of {@link #CHAR_BUFFER_SIZE} chars, with arbitrary contents, for use only
+   * by the caller and by readers and writers of the {@linkplain #isTrusted trusted} classes.
+   */
+  static char[] takeChars() {
+    if (enabled) {
+      char[][] slots = CHAR_BUFFERS.get();
+      if (slots == null) {
+        slots = new char[2 * SLOTS][];
+        CHAR_BUFFERS.set(slots);
+      }
+      for (int i = 0; i < SLOTS; i++) {
+        char[] buffer = slots[SLOTS + i];
+        if (buffer != null) {
+          slots[SLOTS + i] = null;
+          hits.incrementAndGet();
+          return buffer;
+        }
+      }
+      misses.incrementAndGet();
+      for (int i = 0; i < SLOTS; i++) {
+        if (slots[i] == null) {
+          char[] buffer = new char[CHAR_BUFFER_SIZE];
+          slots[i] = buffer;
+          return buffer;
+        }
+      }
+    }
+    return new char[CHAR_BUFFER_SIZE];
+  }
+
+  /**
+   * Returns a char array of {@link #CHAR_BUFFER_SIZE} chars, with arbitrary contents, to be passed
+   * to both {@code from} and {@code to}. The array is a recycled one only if both are trusted.
+   */
+  static char[] takeChars(Object from, Object to) {
+    boolean trusted = isTrusted(from);
+    return isTrusted(to) && trusted ? takeChars() : new char[CHAR_BUFFER_SIZE];
+  }
+
+  /**
+   * Returns a char array of {@link #CHAR_BUFFER_SIZE} chars, with arbitrary contents, to be passed
+   * to {@code stream}. The array is a recycled one only if {@code stream} is trusted.
+   */
+  static char[] takeChars(Object stream) {
+    return isTrusted(stream) ? takeChars() : new char[CHAR_BUFFER_SIZE];
+  }
+
+  /**
+   * Makes a buffer returned by {@link #takeChars} available to later calls on this thread, if this
+   * thread owns it. The caller must not use {@code buffer} afterwards.
+   */
+  static void recycle(char[] buffer) {
+    checkNotNull(buffer);
+    char[][] slots = CHAR_BUFFERS.get();
+    if (slots != null) {
+      for (int i = 0; i < SLOTS; i++) {
+        if (slots[i] == buffer) {
+          slots[SLOTS + i] = buffer;
+          return;
+        }
+      }
+    }
+  }
+
+  /** Returns whether a recycled buffer can be passed to {@code object}. */
+  @VisibleForTesting
+  static boolean isTrusted(Object object) {
+    return TRUSTED_CLASSES.contains(object.getClass());
+  }
+
+  /** Returns the number of buffers that were taken from a thread's slots instead of allocated. */
+  static long hitCount() {
+    return hits.get();
+  }
+
+  /**
+   * Returns the number of buffers that were allocated because all of a thread's buffers were taken,
+   * or it didn't own them yet.
+   */
+  static long missCount() {
+    return misses.get();
+  }
+
+  /**
+   * Turns recycling on or off. Turning it off doesn't drop the buffers that threads already keep,
+   * but they are no longer used.
+   */
+  @VisibleForTesting
+  static void setEnabled(boolean enabled) {
+    ScratchBuffers.enabled = enabled;
+  }
+
+  @VisibleForTesting
+  static boolean isEnabled() {
+    return enabled;
+  }
+
+  /** Drops the buffers that the current thread owns, taken or not. */
+  @VisibleForTesting
+  static void clearThreadBuffers() {
+    BYTE_BUFFERS.remove();
+    CHAR_BUFFERS.remove();
+  }
+}
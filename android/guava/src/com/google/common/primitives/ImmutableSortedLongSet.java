@@ -0,0 +1,261 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.primitives;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.base.Preconditions;
+import com.google.errorprone.annotations.Immutable;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import javax.annotation.CheckForNull;
+
+/**
+ * An immutable set of distinct {@code long} values, kept in ascending order and laid out for fast
+ * membership tests.
+ *
+ * <p>In addition to the sorted values, each instance holds a copy of them in a static B-tree
+ * layout: blocks of {@value #BLOCK_SIZE} values, one cache line each, stored in breadth-first
+ * order. {@link #contains} descends that tree comparing against a whole block at a time without
+ * branching, so a lookup touches about {@code log(n) / log(9)} cache lines where a binary search
+ * over the sorted values touches about {@code log2(n)}. For sets of more than a few thousand values
+ * this makes lookups faster than {@link Arrays#binarySearch} over the same values, and much faster
+ * than lookups in an {@code ImmutableSortedSet} of boxed values.
+ *
+ * <p>The price is memory: the set occupies about twice the footprint of a {@code long[]} of its
+ * values, and construction sorts its input.
+ *
+ * @since NEXT
+ */
+@Beta
+@GwtIncompatible
+@Immutable
+@ElementTypesAreNonnullByDefault
+public final class ImmutableSortedLongSet implements Serializable {
+  /** The number of values in one block of the search tree; 8 longs fill a 64-byte cache line. */
+  static final int BLOCK_SIZE = 8;
+
+  private static final ImmutableSortedLongSet EMPTY = new ImmutableSortedLongSet(new long[0]);
+
+  /** Returns the empty set. */
+  public static ImmutableSortedLongSet of() {
+    return EMPTY;
+  }
+
+  /** Returns an immutable set containing the given values, in ascending order. */
+  public static ImmutableSortedLongSet of(long... values) {
+    return copyOf(values);
+  }
+
+  /** Returns an immutable set containing the given values, in ascending order. */
+  public static ImmutableSortedLongSet copyOf(long[] values) {
+    return fromSortedWithDuplicates(sorted(values.clone()));
+  }
+
+  /** Returns an immutable set containing the given values, in ascending order. */
+  public static ImmutableSortedLongSet copyOf(Collection<Long> values) {
+    return fromSortedWithDuplicates(sorted(Longs.toArray(values)));
+  }
+
+  /** Returns an immutable set containing the distinct values of {@code array}. */
+  public static ImmutableSortedLongSet copyOf(ImmutableLongArray array) {
+    return fromSortedWithDuplicates(sorted(array.toArray()));
+  }
+
+  private static long[] sorted(long[] values) {
+    Arrays.sort(values);
+    return values;
+  }
+
+  /** Creates a set from {@code values}, which is sorted and may be modified. */
+  private static ImmutableSortedLongSet fromSortedWithDuplicates(long[] values) {
+    if (values.length == 0) {
+      return EMPTY;
+    }
+    int distinct = 1;
+    for (int i = 1; i < values.length; i++) {
+      if (values[i] != values[distinct - 1]) {
+        values[distinct++] = values[i];
+      }
+    }
+    return new ImmutableSortedLongSet(
+        distinct < values.length ? Arrays.copyOf(values, distinct) : values);
+  }
+
+  /** The values in ascending order, without duplicates. */
+  @SuppressWarnings("Immutable")
+  private final long[] array;
+
+  /**
+   * The same values as a static B-tree: block {@code k} occupies {@code tree[k * BLOCK_SIZE]}
+   * through {@code tree[(k + 1) * BLOCK_SIZE - 1]} in ascending order, and its children are
+   * blocks {@code k * (BLOCK_SIZE + 1) + 1} through {@code k * (BLOCK_SIZE + 1) + BLOCK_SIZE + 1}.
+   * The slots of the last block beyond {@link #size} hold {@link Long#MAX_VALUE}.
+   */
+  @SuppressWarnings("Immutable")
+  private final transient long[] tree;
+
+  private ImmutableSortedLongSet(long[] array) {
+    this.array = array;
+    int blockCount = (array.length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    this.tree = new long[blockCount * BLOCK_SIZE];
+    fillTree(array, tree, blockCount, 0, 0);
+  }
+
+  /**
+   * Fills block {@code block} and its descendants by an in-order traversal, taking values from
+   * {@code array} starting at {@code next}. Returns the index of the next unused value.
+   */
+  private static int fillTree(long[] array, long[] tree, int blockCount, int block, int next) {
+    if (block >= blockCount) {
+      return next;
+    }
+    long firstChild = (long) block * (BLOCK_SIZE + 1) + 1;
+    for (int i = 0; i < BLOCK_SIZE; i++) {
+      next = fillTree(array, tree, blockCount, childIndex(firstChild + i, blockCount), next);
+      tree[block * BLOCK_SIZE + i] = (next < array.length) ? array[next++] : Long.MAX_VALUE;
+    }
+    int lastChild = childIndex(firstChild + BLOCK_SIZE, blockCount);
+    return fillTree(array, tree, blockCount, lastChild, next);
+  }
+
+  /** Returns {@code child} as an {@code int}, or {@code blockCount} if there is no such block. */
+  private static int childIndex(long child, int blockCount) {
+    return (int) Math.min(child, blockCount);
+  }
+
+  /** Returns the number of values in this set. */
+  public int size() {
+    return array.length;
+  }
+
+  /** Returns {@code true} if this set contains no values. */
+  public boolean isEmpty() {
+    return array.length == 0;
+  }
+
+  /** Returns {@code true} if this set contains {@code value}. */
+  public boolean contains(long value) {
+    if (value == Long.MAX_VALUE) {
+      // Long.MAX_VALUE also pads the tree, so the search below can't tell whether it's present.
+      return array.length > 0 && array[array.length - 1] == Long.MAX_VALUE;
+    }
+    long[] tree = this.tree;
+    int blockCount = tree.length / BLOCK_SIZE;
+    int block = 0;
+    while (block < blockCount) {
+      int base = block * BLOCK_SIZE;
+      int lessThan = 0;
+      for (int i = 0; i < BLOCK_SIZE; i++) {
+        lessThan += (tree[base + i] < value) ? 1 : 0;
+      }
+      if (lessThan < BLOCK_SIZE && tree[base + lessThan] == value) {
+        return true;
+      }
+      block = childIndex((long) block * (BLOCK_SIZE + 1) + lessThan + 1, blockCount);
+    }
+    return false;
+  }
+
+  /**
+   * Returns the {@code index}th smallest value in this set.
+   *
+   * @throws IndexOutOfBoundsException if {@code index} is negative, or greater than or equal to
+   *     {@link #size}
+   */
+  public long get(int index) {
+    Preconditions.checkElementIndex(index, array.length);
+    return array[index];
+  }
+
+  /**
+   * Returns the index of {@code value} in ascending order, that is, the number of smaller values
+   * in this set, or {@code -1} if {@code value} is not present.
+   */
+  public int indexOf(long value) {
+    int index = Arrays.binarySearch(array, value);
+    return (index >= 0) ? index : -1;
+  }
+
+  /**
+   * Returns the smallest value in this set.
+   *
+   * @throws NoSuchElementException if this set is empty
+   */
+  public long first() {
+    if (array.length == 0) {
+      throw new NoSuchElementException();
+    }
+    return array[0];
+  }
+
+  /**
+   * Returns the largest value in this set.
+   *
+   * @throws NoSuchElementException if this set is empty
+   */
+  public long last() {
+    if (array.length == 0) {
+      throw new NoSuchElementException();
+    }
+    return array[array.length - 1];
+  }
+
+  /** Returns a new, mutable copy of this set's values in ascending order. */
+  public long[] toArray() {
+    return array.clone();
+  }
+
+  /**
+   * Returns {@code true} if {@code object} is an {@code ImmutableSortedLongSet} containing the same
+   * values as this one.
+   */
+  @Override
+  public boolean equals(@CheckForNull Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (!(object instanceof ImmutableSortedLongSet)) {
+      return false;
+    }
+    return Arrays.equals(array, ((ImmutableSortedLongSet) object).array);
+  }
+
+  /** Returns an unspecified hash code for the contents of this set. */
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(array);
+  }
+
+  /**
+   * Returns a string representation of this set's values in ascending order, for example {@code
+   * "[1, 2, 3]"}.
+   */
+  @Override
+  public String toString() {
+    return Arrays.toString(array);
+  }
+
+  Object readResolve() {
+    // The search tree is transient, so rebuild it from the sorted values.
+    return isEmpty() ? EMPTY : new ImmutableSortedLongSet(array);
+  }
+
+  private static final long serialVersionUID = 0;
+}
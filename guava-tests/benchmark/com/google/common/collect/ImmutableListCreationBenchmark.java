@@ -60,6 +60,20 @@ public class ImmutableListCreationBenchmark {
     return dummy;
   }
 
+  @Benchmark
+  int builderAddAllArrayList(int reps) {
+    int size = this.size;
+    int dummy = 0;
+    for (int rep = 0; rep < reps; rep++) {
+      List<Object> list = Lists.newArrayListWithCapacity(size);
+      for (int i = 0; i < size; i++) {
+        list.add(OBJECT);
+      }
+      dummy += ImmutableList.builder().addAll(list).build().size();
+    }
+    return dummy;
+  }
+
   @Benchmark
   int copyArrayList(int reps) {
     int size = this.size;
@@ -21,6 +21,7 @@ import com.google.caliper.Benchmark;
 import com.google.caliper.Param;
 import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 
 /**
  * Tests the speed of iteration of different iteration methods for collections.
@@ -177,4 +178,49 @@ public class IteratorBenchmark {
     }
     return sum;
   }
+
+  /*
+   * The benchmarks below consume the same five-stage FluentIterable chain (transform, filter,
+   * transform, filter, limit) once through nested iterators and once through the fused forEach /
+   * toList paths.
+   */
+
+  private FluentIterable<Integer> fiveStageChain() {
+    return FluentIterable.from(arrayList)
+        .transform(Object::hashCode)
+        .filter(h -> (h & 1) == 0)
+        .transform(h -> h >>> 1)
+        .filter(h -> h != 42)
+        .limit(size - size / 8);
+  }
+
+  @Benchmark
+  int fluentIterableFiveStageIterator(int reps) {
+    int sum = 0;
+    for (int i = 0; i < reps; i++) {
+      for (Integer value : fiveStageChain()) {
+        sum += value;
+      }
+    }
+    return sum;
+  }
+
+  @Benchmark
+  int fluentIterableFiveStageForEach(int reps) {
+    int[] sumHolder = {0};
+    for (int i = 0; i < reps; i++) {
+      fiveStageChain().forEach(value -> sumHolder[0] += value);
+    }
+    return sumHolder[0];
+  }
+
+  @Benchmark
+  int fluentIterableFiveStageToList(int reps) {
+    int sum = 0;
+    for (int i = 0; i < reps; i++) {
+      List<Integer> list = fiveStageChain().toList();
+      sum += list.size();
+    }
+    return sum;
+  }
 }
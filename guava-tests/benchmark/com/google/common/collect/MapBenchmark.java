@@ -142,6 +142,16 @@ public class MapBenchmark {
         return builder.build();
       }
     },
+    ImmutablePerfectHash {
+      @Override
+      Map<Element, Element> create(Collection<Element> keys) {
+        ImmutableMap.Builder<Element, Element> builder = ImmutableMap.builder();
+        for (Element element : keys) {
+          builder.put(element, element);
+        }
+        return builder.buildPerfectHash();
+      }
+    },
     ImmutableSorted {
       @Override
       Map<Element, Element> create(Collection<Element> keys) {
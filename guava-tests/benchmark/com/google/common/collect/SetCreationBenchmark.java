@@ -20,6 +20,7 @@ import com.google.caliper.BeforeExperiment;
 import com.google.caliper.Benchmark;
 import com.google.caliper.Param;
 import com.google.common.collect.BenchmarkHelpers.SetImpl;
+import com.google.common.collect.CollectionBenchmarkSampleData.Element;
 
 /**
  * This is meant to be used with {@code --measureMemory} to measure the memory usage of various
@@ -43,10 +44,12 @@ public class SetCreationBenchmark {
 
   // the following must be set during setUp
   private CollectionBenchmarkSampleData sampleData;
+  private ImmutableSet<Element> keySetView;
 
   @BeforeExperiment
   void setUp() {
     sampleData = new CollectionBenchmarkSampleData(true, random, 0.8, size);
+    keySetView = Maps.toMap(sampleData.getValuesInSet(), e -> e).keySet();
   }
 
   @Benchmark
@@ -57,4 +60,25 @@ public class SetCreationBenchmark {
     }
     return x;
   }
+
+  /** Copies an ImmutableMap key set, whose elements are already known to be distinct. */
+  @Benchmark
+  int copyOfKeySetView(int reps) {
+    int x = 0;
+    for (int i = 0; i < reps; i++) {
+      x ^= System.identityHashCode(ImmutableSet.copyOf(keySetView));
+    }
+    return x;
+  }
+
+  @Benchmark
+  int builderAddAll(int reps) {
+    int x = 0;
+    for (int i = 0; i < reps; i++) {
+      ImmutableSet<Element> set =
+          ImmutableSet.<Element>builder().addAll(sampleData.getValuesInSet()).build();
+      x ^= System.identityHashCode(set);
+    }
+    return x;
+  }
 }
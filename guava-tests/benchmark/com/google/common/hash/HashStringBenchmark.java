@@ -78,10 +78,10 @@ public class HashStringBenchmark {
   @Param({"0x80", "0x90", "0x100", "0x800", "0x10000", "0x10ffff"})
   MaxCodePoint maxCodePoint;
 
-  @Param({"16384"})
+  @Param({"16", "16384"})
   int charCount;
 
-  @Param({"MURMUR3_32", "MURMUR3_128", "SHA1"})
+  @Param({"MURMUR3_32", "MURMUR3_128", "SHA1", "XXHASH_64", "XXH3_64", "XXH3_128", "WYHASH"})
   HashFunctionEnum hashFunctionEnum;
 
   private String[] strings;
@@ -14,14 +14,20 @@
 
 package com.google.common.io;
 
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
 import com.google.caliper.BeforeExperiment;
 import com.google.caliper.Benchmark;
 import com.google.caliper.Param;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.Random;
 
 /** Benchmark for {@code BaseEncoding} performance. */
@@ -50,6 +56,8 @@ public class BaseEncodingBenchmark {
 
   private final byte[][] encodingInputs = new byte[INPUTS_COUNT][];
   private final String[] decodingInputs = new String[INPUTS_COUNT];
+  private final byte[][] decodingInputBytes = new byte[INPUTS_COUNT][];
+  private ByteBuffer target;
 
   @BeforeExperiment
   public void setUp() {
@@ -58,7 +66,9 @@ public class BaseEncodingBenchmark {
       encodingInputs[i] = new byte[n];
       rng.nextBytes(encodingInputs[i]);
       decodingInputs[i] = encoding.encoding.encode(encodingInputs[i]);
+      decodingInputBytes[i] = decodingInputs[i].getBytes(US_ASCII);
     }
+    target = ByteBuffer.allocate(decodingInputs[0].length());
   }
 
   @Benchmark
@@ -92,6 +102,42 @@ public class BaseEncodingBenchmark {
     return tmp;
   }
 
+  @Benchmark
+  public int encodeByteBuffer(int reps) {
+    int tmp = 0;
+    for (int i = 0; i < reps; i++) {
+      target.clear();
+      encoding.encoding.encode(ByteBuffer.wrap(encodingInputs[i & INPUTS_MASK]), target);
+      tmp += target.position();
+    }
+    return tmp;
+  }
+
+  @Benchmark
+  public int decodeByteBuffer(int reps) {
+    int tmp = 0;
+    for (int i = 0; i < reps; i++) {
+      target.clear();
+      encoding.encoding.decode(ByteBuffer.wrap(decodingInputBytes[i & INPUTS_MASK]), target);
+      tmp += target.position();
+    }
+    return tmp;
+  }
+
+  @Benchmark
+  public int encodingChannel(int reps) throws IOException {
+    int tmp = 0;
+    for (int i = 0; i < reps; i++) {
+      ByteArrayOutputStream target = new ByteArrayOutputStream(2 * n);
+      WritableByteChannel encodingChannel =
+          encoding.encoding.encodingChannel(Channels.newChannel(target));
+      encodingChannel.write(ByteBuffer.wrap(encodingInputs[i & INPUTS_MASK]));
+      encodingChannel.close();
+      tmp += target.size();
+    }
+    return tmp;
+  }
+
   @Benchmark
   public int decodingStream(int reps) throws IOException {
     int tmp = 0;
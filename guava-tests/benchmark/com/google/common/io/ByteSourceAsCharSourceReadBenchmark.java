@@ -26,6 +26,9 @@ import java.util.Random;
 
 /**
  * Benchmarks for various potential implementations of {@code ByteSource.asCharSource(...).read()}.
+ *
+ * <p>Run with {@code -i allocation} to compare how much is allocated with and without {@link
+ * ScratchBuffers recycled buffers}.
  */
 // These benchmarks allocate a lot of data so use a large heap
 @VmOptions({"-Xms12g", "-Xmx12g", "-d64"})
@@ -105,11 +108,15 @@ public class ByteSourceAsCharSourceReadBenchmark {
   @Param({"10", "1024", "1048576"})
   int size;
 
+  @Param({"true", "false"})
+  boolean recycleBuffers;
+
   Charset charset;
   ByteSource data;
 
   @BeforeExperiment
   public void setUp() {
+    ScratchBuffers.setEnabled(recycleBuffers);
     charset = Charset.forName(charsetName);
     StringBuilder sb = new StringBuilder();
     Random random = new Random(0xdeadbeef); // for unpredictable but reproducible behavior
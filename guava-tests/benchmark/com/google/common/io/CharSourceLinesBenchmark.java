@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.caliper.BeforeExperiment;
+import com.google.caliper.Benchmark;
+import com.google.caliper.Param;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmarks for reading the lines of a {@code ByteSource.asCharSource(UTF_8)}, comparing the
+ * byte-level line reader to decoding everything through a {@code Reader} first.
+ */
+public class CharSourceLinesBenchmark {
+  enum Strategy {
+    BYTE_LINE_READER {
+      @Override
+      List<String> readLines(ByteSource source) throws IOException {
+        return source.asCharSource(UTF_8).readLines();
+      }
+    },
+    DECODING_READER {
+      @Override
+      List<String> readLines(ByteSource source) throws IOException {
+        try (InputStreamReader reader = new InputStreamReader(source.openStream(), UTF_8)) {
+          return CharStreams.readLines(reader);
+        }
+      }
+    };
+
+    abstract List<String> readLines(ByteSource source) throws IOException;
+  }
+
+  @Param Strategy strategy;
+
+  @Param({"10", "100", "1000"})
+  int lineLength;
+
+  private ByteSource source;
+
+  @BeforeExperiment
+  void setUp() {
+    Random random = new Random(0xdeadbeef); // for unpredictable but reproducible behavior
+    StringBuilder sb = new StringBuilder();
+    while (sb.length() < 1 << 20) {
+      for (int i = 0; i < lineLength; i++) {
+        // [32-127) includes all printable ascii characters
+        sb.append((char) (random.nextInt(127 - 32) + 32));
+      }
+      sb.append('\n');
+    }
+    source = ByteSource.wrap(sb.toString().getBytes(UTF_8));
+  }
+
+  @Benchmark
+  int readLines(int reps) throws IOException {
+    int r = 0;
+    for (int i = 0; i < reps; i++) {
+      r += strategy.readLines(source).size();
+    }
+    return r;
+  }
+}
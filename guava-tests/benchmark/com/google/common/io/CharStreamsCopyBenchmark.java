@@ -29,6 +29,9 @@ import java.util.Random;
  *
  * <p>{@link CharStreams#copy} has type specific optimizations for various common Appendable and
  * Reader implementations, this compares the performance of the different options.
+ *
+ * <p>Run with {@code -i allocation} to compare how much is allocated with and without {@link
+ * ScratchBuffers recycled buffers}.
  */
 // These benchmarks allocate a lot of data so use a large heap
 @VmOptions({"-Xms12g", "-Xmx12g", "-d64"})
@@ -81,10 +84,14 @@ public class CharStreamsCopyBenchmark {
   @Param({"10", "1024", "1048576"})
   int size;
 
+  @Param({"true", "false"})
+  boolean recycleBuffers;
+
   String data;
 
   @BeforeExperiment
   public void setUp() {
+    ScratchBuffers.setEnabled(recycleBuffers);
     // precalculate some random strings of ascii characters.
     StringBuilder sb = new StringBuilder();
     Random random = new Random(0xdeadbeef); // for unpredictable but reproducible behavior
@@ -683,6 +683,77 @@ public class FluentIterableTest extends TestCase {
     assertEquals("[foo, bar]", limited.toString());
   }
 
+  public void testLimit_forEach() {
+    List<String> visited = Lists.newArrayList();
+    Iterable<String> iterable = Lists.newArrayList("foo", "bar", "baz", "qux");
+    List<String> collected = Lists.newArrayList();
+    FluentIterable.from(iterable)
+        .transform(
+            s -> {
+              visited.add(s);
+              return s.toUpperCase();
+            })
+        .filter(s -> !s.startsWith("BA") || s.equals("BAZ"))
+        .limit(2)
+        .forEach(collected::add);
+
+    assertThat(collected).containsExactly("FOO", "BAZ").inOrder();
+    // The element after the limit must not be pulled from upstream.
+    assertThat(visited).containsExactly("foo", "bar", "baz").inOrder();
+  }
+
+  public void testLimit_forEachZero() {
+    FluentIterable<String> iterable =
+        FluentIterable.from(Lists.newArrayList("foo"))
+            .transform(
+                s -> {
+                  throw new AssertionError();
+                });
+    iterable.limit(0).forEach(s -> fail());
+  }
+
+  public void testSkip_forEach() {
+    List<String> collected = Lists.newArrayList();
+    FluentIterable.from(ImmutableSet.of("a", "b", "c", "d", "e"))
+        .filter(s -> !s.equals("b"))
+        .skip(2)
+        .forEach(collected::add);
+    assertThat(collected).containsExactly("d", "e").inOrder();
+
+    collected.clear();
+    FluentIterable.from(Lists.newArrayList("a", "b", "c")).skip(1).forEach(collected::add);
+    assertThat(collected).containsExactly("b", "c").inOrder();
+  }
+
+  public void testConcat_forEach() {
+    List<Integer> collected = Lists.newArrayList();
+    FluentIterable.concat(asList(1, 2), ImmutableSet.of(3), fluent(4, 5).filter(i -> i > 4))
+        .forEach(collected::add);
+    assertThat(collected).containsExactly(1, 2, 3, 5).inOrder();
+
+    collected.clear();
+    FluentIterable.concat(ImmutableList.of(asList(1), asList(2, 3))).forEach(collected::add);
+    assertThat(collected).containsExactly(1, 2, 3).inOrder();
+  }
+
+  public void testToList_fusedChain() {
+    assertEquals(
+        ImmutableList.of(20, 40),
+        fluent(1, 2, 3, 4, 5, 6)
+            .filter(i -> i % 2 == 0)
+            .transform(i -> i * 10)
+            .filter(i -> i != 60)
+            .toList());
+  }
+
+  public void testToList_fusedChainNullElement() {
+    try {
+      fluent(1, null, 3).transform(i -> i).toList();
+      fail();
+    } catch (NullPointerException expected) {
+    }
+  }
+
   public void testLimit_illegalArgument() {
     try {
       FluentIterable<String> unused =
@@ -286,6 +286,18 @@ public class ImmutableBiMapTest extends TestCase {
       }
     }
 
+    @GwtIncompatible // buildPerfectHash
+    @SuppressWarnings("DoNotCall")
+    public void testBuilder_buildPerfectHashFails() {
+      ImmutableBiMap.Builder<String, Integer> builder = ImmutableBiMap.<String, Integer>builder();
+      builder.put("one", 1);
+      try {
+        builder.buildPerfectHash();
+        fail("Expected UnsupportedOperationException");
+      } catch (UnsupportedOperationException expected) {
+      }
+    }
+
     public void testBuilderPutAllWithEmptyMap() {
       ImmutableBiMap<String, Integer> map =
           new Builder<String, Integer>().putAll(Collections.<String, Integer>emptyMap()).build();
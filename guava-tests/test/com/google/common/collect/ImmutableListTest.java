@@ -702,6 +702,28 @@ public class ImmutableListTest extends TestCase {
       assertSame(builderArray, listInternalArray);
     }
 
+    @GwtIncompatible
+    public void testBuilderAddAll_adoptsCollectionArray() {
+      ImmutableList.Builder<Integer> builder = ImmutableList.builder();
+      builder.addAll(Lists.newArrayList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+      Object[] builderArray = builder.contents;
+      assertEquals(10, builderArray.length);
+      RegularImmutableList<Integer> list = (RegularImmutableList<Integer>) builder.build();
+      assertSame(builderArray, list.array);
+      builder.add(10);
+      assertNotSame(builderArray, builder.contents);
+      assertEquals(10, list.size());
+    }
+
+    @GwtIncompatible
+    public void testBuilderAddAll_keepsPresizedArray() {
+      ImmutableList.Builder<Integer> builder = ImmutableList.builderWithExpectedSize(5);
+      Object[] builderArray = builder.contents;
+      builder.addAll(Lists.newArrayList(0, 1, 2));
+      assertSame(builderArray, builder.contents);
+      assertEquals(asList(0, 1, 2), builder.build());
+    }
+
     public void testBuilderAdd_varargs() {
       ImmutableList<String> list =
           new ImmutableList.Builder<String>().add("a", "b", "a", "c").build();
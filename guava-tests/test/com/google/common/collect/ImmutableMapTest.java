@@ -116,6 +116,25 @@ public class ImmutableMapTest extends TestCase {
             .named("ImmutableMap [JDK backed]")
             .createTestSuite());
 
+    suite.addTest(
+        MapTestSuiteBuilder.using(
+                new TestStringMapGenerator() {
+                  @Override
+                  protected Map<String, String> create(Entry<String, String>[] entries) {
+                    ImmutableMap.Builder<String, String> builder = ImmutableMap.builder();
+                    builder.putAll(Arrays.asList(entries));
+                    return builder.buildPerfectHash();
+                  }
+                })
+            .withFeatures(
+                CollectionSize.ANY,
+                CollectionFeature.SERIALIZABLE_INCLUDING_VIEWS,
+                CollectionFeature.KNOWN_ORDER,
+                MapFeature.REJECTS_DUPLICATES_AT_CREATION,
+                CollectionFeature.ALLOWS_NULL_QUERIES)
+            .named("ImmutableMap [perfect hash]")
+            .createTestSuite());
+
     suite.addTest(
         MapTestSuiteBuilder.using(new ImmutableMapCopyOfGenerator())
             .withFeatures(
@@ -1271,6 +1290,16 @@ public class ImmutableMapTest extends TestCase {
           }
           return builder.buildJdkBacked();
         }
+      },
+      BUILD_PERFECT_HASH {
+        @Override
+        public Map<Object, Object> create(List<?> keys) {
+          ImmutableMap.Builder<Object, Object> builder = ImmutableMap.builder();
+          for (Object k : keys) {
+            builder.put(k, "dummy value");
+          }
+          return builder.buildPerfectHash();
+        }
       };
     }
   }
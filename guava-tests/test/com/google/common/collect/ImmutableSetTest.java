@@ -300,6 +300,55 @@ public class ImmutableSetTest extends AbstractImmutableSetTest {
     assertNotSame(sortedSet, copy);
   }
 
+  public void testCopyOf_partialView() {
+    ImmutableMap<String, Integer> map = ImmutableMap.of("a", 1, "b", 2, "c", 3);
+    ImmutableSet<String> copy = ImmutableSet.copyOf(map.keySet());
+    assertThat(copy).containsExactly("a", "b", "c").inOrder();
+    assertFalse(copy.isPartialView());
+    assertTrue(copy.contains("b"));
+    assertFalse(copy.contains("d"));
+    assertEquals(map.keySet().hashCode(), copy.hashCode());
+  }
+
+  public void testCopyOf_partialViewWithCollidingHashCodes() {
+    class Colliding {
+      final int id;
+
+      Colliding(int id) {
+        this.id = id;
+      }
+
+      @Override
+      public int hashCode() {
+        return 0;
+      }
+
+      @Override
+      public boolean equals(Object obj) {
+        return obj instanceof Colliding && ((Colliding) obj).id == id;
+      }
+    }
+    ImmutableMap.Builder<Colliding, Integer> builder = ImmutableMap.builder();
+    for (int i = 0; i < 1000; i++) {
+      builder.put(new Colliding(i), i);
+    }
+    ImmutableMap<Colliding, Integer> map = builder.build();
+    ImmutableSet<Colliding> copy = ImmutableSet.copyOf(map.keySet());
+    assertEquals(1000, copy.size());
+    assertTrue(copy.contains(new Colliding(999)));
+    assertFalse(copy.contains(new Colliding(1000)));
+    assertEquals(map.keySet().asList(), copy.asList());
+  }
+
+  public void testBuilderAddAll_presizes() {
+    ImmutableSet<Integer> set =
+        ImmutableSet.<Integer>builder()
+            .addAll(Arrays.asList(1, 2, 3, 2, 1))
+            .addAll(ImmutableSet.of(4, 3))
+            .build();
+    assertThat(set).containsExactly(1, 2, 3, 4).inOrder();
+  }
+
   public void testToImmutableSet() {
     Collector<String, ?, ImmutableSet<String>> collector = ImmutableSet.toImmutableSet();
     Equivalence<ImmutableSet<String>> equivalence =
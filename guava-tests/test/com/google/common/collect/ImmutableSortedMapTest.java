@@ -330,6 +330,17 @@ public class ImmutableSortedMapTest extends TestCase {
       }
     }
 
+    @GwtIncompatible // buildPerfectHash
+    @SuppressWarnings("DoNotCall")
+    public void testBuilder_buildPerfectHashFails() {
+      ImmutableSortedMap.Builder<String, Integer> builder = ImmutableSortedMap.naturalOrder();
+      try {
+        builder.buildPerfectHash();
+        fail("Expected UnsupportedOperationException");
+      } catch (UnsupportedOperationException expected) {
+      }
+    }
+
     public void testBuilder_withImmutableEntry() {
       ImmutableSortedMap<String, Integer> map =
           ImmutableSortedMap.<String, Integer>naturalOrder()
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Arrays.asList;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.primitives.ImmutableLongArray;
+import com.google.common.testing.EqualsTester;
+import com.google.common.testing.NullPointerTester;
+import com.google.common.testing.SerializableTester;
+import java.util.Map;
+import junit.framework.TestCase;
+
+/** Tests for {@link LongArrayTable}. */
+@GwtIncompatible
+public class LongArrayTableTest extends TestCase {
+
+  private static LongArrayTable<String, Integer> create() {
+    LongArrayTable<String, Integer> table =
+        LongArrayTable.create(asList("foo", "bar", "cat"), asList(1, 2));
+    table.put("foo", 1, 1L);
+    table.put("bar", 2, -2L);
+    return table;
+  }
+
+  public void testCreate_filledWithZero() {
+    LongArrayTable<String, Integer> table =
+        LongArrayTable.create(asList("foo", "bar"), asList(1, 2, 3));
+    assertEquals(6, table.size());
+    assertThat(table.values()).containsExactly(0L, 0L, 0L, 0L, 0L, 0L);
+  }
+
+  public void testCreateDuplicateRows() {
+    try {
+      LongArrayTable.create(asList("foo", "bar", "foo"), asList(1, 2, 3));
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testCreateMissingColumns() {
+    try {
+      LongArrayTable.create(asList("foo"), ImmutableList.<Integer>of());
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testGetAndPut() {
+    LongArrayTable<String, Integer> table = create();
+    assertEquals((Long) 1L, table.get("foo", 1));
+    assertEquals((Long) 0L, table.get("cat", 2));
+    assertNull(table.get("dog", 1));
+    assertNull(table.get("foo", 3));
+    assertEquals((Long) 1L, table.put("foo", 1, 4L));
+    assertEquals(4L, table.at(0, 0));
+  }
+
+  public void testPutIllegal() {
+    LongArrayTable<String, Integer> table = create();
+    try {
+      table.put("dog", 1, 1L);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      table.put("foo", 3, 1L);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testAtAndSet() {
+    LongArrayTable<String, Integer> table = create();
+    assertEquals(-2L, table.at(1, 1));
+    assertEquals(-2L, table.set(1, 1, 7L));
+    assertEquals((Long) 7L, table.get("bar", 2));
+    try {
+      table.at(3, 0);
+      fail();
+    } catch (IndexOutOfBoundsException expected) {
+    }
+    try {
+      table.set(0, 2, 1L);
+      fail();
+    } catch (IndexOutOfBoundsException expected) {
+    }
+  }
+
+  public void testFillAndApply() {
+    LongArrayTable<String, Integer> table = create();
+    table.fill(2L);
+    assertThat(table.values()).containsExactly(2L, 2L, 2L, 2L, 2L, 2L);
+    table.fillColumn(1, 3L);
+    table.apply(v -> v * 10);
+    assertThat(table.values()).containsExactly(20L, 30L, 20L, 30L, 20L, 30L).inOrder();
+    table.applyToColumn(0, v -> -v);
+    assertThat(table.column(1)).containsExactly("foo", -20L, "bar", -20L, "cat", -20L);
+    assertThat(table.column(2)).containsExactly("foo", 30L, "bar", 30L, "cat", 30L);
+  }
+
+  public void testColumnValues() {
+    LongArrayTable<String, Integer> table = create();
+    ImmutableLongArray column = table.columnValues(2);
+    assertEquals(ImmutableLongArray.of(0L, -2L, 0L), column);
+    table.put("foo", 2, 9L);
+    assertEquals(ImmutableLongArray.of(0L, -2L, 0L), column);
+    assertEquals(ImmutableLongArray.of(9L, -2L, 0L), table.columnValuesAt(1));
+    try {
+      table.columnValues(3);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testToArray() {
+    LongArrayTable<String, Integer> table = create();
+    long[][] array = table.toArray();
+    assertEquals(3, array.length);
+    assertEquals(1L, array[0][0]);
+    assertEquals(-2L, array[1][1]);
+    array[0][0] = 8L;
+    assertEquals(1L, table.at(0, 0));
+  }
+
+  public void testRowAndColumnViews() {
+    LongArrayTable<String, Integer> table = create();
+    Map<Integer, Long> row = table.row("bar");
+    assertThat(row).containsExactly(1, 0L, 2, -2L).inOrder();
+    row.put(1, 5L);
+    assertEquals(5L, table.at(1, 0));
+    Map<String, Long> column = table.column(1);
+    column.put("cat", 6L);
+    assertEquals(6L, table.at(2, 0));
+    assertTrue(table.row("dog").isEmpty());
+    try {
+      row.put(1, null);
+      fail();
+    } catch (NullPointerException expected) {
+    }
+    try {
+      row.remove(1);
+      fail();
+    } catch (UnsupportedOperationException expected) {
+    }
+    assertThat(table.rowMap().keySet()).containsExactly("foo", "bar", "cat").inOrder();
+    assertThat(table.columnMap().get(2)).containsExactly("foo", 0L, "bar", -2L, "cat", 0L);
+  }
+
+  public void testContainsValue() {
+    LongArrayTable<String, Integer> table = create();
+    assertTrue(table.containsValue(1L));
+    assertTrue(table.containsValue(0L));
+    assertFalse(table.containsValue(3L));
+    assertFalse(table.containsValue(1));
+    assertFalse(table.containsValue(null));
+  }
+
+  public void testEquals() {
+    LongArrayTable<String, Integer> table = create();
+    Table<String, Integer, Long> hashCopy = HashBasedTable.create(table);
+    ArrayTable<String, Integer, Long> arrayCopy = ArrayTable.create(table);
+    LongArrayTable<String, Integer> other = create();
+    other.set(0, 0, 0L);
+    new EqualsTester()
+        .addEqualityGroup(table, hashCopy, arrayCopy, LongArrayTable.create(table))
+        .addEqualityGroup(other)
+        .testEquals();
+  }
+
+  public void testCreateCopy() {
+    LongArrayTable<String, Integer> table = create();
+    LongArrayTable<String, Integer> copy = LongArrayTable.create(table);
+    table.fill(1L);
+    assertEquals(1L, copy.at(0, 0));
+    LongArrayTable<String, Integer> fromHash =
+        LongArrayTable.create(HashBasedTable.create(create()));
+    assertEquals(create(), fromHash);
+  }
+
+  public void testUnsupported() {
+    LongArrayTable<String, Integer> table = create();
+    try {
+      table.clear();
+      fail();
+    } catch (UnsupportedOperationException expected) {
+    }
+    try {
+      table.remove("foo", 1);
+      fail();
+    } catch (UnsupportedOperationException expected) {
+    }
+  }
+
+  public void testSerialization() {
+    LongArrayTable<String, Integer> table = create();
+    SerializableTester.reserializeAndAssert(table);
+  }
+
+  public void testNullPointers() {
+    new NullPointerTester().testAllPublicStaticMethods(LongArrayTable.class);
+    new NullPointerTester().testAllPublicInstanceMethods(create());
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.collect;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.testing.SerializableTester;
+import junit.framework.TestCase;
+
+/** Tests for {@link PerfectHashImmutableMap}. */
+@GwtIncompatible
+public class PerfectHashImmutableMapTest extends TestCase {
+
+  private static final class CollidingKey {
+    final int value;
+
+    CollidingKey(int value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof CollidingKey && ((CollidingKey) o).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+      return value / 2;
+    }
+  }
+
+  private static ImmutableMap<Integer, String> build(int size) {
+    ImmutableMap.Builder<Integer, String> builder = ImmutableMap.builder();
+    for (int i = 0; i < size; i++) {
+      builder.put(i * 7919, "v" + i);
+    }
+    return builder.buildPerfectHash();
+  }
+
+  public void testLookups() {
+    for (int size : new int[] {2, 3, 10, 100, 1000, 50_000}) {
+      ImmutableMap<Integer, String> map = build(size);
+      assertThat(map).isInstanceOf(PerfectHashImmutableMap.class);
+      assertEquals(size, map.size());
+      for (int i = 0; i < size; i++) {
+        assertEquals("v" + i, map.get(i * 7919));
+        assertNull(map.get(i * 7919 + 1));
+      }
+      assertNull(map.get("not an integer"));
+      assertNull(map.get(null));
+    }
+  }
+
+  public void testIterationOrder() {
+    ImmutableMap<String, Integer> map =
+        ImmutableMap.<String, Integer>builder()
+            .put("one", 1)
+            .put("two", 2)
+            .put("three", 3)
+            .put("four", 4)
+            .put("five", 5)
+            .buildPerfectHash();
+    assertThat(map.keySet()).containsExactly("one", "two", "three", "four", "five").inOrder();
+    assertThat(map.values()).containsExactly(1, 2, 3, 4, 5).inOrder();
+    assertThat(map.entrySet().asList().get(2)).isEqualTo(Maps.immutableEntry("three", 3));
+    assertEquals(ImmutableMap.of("one", 1, "two", 2, "three", 3, "four", 4, "five", 5), map);
+  }
+
+  public void testOrderEntriesByValue() {
+    ImmutableMap<String, Integer> map =
+        ImmutableMap.<String, Integer>builder()
+            .orderEntriesByValue(Ordering.natural())
+            .put("three", 3)
+            .put("one", 1)
+            .put("two", 2)
+            .buildPerfectHash();
+    assertThat(map.keySet()).containsExactly("one", "two", "three").inOrder();
+  }
+
+  public void testDuplicateKeys() {
+    ImmutableMap.Builder<String, Integer> builder =
+        ImmutableMap.<String, Integer>builder().put("one", 1).put("two", 2).put("one", 3);
+    try {
+      builder.buildPerfectHash();
+      fail();
+    } catch (IllegalArgumentException expected) {
+      assertThat(expected).hasMessageThat().contains("one=1");
+    }
+  }
+
+  public void testCollidingHashCodesFallBack() {
+    ImmutableMap.Builder<CollidingKey, Integer> builder = ImmutableMap.builder();
+    for (int i = 0; i < 10; i++) {
+      builder.put(new CollidingKey(i), i);
+    }
+    ImmutableMap<CollidingKey, Integer> map = builder.buildPerfectHash();
+    assertThat(map).isInstanceOf(RegularImmutableMap.class);
+    for (int i = 0; i < 10; i++) {
+      assertEquals((Integer) i, map.get(new CollidingKey(i)));
+    }
+  }
+
+  public void testCollidingHashCodesDuplicateKeys() {
+    ImmutableMap.Builder<CollidingKey, Integer> builder = ImmutableMap.builder();
+    builder.put(new CollidingKey(4), 1).put(new CollidingKey(5), 2).put(new CollidingKey(4), 3);
+    try {
+      builder.buildPerfectHash();
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testBuilderReuse() {
+    ImmutableMap.Builder<String, Integer> builder =
+        ImmutableMap.<String, Integer>builder().put("one", 1).put("two", 2);
+    ImmutableMap<String, Integer> first = builder.buildPerfectHash();
+    builder.put("three", 3);
+    ImmutableMap<String, Integer> second = builder.buildPerfectHash();
+    assertEquals(ImmutableMap.of("one", 1, "two", 2), first);
+    assertEquals(ImmutableMap.of("one", 1, "two", 2, "three", 3), second);
+  }
+
+  public void testSerialization() {
+    ImmutableMap<Integer, String> map = build(100);
+    // Like other special-purpose ImmutableMap implementations, this one deserializes as a
+    // general-purpose ImmutableMap.
+    assertEquals(map, SerializableTester.reserialize(map));
+  }
+}
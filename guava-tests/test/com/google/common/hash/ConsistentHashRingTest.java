@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.HashMap;
+import java.util.Map;
+import com.google.common.testing.NullPointerTester;
+import junit.framework.TestCase;
+
+/** Tests for {@link ConsistentHashRing}. */
+public class ConsistentHashRingTest extends TestCase {
+  private static final int KEYS = 100_000;
+
+  public void testEmpty() {
+    ConsistentHashRing<Integer, String> ring = newRing();
+    assertEquals(0, ring.size());
+    try {
+      ring.get(1);
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+    try {
+      ring.acquire(1);
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+  }
+
+  public void testAddAndRemove() {
+    ConsistentHashRing<Integer, String> ring = newRing();
+    assertTrue(ring.add("a"));
+    assertFalse(ring.add("a", 2));
+    assertTrue(ring.add("b"));
+    assertThat(ring.nodes()).containsExactly("a", 2.0, "b", 1.0).inOrder();
+    assertTrue(ring.remove("a"));
+    assertFalse(ring.remove("a"));
+    assertThat(ring.nodes()).containsExactly("b", 1.0);
+    for (int key = 0; key < 100; key++) {
+      assertEquals("b", ring.get(key));
+    }
+  }
+
+  public void testInvalidArguments() {
+    ConsistentHashRing<Integer, String> ring = newRing();
+    for (double weight : new double[] {0, -1, Double.NaN, Double.POSITIVE_INFINITY, 1e9}) {
+      try {
+        ring.add("a", weight);
+        fail();
+      } catch (IllegalArgumentException expected) {
+      }
+    }
+    try {
+      ConsistentHashRing.create(
+          Hashing.murmur3_128(), Funnels.integerFunnel(), Funnels.stringFunnel(UTF_8), 100, 0.9);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testDistribution() {
+    ConsistentHashRing<Integer, String> ring = newRing();
+    ring.add("light", 1);
+    ring.add("heavy", 3);
+    Map<String, Integer> counts = new HashMap<>();
+    for (int key = 0; key < KEYS; key++) {
+      counts.merge(ring.get(key), 1, Integer::sum);
+    }
+    assertThat((double) counts.get("heavy") / KEYS).isWithin(0.05).of(0.75);
+  }
+
+  public void testWeightChangeMatchesFreshRing() {
+    ConsistentHashRing<Integer, String> changed = newRing();
+    ConsistentHashRing<Integer, String> fresh = newRing();
+    for (int i = 0; i < 5; i++) {
+      changed.add("node" + i);
+      fresh.add("node" + i, (i == 2) ? 2.5 : 1);
+    }
+    changed.add("temporary");
+    changed.add("node2", 2.5);
+    changed.remove("temporary");
+    assertThat(assignments(changed)).isEqualTo(assignments(fresh));
+  }
+
+  public void testRemoveOnlyMovesKeysOfRemovedNode() {
+    ConsistentHashRing<Integer, String> ring = newRing();
+    for (int i = 0; i < 10; i++) {
+      ring.add("node" + i);
+    }
+    String[] before = assignments(ring);
+    ring.remove("node3");
+    String[] after = assignments(ring);
+    for (int key = 0; key < KEYS; key++) {
+      if (!before[key].equals("node3")) {
+        assertEquals(before[key], after[key]);
+      }
+    }
+  }
+
+  public void testAcquireBoundsLoads() {
+    ConsistentHashRing<Integer, String> ring = newRing();
+    for (int i = 0; i < 10; i++) {
+      ring.add("node" + i);
+    }
+    // The worst case for an unbounded ring: every key hashes to the same node.
+    for (int i = 0; i < 1000; i++) {
+      ring.acquire(42);
+    }
+    for (int i = 0; i < 10; i++) {
+      assertThat(ring.load("node" + i)).isAtMost((long) Math.ceil(1.25 * 1000 / 10));
+    }
+    assertEquals(125, ring.load(ring.get(42)));
+  }
+
+  public void testAcquireUsesHashedNodeWhenItHasRoom() {
+    ConsistentHashRing<Integer, String> ring = newRing();
+    for (int i = 0; i < 10; i++) {
+      ring.add("node" + i);
+    }
+    for (int key = 0; key < 100; key++) {
+      String node = ring.acquire(key);
+      assertEquals(ring.get(key), node);
+      ring.release(node);
+    }
+  }
+
+  public void testRelease() {
+    ConsistentHashRing<Integer, String> ring = newRing();
+    ring.add("a");
+    assertEquals("a", ring.acquire(1));
+    assertEquals("a", ring.acquire(2));
+    assertEquals(2, ring.load("a"));
+    assertTrue(ring.release("a"));
+    assertEquals(1, ring.load("a"));
+    assertTrue(ring.release("a"));
+    assertFalse(ring.release("a"));
+    assertFalse(ring.release("b"));
+    assertEquals(0, ring.load("b"));
+  }
+
+  public void testRemoveForgetsLoad() {
+    ConsistentHashRing<Integer, String> ring = newRing();
+    ring.add("a");
+    ring.add("b");
+    for (int key = 0; key < 100; key++) {
+      ring.acquire(key);
+    }
+    long loadOfB = ring.load("b");
+    ring.remove("a");
+    assertEquals(loadOfB, ring.load("b"));
+    assertEquals(0, ring.load("a"));
+    assertFalse(ring.release("a"));
+  }
+
+  public void testNullPointers() {
+    NullPointerTester tester = new NullPointerTester();
+    ConsistentHashRing<Integer, String> ring = newRing();
+    ring.add("a");
+    tester.testAllPublicInstanceMethods(ring);
+    tester.testAllPublicStaticMethods(ConsistentHashRing.class);
+  }
+
+  private static ConsistentHashRing<Integer, String> newRing() {
+    return ConsistentHashRing.create(
+        Hashing.murmur3_128(), Funnels.integerFunnel(), Funnels.stringFunnel(UTF_8));
+  }
+
+  private static String[] assignments(ConsistentHashRing<Integer, String> ring) {
+    String[] result = new String[KEYS];
+    for (int key = 0; key < KEYS; key++) {
+      result[key] = ring.get(key);
+    }
+    return result;
+  }
+}
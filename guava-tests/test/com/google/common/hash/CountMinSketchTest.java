@@ -0,0 +1,239 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.testing.EqualsTester;
+import com.google.common.testing.NullPointerTester;
+import com.google.common.testing.SerializableTester;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import junit.framework.TestCase;
+
+/** Tests for {@link CountMinSketch}. */
+public class CountMinSketchTest extends TestCase {
+
+  /** Adds a Zipf-like stream where element {@code i} occurs about {@code 10000 / (i + 1)} times. */
+  private static long[] addSkewedStream(CountMinSketch<Integer> sketch, int distinct) {
+    long[] trueCounts = new long[distinct];
+    for (int i = 0; i < distinct; i++) {
+      trueCounts[i] = 10_000 / (i + 1) + 1;
+      sketch.add(i, trueCounts[i]);
+    }
+    return trueCounts;
+  }
+
+  public void testNeverUndercounts() {
+    CountMinSketch<Integer> sketch = CountMinSketch.create(Funnels.integerFunnel(), 0.001, 0.01);
+    long[] trueCounts = addSkewedStream(sketch, 50_000);
+    for (int i = 0; i < trueCounts.length; i++) {
+      assertThat(sketch.estimateCount(i)).isAtLeast(trueCounts[i]);
+    }
+  }
+
+  public void testErrorBound() {
+    double epsilon = 0.001;
+    double delta = 0.01;
+    CountMinSketch<Integer> sketch = CountMinSketch.create(Funnels.integerFunnel(), epsilon, delta);
+    long[] trueCounts = addSkewedStream(sketch, 50_000);
+    long total = sketch.totalCount();
+    int exceeding = 0;
+    for (int i = 0; i < trueCounts.length; i++) {
+      if (sketch.estimateCount(i) - trueCounts[i] > epsilon * total) {
+        exceeding++;
+      }
+    }
+    assertThat((double) exceeding / trueCounts.length).isAtMost(delta);
+    // Elements never added are estimated within the same bound
+    exceeding = 0;
+    for (int i = 0; i < 10_000; i++) {
+      if (sketch.estimateCount(-1 - i) > epsilon * total) {
+        exceeding++;
+      }
+    }
+    assertThat(exceeding).isAtMost(100);
+  }
+
+  public void testAdd() {
+    CountMinSketch<String> sketch =
+        CountMinSketch.create(Funnels.unencodedCharsFunnel(), 0.01, 0.01);
+    assertEquals(0, sketch.estimateCount("a"));
+    sketch.add("a");
+    sketch.add("a", 5);
+    sketch.add("b", 0);
+    assertEquals(6, sketch.estimateCount("a"));
+    assertEquals(0, sketch.estimateCount("b"));
+    assertEquals(6, sketch.totalCount());
+    try {
+      sketch.add("a", -1);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testMerge() {
+    CountMinSketch<Integer> a = CountMinSketch.create(Funnels.integerFunnel(), 0.01, 0.01);
+    CountMinSketch<Integer> b = CountMinSketch.create(Funnels.integerFunnel(), 0.01, 0.01);
+    CountMinSketch<Integer> both = CountMinSketch.create(Funnels.integerFunnel(), 0.01, 0.01);
+    Random random = new Random(0);
+    for (int i = 0; i < 10_000; i++) {
+      int element = random.nextInt(1000);
+      (i % 3 == 0 ? a : b).add(element);
+      both.add(element);
+    }
+    assertTrue(a.isCompatible(b));
+    a.merge(b);
+    assertEquals(both, a);
+    assertEquals(10_000, a.totalCount());
+  }
+
+  public void testMerge_incompatible() {
+    CountMinSketch<Integer> sketch = CountMinSketch.create(Funnels.integerFunnel(), 0.01, 0.01);
+    CountMinSketch<Integer> wider = CountMinSketch.create(Funnels.integerFunnel(), 0.001, 0.01);
+    CountMinSketch<Integer> otherHash =
+        CountMinSketch.create(Funnels.integerFunnel(), 0.01, 0.01, Hashing.sipHash24());
+    assertFalse(sketch.isCompatible(sketch));
+    assertFalse(sketch.isCompatible(wider));
+    assertFalse(sketch.isCompatible(otherHash));
+    for (CountMinSketch<Integer> other : new CountMinSketch[] {sketch, wider, otherHash}) {
+      try {
+        sketch.merge(other);
+        fail();
+      } catch (IllegalArgumentException expected) {
+      }
+    }
+  }
+
+  public void testCreate_invalidArguments() {
+    try {
+      CountMinSketch.create(Funnels.integerFunnel(), 0, 0.01);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      CountMinSketch.create(Funnels.integerFunnel(), 0.01, 1);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      CountMinSketch.create(Funnels.integerFunnel(), 1e-12, 0.01);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      CountMinSketch.create(Funnels.integerFunnel(), 0.01, 0.01, Hashing.crc32());
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testCopy() {
+    CountMinSketch<Integer> original = CountMinSketch.create(Funnels.integerFunnel(), 0.01, 0.01);
+    original.add(1, 10);
+    CountMinSketch<Integer> copy = original.copy();
+    assertEquals(original, copy);
+    assertEquals(original.hashCode(), copy.hashCode());
+    copy.add(1);
+    assertFalse(original.equals(copy));
+    assertEquals(10, original.estimateCount(1));
+  }
+
+  public void testWriteToAndReadFrom() throws IOException {
+    CountMinSketch<Integer> sketch = CountMinSketch.create(Funnels.integerFunnel(), 0.01, 0.001);
+    addSkewedStream(sketch, 1000);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    sketch.writeTo(out);
+    CountMinSketch<Integer> read =
+        CountMinSketch.readFrom(
+            new ByteArrayInputStream(out.toByteArray()), Funnels.integerFunnel());
+    assertEquals(sketch, read);
+    assertEquals(sketch.totalCount(), read.totalCount());
+  }
+
+  public void testReadFrom_truncated() {
+    byte[] bytes = {0, 0, 0, 2, 0, 0, 0, 2, 0, 0, 0, 0, 0, 0, 0, 0, 1};
+    try {
+      CountMinSketch.readFrom(new ByteArrayInputStream(bytes), Funnels.integerFunnel());
+      fail();
+    } catch (IOException expected) {
+    }
+  }
+
+  public void testEquals() {
+    CountMinSketch<Integer> sketch1 = CountMinSketch.create(Funnels.integerFunnel(), 0.01, 0.01);
+    sketch1.add(42, 7);
+    CountMinSketch<Integer> sketch2 = CountMinSketch.create(Funnels.integerFunnel(), 0.01, 0.01);
+    sketch2.add(42, 7);
+    new EqualsTester()
+        .addEqualityGroup(sketch1, sketch2)
+        .addEqualityGroup(CountMinSketch.create(Funnels.integerFunnel(), 0.01, 0.01))
+        .addEqualityGroup(CountMinSketch.create(Funnels.integerFunnel(), 0.1, 0.01))
+        .addEqualityGroup(CountMinSketch.create(Funnels.integerFunnel(), 0.01, 0.1))
+        .addEqualityGroup(
+            CountMinSketch.create(Funnels.integerFunnel(), 0.01, 0.01, Hashing.sipHash24()))
+        .addEqualityGroup(CountMinSketch.create(Funnels.unencodedCharsFunnel(), 0.01, 0.01))
+        .testEquals();
+  }
+
+  public void testSerialization() {
+    CountMinSketch<Integer> sketch = CountMinSketch.create(Funnels.integerFunnel(), 0.01, 0.01);
+    sketch.add(42, 7);
+    SerializableTester.reserializeAndAssert(sketch);
+  }
+
+  public void testConcurrentAdds() throws Exception {
+    int numThreads = 4;
+    int perThread = 50_000;
+    CountMinSketch<Integer> sketch = CountMinSketch.create(Funnels.integerFunnel(), 0.001, 0.01);
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < numThreads; t++) {
+      futures.add(
+          executor.submit(
+              () -> {
+                for (int i = 0; i < perThread; i++) {
+                  sketch.add(i % 100);
+                }
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertEquals(numThreads * perThread, sketch.totalCount());
+    for (int i = 0; i < 100; i++) {
+      assertThat(sketch.estimateCount(i)).isAtLeast((long) numThreads * perThread / 100);
+    }
+  }
+
+  public void testNullPointers() {
+    NullPointerTester tester = new NullPointerTester();
+    tester.testAllPublicInstanceMethods(
+        CountMinSketch.create(Funnels.unencodedCharsFunnel(), 0.01, 0.01));
+    tester.testAllPublicStaticMethods(CountMinSketch.class);
+  }
+}
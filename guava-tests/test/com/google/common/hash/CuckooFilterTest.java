@@ -0,0 +1,245 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.testing.EqualsTester;
+import com.google.common.testing.NullPointerTester;
+import com.google.common.testing.SerializableTester;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import junit.framework.TestCase;
+
+/** Tests for {@link CuckooFilter}. */
+public class CuckooFilterTest extends TestCase {
+
+  public void testPutAndRemove() {
+    CuckooFilter<String> filter = CuckooFilter.create(Funnels.unencodedCharsFunnel(), 100, 0.01);
+    assertFalse(filter.mightContain("a"));
+    assertTrue(filter.put("a"));
+    assertTrue(filter.put("a"));
+    assertEquals(2, filter.approximateElementCount());
+    assertTrue(filter.remove("a"));
+    assertTrue(filter.mightContain("a"));
+    assertTrue(filter.remove("a"));
+    assertFalse(filter.mightContain("a"));
+    assertFalse(filter.remove("a"));
+    assertEquals(0, filter.approximateElementCount());
+    assertEquals(CuckooFilter.create(Funnels.unencodedCharsFunnel(), 100, 0.01), filter);
+  }
+
+  public void testNoFalseNegatives() {
+    int numInsertions = 100_000;
+    CuckooFilter<Integer> filter =
+        CuckooFilter.create(Funnels.integerFunnel(), numInsertions, 0.01);
+    for (int i = 0; i < numInsertions; i++) {
+      assertTrue(filter.put(i));
+    }
+    for (int i = 0; i < numInsertions; i++) {
+      assertTrue(filter.mightContain(i));
+    }
+    for (int i = 0; i < numInsertions; i += 2) {
+      assertTrue(filter.remove(i));
+    }
+    for (int i = 1; i < numInsertions; i += 2) {
+      assertTrue(filter.mightContain(i));
+    }
+    assertEquals(numInsertions / 2, filter.approximateElementCount());
+  }
+
+  public void testFalsePositiveRate() {
+    for (double fpp : new double[] {0.03, 0.001}) {
+      int numInsertions = 100_000;
+      CuckooFilter<Integer> filter =
+          CuckooFilter.create(Funnels.integerFunnel(), numInsertions, fpp);
+      for (int i = 0; i < numInsertions; i++) {
+        filter.put(i);
+      }
+      int falsePositives = 0;
+      int queries = 1_000_000;
+      for (int i = numInsertions; i < numInsertions + queries; i++) {
+        if (filter.mightContain(i)) {
+          falsePositives++;
+        }
+      }
+      double observed = (double) falsePositives / queries;
+      assertThat(observed).isLessThan(fpp);
+      assertThat(observed).isWithin(filter.expectedFpp() / 4).of(filter.expectedFpp());
+    }
+  }
+
+  public void testFillsUp() {
+    CuckooFilter<Integer> filter = CuckooFilter.create(Funnels.integerFunnel(), 1000, 0.01);
+    int added = 0;
+    while (filter.put(added)) {
+      added++;
+    }
+    // A cuckoo filter of 4-slot buckets fills past a 95% load factor
+    long slots = filter.bitSize() / 16;
+    assertThat((double) added / slots).isGreaterThan(0.95);
+    assertEquals(added, filter.approximateElementCount());
+    for (int i = 0; i < added; i++) {
+      assertTrue(filter.mightContain(i));
+    }
+    assertFalse(filter.put(added));
+    // Removing an element makes room again
+    assertTrue(filter.remove(0));
+    assertTrue(filter.put(added));
+    for (int i = 1; i <= added; i++) {
+      assertTrue(filter.mightContain(i));
+    }
+  }
+
+  public void testCopy() {
+    CuckooFilter<String> original = CuckooFilter.create(Funnels.unencodedCharsFunnel(), 100, 0.01);
+    original.put("a");
+    CuckooFilter<String> copy = original.copy();
+    assertEquals(original, copy);
+    assertEquals(original.hashCode(), copy.hashCode());
+    copy.remove("a");
+    assertTrue(original.mightContain("a"));
+    assertFalse(copy.mightContain("a"));
+    assertFalse(original.equals(copy));
+  }
+
+  public void testWriteToAndReadFrom() throws IOException {
+    CuckooFilter<String> filter = CuckooFilter.create(Funnels.stringFunnel(UTF_8), 500, 0.001);
+    for (int i = 0; i < 500; i++) {
+      filter.put("element" + i);
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    filter.writeTo(out);
+    CuckooFilter<String> read =
+        CuckooFilter.readFrom(
+            new ByteArrayInputStream(out.toByteArray()), Funnels.stringFunnel(UTF_8));
+    assertEquals(filter, read);
+    assertEquals(500, read.approximateElementCount());
+    for (int i = 0; i < 500; i++) {
+      assertTrue(read.remove("element" + i));
+    }
+    assertEquals(0, read.approximateElementCount());
+  }
+
+  public void testWriteToAndReadFrom_full() throws IOException {
+    CuckooFilter<Integer> filter = CuckooFilter.create(Funnels.integerFunnel(), 100, 0.01);
+    int added = 0;
+    while (filter.put(added)) {
+      added++;
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    filter.writeTo(out);
+    CuckooFilter<Integer> read =
+        CuckooFilter.readFrom(new ByteArrayInputStream(out.toByteArray()), Funnels.integerFunnel());
+    assertEquals(filter, read);
+    assertEquals(added, read.approximateElementCount());
+    for (int i = 0; i < added; i++) {
+      assertTrue(read.mightContain(i));
+    }
+    assertFalse(read.put(added));
+  }
+
+  public void testReadFrom_corrupt() {
+    byte[] bytes = {0, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 3, 1, 2, 3};
+    try {
+      CuckooFilter.readFrom(new ByteArrayInputStream(bytes), Funnels.integerFunnel());
+      fail();
+    } catch (IOException expected) {
+    }
+  }
+
+  public void testEquals() {
+    CuckooFilter<Integer> filter1 = CuckooFilter.create(Funnels.integerFunnel(), 100, 0.01);
+    filter1.put(1);
+    CuckooFilter<Integer> filter2 = CuckooFilter.create(Funnels.integerFunnel(), 100, 0.01);
+    filter2.put(1);
+    new EqualsTester()
+        .addEqualityGroup(filter1, filter2)
+        .addEqualityGroup(CuckooFilter.create(Funnels.integerFunnel(), 100, 0.01))
+        .addEqualityGroup(CuckooFilter.create(Funnels.integerFunnel(), 100, 0.0001))
+        .addEqualityGroup(CuckooFilter.create(Funnels.integerFunnel(), 10_000, 0.01))
+        .addEqualityGroup(CuckooFilter.create(Funnels.unencodedCharsFunnel(), 100, 0.01))
+        .testEquals();
+  }
+
+  public void testSerialization() {
+    CuckooFilter<byte[]> filter = CuckooFilter.create(Funnels.byteArrayFunnel(), 100, 0.01);
+    filter.put(new byte[] {1, 2, 3});
+    SerializableTester.reserializeAndAssert(filter);
+  }
+
+  public void testConcurrentPuts() throws Exception {
+    int numThreads = 4;
+    int perThread = 20_000;
+    CuckooFilter<Integer> filter =
+        CuckooFilter.create(Funnels.integerFunnel(), numThreads * perThread, 0.01);
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < numThreads; t++) {
+      int base = t * perThread;
+      futures.add(
+          executor.submit(
+              () -> {
+                for (int i = base; i < base + perThread; i++) {
+                  assertTrue(filter.put(i));
+                }
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertEquals(numThreads * perThread, filter.approximateElementCount());
+    for (int i = 0; i < numThreads * perThread; i++) {
+      assertTrue(filter.mightContain(i));
+    }
+  }
+
+  public void testCreate_invalidArguments() {
+    try {
+      CuckooFilter.create(Funnels.integerFunnel(), -1, 0.01);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      CuckooFilter.create(Funnels.integerFunnel(), 100, 0.0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      CuckooFilter.create(Funnels.integerFunnel(), Long.MAX_VALUE, 0.01);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testNullPointers() {
+    NullPointerTester tester = new NullPointerTester();
+    tester.testAllPublicInstanceMethods(
+        CuckooFilter.create(Funnels.unencodedCharsFunnel(), 100, 0.01));
+    tester.testAllPublicStaticMethods(CuckooFilter.class);
+  }
+}
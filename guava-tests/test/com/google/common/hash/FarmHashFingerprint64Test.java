@@ -43,6 +43,17 @@ public class FarmHashFingerprint64Test extends TestCase {
     assertEquals(3500507768004279527L, fingerprint(Strings.repeat("test", 64).getBytes(UTF_8)));
   }
 
+  public void testInvariants() {
+    HashTestUtils.assertInvariants(HASH_FN);
+  }
+
+  public void testHashLongToLong() {
+    for (long value : new long[] {0, 1, -1, Long.MIN_VALUE, Long.MAX_VALUE, 0x0123456789abcdefL}) {
+      assertEquals(
+          fingerprint(HashCode.fromLong(value).asBytes()), HASH_FN.hashLongToLong(value));
+    }
+  }
+
   public void testStringsConsistency() {
     for (String s : Arrays.asList("", "some", "test", "strings", "to", "try")) {
       assertEquals(HASH_FN.newHasher().putUnencodedChars(s).hash(), HASH_FN.hashUnencodedChars(s));
@@ -39,6 +39,10 @@ enum HashFunctionEnum {
   SHA512(Hashing.sha512()),
   SIP_HASH24(Hashing.sipHash24()),
   FARMHASH_FINGERPRINT_64(Hashing.farmHashFingerprint64()),
+  XXHASH_64(Hashing.xxHash64()),
+  XXH3_64(Hashing.xxh3_64()),
+  XXH3_128(Hashing.xxh3_128()),
+  WYHASH(Hashing.wyhash()),
 
   // Hash functions found in //javatests for comparing against current implementation of CityHash.
   // These can probably be removed sooner or later.
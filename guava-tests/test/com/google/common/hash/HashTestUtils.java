@@ -586,7 +586,9 @@ final class HashTestUtils {
       assertHashLongEquivalence(hashFunction, random);
       assertHashStringEquivalence(hashFunction, random);
       assertHashStringWithSurrogatesEquivalence(hashFunction, random);
+      assertToLongShortcutsEquivalence(hashFunction, random);
     }
+    assertResettableHasherEquivalence(hashFunction, random);
   }
 
   private static void assertHashBytesEquivalence(HashFunction hashFunction, Random random) {
@@ -626,6 +628,48 @@ final class HashTestUtils {
     assertEquals(hashFunction.hashLong(l), hashFunction.newHasher().putLong(l).hash());
   }
 
+  private static void assertToLongShortcutsEquivalence(HashFunction hashFunction, Random random) {
+    long l = random.nextLong();
+    assertEquals(hashFunction.hashLong(l).padToLong(), hashFunction.hashLongToLong(l));
+
+    int size = random.nextInt(256);
+    byte[] bytes = new byte[size];
+    random.nextBytes(bytes);
+    int off = random.nextInt(size + 1);
+    int len = random.nextInt(size - off + 1);
+    assertEquals(
+        hashFunction.hashBytes(bytes, off, len).padToLong(),
+        hashFunction.hashBytesToLong(bytes, off, len));
+
+    StringBuilder chars = new StringBuilder();
+    for (int i = random.nextInt(128); i > 0; i--) {
+      chars.append((char) random.nextInt());
+    }
+    assertEquals(
+        hashFunction.hashUnencodedChars(chars).padToLong(),
+        hashFunction.hashUnencodedCharsToLong(chars));
+  }
+
+  private static void assertResettableHasherEquivalence(HashFunction hashFunction, Random random) {
+    ResettableHasher hasher = hashFunction.newResettableHasher();
+    for (int i = 0; i < 20; i++) {
+      long seed = random.nextLong();
+      int numActions = random.nextInt(50);
+      HashCode expected = randomHash(hashFunction, new Random(seed), numActions);
+
+      Random actions = new Random(seed);
+      hasher.reset();
+      for (int j = 0; j < numActions; j++) {
+        RandomHasherAction.pickAtRandom(actions).performAction(actions, ImmutableSet.of(hasher));
+      }
+      if (i % 2 == 0) {
+        assertEquals(expected, hasher.hash());
+      } else {
+        assertEquals(expected.padToLong(), hasher.hashToLong());
+      }
+    }
+  }
+
   private static final ImmutableSet<Charset> CHARSETS =
       ImmutableSet.of(
           Charsets.ISO_8859_1,
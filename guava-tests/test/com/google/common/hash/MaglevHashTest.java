@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.testing.NullPointerTester;
+import junit.framework.TestCase;
+
+/** Tests for {@link MaglevHash}. */
+public class MaglevHashTest extends TestCase {
+  private static final int KEYS = 100_000;
+
+  public void testEmpty() {
+    MaglevHash<Integer, String> hash = newHash(MaglevHash.DEFAULT_TABLE_SIZE);
+    assertEquals(0, hash.size());
+    try {
+      hash.get(1);
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+  }
+
+  public void testSingleNode() {
+    MaglevHash<Integer, String> hash = newHash(101);
+    assertTrue(hash.add("a"));
+    for (int key = 0; key < 100; key++) {
+      assertEquals("a", hash.get(key));
+    }
+  }
+
+  public void testAddAndRemove() {
+    MaglevHash<Integer, String> hash = newHash(101);
+    assertTrue(hash.add("a"));
+    assertFalse(hash.add("a", 2));
+    assertTrue(hash.add("b"));
+    assertThat(hash.nodes()).containsExactly("a", 2.0, "b", 1.0).inOrder();
+    assertTrue(hash.remove("a"));
+    assertFalse(hash.remove("a"));
+    assertThat(hash.nodes()).containsExactly("b", 1.0);
+  }
+
+  public void testInvalidTableSize() {
+    for (int tableSize : new int[] {-7, 0, 1, 2, 4, 65536}) {
+      try {
+        newHash(tableSize);
+        fail();
+      } catch (IllegalArgumentException expected) {
+      }
+    }
+  }
+
+  public void testTooManyNodes() {
+    MaglevHash<Integer, String> hash = newHash(3);
+    hash.add("a");
+    hash.add("b");
+    hash.add("c");
+    try {
+      hash.add("d");
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+    assertThat(hash.slotCounts()).asList().containsExactly(1, 1, 1);
+  }
+
+  public void testSlotsAreEvenlySpread() {
+    MaglevHash<Integer, String> hash = newHash(MaglevHash.DEFAULT_TABLE_SIZE);
+    for (int i = 0; i < 100; i++) {
+      hash.add("node" + i);
+    }
+    for (int count : hash.slotCounts()) {
+      assertThat(count).isAtLeast(MaglevHash.DEFAULT_TABLE_SIZE / 100);
+      assertThat(count).isAtMost(MaglevHash.DEFAULT_TABLE_SIZE / 100 + 1);
+    }
+  }
+
+  public void testSlotsFollowWeights() {
+    MaglevHash<Integer, String> hash = newHash(10007);
+    hash.add("a", 1);
+    hash.add("b", 2);
+    hash.add("c", 0.5);
+    int[] counts = hash.slotCounts();
+    assertThat((double) counts[0] / 10007).isWithin(0.001).of(1 / 3.5);
+    assertThat((double) counts[1] / 10007).isWithin(0.001).of(2 / 3.5);
+    assertThat((double) counts[2] / 10007).isWithin(0.001).of(0.5 / 3.5);
+  }
+
+  public void testRemoveMovesFewOtherKeys() {
+    MaglevHash<Integer, String> hash = newHash(MaglevHash.DEFAULT_TABLE_SIZE);
+    for (int i = 0; i < 100; i++) {
+      hash.add("node" + i);
+    }
+    String[] before = assignments(hash);
+    hash.remove("node42");
+    String[] after = assignments(hash);
+    int movedFromOtherNodes = 0;
+    for (int key = 0; key < KEYS; key++) {
+      if (!before[key].equals("node42") && !before[key].equals(after[key])) {
+        movedFromOtherNodes++;
+      }
+    }
+    assertThat((double) movedFromOtherNodes / KEYS).isLessThan(0.02);
+  }
+
+  public void testAddThenRemoveRestoresTable() {
+    MaglevHash<Integer, String> hash = newHash(1009);
+    for (int i = 0; i < 5; i++) {
+      hash.add("node" + i);
+    }
+    String[] before = assignments(hash);
+    hash.add("new", 3);
+    hash.remove("new");
+    String[] after = assignments(hash);
+    assertThat(after).isEqualTo(before);
+  }
+
+  public void testNullPointers() {
+    NullPointerTester tester = new NullPointerTester();
+    MaglevHash<Integer, String> hash = newHash(101);
+    hash.add("a");
+    tester.testAllPublicInstanceMethods(hash);
+    tester.testAllPublicStaticMethods(MaglevHash.class);
+  }
+
+  private static MaglevHash<Integer, String> newHash(int tableSize) {
+    return MaglevHash.create(
+        Hashing.murmur3_128(), Funnels.integerFunnel(), Funnels.stringFunnel(UTF_8), tableSize);
+  }
+
+  private static String[] assignments(MaglevHash<Integer, String> hash) {
+    String[] result = new String[KEYS];
+    for (int key = 0; key < KEYS; key++) {
+      result[key] = hash.get(key);
+    }
+    return result;
+  }
+}
@@ -49,6 +49,19 @@ public class Murmur3Hash128Test extends TestCase {
     byte[] input = HashTestUtils.ascii(stringInput);
     assertEquals(expected, murmur3_128(seed).hashBytes(input));
     assertEquals(expected, murmur3_128(seed).newHasher().putBytes(input).hash());
+    assertEquals(expected1, murmur3_128(seed).hashBytesToLong(input, 0, input.length));
+    ResettableHasher hasher = murmur3_128(seed).newResettableHasher();
+    hasher.putBytes(input);
+    assertEquals(expected1, hasher.hashToLong());
+  }
+
+  public void testResettableHasher() {
+    ResettableHasher hasher = murmur3_128().newResettableHasher();
+    HashCode first = hasher.putUnencodedChars("hello").putLong(42).hash();
+    assertEquals(first, hasher.reset().putUnencodedChars("hello").putLong(42).hash());
+    hasher.reset().putUnencodedChars("hello").putLong(42);
+    assertEquals(first.padToLong(), hasher.hashToLong());
+    assertEquals(murmur3_128().hashLong(42), hasher.reset().putLong(42).hash());
   }
 
   /** Returns a {@link HashCode} for a sequence of longs, in big-endian order. */
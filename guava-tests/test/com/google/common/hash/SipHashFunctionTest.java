@@ -33,6 +33,9 @@ public class SipHashFunctionTest extends TestCase {
   private static final HashFunction SIP_WITH_KEY = Hashing.sipHash24(K0, K1);
   private static final HashFunction SIP_WITHOUT_KEY = Hashing.sipHash24();
 
+  // Shared by all the vectors, so that each of them is hashed after a reset().
+  private static final ResettableHasher RESETTABLE_HASHER = SIP_WITH_KEY.newResettableHasher();
+
   // These constants were originally ported from https://www.131002.net/siphash/siphash24.c. See:
   // https://github.com/nahi/siphash-java-inline/blob/master/src/test/java/org/jruby/util/SipHashInlineTest.java
   private static final long[] EXPECTED =
@@ -176,5 +179,8 @@ public class SipHashFunctionTest extends TestCase {
     assertEquals(expected, SIP_WITH_KEY.newHasher().putBytes(input).hash().asLong());
     assertEquals(expected, SIP_WITHOUT_KEY.hashBytes(input).asLong());
     assertEquals(expected, SIP_WITHOUT_KEY.newHasher().putBytes(input).hash().asLong());
+    assertEquals(expected, SIP_WITH_KEY.hashBytesToLong(input, 0, input.length));
+    RESETTABLE_HASHER.reset().putBytes(input);
+    assertEquals(expected, RESETTABLE_HASHER.hashToLong());
   }
 }
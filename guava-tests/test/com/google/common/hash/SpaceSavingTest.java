@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.testing.NullPointerTester;
+import com.google.common.testing.SerializableTester;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import junit.framework.TestCase;
+
+/** Tests for {@link SpaceSaving}. */
+public class SpaceSavingTest extends TestCase {
+
+  /**
+   * Returns a shuffled stream in which element {@code i < heavy} occurs {@code 1000 * (heavy - i)}
+   * times and each of {@code light} other elements occurs once.
+   */
+  private static List<Integer> stream(int heavy, int light, long seed) {
+    List<Integer> stream = new ArrayList<>();
+    for (int i = 0; i < heavy; i++) {
+      for (int j = 0; j < 1000 * (heavy - i); j++) {
+        stream.add(i);
+      }
+    }
+    for (int i = 0; i < light; i++) {
+      stream.add(heavy + i);
+    }
+    Collections.shuffle(stream, new Random(seed));
+    return stream;
+  }
+
+  public void testFindsHeavyHitters() {
+    SpaceSaving<Integer> summary = SpaceSaving.create(Funnels.integerFunnel(), 100);
+    List<Integer> stream = stream(5, 100_000, 0);
+    for (int element : stream) {
+      summary.add(element);
+    }
+    assertEquals(stream.size(), summary.totalCount());
+    ImmutableMultiset<Integer> top = summary.topK(5);
+    assertThat(top.elementSet()).containsExactly(0, 1, 2, 3, 4).inOrder();
+    for (int i = 0; i < 5; i++) {
+      long trueCount = 1000 * (5 - i);
+      assertThat(summary.estimateCount(i)).isAtLeast(trueCount);
+      assertThat(summary.guaranteedCount(i)).isAtMost(trueCount);
+      assertThat((long) top.count(i)).isEqualTo(summary.estimateCount(i));
+      // The overestimate is at most the stripe's total count / the stripe's capacity of 100 / 4
+      assertThat(summary.estimateCount(i) - trueCount).isAtMost(summary.totalCount() / 25);
+    }
+  }
+
+  public void testExactWhileUnderCapacity() {
+    SpaceSaving<String> summary = SpaceSaving.create(Funnels.unencodedCharsFunnel(), 100, 1);
+    summary.add("a", 3);
+    summary.add("b");
+    summary.add("c", 2);
+    summary.add("a");
+    summary.add("d", 0);
+    assertEquals(ImmutableMultiset.of("a", "a", "a", "a", "c", "c", "b"), summary.topK(10));
+    assertThat(summary.topK(10).elementSet()).containsExactly("a", "c", "b").inOrder();
+    assertThat(summary.topK(1).elementSet()).containsExactly("a");
+    assertEquals(ImmutableMultiset.of(), summary.topK(0));
+    assertEquals(4, summary.guaranteedCount("a"));
+    assertEquals(0, summary.estimateCount("d"));
+  }
+
+  public void testEviction() {
+    SpaceSaving<String> summary = SpaceSaving.create(Funnels.unencodedCharsFunnel(), 2, 1);
+    summary.add("a", 5);
+    summary.add("b", 2);
+    summary.add("c");
+    // c took over b's counter
+    assertEquals(0, summary.estimateCount("b"));
+    assertEquals(3, summary.estimateCount("c"));
+    assertEquals(1, summary.guaranteedCount("c"));
+    assertEquals(5, summary.estimateCount("a"));
+  }
+
+  public void testGuaranteedMonitored() {
+    Random random = new Random(0);
+    for (int concurrencyLevel : new int[] {1, 4}) {
+      int capacity = 8;
+      int stripeCapacity = (capacity + concurrencyLevel - 1) / concurrencyLevel;
+      SpaceSaving<Integer> summary =
+          SpaceSaving.create(Funnels.integerFunnel(), capacity, concurrencyLevel);
+      long[] trueCounts = new long[50];
+      for (int i = 0; i < 10_000; i++) {
+        // Skewed, so that some elements are above the bound and many are not.
+        int element = (int) (trueCounts.length * Math.pow(random.nextDouble(), 8));
+        summary.add(element);
+        trueCounts[element]++;
+      }
+      ImmutableMultiset<Integer> top = summary.topK(concurrencyLevel * stripeCapacity);
+      int guaranteed = 0;
+      for (int element = 0; element < trueCounts.length; element++) {
+        if (trueCounts[element] > summary.totalCount() / stripeCapacity) {
+          guaranteed++;
+          assertThat(summary.estimateCount(element)).isAtLeast(trueCounts[element]);
+          assertThat(top).contains(element);
+        }
+      }
+      assertThat(guaranteed).isGreaterThan(0);
+    }
+  }
+
+  public void testGuaranteedMonitored_onlyPerStripe() {
+    // With one counter per stripe, two elements that share a stripe can't both be monitored, even
+    // though each has half the total count and there are four counters in all.
+    SpaceSaving<Integer> summary = SpaceSaving.create(Funnels.integerFunnel(), 4, 4);
+    SpaceSaving<Integer> unstriped = SpaceSaving.create(Funnels.integerFunnel(), 2, 1);
+    for (int i = 0; i < 3; i++) {
+      summary.add(1);
+      summary.add(10);
+      unstriped.add(1);
+      unstriped.add(10);
+    }
+    assertEquals(6, summary.totalCount());
+    assertThat(summary.topK(4).elementSet()).hasSize(1);
+    assertThat(unstriped.topK(2).elementSet()).containsExactly(1, 10);
+  }
+
+  public void testMerge() {
+    SpaceSaving<Integer> a = SpaceSaving.create(Funnels.integerFunnel(), 100);
+    SpaceSaving<Integer> b = SpaceSaving.create(Funnels.integerFunnel(), 100);
+    List<Integer> stream = stream(5, 100_000, 1);
+    for (int i = 0; i < stream.size(); i++) {
+      (i % 2 == 0 ? a : b).add(stream.get(i));
+    }
+    a.merge(b);
+    assertEquals(stream.size(), a.totalCount());
+    assertThat(a.topK(5).elementSet()).containsExactly(0, 1, 2, 3, 4).inOrder();
+    for (int i = 0; i < 5; i++) {
+      long trueCount = 1000 * (5 - i);
+      assertThat(a.estimateCount(i)).isAtLeast(trueCount);
+      assertThat(a.guaranteedCount(i)).isAtMost(trueCount);
+    }
+  }
+
+  public void testMerge_exactWhileUnderCapacity() {
+    SpaceSaving<String> a = SpaceSaving.create(Funnels.unencodedCharsFunnel(), 10);
+    SpaceSaving<String> b = SpaceSaving.create(Funnels.unencodedCharsFunnel(), 10);
+    a.add("x", 2);
+    a.add("y");
+    b.add("x");
+    b.add("z", 5);
+    a.merge(b);
+    assertEquals(ImmutableMultiset.of("x", "x", "x", "y", "z", "z", "z", "z", "z"), a.topK(10));
+    assertEquals(3, a.guaranteedCount("x"));
+  }
+
+  public void testMerge_incompatible() {
+    SpaceSaving<Integer> summary = SpaceSaving.create(Funnels.integerFunnel(), 10);
+    for (SpaceSaving<Integer> other :
+        Arrays.asList(
+            summary,
+            SpaceSaving.create(Funnels.integerFunnel(), 11),
+            SpaceSaving.create(Funnels.integerFunnel(), 10, 2))) {
+      try {
+        summary.merge(other);
+        fail();
+      } catch (IllegalArgumentException expected) {
+      }
+    }
+  }
+
+  public void testCreate_invalidArguments() {
+    try {
+      SpaceSaving.create(Funnels.integerFunnel(), 0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      SpaceSaving.create(Funnels.integerFunnel(), 10, 0);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testSerialization() {
+    SpaceSaving<String> summary = SpaceSaving.create(Funnels.unencodedCharsFunnel(), 2, 1);
+    summary.add("a", 5);
+    summary.add("b", 2);
+    summary.add("c");
+    SpaceSaving<String> copy = SerializableTester.reserialize(summary);
+    assertEquals(summary.topK(2), copy.topK(2));
+    assertEquals(summary.totalCount(), copy.totalCount());
+    assertEquals(summary.guaranteedCount("c"), copy.guaranteedCount("c"));
+  }
+
+  public void testConcurrentAdds() throws Exception {
+    int numThreads = 4;
+    SpaceSaving<Integer> summary = SpaceSaving.create(Funnels.integerFunnel(), 100);
+    List<Integer> stream = stream(5, 50_000, 2);
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int t = 0; t < numThreads; t++) {
+      int thread = t;
+      futures.add(
+          executor.submit(
+              () -> {
+                for (int i = thread; i < stream.size(); i += numThreads) {
+                  summary.add(stream.get(i));
+                }
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertEquals(stream.size(), summary.totalCount());
+    assertThat(summary.topK(5).elementSet()).containsExactly(0, 1, 2, 3, 4).inOrder();
+  }
+
+  public void testNullPointers() {
+    NullPointerTester tester = new NullPointerTester();
+    tester.testAllPublicInstanceMethods(SpaceSaving.create(Funnels.unencodedCharsFunnel(), 10));
+    tester.testAllPublicStaticMethods(SpaceSaving.class);
+  }
+}
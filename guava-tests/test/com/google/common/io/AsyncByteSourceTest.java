@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.io;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+
+/** Tests for {@link AsyncByteSource} and {@link AsyncByteSink}. */
+public class AsyncByteSourceTest extends IoTestCase {
+
+  // Larger than the chunks that hash and copyTo read, and not a multiple of their size.
+  private static final byte[] LARGE = newPreFilledByteArray(200_000);
+
+  public void testRead_empty() throws Exception {
+    Path file = createTempFile().toPath();
+    assertThat(get(MoreFiles.asAsyncByteSource(file).read())).isEmpty();
+  }
+
+  public void testRead_small() throws Exception {
+    Path file = createTempFile().toPath();
+    Files.write(file, new byte[] {1, 2, 3});
+    assertThat(get(MoreFiles.asAsyncByteSource(file).read())).isEqualTo(new byte[] {1, 2, 3});
+  }
+
+  public void testRead_large() throws Exception {
+    Path file = createTempFile().toPath();
+    Files.write(file, LARGE);
+    assertThat(get(MoreFiles.asAsyncByteSource(file).read())).isEqualTo(LARGE);
+  }
+
+  public void testRead_moreBytesThanSize() throws Exception {
+    Path status = FileSystems.getDefault().getPath("/proc/self/status");
+    if (!Files.isRegularFile(status)) {
+      return; // not Linux
+    }
+    // The file reports a size of 0, so the bytes are only found by reading past that size.
+    assertThat(Files.size(status)).isEqualTo(0L);
+    byte[] bytes = get(MoreFiles.asAsyncByteSource(status).read());
+    assertThat(new String(bytes, UTF_8)).contains("Name:");
+  }
+
+  public void testRead_missingFile() throws Exception {
+    Path file = getTempDir().toPath().resolve("missing");
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> get(MoreFiles.asAsyncByteSource(file).read()));
+    assertThat(e).hasCauseThat().isInstanceOf(NoSuchFileException.class);
+  }
+
+  public void testHash() throws Exception {
+    Path file = createTempFile().toPath();
+    Files.write(file, LARGE);
+    assertThat(get(MoreFiles.asAsyncByteSource(file).hash(Hashing.sha256())))
+        .isEqualTo(Hashing.sha256().hashBytes(LARGE));
+  }
+
+  public void testTransform() throws Exception {
+    Path file = createTempFile().toPath();
+    Files.write(file, LARGE);
+    ListenableFuture<Integer> length =
+        MoreFiles.asAsyncByteSource(file).read().transform(bytes -> bytes.length, directExecutor());
+    assertThat(get(length)).isEqualTo(LARGE.length);
+  }
+
+  public void testCopyTo() throws Exception {
+    Path from = createTempFile().toPath();
+    Path to = createTempFile().toPath();
+    Files.write(from, LARGE);
+    Files.write(to, new byte[300_000]);
+    long copied = get(MoreFiles.asAsyncByteSource(from).copyTo(MoreFiles.asAsyncByteSink(to)));
+    assertThat(copied).isEqualTo(LARGE.length);
+    assertThat(Files.readAllBytes(to)).isEqualTo(LARGE);
+  }
+
+  public void testWriteFrom_append() throws Exception {
+    Path from = createTempFile().toPath();
+    Path to = createTempFile().toPath();
+    Files.write(from, LARGE);
+    Files.write(to, new byte[] {1, 2, 3});
+    AsyncByteSink sink = MoreFiles.asAsyncByteSink(to, StandardOpenOption.APPEND);
+    assertThat(get(sink.writeFrom(MoreFiles.asAsyncByteSource(from)))).isEqualTo(LARGE.length);
+    byte[] contents = Files.readAllBytes(to);
+    assertThat(contents).hasLength(3 + LARGE.length);
+    assertThat(ByteSource.wrap(contents).slice(3, LARGE.length).read()).isEqualTo(LARGE);
+  }
+
+  public void testWrite() throws Exception {
+    Path file = getTempDir().toPath().resolve("created");
+    AsyncByteSink sink = MoreFiles.asAsyncByteSink(file);
+    get(sink.write(LARGE));
+    assertThat(Files.readAllBytes(file)).isEqualTo(LARGE);
+
+    // Without options, the file is truncated.
+    get(sink.write(new byte[] {4, 5}));
+    assertThat(Files.readAllBytes(file)).isEqualTo(new byte[] {4, 5});
+  }
+
+  private static <T> T get(ListenableFuture<T> future) throws Exception {
+    return future.get(10, SECONDS);
+  }
+}
@@ -14,6 +14,7 @@
 
 package com.google.common.io;
 
+import static com.google.common.base.Charsets.US_ASCII;
 import static com.google.common.base.Charsets.UTF_8;
 import static com.google.common.io.BaseEncoding.base16;
 import static com.google.common.io.BaseEncoding.base32;
@@ -21,6 +22,7 @@ import static com.google.common.io.BaseEncoding.base32Hex;
 import static com.google.common.io.BaseEncoding.base64;
 import static com.google.common.io.BaseEncoding.base64Url;
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
 
 import com.google.common.annotations.GwtCompatible;
 import com.google.common.annotations.GwtIncompatible;
@@ -29,12 +31,21 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
 import com.google.common.io.BaseEncoding.DecodingException;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Random;
 import junit.framework.TestCase;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -458,6 +469,25 @@ public class BaseEncodingTest extends TestCase {
         }
       }
     },
+    @GwtIncompatible // ByteBuffer
+    DECODE_BYTE_BUFFER {
+      @Override
+      void assertFailsToDecode(
+          BaseEncoding encoding, String cannotDecode, @Nullable String expectedMessage) {
+        ByteBuffer src = ByteBuffer.wrap(cannotDecode.getBytes(UTF_8));
+        ByteBuffer dst = ByteBuffer.allocate(cannotDecode.length());
+        try {
+          encoding.decode(src, dst);
+          fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+          if (expectedMessage != null) {
+            assertThat(expected).hasCauseThat().hasMessageThat().isEqualTo(expectedMessage);
+          }
+        }
+        assertThat(src.position()).isEqualTo(0);
+        assertThat(dst.position()).isEqualTo(0);
+      }
+    },
     DECODE_CHECKED {
       @Override
       void assertFailsToDecode(
@@ -516,6 +546,49 @@ public class BaseEncodingTest extends TestCase {
     encodingStream.write(decoded.getBytes(UTF_8));
     encodingStream.close();
     assertThat(writer.toString()).isEqualTo(encoded);
+
+    testByteBufferEncodes(encoding, decoded.getBytes(UTF_8), encoded);
+    testChannelEncodes(encoding, decoded.getBytes(UTF_8), encoded);
+  }
+
+  @GwtIncompatible // ByteBuffer
+  private static void testByteBufferEncodes(BaseEncoding encoding, byte[] decoded, String encoded) {
+    byte[] expected = encoded.getBytes(US_ASCII);
+    // Surround the input and output with other bytes, which must be left alone.
+    ByteBuffer src = ByteBuffer.allocate(decoded.length + 10);
+    src.position(3);
+    src.put(decoded);
+    src.position(3).limit(3 + decoded.length);
+    for (ByteBuffer dst :
+        ImmutableList.of(
+            ByteBuffer.allocate(expected.length + 10),
+            ByteBuffer.allocateDirect(expected.length + 10).order(ByteOrder.LITTLE_ENDIAN))) {
+      dst.position(5).limit(5 + expected.length);
+      encoding.encode(src.duplicate(), dst);
+      assertThat(dst.position()).isEqualTo(5 + expected.length);
+      dst.position(5);
+      byte[] actual = new byte[expected.length];
+      dst.get(actual);
+      assertThat(new String(actual, US_ASCII)).isEqualTo(encoded);
+      assertThat(dst.get(4)).isEqualTo(0);
+    }
+  }
+
+  @GwtIncompatible // WritableByteChannel
+  private static void testChannelEncodes(BaseEncoding encoding, byte[] decoded, String encoded)
+      throws IOException {
+    // Write the input in pieces of every size, so that chunks are split across writes.
+    for (int pieceSize = 1; pieceSize <= Math.max(1, decoded.length); pieceSize++) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      WritableByteChannel channel = encoding.encodingChannel(Channels.newChannel(out));
+      for (int i = 0; i < decoded.length; i += pieceSize) {
+        ByteBuffer piece = ByteBuffer.wrap(decoded, i, Math.min(pieceSize, decoded.length - i));
+        assertThat(channel.write(piece)).isEqualTo(Math.min(pieceSize, decoded.length - i));
+        assertThat(piece.hasRemaining()).isFalse();
+      }
+      channel.close();
+      assertThat(out.toString("US-ASCII")).isEqualTo(encoded);
+    }
   }
 
   @GwtIncompatible // Reader
@@ -528,6 +601,94 @@ public class BaseEncodingTest extends TestCase {
     }
     assertThat(decodingStream.read()).isEqualTo(-1);
     decodingStream.close();
+
+    testByteBufferDecodes(encoding, encoded, bytes);
+  }
+
+  @GwtIncompatible // ByteBuffer
+  private static void testByteBufferDecodes(BaseEncoding encoding, String encoded, byte[] decoded) {
+    for (ByteBuffer src :
+        ImmutableList.of(
+            ByteBuffer.wrap(encoded.getBytes(US_ASCII)),
+            (ByteBuffer)
+                ByteBuffer.allocateDirect(encoded.length())
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .put(encoded.getBytes(US_ASCII))
+                    .flip())) {
+      ByteBuffer dst = ByteBuffer.allocate(decoded.length + 2);
+      dst.position(1).limit(1 + decoded.length);
+      encoding.decode(src, dst);
+      assertThat(src.hasRemaining()).isFalse();
+      assertThat(dst.position()).isEqualTo(1 + decoded.length);
+      assertThat(Arrays.copyOfRange(dst.array(), 1, 1 + decoded.length)).isEqualTo(decoded);
+    }
+  }
+
+  @GwtIncompatible // ByteBuffer
+  public void testByteBuffers_largeInputs() {
+    Random random = new Random(0);
+    for (BaseEncoding encoding :
+        ImmutableList.of(
+            base64(),
+            base64Url().omitPadding(),
+            base32(),
+            base32Hex().lowerCase(),
+            base16(),
+            base16().lowerCase(),
+            base64().withSeparator("\r\n", 76))) {
+      for (int length : new int[] {1000, 1001, 1002, 1003, 1004, 1005, 65_537}) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        String encoded = encoding.encode(bytes);
+        testByteBufferEncodes(encoding, bytes, encoded);
+        testByteBufferDecodes(encoding, encoded, bytes);
+      }
+    }
+  }
+
+  @GwtIncompatible // ByteBuffer
+  public void testByteBuffers_invalidCharacterInBulkInput() {
+    byte[] bytes = new byte[100];
+    new Random(0).nextBytes(bytes);
+    for (BaseEncoding encoding : ImmutableList.of(base64(), base16())) {
+      byte[] encoded = encoding.encode(bytes).getBytes(US_ASCII);
+      encoded[50] = '*';
+      try {
+        encoding.decode(ByteBuffer.wrap(encoded), ByteBuffer.allocate(bytes.length));
+        fail("Expected IllegalArgumentException");
+      } catch (IllegalArgumentException expected) {
+        assertThat(expected).hasCauseThat().hasMessageThat().isEqualTo("Unrecognized character: *");
+      }
+    }
+  }
+
+  @GwtIncompatible // ByteBuffer
+  public void testByteBuffers_overflow() {
+    ByteBuffer src = ByteBuffer.wrap(new byte[] {1, 2, 3, 4});
+    ByteBuffer dst = ByteBuffer.allocate(7);
+    assertThrows(BufferOverflowException.class, () -> base64().encode(src, dst));
+    assertThat(src.position()).isEqualTo(0);
+    assertThat(dst.position()).isEqualTo(0);
+
+    // Without padding, the encoded bytes fit.
+    base64().omitPadding().encode(src, dst);
+    assertThat(dst.position()).isEqualTo(6);
+    assertThat(new String(dst.array(), 0, 6, US_ASCII)).isEqualTo("AQIDBA");
+
+    ByteBuffer encoded = ByteBuffer.wrap("AQIDBA==".getBytes(US_ASCII));
+    assertThrows(
+        BufferOverflowException.class, () -> base64().decode(encoded, ByteBuffer.allocate(3)));
+    assertThat(encoded.position()).isEqualTo(0);
+  }
+
+  @GwtIncompatible // WritableByteChannel
+  public void testEncodingChannel_closed() throws IOException {
+    WritableByteChannel channel =
+        base64().encodingChannel(Channels.newChannel(new ByteArrayOutputStream()));
+    assertThat(channel.isOpen()).isTrue();
+    channel.close();
+    assertThat(channel.isOpen()).isFalse();
+    assertThrows(ClosedChannelException.class, () -> channel.write(ByteBuffer.allocate(1)));
   }
 
   public void testToString() {
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.io;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+import com.google.common.collect.ImmutableList;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import junit.framework.TestCase;
+
+/** Tests for {@link ByteLineReader}. */
+public class ByteLineReaderTest extends TestCase {
+
+  public void testIndexOfLineTerminator() {
+    for (int length = 0; length < 20; length++) {
+      for (int at = 0; at < length; at++) {
+        for (byte terminator : new byte[] {'\n', '\r'}) {
+          byte[] bytes = new byte[length + 3];
+          // Fill with bytes that are close to, but not, line terminators.
+          for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i % 2 == 0 ? 0x0B : 0x8A);
+          }
+          bytes[1 + at] = terminator;
+          ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+          assertThat(ByteLineReader.indexOfLineTerminator(buffer, 1, 1 + length))
+              .isEqualTo(1 + at);
+          assertThat(ByteLineReader.indexOfLineTerminator(buffer, 2 + at, 1 + length))
+              .isEqualTo(-1);
+        }
+      }
+    }
+  }
+
+  public void testReadLines() throws IOException {
+    assertLines("");
+    assertLines("\n");
+    assertLines("\r");
+    assertLines("\r\n");
+    assertLines("a");
+    assertLines("a\n");
+    assertLines("a\r\r\nb");
+    assertLines("\n\na\r\n\rb\n");
+    assertLines("café\r\n中文\n😀");
+  }
+
+  public void testReadLines_random() throws IOException {
+    Random random = new Random(0);
+    char[] alphabet = {'a', 'b', '\n', '\r', 'é', '中'};
+    for (int trial = 0; trial < 200; trial++) {
+      StringBuilder sb = new StringBuilder();
+      int length = random.nextInt(trial < 100 ? 40 : 40000);
+      for (int i = 0; i < length; i++) {
+        sb.append(alphabet[random.nextInt(alphabet.length)]);
+      }
+      assertLines(sb.toString());
+    }
+  }
+
+  public void testMappedLines_parallel() throws IOException {
+    Random random = new Random(0);
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 100_000; i++) {
+      sb.append(i).append(random.nextBoolean() ? "\n" : "\r\n");
+      if (random.nextInt(1000) == 0) {
+        sb.append('\r');
+      }
+    }
+    String text = sb.toString();
+    Path path = Files.createTempFile("ByteLineReaderTest", ".txt");
+    try {
+      Files.write(path, text.getBytes(UTF_8));
+      List<String> expected = readLinesWithBufferedReader(text);
+      for (int segmentSize : new int[] {MappedByteSource.DEFAULT_SEGMENT_SIZE, 1000}) {
+        CharSource source =
+            new MappedByteSource(path, 0, Long.MAX_VALUE, segmentSize).asCharSource(UTF_8);
+        try (Stream<String> lines = source.lines()) {
+          assertThat(lines.parallel().collect(toList())).isEqualTo(expected);
+        }
+        assertThat(source.readLines()).isEqualTo(expected);
+      }
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  private static void assertLines(String text) throws IOException {
+    List<String> expected = readLinesWithBufferedReader(text);
+    byte[] bytes = text.getBytes(UTF_8);
+    for (int chunkSize : new int[] {1, 2, 7, 8, 9, 8192}) {
+      InputStream in = new ChunkedInputStream(bytes, chunkSize);
+      ByteLineReader reader = new ByteLineReader(ByteLineReader.chunksOf(in), UTF_8);
+      List<String> lines = new ArrayList<>();
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lines.add(line);
+      }
+      assertThat(lines).isEqualTo(expected);
+    }
+    assertThat(ByteSource.wrap(bytes).asCharSource(UTF_8).readLines()).isEqualTo(expected);
+  }
+
+  private static ImmutableList<String> readLinesWithBufferedReader(String text) throws IOException {
+    ImmutableList.Builder<String> lines = ImmutableList.builder();
+    BufferedReader reader = new BufferedReader(new StringReader(text));
+    String line;
+    while ((line = reader.readLine()) != null) {
+      lines.add(line);
+    }
+    return lines.build();
+  }
+
+  /** An input stream that returns at most {@code chunkSize} bytes from each read. */
+  private static final class ChunkedInputStream extends InputStream {
+    private final ByteArrayInputStream in;
+    private final int chunkSize;
+
+    ChunkedInputStream(byte[] bytes, int chunkSize) {
+      this.in = new ByteArrayInputStream(bytes);
+      this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public int read() {
+      return in.read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      return in.read(b, off, Math.min(len, chunkSize));
+    }
+  }
+}
@@ -17,6 +17,7 @@
 package com.google.common.io;
 
 import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
 
 import com.google.common.base.Charsets;
 import java.io.ByteArrayInputStream;
@@ -29,6 +30,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
@@ -425,6 +428,174 @@ public class ByteStreamsTest extends IoTestCase {
     assertThat(baos.toByteArray()).isEqualTo(new byte[] {0x12, 0x34, 0x56, 0x78});
   }
 
+  public void testNewDataInput_readLine_crAtEnd() {
+    ByteArrayDataInput in = ByteStreams.newDataInput("one\r".getBytes(Charsets.UTF_8));
+    assertEquals("one", in.readLine());
+    assertNull(in.readLine());
+  }
+
+  public void testNewDataInput_failedReadConsumesNothing() {
+    ByteArrayDataInput in = ByteStreams.newDataInput(new byte[] {1, 2, 3});
+    try {
+      in.readInt();
+      fail("expected exception");
+    } catch (IllegalStateException expected) {
+      assertThat(expected).hasCauseThat().isInstanceOf(EOFException.class);
+    }
+    assertEquals(0x0102, in.readShort());
+  }
+
+  public void testNewDataInput_byteBuffer() {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(12).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.put(new byte[] {0, 0}).put(bytes);
+    Java8Compatibility.position(buffer, 2);
+    ByteArrayDataInput in = ByteStreams.newDataInput(buffer);
+    // Big-endian, whatever the order of the buffer.
+    assertEquals(0x1234567876543210L, in.readLong());
+    assertEquals(0, in.readShort());
+    try {
+      in.readByte();
+      fail("expected exception");
+    } catch (IllegalStateException expected) {
+      assertThat(expected).hasCauseThat().isInstanceOf(EOFException.class);
+    }
+    assertEquals(2, buffer.position());
+  }
+
+  public void testNewDataInput_readInts() {
+    ByteArrayDataOutput out = ByteStreams.newDataOutput();
+    out.writeInt(0x12345678);
+    out.writeInt(0x76543210);
+    out.writeInt(-1);
+    ByteArrayDataInput in = ByteStreams.newDataInput(out.toByteArray());
+    int[] actual = new int[4];
+    in.readInts(actual, 1, 2);
+    assertThat(actual).isEqualTo(new int[] {0, 0x12345678, 0x76543210, 0});
+    try {
+      in.readInts(new int[2]);
+      fail("expected exception");
+    } catch (IllegalStateException expected) {
+      assertThat(expected).hasCauseThat().isInstanceOf(EOFException.class);
+    }
+    assertEquals(-1, in.readInt());
+  }
+
+  public void testNewDataInput_readLongs() {
+    ByteArrayDataInput in = ByteStreams.newDataInput(ByteBuffer.wrap(bytes));
+    long[] actual = new long[1];
+    in.readLongs(actual);
+    assertThat(actual).isEqualTo(new long[] {0x1234567876543210L});
+  }
+
+  public void testNewDataInput_bulkReadsMatchDefaults() {
+    ByteArrayDataOutput out = ByteStreams.newDataOutput();
+    for (int i = 0; i < 1000; i++) {
+      out.writeLong(i * 0x9E3779B97F4A7C15L);
+    }
+    byte[] data = out.toByteArray();
+    ByteArrayDataInput stream = ByteStreams.newDataInput(new ByteArrayInputStream(data));
+    ByteArrayDataInput buffer = ByteStreams.newDataInput(data);
+    int[] fromStream = new int[data.length / 8];
+    int[] fromBuffer = new int[data.length / 8];
+    stream.readInts(fromStream);
+    buffer.readInts(fromBuffer);
+    assertThat(fromBuffer).isEqualTo(fromStream);
+    long[] longsFromStream = new long[data.length / 16];
+    long[] longsFromBuffer = new long[data.length / 16];
+    stream.readLongs(longsFromStream);
+    buffer.readLongs(longsFromBuffer);
+    assertThat(longsFromBuffer).isEqualTo(longsFromStream);
+  }
+
+  public void testNewDataOutput_writeIntsAndLongs() {
+    ByteArrayDataOutput out = ByteStreams.newDataOutput();
+    out.writeInts(new int[] {-1, 0x12345678, 0x76543210, -1}, 1, 2);
+    assertThat(out.toByteArray()).isEqualTo(bytes);
+
+    // More values than fit in one scratch buffer, so that they are written in several chunks.
+    long[] longs = new long[3000];
+    for (int i = 0; i < longs.length; i++) {
+      longs[i] = i * 0x9E3779B97F4A7C15L;
+    }
+    out = ByteStreams.newDataOutput();
+    out.writeLongs(longs);
+    ByteArrayDataInput in = ByteStreams.newDataInput(out.toByteArray());
+    for (long value : longs) {
+      assertEquals(value, in.readLong());
+    }
+  }
+
+  public void testVarInts() {
+    int[] values = {0, 1, 127, 128, 300, 16383, 16384, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+    int[] sizes = {1, 1, 1, 2, 2, 2, 3, 5, 5, 5};
+    for (int i = 0; i < values.length; i++) {
+      ByteArrayDataOutput out = ByteStreams.newDataOutput();
+      out.writeVarInt(values[i]);
+      byte[] encoded = out.toByteArray();
+      assertWithMessage("size of %s", values[i]).that(encoded).hasLength(sizes[i]);
+      assertEquals(values[i], ByteStreams.newDataInput(encoded).readVarInt());
+      assertEquals(
+          values[i], ByteStreams.newDataInput(new ByteArrayInputStream(encoded)).readVarInt());
+    }
+    ByteArrayDataOutput out = ByteStreams.newDataOutput();
+    out.writeVarInt(300);
+    assertThat(out.toByteArray()).isEqualTo(new byte[] {(byte) 0xAC, 0x02});
+  }
+
+  public void testVarLongs() {
+    long[] values = {0, 1, 127, 128, Integer.MAX_VALUE, Long.MAX_VALUE, -1, Long.MIN_VALUE};
+    int[] sizes = {1, 1, 1, 2, 5, 9, 10, 10};
+    for (int i = 0; i < values.length; i++) {
+      ByteArrayDataOutput out = ByteStreams.newDataOutput();
+      out.writeVarLong(values[i]);
+      byte[] encoded = out.toByteArray();
+      assertWithMessage("size of %s", values[i]).that(encoded).hasLength(sizes[i]);
+      assertEquals(values[i], ByteStreams.newDataInput(encoded).readVarLong());
+    }
+  }
+
+  public void testZigZagVarInts() {
+    int[] values = {0, -1, 1, -2, 2, 63, -64, 64, Integer.MAX_VALUE, Integer.MIN_VALUE};
+    int[] sizes = {1, 1, 1, 1, 1, 1, 1, 2, 5, 5};
+    for (int i = 0; i < values.length; i++) {
+      ByteArrayDataOutput out = ByteStreams.newDataOutput();
+      out.writeZigZagVarInt(values[i]);
+      byte[] encoded = out.toByteArray();
+      assertWithMessage("size of %s", values[i]).that(encoded).hasLength(sizes[i]);
+      assertEquals(values[i], ByteStreams.newDataInput(encoded).readZigZagVarInt());
+    }
+    ByteArrayDataOutput out = ByteStreams.newDataOutput();
+    out.writeZigZagVarInt(-2);
+    assertThat(out.toByteArray()).isEqualTo(new byte[] {3});
+  }
+
+  public void testZigZagVarLongs() {
+    long[] values = {0, -1, 1, -64, 64, Long.MAX_VALUE, Long.MIN_VALUE};
+    int[] sizes = {1, 1, 1, 1, 2, 10, 10};
+    for (int i = 0; i < values.length; i++) {
+      ByteArrayDataOutput out = ByteStreams.newDataOutput();
+      out.writeZigZagVarLong(values[i]);
+      byte[] encoded = out.toByteArray();
+      assertWithMessage("size of %s", values[i]).that(encoded).hasLength(sizes[i]);
+      assertEquals(values[i], ByteStreams.newDataInput(encoded).readZigZagVarLong());
+    }
+  }
+
+  public void testReadVarInt_malformed() {
+    byte[] tooLong = {(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0};
+    try {
+      ByteStreams.newDataInput(tooLong).readVarInt();
+      fail("expected exception");
+    } catch (IllegalStateException expected) {
+    }
+    try {
+      ByteStreams.newDataInput(new byte[] {(byte) 0x80}).readVarLong();
+      fail("expected exception");
+    } catch (IllegalStateException expected) {
+      assertThat(expected).hasCauseThat().isInstanceOf(EOFException.class);
+    }
+  }
+
   private static final byte[] PRE_FILLED_100 = newPreFilledByteArray(100);
 
   public void testToByteArray() throws IOException {
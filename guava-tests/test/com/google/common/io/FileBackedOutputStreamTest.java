@@ -17,7 +17,10 @@
 package com.google.common.io;
 
 
+import com.google.common.base.Optional;
+import com.google.common.hash.Hashing;
 import com.google.common.testing.GcFinalization;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -148,6 +151,46 @@ public class FileBackedOutputStreamTest extends IoTestCase {
     out.reset();
   }
 
+  public void testUnflushedWritesToFileAreRead() throws Exception {
+    byte[] data = newPreFilledByteArray(100);
+    FileBackedOutputStream out = new FileBackedOutputStream(10);
+    ByteSource source = out.asByteSource();
+
+    for (byte b : data) {
+      out.write(b);
+    }
+    File file = out.getFile();
+    assertTrue(Arrays.equals(data, source.read()));
+    assertEquals(100, file.length());
+
+    out.write(data, 0, 10);
+    assertEquals(110, source.size());
+    out.reset();
+  }
+
+  public void testSourceViews() throws Exception {
+    byte[] data = newPreFilledByteArray(100);
+    for (int fileThreshold : new int[] {50, 1000}) {
+      FileBackedOutputStream out = new FileBackedOutputStream(fileThreshold);
+      ByteSource source = out.asByteSource();
+      assertTrue(source.isEmpty());
+      assertEquals(Optional.of(0L), source.sizeIfKnown());
+
+      out.write(data);
+      assertEquals(fileThreshold < data.length, out.getFile() != null);
+      assertFalse(source.isEmpty());
+      assertEquals(Optional.of(100L), source.sizeIfKnown());
+      assertEquals(Hashing.sha256().hashBytes(data), source.hash(Hashing.sha256()));
+      ByteArrayOutputStream copy = new ByteArrayOutputStream();
+      assertEquals(100, source.copyTo(copy));
+      assertTrue(Arrays.equals(data, copy.toByteArray()));
+      File target = createTempFile();
+      assertEquals(100, source.copyTo(Files.asByteSink(target)));
+      assertTrue(Arrays.equals(data, Files.toByteArray(target)));
+      out.reset();
+    }
+  }
+
   public void testReset() throws Exception {
     byte[] data = newPreFilledByteArray(100);
     FileBackedOutputStream out = new FileBackedOutputStream(Integer.MAX_VALUE);
@@ -27,12 +27,16 @@ import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -151,6 +155,64 @@ public class FilesTest extends IoTestCase {
     assertEquals(I18N, out.toString("UTF-8"));
   }
 
+  public void testCopyToFileOutputStream() throws IOException {
+    File i18nFile = getTestFile("i18n.txt");
+    File temp = createTempFile();
+    Files.write(ASCII, temp, Charsets.UTF_8);
+    try (FileOutputStream out = new FileOutputStream(temp, true)) {
+      assertEquals(i18nFile.length(), Files.asByteSource(i18nFile).copyTo(out));
+      out.write('!');
+    }
+    assertEquals(ASCII + I18N + "!", Files.toString(temp, Charsets.UTF_8));
+  }
+
+  public void testByteSourceCopyToByteSink_file() throws IOException {
+    byte[] bytes = newPreFilledByteArray(3 * 512 * 1024 + 7);
+    File source = createTempFile();
+    Files.write(bytes, source);
+    File target = createTempFile();
+    Files.write(ASCII, target, Charsets.UTF_8);
+    assertEquals(bytes.length, Files.asByteSource(source).copyTo(Files.asByteSink(target)));
+    assertTrue(Arrays.equals(bytes, Files.toByteArray(target)));
+
+    Files.asByteSource(source).slice(0, 5).copyTo(Files.asByteSink(target, FileWriteMode.APPEND));
+    assertEquals(bytes.length + 5, target.length());
+  }
+
+  public void testByteSourceCopyToByteSink_channelSink() throws IOException {
+    File i18nFile = getTestFile("i18n.txt");
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ByteSink channelSink =
+        new ByteSink() {
+          @Override
+          public OutputStream openStream() {
+            throw new AssertionError("expected the sink's channel to be used");
+          }
+
+          @Override
+          public WritableByteChannel openChannel() {
+            return Channels.newChannel(out);
+          }
+        };
+    Files.asByteSource(i18nFile).copyTo(channelSink);
+    assertEquals(I18N, out.toString("UTF-8"));
+  }
+
+  public void testByteSourceCopyTo_zeroLengthSpecialFile() throws IOException {
+    File status = new File("/proc/self/status");
+    if (!status.isFile()) {
+      return; // not Linux
+    }
+    assertEquals(0, status.length());
+    File target = createTempFile();
+    assertThat(Files.asByteSource(status).copyTo(Files.asByteSink(target))).isGreaterThan(0L);
+    assertThat(Files.asCharSource(target, Charsets.UTF_8).read()).contains("Name:");
+    try (FileOutputStream out = new FileOutputStream(target)) {
+      assertThat(Files.asByteSource(status).copyTo(out)).isGreaterThan(0L);
+    }
+    assertThat(Files.asCharSource(target, Charsets.UTF_8).read()).contains("Name:");
+  }
+
   public void testCopyToAppendable() throws IOException {
     File i18nFile = getTestFile("i18n.txt");
     StringBuilder sb = new StringBuilder();
@@ -149,4 +149,50 @@ public class LittleEndianDataInputStreamTest extends TestCase {
     assertTrue(in.readBoolean());
     assertFalse(in.readBoolean());
   }
+
+  public void testReadInts() throws IOException {
+    // More values than fit in one scratch buffer, so that they are read in several chunks.
+    int[] expected = new int[5000];
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    LittleEndianDataOutputStream out = new LittleEndianDataOutputStream(baos);
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = i * 0x9E3779B9;
+      out.writeInt(expected[i]);
+    }
+    LittleEndianDataInputStream in =
+        new LittleEndianDataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+    int[] actual = new int[expected.length + 2];
+    in.readInts(actual, 1, expected.length);
+    assertThat(actual[0]).isEqualTo(0);
+    assertThat(actual[actual.length - 1]).isEqualTo(0);
+    for (int i = 0; i < expected.length; i++) {
+      assertThat(actual[i + 1]).isEqualTo(expected[i]);
+    }
+    assertThat(in.read()).isEqualTo(-1);
+  }
+
+  public void testReadLongs() throws IOException {
+    long[] expected = new long[3000];
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    LittleEndianDataOutputStream out = new LittleEndianDataOutputStream(baos);
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = i * 0x9E3779B97F4A7C15L;
+      out.writeLong(expected[i]);
+    }
+    LittleEndianDataInputStream in =
+        new LittleEndianDataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+    long[] actual = new long[expected.length];
+    in.readLongs(actual);
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  public void testReadInts_eof() throws IOException {
+    LittleEndianDataInputStream in =
+        new LittleEndianDataInputStream(new ByteArrayInputStream(new byte[7]));
+    try {
+      in.readInts(new int[2]);
+      fail();
+    } catch (EOFException expected) {
+    }
+  }
 }
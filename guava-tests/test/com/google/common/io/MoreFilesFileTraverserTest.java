@@ -25,10 +25,16 @@ import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import junit.framework.TestCase;
 
 /**
- * Tests for {@link MoreFiles#fileTraverser()}.
+ * Tests for {@link MoreFiles#fileTraverser()} and {@link MoreFiles#traverseInParallel}.
  *
  * @author Jens Nyman
  */
@@ -107,6 +113,74 @@ public class MoreFilesFileTraverserTest extends TestCase {
         .containsExactly(rootDir, fileA, fileB, dir1, dir2);
   }
 
+  public void testTraverseInParallel_nonExistingFile() throws Exception {
+    Path file = rootDir.resolve("file-that-doesnt-exist");
+
+    assertThat(traverseInParallel(file)).containsExactly(file);
+  }
+
+  public void testTraverseInParallel_sameAsFileTraverser() throws Exception {
+    // Enough entries that they are split into several tasks.
+    for (int i = 0; i < 5; i++) {
+      newDir("dir-" + i);
+      for (int j = 0; j < 100; j++) {
+        newFile("dir-" + i + "/file-" + j);
+      }
+    }
+    newDir("dir-0/dir-a");
+    newFile("dir-0/dir-a/file-b");
+
+    assertThat(traverseInParallel(rootDir))
+        .containsExactlyElementsIn(MoreFiles.fileTraverser().depthFirstPreOrder(rootDir));
+  }
+
+  public void testTraverseInParallel_directoriesBeforeTheirEntries() throws Exception {
+    newDir("dir-1");
+    newDir("dir-1/dir-2");
+    newFile("dir-1/dir-2/file-a");
+
+    List<Path> visited = Collections.synchronizedList(new ArrayList<>());
+    MoreFiles.traverseInParallel(rootDir, POOL, visited::add);
+    assertThat(visited)
+        .containsExactly(
+            rootDir,
+            rootDir.resolve("dir-1"),
+            rootDir.resolve("dir-1/dir-2"),
+            rootDir.resolve("dir-1/dir-2/file-a"))
+        .inOrder();
+  }
+
+  public void testTraverseInParallel_visitorThrows() throws Exception {
+    newFile("file-a");
+
+    try {
+      MoreFiles.traverseInParallel(
+          rootDir,
+          POOL,
+          path -> {
+            if (path.endsWith("file-a")) {
+              throw new IllegalArgumentException("visited " + path);
+            }
+          });
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+  private static Set<Path> traverseInParallel(Path start) throws IOException {
+    Set<Path> visited = ConcurrentHashMap.newKeySet();
+    MoreFiles.traverseInParallel(
+        start,
+        POOL,
+        path -> {
+          // Each path is visited exactly once.
+          assertTrue(visited.add(path));
+        });
+    return visited;
+  }
+
   @CanIgnoreReturnValue
   private Path newDir(String name) throws IOException {
     Path dir = rootDir.resolve(name);
@@ -22,8 +22,10 @@ import static com.google.common.jimfs.Feature.SYMBOLIC_LINKS;
 import static com.google.common.truth.Truth.assertThat;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.nio.file.StandardOpenOption.APPEND;
 
 import com.google.common.collect.ObjectArrays;
+import com.google.common.hash.Hashing;
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Feature;
 import com.google.common.jimfs.Jimfs;
@@ -39,9 +41,11 @@ import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 import junit.framework.TestCase;
 import junit.framework.TestSuite;
@@ -61,6 +65,16 @@ public class MoreFilesTest extends TestCase {
     suite.addTest(
         ByteSourceTester.tests(
             "MoreFiles.asByteSource[Path]", SourceSinkFactories.pathByteSourceFactory(), true));
+    suite.addTest(
+        ByteSourceTester.tests(
+            "MoreFiles.asMappedByteSource[Path]",
+            SourceSinkFactories.mappedPathByteSourceFactory(MappedByteSource.DEFAULT_SEGMENT_SIZE),
+            true));
+    suite.addTest(
+        ByteSourceTester.tests(
+            "MappedByteSource[segmentSize = 7]",
+            SourceSinkFactories.mappedPathByteSourceFactory(7),
+            true));
     suite.addTest(
         ByteSinkTester.tests(
             "MoreFiles.asByteSink[Path]", SourceSinkFactories.pathByteSinkFactory()));
@@ -197,6 +211,74 @@ public class MoreFilesTest extends TestCase {
     }
   }
 
+  public void testByteSource_copyTo_byteSink() throws IOException {
+    byte[] bytes = IoTestCase.newPreFilledByteArray(3 * 512 * 1024 + 7);
+    Path source = createTempFile();
+    Files.write(source, bytes);
+    Path target = createTempFile();
+    Files.write(target, new byte[] {1, 2, 3});
+
+    assertThat(MoreFiles.asByteSource(source).copyTo(MoreFiles.asByteSink(target)))
+        .isEqualTo(bytes.length);
+    assertThat(Files.readAllBytes(target)).isEqualTo(bytes);
+
+    MoreFiles.asByteSource(source).copyTo(MoreFiles.asByteSink(target, APPEND));
+    assertThat(Files.size(target)).isEqualTo(2L * bytes.length);
+  }
+
+  public void testByteSource_copyTo_byteSink_zeroLengthSpecialFile() throws IOException {
+    Path status = FileSystems.getDefault().getPath("/proc/self/status");
+    if (!Files.isRegularFile(status)) {
+      return; // not Linux
+    }
+    assertThat(Files.size(status)).isEqualTo(0L);
+    Path target = createTempFile();
+    assertThat(MoreFiles.asByteSource(status).copyTo(MoreFiles.asByteSink(target)))
+        .isGreaterThan(0L);
+    assertThat(MoreFiles.asCharSource(target, UTF_8).read()).contains("Name:");
+  }
+
+  public void testByteSource_copyTo_byteSink_jimfs() throws IOException {
+    try (FileSystem fs = Jimfs.newFileSystem(Configuration.unix())) {
+      Path foo = fs.getPath("foo");
+      Path bar = fs.getPath("bar");
+      MoreFiles.asCharSink(foo, UTF_8).write("foo");
+      MoreFiles.asCharSink(bar, UTF_8).write("barbar");
+
+      MoreFiles.asByteSource(foo).copyTo(MoreFiles.asByteSink(bar));
+      assertThat(MoreFiles.asCharSource(bar, UTF_8).read()).isEqualTo("foo");
+    }
+  }
+
+  public void testMappedByteSource_contentEquals() throws IOException {
+    byte[] bytes = IoTestCase.newPreFilledByteArray(100);
+    Path path = createTempFile();
+    Files.write(path, bytes);
+    Path other = createTempFile();
+    Files.write(other, Arrays.copyOfRange(bytes, 10, 60));
+
+    ByteSource source = new MappedByteSource(path, 0, Long.MAX_VALUE, 16);
+    ByteSource otherSource = new MappedByteSource(other, 0, Long.MAX_VALUE, 7);
+    assertThat(source.contentEquals(otherSource)).isFalse();
+    assertThat(source.slice(10, 50).contentEquals(otherSource)).isTrue();
+    assertThat(otherSource.contentEquals(source.slice(10, 50))).isTrue();
+    assertThat(source.slice(10, 50).contentEquals(otherSource.slice(0, 49))).isFalse();
+    assertThat(source.slice(11, 50).contentEquals(otherSource)).isFalse();
+  }
+
+  public void testMappedByteSource_sliceOfSlice() throws IOException {
+    byte[] bytes = IoTestCase.newPreFilledByteArray(100);
+    Path path = createTempFile();
+    Files.write(path, bytes);
+
+    ByteSource slice = MoreFiles.asMappedByteSource(path).slice(20, 60).slice(5, 100);
+    assertThat(slice.size()).isEqualTo(55);
+    assertThat(slice.read()).isEqualTo(Arrays.copyOfRange(bytes, 25, 80));
+    assertThat(slice.hash(Hashing.crc32c()))
+        .isEqualTo(Hashing.crc32c().hashBytes(bytes, 25, 55));
+    assertThat(MoreFiles.asMappedByteSource(path).slice(100, 1).isEmpty()).isTrue();
+  }
+
   public void testEqual() throws IOException {
     try (FileSystem fs = Jimfs.newFileSystem(Configuration.unix())) {
       Path fooPath = fs.getPath("foo");
@@ -689,7 +771,39 @@ public class MoreFilesTest extends TestCase {
             });
   }
 
-  /** Enum defining the two MoreFiles methods that delete directory contents. */
+  public void testDeleteRecursively_inParallel_manyFiles() throws IOException {
+    // Enough entries at each level that they are split into several tasks.
+    Path dir = tempDir.resolve("dir");
+    for (int i = 0; i < 10; i++) {
+      Path subdir = Files.createDirectories(dir.resolve("sub" + i));
+      for (int j = 0; j < 100; j++) {
+        Files.createFile(subdir.resolve("file" + j));
+      }
+      Files.createFile(dir.resolve("file" + i));
+    }
+    for (int i = 10; i < 100; i++) {
+      Files.createFile(dir.resolve("file" + i));
+    }
+
+    MoreFiles.deleteRecursively(dir, POOL);
+    assertFalse(Files.exists(dir));
+  }
+
+  public void testDeleteRecursively_inParallel_nonexistingFile_throwsNoSuchFileException()
+      throws IOException {
+    try (FileSystem fs = newTestFileSystem()) {
+      try {
+        MoreFiles.deleteRecursively(fs.getPath("/work/nothere"), POOL, ALLOW_INSECURE);
+        fail();
+      } catch (NoSuchFileException expected) {
+        assertThat(expected.getFile()).isEqualTo("/work/nothere");
+      }
+    }
+  }
+
+  private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+  /** Enum defining the MoreFiles methods that delete directory contents. */
   private enum DirectoryDeleteMethod {
     DELETE_DIRECTORY_CONTENTS {
       @Override
@@ -715,6 +829,28 @@ public class MoreFilesTest extends TestCase {
       public void assertDeleteSucceeded(Path path) throws IOException {
         assertFalse("file " + path + " not deleted with delete method " + this, Files.exists(path));
       }
+    },
+    DELETE_DIRECTORY_CONTENTS_IN_PARALLEL {
+      @Override
+      public void delete(Path path, RecursiveDeleteOption... options) throws IOException {
+        MoreFiles.deleteDirectoryContents(path, POOL, options);
+      }
+
+      @Override
+      public void assertDeleteSucceeded(Path path) throws IOException {
+        DELETE_DIRECTORY_CONTENTS.assertDeleteSucceeded(path);
+      }
+    },
+    DELETE_RECURSIVELY_IN_PARALLEL {
+      @Override
+      public void delete(Path path, RecursiveDeleteOption... options) throws IOException {
+        MoreFiles.deleteRecursively(path, POOL, options);
+      }
+
+      @Override
+      public void assertDeleteSucceeded(Path path) throws IOException {
+        DELETE_RECURSIVELY.assertDeleteSucceeded(path);
+      }
     };
 
     public abstract void delete(Path path, RecursiveDeleteOption... options) throws IOException;
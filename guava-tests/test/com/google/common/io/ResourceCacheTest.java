@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.io;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.testing.NullPointerTester;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/** Tests for {@link ResourceCache}. */
+public class ResourceCacheTest extends IoTestCase {
+
+  private static final byte[] SMALL = "small resource".getBytes(UTF_8);
+  // Larger than the largest entry that is cached.
+  private static final byte[] LARGE = newPreFilledByteArray(100_000);
+
+  private File jar;
+  private ResourceCache cache;
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    jar = createTempFile();
+    try (JarOutputStream out = new JarOutputStream(new FileOutputStream(jar))) {
+      out.putNextEntry(new JarEntry("dir/"));
+      out.putNextEntry(new JarEntry("dir/small.txt"));
+      out.write(SMALL);
+      out.putNextEntry(new JarEntry("large.bin"));
+      out.write(LARGE);
+    }
+    cache = ResourceCache.create(1024 * 1024);
+  }
+
+  @Override
+  protected void tearDown() {
+    try {
+      cache.close();
+    } catch (IOException e) {
+      throw new AssertionError(e);
+    } finally {
+      super.tearDown();
+    }
+  }
+
+  public void testToByteArray_small() throws IOException {
+    URL url = entryUrl("dir/small.txt");
+    assertThat(cache.toByteArray(url)).isEqualTo(SMALL);
+    assertThat(cache.toByteArray(url)).isEqualTo(Resources.toByteArray(url));
+    assertThat(cache.stats().loadCount()).isEqualTo(1);
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+  }
+
+  public void testToByteArray_returnsCopies() throws IOException {
+    URL url = entryUrl("dir/small.txt");
+    cache.toByteArray(url)[0] = 0;
+    assertThat(cache.toByteArray(url)).isEqualTo(SMALL);
+  }
+
+  public void testToByteArray_large() throws IOException {
+    URL url = entryUrl("large.bin");
+    assertThat(cache.toByteArray(url)).isEqualTo(LARGE);
+    assertThat(cache.asByteSource(url).openStream().read()).isEqualTo(LARGE[0] & 0xFF);
+    assertThat(cache.stats().requestCount()).isEqualTo(0);
+  }
+
+  public void testAsCharSource() throws IOException {
+    assertThat(cache.asCharSource(entryUrl("dir/small.txt"), UTF_8).read())
+        .isEqualTo("small resource");
+  }
+
+  public void testSizeIfKnown() throws IOException {
+    assertThat(cache.asByteSource(entryUrl("large.bin")).sizeIfKnown())
+        .hasValue((long) LARGE.length);
+    assertThat(cache.asByteSource(entryUrl("missing")).sizeIfKnown()).isAbsent();
+  }
+
+  public void testMissingEntry() throws IOException {
+    assertThrows(FileNotFoundException.class, () -> cache.toByteArray(entryUrl("missing")));
+    assertThrows(FileNotFoundException.class, () -> cache.toByteArray(entryUrl("dir/")));
+  }
+
+  public void testFileUrl_notCached() throws IOException {
+    File file = createTempFile();
+    Files.write(SMALL, file);
+    URL url = file.toURI().toURL();
+    assertThat(cache.toByteArray(url)).isEqualTo(SMALL);
+    assertThat(cache.stats().requestCount()).isEqualTo(0);
+  }
+
+  public void testClose() throws IOException {
+    URL url = entryUrl("dir/small.txt");
+    assertThat(cache.toByteArray(url)).isEqualTo(SMALL);
+    cache.close();
+    assertThat(cache.toByteArray(url)).isEqualTo(SMALL);
+    assertThat(cache.stats().loadCount()).isEqualTo(2);
+  }
+
+  public void testCreate_negative() {
+    assertThrows(IllegalArgumentException.class, () -> ResourceCache.create(-1));
+  }
+
+  public void testNulls() throws IOException {
+    new NullPointerTester()
+        .setDefault(URL.class, entryUrl("dir/small.txt"))
+        .testAllPublicStaticMethods(ResourceCache.class);
+    new NullPointerTester()
+        .setDefault(URL.class, entryUrl("dir/small.txt"))
+        .testAllPublicInstanceMethods(cache);
+  }
+
+  private URL entryUrl(String entryName) throws IOException {
+    return new URL("jar:" + jar.toURI() + "!/" + entryName);
+  }
+}
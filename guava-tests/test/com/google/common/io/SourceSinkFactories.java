@@ -106,6 +106,11 @@ public class SourceSinkFactories {
     return new PathByteSourceFactory();
   }
 
+  @AndroidIncompatible
+  public static ByteSourceFactory mappedPathByteSourceFactory(int segmentSize) {
+    return new MappedPathByteSourceFactory(segmentSize);
+  }
+
   @AndroidIncompatible
   public static ByteSinkFactory pathByteSinkFactory() {
     return new PathByteSinkFactory(null);
@@ -515,6 +520,33 @@ public class SourceSinkFactories {
     }
   }
 
+  @AndroidIncompatible
+  private static class MappedPathByteSourceFactory extends Jdk7FileFactory
+      implements ByteSourceFactory {
+
+    private final int segmentSize;
+
+    private MappedPathByteSourceFactory(int segmentSize) {
+      this.segmentSize = segmentSize;
+    }
+
+    @Override
+    public ByteSource createSource(byte[] bytes) throws IOException {
+      checkNotNull(bytes);
+      Path file = createFile();
+
+      java.nio.file.Files.write(file, bytes);
+      return segmentSize == MappedByteSource.DEFAULT_SEGMENT_SIZE
+          ? MoreFiles.asMappedByteSource(file)
+          : new MappedByteSource(file, 0, Long.MAX_VALUE, segmentSize);
+    }
+
+    @Override
+    public byte[] getExpected(byte[] bytes) {
+      return checkNotNull(bytes);
+    }
+  }
+
   @AndroidIncompatible
   private static class PathByteSinkFactory extends Jdk7FileFactory implements ByteSinkFactory {
 
@@ -188,11 +188,15 @@ public final class ArrayTable<R, C, V> extends AbstractTable<R, C, @Nullable V>
     }
   }
 
-  private abstract static class ArrayMap<K, V extends @Nullable Object>
+  /**
+   * Map view over one row or column of an array-backed table, shared with {@link DoubleArrayTable}
+   * and {@link LongArrayTable}.
+   */
+  abstract static class ArrayMap<K, V extends @Nullable Object>
       extends IteratorBasedAbstractMap<K, V> {
     private final ImmutableMap<K, Integer> keyIndex;
 
-    private ArrayMap(ImmutableMap<K, Integer> keyIndex) {
+    ArrayMap(ImmutableMap<K, Integer> keyIndex) {
       this.keyIndex = keyIndex;
     }
 
@@ -32,6 +32,8 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.SortedSet;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import javax.annotation.CheckForNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -146,6 +148,16 @@ public abstract class FluentIterable<E extends @Nullable Object> implements Iter
           public Iterator<E> iterator() {
             return iterable.iterator();
           }
+
+          @Override
+          public void forEach(Consumer<? super E> action) {
+            iterable.forEach(action);
+          }
+
+          @Override
+          public Spliterator<E> spliterator() {
+            return iterable.spliterator();
+          }
         };
   }
 
@@ -284,6 +296,14 @@ public abstract class FluentIterable<E extends @Nullable Object> implements Iter
       public Iterator<T> iterator() {
         return Iterators.concat(Iterators.transform(inputs.iterator(), Iterables.<T>toIterator()));
       }
+
+      @Override
+      public void forEach(Consumer<? super T> action) {
+        checkNotNull(action);
+        for (Iterable<? extends T> input : inputs) {
+          input.forEach(action);
+        }
+      }
     };
   }
 
@@ -305,6 +325,14 @@ public abstract class FluentIterable<E extends @Nullable Object> implements Iter
               }
             });
       }
+
+      @Override
+      public void forEach(Consumer<? super T> action) {
+        checkNotNull(action);
+        for (Iterable<? extends T> input : inputs) {
+          input.forEach(action);
+        }
+      }
     };
   }
 
@@ -628,7 +656,14 @@ public abstract class FluentIterable<E extends @Nullable Object> implements Iter
    */
   @SuppressWarnings("nullness") // Unsafe, but we can't do much about it now.
   public final ImmutableList<E> toList() {
-    return ImmutableList.copyOf(getDelegate());
+    Iterable<E> iterable = getDelegate();
+    if (iterable instanceof Collection) {
+      return ImmutableList.copyOf((Collection<E>) iterable);
+    }
+    // Pushing elements through forEach lets chained filter/transform/limit views run as one loop.
+    ImmutableList.Builder<E> builder = ImmutableList.builder();
+    iterable.forEach(builder::add);
+    return builder.build();
   }
 
   /**
@@ -660,7 +695,13 @@ public abstract class FluentIterable<E extends @Nullable Object> implements Iter
    */
   @SuppressWarnings("nullness") // Unsafe, but we can't do much about it now.
   public final ImmutableSet<E> toSet() {
-    return ImmutableSet.copyOf(getDelegate());
+    Iterable<E> iterable = getDelegate();
+    if (iterable instanceof Collection) {
+      return ImmutableSet.copyOf((Collection<E>) iterable);
+    }
+    ImmutableSet.Builder<E> builder = ImmutableSet.builder();
+    iterable.forEach(builder::add);
+    return builder.build();
   }
 
   /**
@@ -692,7 +733,13 @@ public abstract class FluentIterable<E extends @Nullable Object> implements Iter
    */
   @SuppressWarnings("nullness") // Unsafe, but we can't do much about it now.
   public final ImmutableMultiset<E> toMultiset() {
-    return ImmutableMultiset.copyOf(getDelegate());
+    Iterable<E> iterable = getDelegate();
+    if (iterable instanceof Collection) {
+      return ImmutableMultiset.copyOf(iterable);
+    }
+    ImmutableMultiset.Builder<E> builder = ImmutableMultiset.builder();
+    iterable.forEach(builder::add);
+    return builder.build();
   }
 
   /**
@@ -817,9 +864,7 @@ public abstract class FluentIterable<E extends @Nullable Object> implements Iter
     if (iterable instanceof Collection) {
       collection.addAll((Collection<E>) iterable);
     } else {
-      for (E item : iterable) {
-        collection.add(item);
-      }
+      iterable.forEach(collection::add);
     }
     return collection;
   }
@@ -22,6 +22,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.GwtCompatible;
+import com.google.common.annotations.GwtIncompatible;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.errorprone.annotations.DoNotCall;
@@ -480,6 +481,21 @@ public abstract class ImmutableBiMap<K, V> extends ImmutableBiMapFauxverideShim<
       }
     }
 
+    /**
+     * Throws an {@code UnsupportedOperationException}.
+     *
+     * @since NEXT
+     * @deprecated Unsupported by ImmutableBiMap.Builder.
+     */
+    @Beta
+    @GwtIncompatible // PerfectHashImmutableMap
+    @Override
+    @Deprecated
+    @DoNotCall("Always throws UnsupportedOperationException")
+    public final ImmutableBiMap<K, V> buildPerfectHash() {
+      throw new UnsupportedOperationException("Not available on ImmutableBiMap.Builder");
+    }
+
     @Override
     @VisibleForTesting
     ImmutableBiMap<K, V> buildJdkBacked() {
@@ -24,6 +24,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.GwtCompatible;
+import com.google.common.annotations.GwtIncompatible;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.errorprone.annotations.DoNotCall;
@@ -575,6 +576,43 @@ public abstract class ImmutableMap<K, V> implements Map<K, V>, Serializable {
       }
     }
 
+    /**
+     * Returns a newly-created immutable map backed by a minimal perfect hash function over its
+     * keys, or throws an exception if any key was added more than once. The iteration order of the
+     * returned map is the same as for {@link #buildOrThrow}.
+     *
+     * <p>Building the map takes longer than {@link #buildOrThrow}, but lookups in the result always
+     * examine a single slot and the map holds no per-entry objects. This suits maps that are built
+     * once and then queried heavily. If the keys' {@link Object#hashCode} values don't allow a
+     * perfect hash (for example, because two distinct keys have the same hash code), an ordinary
+     * hash-based map is returned instead.
+     *
+     * @throws IllegalArgumentException if duplicate keys were added
+     * @since NEXT
+     */
+    @Beta
+    @GwtIncompatible // PerfectHashImmutableMap
+    public ImmutableMap<K, V> buildPerfectHash() {
+      if (valueComparator != null) {
+        if (entriesUsed) {
+          entries = Arrays.copyOf(entries, size);
+        }
+        Arrays.sort(
+            entries, 0, size, Ordering.from(valueComparator).onResultOf(Maps.<V>valueFunction()));
+      }
+      switch (size) {
+        case 0:
+          return of();
+        case 1:
+          // requireNonNull is safe because the first `size` elements have been filled in.
+          Entry<K, V> onlyEntry = requireNonNull(entries[0]);
+          return of(onlyEntry.getKey(), onlyEntry.getValue());
+        default:
+          entriesUsed = true;
+          return PerfectHashImmutableMap.fromEntryArray(size, entries);
+      }
+    }
+
     @VisibleForTesting // only for testing JDK backed implementation
     ImmutableMap<K, V> buildJdkBacked() {
       checkState(
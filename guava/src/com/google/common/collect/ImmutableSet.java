@@ -208,6 +208,49 @@ public abstract class ImmutableSet<E> extends ImmutableCollection<E> implements
     }
   }
 
+  /**
+   * Constructs an {@code ImmutableSet} from an array whose elements are non-null and already
+   * distinct, such as the contents of another {@code ImmutableSet}. Unlike {@link #construct}, this
+   * never calls {@code equals}: each element simply goes into the first free slot of its probe
+   * sequence. If a probe run grows long enough to suggest hash flooding, this falls back to {@link
+   * #construct}, which handles that case.
+   *
+   * <p>{@code elements} may be used without copying in the returned {@code ImmutableSet}, in which
+   * case the caller must not modify it.
+   */
+  private static <E> ImmutableSet<E> constructDistinct(Object[] elements) {
+    int n = elements.length;
+    switch (n) {
+      case 0:
+        return of();
+      case 1:
+        @SuppressWarnings("unchecked") // safe; elements contains only E's
+        E elem = (E) elements[0];
+        return of(elem);
+      default:
+        int tableSize = chooseTableSize(n);
+        @Nullable Object[] table = new @Nullable Object[tableSize];
+        int mask = tableSize - 1;
+        int maxRunBeforeFallback = RegularSetBuilderImpl.maxRunBeforeFallback(tableSize);
+        int hashCode = 0;
+        for (Object e : elements) {
+          int eHash = e.hashCode();
+          int i0 = Hashing.smear(eHash);
+          int i = i0;
+          while (table[i & mask] != null) {
+            if (++i - i0 >= maxRunBeforeFallback) {
+              return construct(n, n, elements);
+            }
+          }
+          table[i & mask] = e;
+          hashCode += eHash;
+        }
+        return RegularSetBuilderImpl.hashFloodingDetected(table)
+            ? ImmutableSet.<E>construct(n, n, elements)
+            : new RegularImmutableSet<E>(elements, hashCode, table, mask);
+    }
+  }
+
   /**
    * Returns an immutable set containing each of {@code elements}, minus duplicates, in the order
    * each appears first in the source collection.
@@ -232,6 +275,8 @@ public abstract class ImmutableSet<E> extends ImmutableCollection<E> implements
       if (!set.isPartialView()) {
         return set;
       }
+      // e.g. ImmutableMap.keySet(): the elements are already known to be distinct.
+      return constructDistinct(set.toArray());
     } else if (elements instanceof EnumSet) {
       return copyOfEnumSet((EnumSet) elements);
     }
@@ -538,6 +583,10 @@ public abstract class ImmutableSet<E> extends ImmutableCollection<E> implements
     @Override
     @CanIgnoreReturnValue
     public Builder<E> addAll(Iterable<? extends E> elements) {
+      // impl is null for ImmutableSortedSet.Builder, which does its own sizing.
+      if (impl != null && elements instanceof Collection) {
+        impl = impl.expandFor(((Collection<?>) elements).size());
+      }
       super.addAll(elements);
       return this;
     }
@@ -605,6 +654,15 @@ public abstract class ImmutableSet<E> extends ImmutableCollection<E> implements
       }
     }
 
+    /**
+     * Prepares to receive up to {@code additional} more distinct elements, so that bulk additions
+     * don't repeatedly grow the insertion-order array (and, with it, the hash table).
+     */
+    SetBuilderImpl<E> expandFor(int additional) {
+      ensureCapacity(distinct + additional);
+      return this;
+    }
+
     /** Adds e to the insertion-order array of deduplicated elements. Calls ensureCapacity. */
     final void addDedupedElement(E e) {
       ensureCapacity(distinct + 1);
@@ -664,6 +722,11 @@ public abstract class ImmutableSet<E> extends ImmutableCollection<E> implements
       return new RegularSetBuilderImpl<E>(Builder.DEFAULT_INITIAL_CAPACITY).add(e);
     }
 
+    @Override
+    SetBuilderImpl<E> expandFor(int additional) {
+      return (additional > 0) ? new RegularSetBuilderImpl<E>(additional) : this;
+    }
+
     @Override
     SetBuilderImpl<E> copy() {
       return this;
@@ -24,6 +24,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.GwtCompatible;
+import com.google.common.annotations.GwtIncompatible;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.google.errorprone.annotations.DoNotCall;
 import java.util.AbstractMap;
@@ -701,6 +702,21 @@ public final class ImmutableSortedMap<K, V> extends ImmutableSortedMapFauxveride
       throw new UnsupportedOperationException("Not available on ImmutableSortedMap.Builder");
     }
 
+    /**
+     * Throws an {@code UnsupportedOperationException}.
+     *
+     * @since NEXT
+     * @deprecated Unsupported by ImmutableSortedMap.Builder.
+     */
+    @Beta
+    @GwtIncompatible // PerfectHashImmutableMap
+    @Override
+    @Deprecated
+    @DoNotCall("Always throws UnsupportedOperationException")
+    public final ImmutableSortedMap<K, V> buildPerfectHash() {
+      throw new UnsupportedOperationException("Not available on ImmutableSortedMap.Builder");
+    }
+
     @Override
     Builder<K, V> combine(ImmutableMap.Builder<K, V> other) {
       super.combine(other);
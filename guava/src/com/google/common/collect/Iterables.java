@@ -946,6 +946,20 @@ public final class Iterables {
         };
       }
 
+      @Override
+      public void forEach(Consumer<? super T> action) {
+        checkNotNull(action);
+        if (iterable instanceof List) {
+          final List<T> list = (List<T>) iterable;
+          int toSkip = Math.min(list.size(), numberToSkip);
+          list.subList(toSkip, list.size()).forEach(action);
+        } else {
+          Spliterator<T> spliterator = iterable.spliterator();
+          for (int i = 0; i < numberToSkip && spliterator.tryAdvance(t -> {}); i++) {}
+          spliterator.forEachRemaining(action);
+        }
+      }
+
       @Override
       public Spliterator<T> spliterator() {
         if (iterable instanceof List) {
@@ -982,6 +996,15 @@ public final class Iterables {
         return Iterators.limit(iterable.iterator(), limitSize);
       }
 
+      @Override
+      public void forEach(Consumer<? super T> action) {
+        checkNotNull(action);
+        // tryAdvance stops pulling from upstream views as soon as the limit is reached, while
+        // still pushing each element through their fused filter/transform spliterators.
+        Spliterator<T> spliterator = iterable.spliterator();
+        for (int i = 0; i < limitSize && spliterator.tryAdvance(action); i++) {}
+      }
+
       @Override
       public Spliterator<T> spliterator() {
         return Streams.stream(iterable).limit(limitSize).spliterator();
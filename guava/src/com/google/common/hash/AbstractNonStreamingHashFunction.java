@@ -16,11 +16,9 @@ package com.google.common.hash;
 
 import com.google.common.base.Preconditions;
 import com.google.errorprone.annotations.Immutable;
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.Charset;
-import java.util.Arrays;
 
 /**
  * Skeleton implementation of {@link HashFunction}, appropriate for non-streaming algorithms. All
@@ -40,7 +38,7 @@ abstract class AbstractNonStreamingHashFunction extends AbstractHashFunction {
   @Override
   public Hasher newHasher(int expectedInputSize) {
     Preconditions.checkArgument(expectedInputSize >= 0);
-    return new BufferingHasher(expectedInputSize);
+    return new BufferingHasher(this, expectedInputSize);
   }
 
   @Override
@@ -75,60 +73,4 @@ abstract class AbstractNonStreamingHashFunction extends AbstractHashFunction {
   public HashCode hashBytes(ByteBuffer input) {
     return newHasher(input.remaining()).putBytes(input).hash();
   }
-
-  /** In-memory stream-based implementation of Hasher. */
-  private final class BufferingHasher extends AbstractHasher {
-    final ExposedByteArrayOutputStream stream;
-
-    BufferingHasher(int expectedInputSize) {
-      this.stream = new ExposedByteArrayOutputStream(expectedInputSize);
-    }
-
-    @Override
-    public Hasher putByte(byte b) {
-      stream.write(b);
-      return this;
-    }
-
-    @Override
-    public Hasher putBytes(byte[] bytes, int off, int len) {
-      stream.write(bytes, off, len);
-      return this;
-    }
-
-    @Override
-    public Hasher putBytes(ByteBuffer bytes) {
-      stream.write(bytes);
-      return this;
-    }
-
-    @Override
-    public HashCode hash() {
-      return hashBytes(stream.byteArray(), 0, stream.length());
-    }
-  }
-
-  // Just to access the byte[] without introducing an unnecessary copy
-  private static final class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
-    ExposedByteArrayOutputStream(int expectedInputSize) {
-      super(expectedInputSize);
-    }
-
-    void write(ByteBuffer input) {
-      int remaining = input.remaining();
-      if (count + remaining > buf.length) {
-        buf = Arrays.copyOf(buf, count + remaining);
-      }
-      input.get(buf, count, remaining);
-      count += remaining;
-    }
-
-    byte[] byteArray() {
-      return buf;
-    }
-
-    int length() {
-      return count;
-    }
-  }
 }
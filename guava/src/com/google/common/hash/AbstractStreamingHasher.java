@@ -179,13 +179,30 @@ abstract class AbstractStreamingHasher extends AbstractHasher {
 
   @Override
   public final HashCode hash() {
+    processBufferedInput();
+    return makeHash();
+  }
+
+  /**
+   * Handles all the data that this hasher still holds, with {@link #process} and {@link
+   * #processRemaining}, as {@link #hash} does before calling {@link #makeHash}. This is for
+   * subclasses that can also produce their result without a {@link HashCode}.
+   */
+  protected final void processBufferedInput() {
     munch();
     Java8Compatibility.flip(buffer);
     if (buffer.remaining() > 0) {
       processRemaining(buffer);
       Java8Compatibility.position(buffer, buffer.limit());
     }
-    return makeHash();
+  }
+
+  /**
+   * Discards the data that this hasher holds but has not yet handled. This is for subclasses that
+   * can be reset to their initial state.
+   */
+  protected final void clearBuffer() {
+    Java8Compatibility.clear(buffer);
   }
 
   /**
@@ -20,7 +20,7 @@ import com.google.common.math.LongMath;
 import com.google.common.primitives.Ints;
 import com.google.common.primitives.Longs;
 import java.math.RoundingMode;
-import java.util.Arrays;
+import java.nio.LongBuffer;
 import java.util.concurrent.atomic.AtomicLongArray;
 import javax.annotation.CheckForNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -50,7 +50,7 @@ enum BloomFilterStrategies implements BloomFilter.Strategy {
         @ParametricNullness T object,
         Funnel<? super T> funnel,
         int numHashFunctions,
-        LockFreeBitArray bits) {
+        BitArray bits) {
       long bitSize = bits.bitSize();
       long hash64 = Hashing.murmur3_128().hashObject(object, funnel).asLong();
       int hash1 = (int) hash64;
@@ -73,7 +73,7 @@ enum BloomFilterStrategies implements BloomFilter.Strategy {
         @ParametricNullness T object,
         Funnel<? super T> funnel,
         int numHashFunctions,
-        LockFreeBitArray bits) {
+        BitArray bits) {
       long bitSize = bits.bitSize();
       long hash64 = Hashing.murmur3_128().hashObject(object, funnel).asLong();
       int hash1 = (int) hash64;
@@ -104,7 +104,7 @@ enum BloomFilterStrategies implements BloomFilter.Strategy {
         @ParametricNullness T object,
         Funnel<? super T> funnel,
         int numHashFunctions,
-        LockFreeBitArray bits) {
+        BitArray bits) {
       long bitSize = bits.bitSize();
       byte[] bytes = Hashing.murmur3_128().hashObject(object, funnel).getBytesInternal();
       long hash1 = lowerEight(bytes);
@@ -125,7 +125,7 @@ enum BloomFilterStrategies implements BloomFilter.Strategy {
         @ParametricNullness T object,
         Funnel<? super T> funnel,
         int numHashFunctions,
-        LockFreeBitArray bits) {
+        BitArray bits) {
       long bitSize = bits.bitSize();
       byte[] bytes = Hashing.murmur3_128().hashObject(object, funnel).getBytesInternal();
       long hash1 = lowerEight(bytes);
@@ -141,26 +141,185 @@ enum BloomFilterStrategies implements BloomFilter.Strategy {
       }
       return true;
     }
+  },
+  /**
+   * This strategy confines all of an element's bits to one 512-bit block, so {@code mightContain}
+   * reads a single 64-byte span of memory however many hash functions are used. (That span covers
+   * at most two adjacent cache lines, since the JVM doesn't align arrays to cache lines.) See
+   * "Cache-, Hash- and Space-Efficient Bloom Filters" by Felix Putze, Peter Sanders and Johannes
+   * Singler.
+   *
+   * <p>The lower 64 bits of {@link Hashing#murmur3_128} select the block. The bit indexes within
+   * it are the top 9 bits of successive states of a linear congruential generator, seeded with the
+   * upper 64 bits and using an odd increment derived from the lower 64 bits. (A plain {@code hash1
+   * + i * hash2} sequence, as in {@link #MURMUR128_MITZ_64}, would give each element one of only
+   * 2^18 bit patterns per block, capping how low the false positive probability can go.)
+   *
+   * <p>Blocking makes some blocks more crowded than others, so for the same false positive
+   * probability these filters need somewhat more bits; {@link BloomFilter#createBlocked} accounts
+   * for that. The bit array's size must be a multiple of {@value #BLOCK_BITS} bits.
+   */
+  MURMUR128_BLOCKED_512() {
+    @Override
+    public <T extends @Nullable Object> boolean put(
+        @ParametricNullness T object,
+        Funnel<? super T> funnel,
+        int numHashFunctions,
+        BitArray bits) {
+      byte[] bytes = Hashing.murmur3_128().hashObject(object, funnel).getBytesInternal();
+      long hash1 = lowerEight(bytes);
+      long hash2 = upperEight(bytes);
+      long blockStart = blockStart(hash1, bits);
+      long step = Long.rotateLeft(hash1, 32) | 1;
 
-    private /* static */ long lowerEight(byte[] bytes) {
-      return Longs.fromBytes(
-          bytes[7], bytes[6], bytes[5], bytes[4], bytes[3], bytes[2], bytes[1], bytes[0]);
+      boolean bitsChanged = false;
+      long combinedHash = hash2;
+      for (int i = 0; i < numHashFunctions; i++) {
+        bitsChanged |= bits.set(blockStart + (combinedHash >>> (Long.SIZE - BLOCK_BITS_LOG2)));
+        combinedHash = combinedHash * LCG_MULTIPLIER + step;
+      }
+      return bitsChanged;
     }
 
-    private /* static */ long upperEight(byte[] bytes) {
-      return Longs.fromBytes(
-          bytes[15], bytes[14], bytes[13], bytes[12], bytes[11], bytes[10], bytes[9], bytes[8]);
+    @Override
+    public <T extends @Nullable Object> boolean mightContain(
+        @ParametricNullness T object,
+        Funnel<? super T> funnel,
+        int numHashFunctions,
+        BitArray bits) {
+      byte[] bytes = Hashing.murmur3_128().hashObject(object, funnel).getBytesInternal();
+      long hash1 = lowerEight(bytes);
+      long hash2 = upperEight(bytes);
+      long blockStart = blockStart(hash1, bits);
+      long step = Long.rotateLeft(hash1, 32) | 1;
+
+      long combinedHash = hash2;
+      for (int i = 0; i < numHashFunctions; i++) {
+        if (!bits.get(blockStart + (combinedHash >>> (Long.SIZE - BLOCK_BITS_LOG2)))) {
+          return false;
+        }
+        combinedHash = combinedHash * LCG_MULTIPLIER + step;
+      }
+      return true;
+    }
+
+    private /* static */ long blockStart(long hash1, BitArray bits) {
+      long blockCount = bits.bitSize() >>> BLOCK_BITS_LOG2;
+      return ((hash1 & Long.MAX_VALUE) % blockCount) << BLOCK_BITS_LOG2;
     }
   };
 
+  private static final int BLOCK_BITS_LOG2 = 9;
+
+  /** The multiplier of Knuth's MMIX linear congruential generator. */
+  private static final long LCG_MULTIPLIER = 6364136223846793005L;
+
+  /** The number of bits in each block used by {@link #MURMUR128_BLOCKED_512}. */
+  static final int BLOCK_BITS = 1 << BLOCK_BITS_LOG2;
+
+  static long lowerEight(byte[] bytes) {
+    return Longs.fromBytes(
+        bytes[7], bytes[6], bytes[5], bytes[4], bytes[3], bytes[2], bytes[1], bytes[0]);
+  }
+
+  static long upperEight(byte[] bytes) {
+    return Longs.fromBytes(
+        bytes[15], bytes[14], bytes[13], bytes[12], bytes[11], bytes[10], bytes[9], bytes[8]);
+  }
+
+  /**
+   * An array of bits stored as {@code long} words, as used by a {@link BloomFilter}. Bit {@code i}
+   * is bit {@code i % 64} of word {@code i / 64}.
+   */
+  abstract static class BitArray {
+    static final int LONG_ADDRESSABLE_BITS = 6;
+
+    /** Returns true if the bit changed value. */
+    abstract boolean set(long bitIndex);
+
+    abstract boolean get(long bitIndex);
+
+    /** Number of longs */
+    abstract int dataLength();
+
+    /** Returns the {@code index}th word of the array. */
+    abstract long getData(int index);
+
+    /** Number of bits */
+    final long bitSize() {
+      return (long) dataLength() * Long.SIZE;
+    }
+
+    /**
+     * Number of set bits (1s).
+     *
+     * <p>Note that because of concurrent set calls and uses of atomics, this bitCount is a (very)
+     * close *estimate* of the actual number of bits set. It's not possible to do better than an
+     * estimate without locking. Note that the number, if not exactly accurate, is *always*
+     * underestimating, never overestimating.
+     */
+    abstract long bitCount();
+
+    /**
+     * Combines the two BitArrays using bitwise OR.
+     *
+     * @throws UnsupportedOperationException if this bit array is read-only
+     */
+    abstract void putAll(BitArray other);
+
+    /**
+     * Careful here: if threads are mutating this array while this method is executing, the final
+     * long[] will be a "rolling snapshot" of the state of the bit array. This is usually good
+     * enough, but should be kept in mind.
+     */
+    final long[] toPlainArray() {
+      long[] array = new long[dataLength()];
+      for (int i = 0; i < array.length; ++i) {
+        array[i] = getData(i);
+      }
+      return array;
+    }
+
+    /** Returns a mutable, heap-based copy of this bit array. */
+    final LockFreeBitArray copy() {
+      return new LockFreeBitArray(toPlainArray());
+    }
+
+    @Override
+    public final boolean equals(@CheckForNull Object o) {
+      if (o instanceof BitArray) {
+        BitArray that = (BitArray) o;
+        if (this.dataLength() != that.dataLength()) {
+          return false;
+        }
+        for (int i = 0; i < dataLength(); i++) {
+          if (this.getData(i) != that.getData(i)) {
+            return false;
+          }
+        }
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public final int hashCode() {
+      // Matches Arrays.hashCode(toPlainArray()), without the allocation.
+      int result = 1;
+      for (int i = 0; i < dataLength(); i++) {
+        result = 31 * result + Long.hashCode(getData(i));
+      }
+      return result;
+    }
+  }
+
   /**
    * Models a lock-free array of bits.
    *
    * <p>We use this instead of java.util.BitSet because we need access to the array of longs and we
    * need compare-and-swap.
    */
-  static final class LockFreeBitArray {
-    private static final int LONG_ADDRESSABLE_BITS = 6;
+  static final class LockFreeBitArray extends BitArray {
     final AtomicLongArray data;
     private final LongAddable bitCount;
 
@@ -185,7 +344,7 @@ enum BloomFilterStrategies implements BloomFilter.Strategy {
       this.bitCount.add(bitCount);
     }
 
-    /** Returns true if the bit changed value. */
+    @Override
     boolean set(long bitIndex) {
       if (get(bitIndex)) {
         return false;
@@ -209,61 +368,44 @@ enum BloomFilterStrategies implements BloomFilter.Strategy {
       return true;
     }
 
+    @Override
     boolean get(long bitIndex) {
       return (data.get((int) (bitIndex >>> LONG_ADDRESSABLE_BITS)) & (1L << bitIndex)) != 0;
     }
 
-    /**
-     * Careful here: if threads are mutating the atomicLongArray while this method is executing, the
-     * final long[] will be a "rolling snapshot" of the state of the bit array. This is usually good
-     * enough, but should be kept in mind.
-     */
-    public static long[] toPlainArray(AtomicLongArray atomicLongArray) {
-      long[] array = new long[atomicLongArray.length()];
-      for (int i = 0; i < array.length; ++i) {
-        array[i] = atomicLongArray.get(i);
-      }
-      return array;
+    @Override
+    int dataLength() {
+      return data.length();
     }
 
-    /** Number of bits */
-    long bitSize() {
-      return (long) data.length() * Long.SIZE;
+    @Override
+    long getData(int index) {
+      return data.get(index);
     }
 
-    /**
-     * Number of set bits (1s).
-     *
-     * <p>Note that because of concurrent set calls and uses of atomics, this bitCount is a (very)
-     * close *estimate* of the actual number of bits set. It's not possible to do better than an
-     * estimate without locking. Note that the number, if not exactly accurate, is *always*
-     * underestimating, never overestimating.
-     */
+    @Override
     long bitCount() {
       return bitCount.sum();
     }
 
-    LockFreeBitArray copy() {
-      return new LockFreeBitArray(toPlainArray(data));
-    }
-
     /**
-     * Combines the two BitArrays using bitwise OR.
+     * {@inheritDoc}
      *
-     * <p>NOTE: Because of the use of atomics, if the other LockFreeBitArray is being mutated while
-     * this operation is executing, not all of those new 1's may be set in the final state of this
+     * <p>NOTE: Because of the use of atomics, if the other BitArray is being mutated while this
+     * operation is executing, not all of those new 1's may be set in the final state of this
      * LockFreeBitArray. The ONLY guarantee provided is that all the bits that were set in the other
-     * LockFreeBitArray at the start of this method will be set in this LockFreeBitArray at the end
-     * of this method.
+     * BitArray at the start of this method will be set in this LockFreeBitArray at the end of this
+     * method.
      */
-    void putAll(LockFreeBitArray other) {
+    @Override
+    void putAll(BitArray other) {
       checkArgument(
-          data.length() == other.data.length(),
+          data.length() == other.dataLength(),
           "BitArrays must be of equal length (%s != %s)",
           data.length(),
-          other.data.length());
+          other.dataLength());
       for (int i = 0; i < data.length(); i++) {
-        long otherLong = other.data.get(i);
+        long otherLong = other.getData(i);
 
         long ourLongOld;
         long ourLongNew;
@@ -283,21 +425,64 @@ enum BloomFilterStrategies implements BloomFilter.Strategy {
         }
       }
     }
+  }
+
+  /**
+   * A read-only array of bits backed by big-endian {@code long} words in memory-mapped files, as
+   * written by {@link BloomFilter#writeTo}. Since a single mapping can't exceed 2 GiB, the words
+   * are split across segments of {@code 2^SEGMENT_WORDS_LOG2} words each.
+   */
+  static final class MappedBitArray extends BitArray {
+    static final int SEGMENT_WORDS_LOG2 = 27; // 1 GiB per segment
+
+    private final LongBuffer[] segments;
+    private final int dataLength;
+
+    /** The number of set bits, or -1 if not yet computed. Counting reads the whole array. */
+    private volatile long bitCount = -1;
+
+    MappedBitArray(LongBuffer[] segments, int dataLength) {
+      checkArgument(dataLength > 0, "data length is zero!");
+      this.segments = segments;
+      this.dataLength = dataLength;
+    }
 
     @Override
-    public boolean equals(@CheckForNull Object o) {
-      if (o instanceof LockFreeBitArray) {
-        LockFreeBitArray lockFreeBitArray = (LockFreeBitArray) o;
-        // TODO(lowasser): avoid allocation here
-        return Arrays.equals(toPlainArray(data), toPlainArray(lockFreeBitArray.data));
+    boolean set(long bitIndex) {
+      throw new UnsupportedOperationException("memory-mapped BloomFilter is read-only");
+    }
+
+    @Override
+    boolean get(long bitIndex) {
+      return (getData((int) (bitIndex >>> LONG_ADDRESSABLE_BITS)) & (1L << bitIndex)) != 0;
+    }
+
+    @Override
+    int dataLength() {
+      return dataLength;
+    }
+
+    @Override
+    long getData(int index) {
+      return segments[index >>> SEGMENT_WORDS_LOG2].get(index & ((1 << SEGMENT_WORDS_LOG2) - 1));
+    }
+
+    @Override
+    long bitCount() {
+      long result = bitCount;
+      if (result < 0) {
+        result = 0;
+        for (int i = 0; i < dataLength; i++) {
+          result += Long.bitCount(getData(i));
+        }
+        bitCount = result;
       }
-      return false;
+      return result;
     }
 
     @Override
-    public int hashCode() {
-      // TODO(lowasser): avoid allocation here
-      return Arrays.hashCode(toPlainArray(data));
+    void putAll(BitArray other) {
+      throw new UnsupportedOperationException("memory-mapped BloomFilter is read-only");
     }
   }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * In-memory stream-based implementation of {@link Hasher}, which hashes all of its input at once
+ * with {@link HashFunction#hashBytes(byte[], int, int)}.
+ */
+@ElementTypesAreNonnullByDefault
+final class BufferingHasher extends AbstractHasher implements ResettableHasher {
+  private final HashFunction function;
+  private final ExposedByteArrayOutputStream stream;
+
+  BufferingHasher(HashFunction function, int expectedInputSize) {
+    this.function = checkNotNull(function);
+    this.stream = new ExposedByteArrayOutputStream(expectedInputSize);
+  }
+
+  @Override
+  public Hasher putByte(byte b) {
+    stream.write(b);
+    return this;
+  }
+
+  @Override
+  public Hasher putBytes(byte[] bytes, int off, int len) {
+    stream.write(bytes, off, len);
+    return this;
+  }
+
+  @Override
+  public Hasher putBytes(ByteBuffer bytes) {
+    stream.write(bytes);
+    return this;
+  }
+
+  @Override
+  public HashCode hash() {
+    return function.hashBytes(stream.byteArray(), 0, stream.length());
+  }
+
+  @Override
+  public long hashToLong() {
+    return function.hashBytesToLong(stream.byteArray(), 0, stream.length());
+  }
+
+  @CanIgnoreReturnValue
+  @Override
+  public ResettableHasher reset() {
+    stream.reset();
+    return this;
+  }
+
+  // Just to access the byte[] without introducing an unnecessary copy
+  private static final class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+    ExposedByteArrayOutputStream(int expectedInputSize) {
+      super(expectedInputSize);
+    }
+
+    void write(ByteBuffer input) {
+      int remaining = input.remaining();
+      if (count + remaining > buf.length) {
+        buf = Arrays.copyOf(buf, count + remaining);
+      }
+      input.get(buf, count, remaining);
+      count += remaining;
+    }
+
+    byte[] byteArray() {
+      return buf;
+    }
+
+    int length() {
+      return count;
+    }
+  }
+}
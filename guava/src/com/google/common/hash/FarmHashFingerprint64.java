@@ -53,6 +53,22 @@ final class FarmHashFingerprint64 extends AbstractNonStreamingHashFunction {
     return HashCode.fromLong(fingerprint(input, off, len));
   }
 
+  @Override
+  public long hashBytesToLong(byte[] input, int off, int len) {
+    checkPositionIndexes(off, off + len, input.length);
+    return fingerprint(input, off, len);
+  }
+
+  @Override
+  public HashCode hashLong(long input) {
+    return HashCode.fromLong(fingerprintLong(input));
+  }
+
+  @Override
+  public long hashLongToLong(long input) {
+    return fingerprintLong(input);
+  }
+
   @Override
   public int bits() {
     return 64;
@@ -80,6 +96,15 @@ final class FarmHashFingerprint64 extends AbstractNonStreamingHashFunction {
     }
   }
 
+  /** Computes what {@link #fingerprint} computes for the 8 little-endian bytes of {@code input}. */
+  private static long fingerprintLong(long input) {
+    long mul = K2 + 16;
+    long a = input + K2;
+    long c = rotateRight(input, 37) * mul + a;
+    long d = (rotateRight(a, 25) + input) * mul;
+    return hashLength16(c, d, mul);
+  }
+
   private static long shiftMix(long val) {
     return val ^ (val >>> 47);
   }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import javax.annotation.CheckForNull;
+
+/**
+ * A fixed-size array of 8-, 16- or 32-bit fingerprints, stored little-endian in a {@code byte[]}.
+ * Used by {@link BinaryFuseFilter} and {@link CuckooFilter}, which pick the narrowest fingerprint
+ * that achieves the requested false positive probability.
+ */
+@ElementTypesAreNonnullByDefault
+final class FingerprintArray {
+  final byte[] data;
+  final int bytesPerFingerprint;
+
+  FingerprintArray(int size, int bytesPerFingerprint) {
+    this(newData(size, bytesPerFingerprint), bytesPerFingerprint);
+  }
+
+  // Used by serialization
+  FingerprintArray(byte[] data, int bytesPerFingerprint) {
+    checkNotNull(data);
+    checkArgument(
+        bytesPerFingerprint == 1 || bytesPerFingerprint == 2 || bytesPerFingerprint == 4,
+        "bytesPerFingerprint (%s) must be 1, 2 or 4",
+        bytesPerFingerprint);
+    checkArgument(
+        data.length % bytesPerFingerprint == 0,
+        "data length (%s) must be a multiple of %s",
+        data.length,
+        bytesPerFingerprint);
+    this.data = data;
+    this.bytesPerFingerprint = bytesPerFingerprint;
+  }
+
+  private static byte[] newData(int size, int bytesPerFingerprint) {
+    checkArgument(size >= 0, "size (%s) must be >= 0", size);
+    long length = (long) size * bytesPerFingerprint;
+    checkArgument(length <= Integer.MAX_VALUE, "Fingerprint array too large: %s bytes", length);
+    return new byte[(int) length];
+  }
+
+  /**
+   * Returns the number of bytes per fingerprint needed for a false positive probability of {@code
+   * fpp} when a query compares against {@code comparisons} fingerprints.
+   */
+  static int bytesPerFingerprint(double fpp, int comparisons) {
+    if (fpp >= comparisons / 256.0) {
+      return 1;
+    } else if (fpp >= comparisons / 65536.0) {
+      return 2;
+    } else {
+      return 4;
+    }
+  }
+
+  /** Number of fingerprints. */
+  int size() {
+    return data.length / bytesPerFingerprint;
+  }
+
+  /** The fingerprints' width in bits. */
+  int bitsPerFingerprint() {
+    return bytesPerFingerprint * Byte.SIZE;
+  }
+
+  /** A mask selecting the low {@link #bitsPerFingerprint} bits of an {@code int}. */
+  int mask() {
+    return (bytesPerFingerprint == 4) ? -1 : (1 << bitsPerFingerprint()) - 1;
+  }
+
+  int get(int index) {
+    byte[] data = this.data;
+    switch (bytesPerFingerprint) {
+      case 1:
+        return data[index] & 0xFF;
+      case 2:
+        {
+          int offset = index << 1;
+          return (data[offset] & 0xFF) | (data[offset + 1] & 0xFF) << 8;
+        }
+      default:
+        {
+          int offset = index << 2;
+          return (data[offset] & 0xFF)
+              | (data[offset + 1] & 0xFF) << 8
+              | (data[offset + 2] & 0xFF) << 16
+              | data[offset + 3] << 24;
+        }
+    }
+  }
+
+  /** Sets a fingerprint to the low {@link #bitsPerFingerprint} bits of {@code fingerprint}. */
+  void set(int index, int fingerprint) {
+    int offset = index * bytesPerFingerprint;
+    for (int i = 0; i < bytesPerFingerprint; i++) {
+      data[offset + i] = (byte) (fingerprint >>> (i * Byte.SIZE));
+    }
+  }
+
+  FingerprintArray copy() {
+    return new FingerprintArray(data.clone(), bytesPerFingerprint);
+  }
+
+  void writeTo(DataOutput out) throws IOException {
+    out.writeByte(bytesPerFingerprint);
+    out.writeInt(data.length);
+    out.write(data);
+  }
+
+  static FingerprintArray readFrom(DataInput in) throws IOException {
+    int bytesPerFingerprint = in.readByte();
+    int length = in.readInt();
+    checkArgument(length >= 0, "data length (%s) must be >= 0", length);
+    byte[] data = new byte[length];
+    in.readFully(data);
+    return new FingerprintArray(data, bytesPerFingerprint);
+  }
+
+  @Override
+  public boolean equals(@CheckForNull Object o) {
+    if (o instanceof FingerprintArray) {
+      FingerprintArray that = (FingerprintArray) o;
+      return this.bytesPerFingerprint == that.bytesPerFingerprint
+          && Arrays.equals(this.data, that.data);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(data) * 31 + bytesPerFingerprint;
+  }
+}
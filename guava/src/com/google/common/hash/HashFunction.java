@@ -14,6 +14,7 @@
 
 package com.google.common.hash;
 
+import com.google.common.annotations.Beta;
 import com.google.common.primitives.Ints;
 import com.google.errorprone.annotations.Immutable;
 import java.nio.ByteBuffer;
@@ -214,6 +215,58 @@ public interface HashFunction {
   <T extends @Nullable Object> HashCode hashObject(
       @ParametricNullness T instance, Funnel<? super T> funnel);
 
+  /**
+   * Begins a new hash code computation as {@link #newHasher()}, but returns a hasher that can be
+   * {@linkplain ResettableHasher#reset reset} and used again for another computation.
+   *
+   * <p>The default implementation buffers its input and hashes it with {@link #hashBytesToLong}
+   * when {@link ResettableHasher#hashToLong} is called. Implementations that process their input
+   * incrementally override this method with a hasher that does too.
+   *
+   * @since NEXT
+   */
+  @Beta
+  default ResettableHasher newResettableHasher() {
+    return new BufferingHasher(this, 32);
+  }
+
+  /**
+   * Shortcut for {@code hashLong(input).padToLong()}. The implementation <i>might</i> avoid
+   * allocating a {@link HashCode}, but should not perform worse than its longhand equivalent.
+   *
+   * @since NEXT
+   */
+  @Beta
+  default long hashLongToLong(long input) {
+    return hashLong(input).padToLong();
+  }
+
+  /**
+   * Shortcut for {@code hashBytes(input, off, len).padToLong()}. The implementation <i>might</i>
+   * avoid allocating a {@link HashCode}, but should not perform worse than its longhand
+   * equivalent.
+   *
+   * @throws IndexOutOfBoundsException if {@code off < 0} or {@code off + len > bytes.length} or
+   *     {@code len < 0}
+   * @since NEXT
+   */
+  @Beta
+  default long hashBytesToLong(byte[] input, int off, int len) {
+    return hashBytes(input, off, len).padToLong();
+  }
+
+  /**
+   * Shortcut for {@code hashUnencodedChars(input).padToLong()}. The implementation <i>might</i>
+   * avoid allocating a {@link HashCode}, but should not perform worse than its longhand
+   * equivalent.
+   *
+   * @since NEXT
+   */
+  @Beta
+  default long hashUnencodedCharsToLong(CharSequence input) {
+    return hashUnencodedChars(input).padToLong();
+  }
+
   /**
    * Returns the number of bits (a multiple of 32) that each hash code produced by this hash
    * function has.
@@ -0,0 +1,767 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Objects;
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.CheckForNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A HyperLogLog sketch, which estimates the number of distinct instances of {@code T} offered to it
+ * in a small, fixed amount of memory.
+ *
+ * <p>The sketch has 2<sup><i>p</i></sup> registers, where <i>p</i> is the {@linkplain #create
+ * precision}, and its estimate has a relative standard error of about 1.04 /
+ * √2<sup><i>p</i></sup>: 1.6% for the default precision of {@value #DEFAULT_PRECISION}. Each
+ * offered object is hashed, the first <i>p</i> bits of the hash select a register, and the register
+ * keeps the maximum number of leading zeros, plus one, seen in the remaining bits.
+ *
+ * <p>As in HyperLogLog++ (see "HyperLogLog in Practice" by Stefan Heule, Marc Nunkesser and
+ * Alexander Hall), a new sketch starts in a sparse representation that records the hashes' first
+ * {@value #SPARSE_PRECISION} bits instead of registers, so that it is both smaller and more
+ * accurate while few distinct objects have been offered. It switches to the dense registers once
+ * those would take less memory. Estimates from the registers use the estimator of "New cardinality
+ * estimation algorithms for HyperLogLog sketches" by Otmar Ertl, which is unbiased over the whole
+ * range of cardinalities without the empirical bias correction tables of HyperLogLog++.
+ *
+ * <p>Sketches with the same precision, hash function and funnel can be {@linkplain #merge merged}:
+ * the result estimates the number of distinct objects offered to either of them. This makes it
+ * cheap to count per thread, shard or node and combine the counts afterwards.
+ *
+ * <p>Sketches are serializable, and support a compact serial representation via the {@link
+ * #writeTo} and {@link #readFrom} methods.
+ *
+ * <p>This class is thread-safe. Once dense, it is lock-free: registers are updated with
+ * compare-and-swap, like the bits of a {@link BloomFilter}. While sparse, operations synchronize on
+ * the sketch.
+ *
+ * @param <T> the type of instances that the {@code HyperLogLog} accepts
+ * @since NEXT
+ */
+@Beta
+@ElementTypesAreNonnullByDefault
+public final class HyperLogLog<T extends @Nullable Object> implements Serializable {
+  /** The precision used by {@link #create(Funnel)}. */
+  public static final int DEFAULT_PRECISION = 12;
+
+  static final int MIN_PRECISION = 4;
+  static final int MAX_PRECISION = 18;
+
+  /** The number of hash bits that select an entry of the sparse representation. */
+  @VisibleForTesting static final int SPARSE_PRECISION = 25;
+
+  private static final int SPARSE_RHO_BITS = 6;
+
+  private final int precision;
+  private final Funnel<? super T> funnel;
+  private final HashFunction hashFunction;
+
+  /** The dense registers, or null while the sketch is sparse. Never reset to null once set. */
+  @CheckForNull private volatile LockFreeRegisterArray registers;
+
+  /**
+   * The sparse representation, an open-addressing hash set of the encoded entries of {@link
+   * #encodeSparse}, with 0 marking empty slots. Null once the sketch is dense.
+   */
+  @GuardedBy("this")
+  private int @Nullable [] sparse;
+
+  @GuardedBy("this")
+  private int sparseSize;
+
+  private HyperLogLog(
+      int precision,
+      Funnel<? super T> funnel,
+      HashFunction hashFunction,
+      int @Nullable [] sparseEntries,
+      @CheckForNull LockFreeRegisterArray registers) {
+    checkArgument(
+        precision >= MIN_PRECISION && precision <= MAX_PRECISION,
+        "precision (%s) must be between %s and %s",
+        precision,
+        MIN_PRECISION,
+        MAX_PRECISION);
+    checkArgument(
+        hashFunction.bits() >= Long.SIZE,
+        "hashFunction must produce at least 64 bits, but produces %s",
+        hashFunction.bits());
+    this.precision = precision;
+    this.funnel = checkNotNull(funnel);
+    this.hashFunction = hashFunction;
+    if (registers != null) {
+      checkArgument(
+          registers.size() == 1 << precision,
+          "%s registers don't match precision %s",
+          registers.size(),
+          precision);
+      this.registers = registers;
+    } else {
+      this.sparse = new int[16];
+      if (sparseEntries != null) {
+        for (int entry : sparseEntries) {
+          checkArgument(entry > 0, "Invalid sparse entry: %s", entry);
+          addSparse(entry);
+        }
+      }
+    }
+  }
+
+  /**
+   * Creates a {@code HyperLogLog} with the {@linkplain #DEFAULT_PRECISION default precision}, which
+   * hashes objects with {@link Hashing#murmur3_128()}.
+   *
+   * @param funnel the funnel of T's that the constructed sketch will use
+   */
+  public static <T extends @Nullable Object> HyperLogLog<T> create(Funnel<? super T> funnel) {
+    return create(funnel, DEFAULT_PRECISION);
+  }
+
+  /**
+   * Creates a {@code HyperLogLog} with 2<sup>{@code precision}</sup> registers, which hashes
+   * objects with {@link Hashing#murmur3_128()}.
+   *
+   * @param funnel the funnel of T's that the constructed sketch will use
+   * @param precision the base 2 logarithm of the number of registers; must be between 4 and 18
+   */
+  public static <T extends @Nullable Object> HyperLogLog<T> create(
+      Funnel<? super T> funnel, int precision) {
+    return create(funnel, precision, Hashing.murmur3_128());
+  }
+
+  /**
+   * Creates a {@code HyperLogLog} with 2<sup>{@code precision}</sup> registers, which hashes
+   * objects with the given hash function.
+   *
+   * @param funnel the funnel of T's that the constructed sketch will use
+   * @param precision the base 2 logarithm of the number of registers; must be between 4 and 18
+   * @param hashFunction the hash function to use; must produce at least 64 bits
+   */
+  public static <T extends @Nullable Object> HyperLogLog<T> create(
+      Funnel<? super T> funnel, int precision, HashFunction hashFunction) {
+    checkNotNull(funnel);
+    checkNotNull(hashFunction);
+    return new HyperLogLog<T>(precision, funnel, hashFunction, null, null);
+  }
+
+  /**
+   * Creates a new {@code HyperLogLog} that's a copy of this instance. The new instance is equal to
+   * this instance but shares no mutable state.
+   */
+  public HyperLogLog<T> copy() {
+    LockFreeRegisterArray registers = this.registers;
+    if (registers == null) {
+      synchronized (this) {
+        registers = this.registers;
+        if (registers == null) {
+          return new HyperLogLog<T>(precision, funnel, hashFunction, sparseEntries(), null);
+        }
+      }
+    }
+    return new HyperLogLog<T>(precision, funnel, hashFunction, null, registers.copy());
+  }
+
+  /**
+   * Offers an object to this sketch.
+   *
+   * @return true if the sketch changed as a result of this operation. If so, this is
+   *     <i>definitely</i> the first time {@code object} has been offered. If not, it <i>might</i>
+   *     have been offered before.
+   */
+  public boolean offer(@ParametricNullness T object) {
+    return offerHash(hashFunction.hashObject(object, funnel).asLong());
+  }
+
+  private boolean offerHash(long hash) {
+    LockFreeRegisterArray registers = this.registers;
+    if (registers == null) {
+      synchronized (this) {
+        registers = this.registers;
+        if (registers == null) {
+          return addSparse(encodeSparse(hash));
+        }
+      }
+    }
+    int index = (int) (hash >>> (Long.SIZE - precision));
+    int rho = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+    return registers.raise(index, rho);
+  }
+
+  /**
+   * Returns the sparse entry of {@code hash}: its first {@link #SPARSE_PRECISION} bits, followed by
+   * {@link #SPARSE_RHO_BITS} bits of the number of leading zeros in the remaining bits, plus one.
+   */
+  private static int encodeSparse(long hash) {
+    int index = (int) (hash >>> (Long.SIZE - SPARSE_PRECISION));
+    int rho =
+        Long.numberOfLeadingZeros(
+                (hash << SPARSE_PRECISION) | (1L << (SPARSE_PRECISION - 1)))
+            + 1;
+    return index << SPARSE_RHO_BITS | rho;
+  }
+
+  private static int sparseIndex(int entry) {
+    return entry >>> SPARSE_RHO_BITS;
+  }
+
+  /** Returns the register selected by the hash that {@code entry} was encoded from. */
+  private int denseIndex(int entry) {
+    return sparseIndex(entry) >>> (SPARSE_PRECISION - precision);
+  }
+
+  /** Returns the register value of the hash that {@code entry} was encoded from. */
+  private int denseRho(int entry) {
+    int extraBits = SPARSE_PRECISION - precision;
+    int extra = sparseIndex(entry) & ((1 << extraBits) - 1);
+    if (extra != 0) {
+      return Integer.numberOfLeadingZeros(extra) - (Integer.SIZE - extraBits) + 1;
+    }
+    return extraBits + (entry & ((1 << SPARSE_RHO_BITS) - 1));
+  }
+
+  /**
+   * Adds an entry to the sparse representation, keeping the larger entry of any two with the same
+   * index. Switches to the dense representation if the sparse one has grown too large.
+   */
+  @GuardedBy("this")
+  private boolean addSparse(int entry) {
+    int[] sparse = this.sparse;
+    int mask = sparse.length - 1;
+    int index = sparseIndex(entry);
+    for (int slot = index & mask; ; slot = (slot + 1) & mask) {
+      int existing = sparse[slot];
+      if (existing == 0) {
+        sparse[slot] = entry;
+        sparseSize++;
+        break;
+      } else if (sparseIndex(existing) == index) {
+        if (existing >= entry) {
+          return false;
+        }
+        sparse[slot] = entry;
+        return true;
+      }
+    }
+    if (sparseSize > (1 << precision) / 8) {
+      convertToDense();
+    } else if (sparseSize > sparse.length / 2) {
+      int[] entries = sparseEntries();
+      this.sparse = new int[sparse.length * 2];
+      this.sparseSize = 0;
+      for (int e : entries) {
+        addSparse(e);
+      }
+    }
+    return true;
+  }
+
+  /** Returns the entries of the sparse representation in ascending order. */
+  @GuardedBy("this")
+  private int[] sparseEntries() {
+    int[] entries = new int[sparseSize];
+    int i = 0;
+    for (int entry : sparse) {
+      if (entry != 0) {
+        entries[i++] = entry;
+      }
+    }
+    Arrays.sort(entries);
+    return entries;
+  }
+
+  @GuardedBy("this")
+  private LockFreeRegisterArray convertToDense() {
+    LockFreeRegisterArray registers = new LockFreeRegisterArray(1 << precision);
+    for (int entry : sparse) {
+      if (entry != 0) {
+        registers.raise(denseIndex(entry), denseRho(entry));
+      }
+    }
+    this.sparse = null;
+    this.sparseSize = 0;
+    this.registers = registers;
+    return registers;
+  }
+
+  /** Returns whether this sketch uses the sparse representation. */
+  @VisibleForTesting
+  boolean isSparse() {
+    return registers == null;
+  }
+
+  /**
+   * Returns an estimate of the number of distinct objects that have been offered to this sketch, or
+   * to the sketches merged into it.
+   */
+  public long cardinality() {
+    LockFreeRegisterArray registers = this.registers;
+    if (registers == null) {
+      synchronized (this) {
+        registers = this.registers;
+        if (registers == null) {
+          // Linear counting over the sparse indexes, which is very accurate for so few of them
+          double m = 1 << SPARSE_PRECISION;
+          return Math.round(-m * Math.log1p(-sparseSize / m));
+        }
+      }
+    }
+    return Math.round(estimate(registers));
+  }
+
+  /** Ertl's improved raw estimator. */
+  private double estimate(LockFreeRegisterArray registers) {
+    int q = Long.SIZE - precision;
+    int[] histogram = new int[q + 2];
+    for (int i = 0; i < registers.size(); i++) {
+      histogram[registers.get(i)]++;
+    }
+    double m = registers.size();
+    double z = m * tau(1 - histogram[q + 1] / m);
+    for (int k = q; k >= 1; k--) {
+      z = 0.5 * (z + histogram[k]);
+    }
+    z += m * sigma(histogram[0] / m);
+    return m * m / (2 * Math.log(2) * z);
+  }
+
+  private static double sigma(double x) {
+    if (x == 1) {
+      return Double.POSITIVE_INFINITY;
+    }
+    double y = 1;
+    double z = x;
+    double previous;
+    do {
+      x *= x;
+      previous = z;
+      z += x * y;
+      y += y;
+    } while (z != previous);
+    return z;
+  }
+
+  private static double tau(double x) {
+    if (x == 0 || x == 1) {
+      return 0;
+    }
+    double y = 1;
+    double z = 1 - x;
+    double previous;
+    do {
+      x = Math.sqrt(x);
+      previous = z;
+      y *= 0.5;
+      z -= (1 - x) * (1 - x) * y;
+    } while (z != previous);
+    return z / 3;
+  }
+
+  /**
+   * Determines whether a given sketch is compatible with this one, so that it can be {@linkplain
+   * #merge merged} into this one. Sketches are compatible if they have the same precision, hash
+   * function and funnel.
+   */
+  public boolean isCompatible(HyperLogLog<T> that) {
+    checkNotNull(that);
+    return this != that
+        && this.precision == that.precision
+        && this.hashFunction.equals(that.hashFunction)
+        && this.funnel.equals(that.funnel);
+  }
+
+  /**
+   * Merges another sketch into this one, so that this sketch estimates the number of distinct
+   * objects offered to either sketch. The other sketch is not modified.
+   *
+   * @throws IllegalArgumentException if {@code that} is not {@linkplain #isCompatible compatible}
+   *     with this sketch
+   */
+  public void merge(HyperLogLog<T> that) {
+    checkNotNull(that);
+    checkArgument(this != that, "Cannot combine a HyperLogLog with itself.");
+    checkArgument(
+        this.precision == that.precision,
+        "HyperLogLogs must have the same precision (%s != %s)",
+        this.precision,
+        that.precision);
+    checkArgument(
+        this.hashFunction.equals(that.hashFunction),
+        "HyperLogLogs must have equal hash functions (%s != %s)",
+        this.hashFunction,
+        that.hashFunction);
+    checkArgument(
+        this.funnel.equals(that.funnel),
+        "HyperLogLogs must have equal funnels (%s != %s)",
+        this.funnel,
+        that.funnel);
+
+    // Take a snapshot of the other sketch, rather than holding both locks and risking a deadlock
+    LockFreeRegisterArray thatRegisters = that.registers;
+    int[] thatEntries = null;
+    if (thatRegisters == null) {
+      synchronized (that) {
+        thatRegisters = that.registers;
+        if (thatRegisters == null) {
+          thatEntries = that.sparseEntries();
+        }
+      }
+    }
+
+    if (thatEntries != null) {
+      for (int entry : thatEntries) {
+        LockFreeRegisterArray registers = this.registers;
+        if (registers == null) {
+          synchronized (this) {
+            registers = this.registers;
+            if (registers == null) {
+              addSparse(entry);
+              continue;
+            }
+          }
+        }
+        registers.raise(denseIndex(entry), denseRho(entry));
+      }
+    } else {
+      LockFreeRegisterArray registers = this.registers;
+      if (registers == null) {
+        synchronized (this) {
+          registers = this.registers;
+          if (registers == null) {
+            registers = convertToDense();
+          }
+        }
+      }
+      for (int i = 0; i < registers.size(); i++) {
+        registers.raise(i, thatRegisters.get(i));
+      }
+    }
+  }
+
+  @Override
+  public boolean equals(@CheckForNull Object object) {
+    if (object == this) {
+      return true;
+    }
+    if (object instanceof HyperLogLog) {
+      HyperLogLog<?> that = (HyperLogLog<?>) object;
+      return this.precision == that.precision
+          && this.hashFunction.equals(that.hashFunction)
+          && this.funnel.equals(that.funnel)
+          && Arrays.equals(this.toByteArray(), that.toByteArray());
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(precision, hashFunction, funnel, Arrays.hashCode(toByteArray()));
+  }
+
+  private byte[] toByteArray() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try {
+      writeTo(out);
+    } catch (IOException impossible) {
+      throw new AssertionError(impossible);
+    }
+    return out.toByteArray();
+  }
+
+  private static final long serialVersionUID = 0;
+
+  private Object writeReplace() {
+    return new SerialForm<T>(this);
+  }
+
+  private static class SerialForm<T extends @Nullable Object> implements Serializable {
+    final byte[] data;
+    final Funnel<? super T> funnel;
+    final HashFunction hashFunction;
+
+    SerialForm(HyperLogLog<T> sketch) {
+      this.data = sketch.toByteArray();
+      this.funnel = sketch.funnel;
+      this.hashFunction = sketch.hashFunction;
+    }
+
+    Object readResolve() throws IOException {
+      return readFrom(new ByteArrayInputStream(data), funnel, hashFunction);
+    }
+
+    private static final long serialVersionUID = 1;
+  }
+
+  /**
+   * Writes this {@code HyperLogLog} to an output stream, with a custom format (not Java
+   * serialization).
+   *
+   * <p>A sparse sketch takes one to four bytes per distinct object offered; a dense one takes
+   * about 0.8 bytes per register.
+   *
+   * <p>Use {@linkplain #readFrom(InputStream, Funnel, HashFunction)} to reconstruct the written
+   * sketch.
+   */
+  public void writeTo(OutputStream out) throws IOException {
+    // Serial form:
+    // 1 byte, the precision
+    // 1 byte, 0 if sparse and 1 if dense
+    // if sparse:
+    //   1 big endian int, the number of sparse entries
+    //   N varints, the differences between consecutive sparse entries in ascending order
+    // if dense:
+    //   1 big endian int, the number of longs holding the registers
+    //   N big endian longs, ten 6-bit registers each, lowest bits first
+    DataOutputStream dout = new DataOutputStream(out);
+    dout.writeByte(precision);
+    LockFreeRegisterArray registers = this.registers;
+    if (registers == null) {
+      int[] entries = null;
+      synchronized (this) {
+        registers = this.registers;
+        if (registers == null) {
+          entries = sparseEntries();
+        }
+      }
+      if (entries != null) {
+        dout.writeByte(0);
+        dout.writeInt(entries.length);
+        int previous = 0;
+        for (int entry : entries) {
+          writeVarint(dout, entry - previous);
+          previous = entry;
+        }
+        return;
+      }
+    }
+    dout.writeByte(1);
+    dout.writeInt(registers.data.length());
+    for (int i = 0; i < registers.data.length(); i++) {
+      dout.writeLong(registers.data.get(i));
+    }
+  }
+
+  private static void writeVarint(DataOutputStream out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  private static int readVarint(DataInputStream in) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+      byte b = in.readByte();
+      value |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed varint");
+  }
+
+  /**
+   * Reads a byte stream, which was written by {@linkplain #writeTo(OutputStream)}, into a {@code
+   * HyperLogLog} that hashes objects with {@link Hashing#murmur3_128()}.
+   *
+   * <p>The {@code Funnel} to be used is not encoded in the stream, so it must be provided here.
+   * <b>Warning:</b> the funnel provided <b>must</b> behave identically to the one used to populate
+   * the original sketch!
+   *
+   * @throws IOException if the InputStream throws an {@code IOException}, or if its data does not
+   *     appear to be a HyperLogLog serialized using the {@linkplain #writeTo(OutputStream)} method.
+   */
+  public static <T extends @Nullable Object> HyperLogLog<T> readFrom(
+      InputStream in, Funnel<? super T> funnel) throws IOException {
+    return readFrom(in, funnel, Hashing.murmur3_128());
+  }
+
+  /**
+   * Reads a byte stream, which was written by {@linkplain #writeTo(OutputStream)}, into a {@code
+   * HyperLogLog}.
+   *
+   * <p>Neither the {@code Funnel} nor the {@code HashFunction} to be used is encoded in the stream,
+   * so they must be provided here. <b>Warning:</b> they <b>must</b> behave identically to the ones
+   * used to populate the original sketch!
+   *
+   * @throws IOException if the InputStream throws an {@code IOException}, or if its data does not
+   *     appear to be a HyperLogLog serialized using the {@linkplain #writeTo(OutputStream)} method.
+   */
+  public static <T extends @Nullable Object> HyperLogLog<T> readFrom(
+      InputStream in, Funnel<? super T> funnel, HashFunction hashFunction) throws IOException {
+    checkNotNull(in, "InputStream");
+    checkNotNull(funnel, "Funnel");
+    checkNotNull(hashFunction, "HashFunction");
+    int precision = -1;
+    int representation = -1;
+    int length = -1;
+    try {
+      DataInputStream din = new DataInputStream(in);
+      precision = din.readByte();
+      representation = din.readByte();
+      length = din.readInt();
+      checkArgument(
+          precision >= MIN_PRECISION && precision <= MAX_PRECISION, "invalid precision");
+      // Check the length before allocating anything, so that corrupt data can't exhaust memory
+      int registerCount = 1 << precision;
+      if (representation == 0) {
+        // A sketch with more entries than this would have been converted to dense
+        checkArgument(length >= 0 && length <= registerCount / 8, "invalid sparse length");
+        int[] entries = new int[length];
+        int previous = 0;
+        for (int i = 0; i < length; i++) {
+          int entry = previous + readVarint(din);
+          int rho = entry & ((1 << SPARSE_RHO_BITS) - 1);
+          checkArgument(
+              entry > previous
+                  && (i == 0 || sparseIndex(entry) > sparseIndex(previous))
+                  && rho >= 1
+                  && rho <= Long.SIZE - SPARSE_PRECISION + 1,
+              "invalid sparse entry");
+          entries[i] = entry;
+          previous = entry;
+        }
+        return new HyperLogLog<T>(precision, funnel, hashFunction, entries, null);
+      }
+      checkArgument(representation == 1, "unknown representation");
+      checkArgument(
+          length == LockFreeRegisterArray.dataLength(registerCount), "invalid dense length");
+      long[] data = new long[length];
+      for (int i = 0; i < length; i++) {
+        data[i] = din.readLong();
+      }
+      LockFreeRegisterArray registers = new LockFreeRegisterArray(data, registerCount);
+      checkArgument(
+          registers.isValid(Long.SIZE - precision + 1), "invalid register value or padding");
+      return new HyperLogLog<T>(precision, funnel, hashFunction, null, registers);
+    } catch (RuntimeException e) {
+      String message =
+          "Unable to deserialize HyperLogLog from InputStream."
+              + " precision: "
+              + precision
+              + " representation: "
+              + representation
+              + " length: "
+              + length;
+      throw new IOException(message, e);
+    }
+  }
+
+  /**
+   * Models a lock-free array of 6-bit registers, ten to a {@code long}, in the manner of {@link
+   * BloomFilterStrategies.LockFreeBitArray}.
+   */
+  static final class LockFreeRegisterArray {
+    private static final int REGISTERS_PER_LONG = 10;
+    private static final int BITS_PER_REGISTER = 6;
+    private static final long REGISTER_MASK = (1L << BITS_PER_REGISTER) - 1;
+
+    final AtomicLongArray data;
+    private final int size;
+
+    LockFreeRegisterArray(int size) {
+      this.data = new AtomicLongArray(dataLength(size));
+      this.size = size;
+    }
+
+    // Used by serialization
+    LockFreeRegisterArray(long[] data, int size) {
+      checkArgument(
+          data.length == dataLength(size),
+          "data length (%s) doesn't match %s registers",
+          data.length,
+          size);
+      this.data = new AtomicLongArray(data);
+      this.size = size;
+    }
+
+    /** Returns the number of {@code long}s that hold {@code size} registers. */
+    static int dataLength(int size) {
+      return (size + REGISTERS_PER_LONG - 1) / REGISTERS_PER_LONG;
+    }
+
+    int size() {
+      return size;
+    }
+
+    /**
+     * Returns whether no register exceeds {@code maxValue}, and all bits that don't belong to a
+     * register are zero, as they are in any array built by raising registers.
+     */
+    boolean isValid(int maxValue) {
+      for (int i = 0; i < size; i++) {
+        if (get(i) > maxValue) {
+          return false;
+        }
+      }
+      for (int i = 0; i < data.length(); i++) {
+        int registersInLong = Math.min(REGISTERS_PER_LONG, size - i * REGISTERS_PER_LONG);
+        if ((data.get(i) >>> (registersInLong * BITS_PER_REGISTER)) != 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    int get(int index) {
+      return (int)
+          ((data.get(index / REGISTERS_PER_LONG) >>> shift(index)) & REGISTER_MASK);
+    }
+
+    /** Raises a register to {@code value}, if it is lower. Returns true if it was. */
+    boolean raise(int index, int value) {
+      int longIndex = index / REGISTERS_PER_LONG;
+      int shift = shift(index);
+      long oldValue;
+      do {
+        oldValue = data.get(longIndex);
+        if (((oldValue >>> shift) & REGISTER_MASK) >= value) {
+          return false;
+        }
+      } while (!data.compareAndSet(
+          longIndex, oldValue, (oldValue & ~(REGISTER_MASK << shift)) | ((long) value << shift)));
+      return true;
+    }
+
+    private static int shift(int index) {
+      return (index % REGISTERS_PER_LONG) * BITS_PER_REGISTER;
+    }
+
+    LockFreeRegisterArray copy() {
+      long[] copy = new long[data.length()];
+      for (int i = 0; i < copy.length; i++) {
+        copy[i] = data.get(i);
+      }
+      return new LockFreeRegisterArray(copy, size);
+    }
+  }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.hash.WeightedNodes.mix;
+import static com.google.common.hash.WeightedNodes.removeAt;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.math.LongMath;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import java.util.Arrays;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Assigns keys to a changing set of weighted nodes with a Maglev lookup table, as described in
+ * "Maglev: A Fast and Reliable Software Network Load Balancer" by Daniel E. Eisenbud et al. Looking
+ * a key up takes a hash and a table access, whatever the number of nodes.
+ *
+ * <p>Each node has a preference order over the slots of the table, derived from its hash. The nodes
+ * take turns claiming their most preferred slot that is still free, a node of weight <i>w</i>
+ * taking <i>w</i> / <i>w<sub>max</sub></i> turns for each turn of the heaviest node, until the
+ * table is full. This spreads the slots, and so the keys, among nodes in proportion to their
+ * weights, give or take a slot. When a node is added or removed, most slots keep their node: the
+ * paper measures that with a table 100 times as large as the number of nodes, removing 1% of the
+ * nodes moves about 2% of the slots, in addition to those of the removed nodes.
+ *
+ * <p>The table has a prime number of slots, {@value #DEFAULT_TABLE_SIZE} by default, which should
+ * be well above 100 times the number of nodes. Each change in membership or weight rebuilds the
+ * table from the preference orders of the nodes, which are computed once per node, in time
+ * proportional to <i>M</i> log <i>M</i> for a table of <i>M</i> slots.
+ *
+ * <p>This class is thread-safe. Lookups never block: changes are serialized, and each publishes a
+ * new table.
+ *
+ * @param <K> the type of keys
+ * @param <N> the type of nodes, which must have consistent {@code equals} and {@code hashCode}
+ * @since NEXT
+ */
+@Beta
+@ElementTypesAreNonnullByDefault
+public final class MaglevHash<K extends @Nullable Object, N> {
+  /** The number of slots in the table of {@link #create(HashFunction, Funnel, Funnel)}. */
+  public static final int DEFAULT_TABLE_SIZE = 65537;
+
+  private final HashFunction hashFunction;
+  private final Funnel<? super K> keyFunnel;
+  private final Funnel<? super N> nodeFunnel;
+  private final int tableSize;
+
+  private volatile Table table;
+
+  private MaglevHash(
+      HashFunction hashFunction,
+      Funnel<? super K> keyFunnel,
+      Funnel<? super N> nodeFunnel,
+      int tableSize) {
+    this.hashFunction = checkNotNull(hashFunction);
+    this.keyFunnel = checkNotNull(keyFunnel);
+    this.nodeFunnel = checkNotNull(nodeFunnel);
+    checkArgument(
+        hashFunction.bits() >= Long.SIZE,
+        "hashFunction must produce at least 64 bits, but produces %s",
+        hashFunction.bits());
+    checkArgument(
+        tableSize > 2 && LongMath.isPrime(tableSize),
+        "tableSize (%s) must be a prime greater than 2",
+        tableSize);
+    this.tableSize = tableSize;
+    this.table = new Table(new Object[0], new int[0], new int[0], new double[0]);
+  }
+
+  /**
+   * Creates a {@code MaglevHash} without any nodes, with a table of {@value #DEFAULT_TABLE_SIZE}
+   * slots, which hashes keys and nodes with {@code hashFunction}.
+   *
+   * @throws IllegalArgumentException if {@code hashFunction} produces fewer than 64 bits
+   */
+  public static <K extends @Nullable Object, N> MaglevHash<K, N> create(
+      HashFunction hashFunction, Funnel<? super K> keyFunnel, Funnel<? super N> nodeFunnel) {
+    return create(hashFunction, keyFunnel, nodeFunnel, DEFAULT_TABLE_SIZE);
+  }
+
+  /**
+   * Creates a {@code MaglevHash} without any nodes, with a table of {@code tableSize} slots, which
+   * hashes keys and nodes with {@code hashFunction}.
+   *
+   * @throws IllegalArgumentException if {@code hashFunction} produces fewer than 64 bits, or {@code
+   *     tableSize} is not a prime greater than 2
+   */
+  public static <K extends @Nullable Object, N> MaglevHash<K, N> create(
+      HashFunction hashFunction,
+      Funnel<? super K> keyFunnel,
+      Funnel<? super N> nodeFunnel,
+      int tableSize) {
+    return new MaglevHash<>(hashFunction, keyFunnel, nodeFunnel, tableSize);
+  }
+
+  /**
+   * Adds {@code node} with a weight of 1, or sets its weight to 1 if it is already present.
+   *
+   * @return {@code true} if the node was not already present
+   * @throws IllegalStateException if the table already has a node for each of its slots
+   */
+  @CanIgnoreReturnValue
+  public boolean add(N node) {
+    return add(node, 1.0);
+  }
+
+  /**
+   * Adds {@code node} with the given weight, or sets its weight if it is already present.
+   *
+   * @return {@code true} if the node was not already present
+   * @throws IllegalArgumentException if {@code weight} is not positive and finite
+   * @throws IllegalStateException if the table already has a node for each of its slots
+   */
+  @CanIgnoreReturnValue
+  public synchronized boolean add(N node, double weight) {
+    checkNotNull(node);
+    checkArgument(
+        weight > 0 && weight < Double.POSITIVE_INFINITY,
+        "weight (%s) must be positive and finite",
+        weight);
+    Table current = table;
+    int index = current.indexOf(node);
+    if (index >= 0) {
+      double[] weights = current.weights.clone();
+      weights[index] = weight;
+      table = new Table(current.nodes, current.offsets, current.skips, weights);
+      return false;
+    }
+    int size = current.nodes.length;
+    checkState(size < tableSize, "The table has no slot for another node");
+    long hash = hashFunction.hashObject(node, nodeFunnel).padToLong();
+    Object[] nodes = Arrays.copyOf(current.nodes, size + 1);
+    int[] offsets = Arrays.copyOf(current.offsets, size + 1);
+    int[] skips = Arrays.copyOf(current.skips, size + 1);
+    double[] weights = Arrays.copyOf(current.weights, size + 1);
+    nodes[size] = node;
+    offsets[size] = (int) Math.floorMod(hash, (long) tableSize);
+    skips[size] = (int) Math.floorMod(mix(hash), (long) tableSize - 1) + 1;
+    weights[size] = weight;
+    table = new Table(nodes, offsets, skips, weights);
+    return true;
+  }
+
+  /**
+   * Removes {@code node}. The keys that it held move to other nodes, along with a few others.
+   *
+   * @return {@code true} if the node was present
+   */
+  @CanIgnoreReturnValue
+  public synchronized boolean remove(N node) {
+    checkNotNull(node);
+    Table current = table;
+    int index = current.indexOf(node);
+    if (index < 0) {
+      return false;
+    }
+    table =
+        new Table(
+            removeAt(current.nodes, index),
+            removeAt(current.offsets, index),
+            removeAt(current.skips, index),
+            removeAt(current.weights, index));
+    return true;
+  }
+
+  /** Returns the number of nodes. */
+  public int size() {
+    return table.nodes.length;
+  }
+
+  /**
+   * Returns an unmodifiable snapshot of the nodes and their weights, in the order they were first
+   * added.
+   */
+  public Map<N, Double> nodes() {
+    return table.asMap();
+  }
+
+  /**
+   * Returns the node that {@code key} is assigned to.
+   *
+   * @throws IllegalStateException if there are no nodes
+   */
+  public N get(@ParametricNullness K key) {
+    long keyHash = hashFunction.hashObject(key, keyFunnel).padToLong();
+    Table current = table;
+    checkState(current.nodes.length > 0, "There are no nodes");
+    return current.node(current.slots[(int) Math.floorMod(keyHash, (long) tableSize)]);
+  }
+
+  /** Returns the number of slots that each node holds, in the order of {@link #nodes}. */
+  @VisibleForTesting
+  int[] slotCounts() {
+    Table current = table;
+    int[] counts = new int[current.nodes.length];
+    for (int slot : current.slots) {
+      counts[slot]++;
+    }
+    return counts;
+  }
+
+  @Override
+  public String toString() {
+    return "MaglevHash{hashFunction="
+        + hashFunction
+        + ", tableSize="
+        + tableSize
+        + ", nodes="
+        + nodes()
+        + "}";
+  }
+
+  /**
+   * An immutable snapshot of the nodes and of the lookup table built from them. Node {@code i}
+   * prefers the slots {@code offsets[i]}, {@code offsets[i] + skips[i]}, {@code offsets[i] + 2 *
+   * skips[i]}, and so on, modulo the size of the table. Since the size is prime, this visits every
+   * slot.
+   */
+  private final class Table extends WeightedNodes<N> {
+    final int[] offsets;
+    final int[] skips;
+    // The index in nodes of the node of each slot, or an empty array if there are no nodes.
+    final int[] slots;
+
+    Table(Object[] nodes, int[] offsets, int[] skips, double[] weights) {
+      super(nodes, weights);
+      this.offsets = offsets;
+      this.skips = skips;
+      this.slots = (nodes.length == 0) ? new int[0] : populate();
+    }
+
+    private int[] populate() {
+      int n = nodes.length;
+      double maxWeight = 0;
+      for (double weight : weights) {
+        maxWeight = Math.max(maxWeight, weight);
+      }
+      double[] turnsPerRound = new double[n];
+      for (int i = 0; i < n; i++) {
+        turnsPerRound[i] = weights[i] / maxWeight;
+      }
+      int[] positions = offsets.clone();
+      int[] counts = new int[n];
+      int[] result = new int[tableSize];
+      Arrays.fill(result, -1);
+      int filled = 0;
+      // The heaviest node takes a turn in every round, so each round fills at least one slot.
+      for (long round = 1; ; round++) {
+        for (int i = 0; i < n; i++) {
+          if (counts[i] >= round * turnsPerRound[i]) {
+            continue;
+          }
+          int slot = positions[i];
+          while (result[slot] >= 0) {
+            slot += skips[i];
+            if (slot >= tableSize) {
+              slot -= tableSize;
+            }
+          }
+          result[slot] = i;
+          counts[i]++;
+          positions[i] = slot;
+          if (++filled == tableSize) {
+            return result;
+          }
+        }
+      }
+    }
+  }
+}
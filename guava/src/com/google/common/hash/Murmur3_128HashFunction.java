@@ -25,8 +25,13 @@
 
 package com.google.common.hash;
 
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+import static com.google.common.hash.LittleEndianByteArray.load64;
+import static com.google.common.hash.LittleEndianByteArray.load64Safely;
 import static com.google.common.primitives.UnsignedBytes.toInt;
 
+import com.google.common.primitives.Chars;
+import com.google.common.primitives.Longs;
 import com.google.errorprone.annotations.Immutable;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
@@ -48,6 +53,10 @@ final class Murmur3_128HashFunction extends AbstractHashFunction implements Seri
   static final HashFunction GOOD_FAST_HASH_128 =
       new Murmur3_128HashFunction(Hashing.GOOD_FAST_HASH_SEED);
 
+  private static final int CHUNK_SIZE = 16;
+  private static final long C1 = 0x87c37b91114253d5L;
+  private static final long C2 = 0x4cf5ad432745937fL;
+
   // TODO(user): when the shortcuts are implemented, update BloomFilterStrategies
   private final int seed;
 
@@ -65,6 +74,70 @@ final class Murmur3_128HashFunction extends AbstractHashFunction implements Seri
     return new Murmur3_128Hasher(seed);
   }
 
+  @Override
+  public ResettableHasher newResettableHasher() {
+    return new Murmur3_128Hasher(seed);
+  }
+
+  // The shortcuts below compute the first 64 bits of what Murmur3_128Hasher computes for the same
+  // input, without allocating a hasher or a HashCode.
+
+  @Override
+  public long hashLongToLong(long input) {
+    // A single partial block, with k2 == 0.
+    return finish(seed ^ mixK1(input), seed, Longs.BYTES);
+  }
+
+  @Override
+  public long hashBytesToLong(byte[] input, int off, int len) {
+    checkPositionIndexes(off, off + len, input.length);
+    long h1 = seed;
+    long h2 = seed;
+    int i;
+    for (i = 0; i + CHUNK_SIZE <= len; i += CHUNK_SIZE) {
+      h1 = mixH1(h1, h2, load64(input, off + i));
+      h2 = mixH2(h2, h1, load64(input, off + i + 8));
+    }
+    int remaining = len - i;
+    if (remaining > 0) {
+      h1 ^= mixK1(load64Safely(input, off + i, remaining));
+      if (remaining > 8) {
+        h2 ^= mixK2(load64Safely(input, off + i + 8, remaining - 8));
+      }
+    }
+    return finish(h1, h2, len);
+  }
+
+  @Override
+  public long hashUnencodedCharsToLong(CharSequence input) {
+    int len = input.length();
+    long h1 = seed;
+    long h2 = seed;
+    int i;
+    // Each block holds 8 chars, each char being 2 little-endian bytes.
+    for (i = 0; i + 8 <= len; i += 8) {
+      h1 = mixH1(h1, h2, loadChars(input, i, 4));
+      h2 = mixH2(h2, h1, loadChars(input, i + 4, 4));
+    }
+    int remaining = len - i;
+    if (remaining > 0) {
+      h1 ^= mixK1(loadChars(input, i, Math.min(remaining, 4)));
+      if (remaining > 4) {
+        h2 ^= mixK2(loadChars(input, i + 4, remaining - 4));
+      }
+    }
+    return finish(h1, h2, Chars.BYTES * len);
+  }
+
+  /** Returns {@code count <= 4} chars of {@code input} as a little-endian {@code long}. */
+  private static long loadChars(CharSequence input, int start, int count) {
+    long result = 0;
+    for (int i = 0; i < count; i++) {
+      result |= (long) input.charAt(start + i) << (i * 16);
+    }
+    return result;
+  }
+
   @Override
   public String toString() {
     return "Hashing.murmur3_128(" + seed + ")";
@@ -84,43 +157,92 @@ final class Murmur3_128HashFunction extends AbstractHashFunction implements Seri
     return getClass().hashCode() ^ seed;
   }
 
-  private static final class Murmur3_128Hasher extends AbstractStreamingHasher {
-    private static final int CHUNK_SIZE = 16;
-    private static final long C1 = 0x87c37b91114253d5L;
-    private static final long C2 = 0x4cf5ad432745937fL;
+  private static long mixH1(long h1, long h2, long k1) {
+    h1 ^= mixK1(k1);
+
+    h1 = Long.rotateLeft(h1, 27);
+    h1 += h2;
+    return h1 * 5 + 0x52dce729;
+  }
+
+  private static long mixH2(long h2, long h1, long k2) {
+    h2 ^= mixK2(k2);
+
+    h2 = Long.rotateLeft(h2, 31);
+    h2 += h1;
+    return h2 * 5 + 0x38495ab5;
+  }
+
+  /** Returns the first 64 bits of the hash code, in the little-endian order of its bytes. */
+  private static long finish(long h1, long h2, int length) {
+    h1 ^= length;
+    h2 ^= length;
+
+    h1 += h2;
+    h2 += h1;
+
+    h1 = fmix64(h1);
+    h2 = fmix64(h2);
+
+    return h1 + h2;
+  }
+
+  static long fmix64(long k) {
+    k ^= k >>> 33;
+    k *= 0xff51afd7ed558ccdL;
+    k ^= k >>> 33;
+    k *= 0xc4ceb9fe1a85ec53L;
+    k ^= k >>> 33;
+    return k;
+  }
+
+  private static long mixK1(long k1) {
+    k1 *= C1;
+    k1 = Long.rotateLeft(k1, 31);
+    k1 *= C2;
+    return k1;
+  }
+
+  private static long mixK2(long k2) {
+    k2 *= C2;
+    k2 = Long.rotateLeft(k2, 33);
+    k2 *= C1;
+    return k2;
+  }
+
+  private static final class Murmur3_128Hasher extends AbstractStreamingHasher
+      implements ResettableHasher {
+    private final int seed;
     private long h1;
     private long h2;
     private int length;
 
     Murmur3_128Hasher(int seed) {
       super(CHUNK_SIZE);
+      this.seed = seed;
       this.h1 = seed;
       this.h2 = seed;
       this.length = 0;
     }
 
+    @Override
+    public ResettableHasher reset() {
+      clearBuffer();
+      h1 = seed;
+      h2 = seed;
+      length = 0;
+      return this;
+    }
+
     @Override
     protected void process(ByteBuffer bb) {
       long k1 = bb.getLong();
       long k2 = bb.getLong();
-      bmix64(k1, k2);
+      h1 = mixH1(h1, h2, k1);
+      h2 = mixH2(h2, h1, k2);
       length += CHUNK_SIZE;
     }
 
-    private void bmix64(long k1, long k2) {
-      h1 ^= mixK1(k1);
-
-      h1 = Long.rotateLeft(h1, 27);
-      h1 += h2;
-      h1 = h1 * 5 + 0x52dce729;
-
-      h2 ^= mixK2(k2);
-
-      h2 = Long.rotateLeft(h2, 31);
-      h2 += h1;
-      h2 = h2 * 5 + 0x38495ab5;
-    }
-
     @Override
     protected void processRemaining(ByteBuffer bb) {
       long k1 = 0;
@@ -188,27 +310,10 @@ final class Murmur3_128HashFunction extends AbstractHashFunction implements Seri
               .array());
     }
 
-    private static long fmix64(long k) {
-      k ^= k >>> 33;
-      k *= 0xff51afd7ed558ccdL;
-      k ^= k >>> 33;
-      k *= 0xc4ceb9fe1a85ec53L;
-      k ^= k >>> 33;
-      return k;
-    }
-
-    private static long mixK1(long k1) {
-      k1 *= C1;
-      k1 = Long.rotateLeft(k1, 31);
-      k1 *= C2;
-      return k1;
-    }
-
-    private static long mixK2(long k2) {
-      k2 *= C2;
-      k2 = Long.rotateLeft(k2, 33);
-      k2 *= C1;
-      return k2;
+    @Override
+    public long hashToLong() {
+      processBufferedInput();
+      return finish(h1, h2, length);
     }
   }
 
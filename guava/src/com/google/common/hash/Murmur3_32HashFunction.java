@@ -86,6 +86,11 @@ final class Murmur3_32HashFunction extends AbstractHashFunction implements Seria
     return new Murmur3_32Hasher(seed);
   }
 
+  @Override
+  public ResettableHasher newResettableHasher() {
+    return new Murmur3_32Hasher(seed);
+  }
+
   @Override
   public String toString() {
     return "Hashing.murmur3_32(" + seed + ")";
@@ -110,11 +115,20 @@ final class Murmur3_32HashFunction extends AbstractHashFunction implements Seria
     int k1 = mixK1(input);
     int h1 = mixH1(seed, k1);
 
-    return fmix(h1, Ints.BYTES);
+    return HashCode.fromInt(fmix(h1, Ints.BYTES));
   }
 
   @Override
   public HashCode hashLong(long input) {
+    return HashCode.fromInt(hashLongToInt(input));
+  }
+
+  @Override
+  public long hashLongToLong(long input) {
+    return hashLongToInt(input) & 0xFFFFFFFFL;
+  }
+
+  private int hashLongToInt(long input) {
     int low = (int) input;
     int high = (int) (input >>> 32);
 
@@ -129,6 +143,15 @@ final class Murmur3_32HashFunction extends AbstractHashFunction implements Seria
 
   @Override
   public HashCode hashUnencodedChars(CharSequence input) {
+    return HashCode.fromInt(hashUnencodedCharsToInt(input));
+  }
+
+  @Override
+  public long hashUnencodedCharsToLong(CharSequence input) {
+    return hashUnencodedCharsToInt(input) & 0xFFFFFFFFL;
+  }
+
+  private int hashUnencodedCharsToInt(CharSequence input) {
     int h1 = seed;
 
     // step through the CharSequence 2 chars at a time
@@ -214,7 +237,7 @@ final class Murmur3_32HashFunction extends AbstractHashFunction implements Seria
 
       int k1 = mixK1((int) buffer);
       h1 ^= k1;
-      return fmix(h1, len);
+      return HashCode.fromInt(fmix(h1, len));
     } else {
       return hashBytes(input.toString().getBytes(charset));
     }
@@ -222,6 +245,15 @@ final class Murmur3_32HashFunction extends AbstractHashFunction implements Seria
 
   @Override
   public HashCode hashBytes(byte[] input, int off, int len) {
+    return HashCode.fromInt(hashBytesToInt(input, off, len));
+  }
+
+  @Override
+  public long hashBytesToLong(byte[] input, int off, int len) {
+    return hashBytesToInt(input, off, len) & 0xFFFFFFFFL;
+  }
+
+  private int hashBytesToInt(byte[] input, int off, int len) {
     checkPositionIndexes(off, off + len, input.length);
     int h1 = seed;
     int i;
@@ -257,18 +289,19 @@ final class Murmur3_32HashFunction extends AbstractHashFunction implements Seria
   }
 
   // Finalization mix - force all bits of a hash block to avalanche
-  private static HashCode fmix(int h1, int length) {
+  private static int fmix(int h1, int length) {
     h1 ^= length;
     h1 ^= h1 >>> 16;
     h1 *= 0x85ebca6b;
     h1 ^= h1 >>> 13;
     h1 *= 0xc2b2ae35;
     h1 ^= h1 >>> 16;
-    return HashCode.fromInt(h1);
+    return h1;
   }
 
   @CanIgnoreReturnValue
-  private static final class Murmur3_32Hasher extends AbstractHasher {
+  private static final class Murmur3_32Hasher extends AbstractHasher implements ResettableHasher {
+    private final int seed;
     private int h1;
     private long buffer;
     private int shift;
@@ -276,11 +309,22 @@ final class Murmur3_32HashFunction extends AbstractHashFunction implements Seria
     private boolean isDone;
 
     Murmur3_32Hasher(int seed) {
+      this.seed = seed;
       this.h1 = seed;
       this.length = 0;
       isDone = false;
     }
 
+    @Override
+    public ResettableHasher reset() {
+      h1 = seed;
+      buffer = 0;
+      shift = 0;
+      length = 0;
+      isDone = false;
+      return this;
+    }
+
     private void update(int nBytes, long update) {
       // 1 <= nBytes <= 4
       buffer |= (update & 0xFFFFFFFFL) << shift;
@@ -394,6 +438,15 @@ final class Murmur3_32HashFunction extends AbstractHashFunction implements Seria
 
     @Override
     public HashCode hash() {
+      return HashCode.fromInt(finish());
+    }
+
+    @Override
+    public long hashToLong() {
+      return finish() & 0xFFFFFFFFL;
+    }
+
+    private int finish() {
       checkState(!isDone);
       isDone = true;
       h1 ^= mixK1((int) buffer);
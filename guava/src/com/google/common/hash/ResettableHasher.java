@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.hash;
+
+import com.google.common.annotations.Beta;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+
+/**
+ * A {@link Hasher} that can be returned to its initial state with {@link #reset} and used again, so
+ * that code hashing many inputs need not allocate a new hasher for each of them. Together with
+ * {@link #hashToLong}, this allows hashing without any allocation at all, for the hash functions
+ * that support it.
+ *
+ * <p>As with any hasher, the result of calling methods other than {@link #reset} after {@link
+ * #hash} or {@link #hashToLong} is undefined. Resettable hashers are not thread-safe; a typical use
+ * keeps one per thread:
+ *
+ * <pre>{@code
+ * private static final ThreadLocal<ResettableHasher> HASHER =
+ *     ThreadLocal.withInitial(Hashing.murmur3_128()::newResettableHasher);
+ *
+ * static long fingerprint(long id, String name) {
+ *   ResettableHasher hasher = HASHER.get().reset();
+ *   hasher.putLong(id).putUnencodedChars(name);
+ *   return hasher.hashToLong();
+ * }
+ * }</pre>
+ *
+ * @since NEXT
+ */
+@Beta
+@ElementTypesAreNonnullByDefault
+public interface ResettableHasher extends Hasher {
+  /**
+   * Discards all the input and any result, leaving this hasher in the state of a newly created
+   * one.
+   *
+   * @return this hasher
+   */
+  @CanIgnoreReturnValue
+  ResettableHasher reset();
+
+  /**
+   * Returns {@code hash().padToLong()}, without allocating a {@link HashCode} when the hash
+   * function allows it.
+   */
+  long hashToLong();
+}
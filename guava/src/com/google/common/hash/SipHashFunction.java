@@ -74,6 +74,11 @@ final class SipHashFunction extends AbstractHashFunction implements Serializable
     return new SipHasher(c, d, k0, k1);
   }
 
+  @Override
+  public ResettableHasher newResettableHasher() {
+    return new SipHasher(c, d, k0, k1);
+  }
+
   // TODO(kak): Implement and benchmark the hashFoo() shortcuts.
 
   @Override
@@ -95,38 +100,62 @@ final class SipHashFunction extends AbstractHashFunction implements Serializable
     return (int) (getClass().hashCode() ^ c ^ d ^ k0 ^ k1);
   }
 
-  private static final class SipHasher extends AbstractStreamingHasher {
+  private static final class SipHasher extends AbstractStreamingHasher implements ResettableHasher {
     private static final int CHUNK_SIZE = 8;
 
+    // The initial state corresponds to the ASCII string "somepseudorandomlygeneratedbytes",
+    // big-endian encoded. There is nothing special about this value; the only requirement
+    // was some asymmetry so that the initial v0 and v1 differ from v2 and v3.
+    private static final long INITIAL_V0 = 0x736f6d6570736575L;
+    private static final long INITIAL_V1 = 0x646f72616e646f6dL;
+    private static final long INITIAL_V2 = 0x6c7967656e657261L;
+    private static final long INITIAL_V3 = 0x7465646279746573L;
+
     // The number of compression rounds.
     private final int c;
     // The number of finalization rounds.
     private final int d;
 
+    // Two 64-bit words of key, kept to restore the initial state on reset().
+    private final long k0;
+    private final long k1;
+
     // Four 64-bit words of internal state.
-    // The initial state corresponds to the ASCII string "somepseudorandomlygeneratedbytes",
-    // big-endian encoded. There is nothing special about this value; the only requirement
-    // was some asymmetry so that the initial v0 and v1 differ from v2 and v3.
-    private long v0 = 0x736f6d6570736575L;
-    private long v1 = 0x646f72616e646f6dL;
-    private long v2 = 0x6c7967656e657261L;
-    private long v3 = 0x7465646279746573L;
+    private long v0;
+    private long v1;
+    private long v2;
+    private long v3;
 
     // The number of bytes in the input.
-    private long b = 0;
+    private long b;
 
     // The final 64-bit chunk includes the last 0 through 7 bytes of m followed by null bytes
     // and ending with a byte encoding the positive integer b mod 256.
-    private long finalM = 0;
+    private long finalM;
 
     SipHasher(int c, int d, long k0, long k1) {
       super(CHUNK_SIZE);
       this.c = c;
       this.d = d;
-      this.v0 ^= k0;
-      this.v1 ^= k1;
-      this.v2 ^= k0;
-      this.v3 ^= k1;
+      this.k0 = k0;
+      this.k1 = k1;
+      initState();
+    }
+
+    @Override
+    public ResettableHasher reset() {
+      clearBuffer();
+      initState();
+      return this;
+    }
+
+    private void initState() {
+      v0 = INITIAL_V0 ^ k0;
+      v1 = INITIAL_V1 ^ k1;
+      v2 = INITIAL_V2 ^ k0;
+      v3 = INITIAL_V3 ^ k1;
+      b = 0;
+      finalM = 0;
     }
 
     @Override
@@ -145,6 +174,16 @@ final class SipHashFunction extends AbstractHashFunction implements Serializable
 
     @Override
     protected HashCode makeHash() {
+      return HashCode.fromLong(finish());
+    }
+
+    @Override
+    public long hashToLong() {
+      processBufferedInput();
+      return finish();
+    }
+
+    private long finish() {
       // End with a byte encoding the positive integer b mod 256.
       finalM ^= b << 56;
       processM(finalM);
@@ -152,7 +191,7 @@ final class SipHashFunction extends AbstractHashFunction implements Serializable
       // Finalization
       v2 ^= 0xFFL;
       sipRound(d);
-      return HashCode.fromLong(v0 ^ v1 ^ v2 ^ v3);
+      return v0 ^ v1 ^ v2 ^ v3;
     }
 
     private void processM(long m) {
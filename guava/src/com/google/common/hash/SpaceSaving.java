@@ -0,0 +1,444 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.math.IntMath;
+import com.google.common.primitives.Ints;
+import com.google.errorprone.annotations.concurrent.GuardedBy;
+import java.io.Serializable;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A Space-Saving summary, which finds the most frequent instances of {@code T} in a stream, and
+ * estimates their counts, while keeping a fixed number of counters. See "Efficient Computation of
+ * Frequent and Top-k Elements in Data Streams" by Ahmed Metwally, Divyakant Agrawal and Amr El
+ * Abbadi.
+ *
+ * <p>Each counter monitors one element. When an unmonitored element is {@linkplain #add added} and
+ * all counters are in use, the counter with the smallest count is taken over by the new element,
+ * which inherits that count as its possible overestimate. So the count of a monitored element is
+ * never less than its true count, and exceeds it by at most the inherited count.
+ *
+ * <p>For concurrency, the counters are split into {@code concurrencyLevel} stripes, each guarded by
+ * its own lock, and each element always goes to the same stripe, chosen by hashing it with {@link
+ * Hashing#murmur3_128()} through the given {@link Funnel}. Each stripe is a Space-Saving summary of
+ * its share of the stream, with {@code ceil(capacity / concurrencyLevel)} counters. Any element
+ * whose true count exceeds its stripe's share of the {@linkplain #totalCount total count} divided
+ * by that number of counters is guaranteed to be monitored; in particular, any element whose true
+ * count exceeds {@code totalCount() / ceil(capacity / concurrencyLevel)} is. Only with a
+ * concurrency level of 1 is that the classic bound of {@code totalCount() / capacity}, so a
+ * summary that needs it for a given capacity should be created with a concurrency level of 1.
+ *
+ * <p>Summaries with the same capacity, concurrency level and funnel can be {@linkplain #merge
+ * merged}, as described in "Mergeable Summaries" by Pankaj K. Agarwal et al.
+ *
+ * <p>Unlike {@link com.google.common.collect.ConcurrentHashMultiset} or {@link
+ * com.google.common.util.concurrent.AtomicLongMap}, a summary takes memory proportional to its
+ * capacity, however many distinct elements the stream has.
+ *
+ * @param <T> the type of instances that the {@code SpaceSaving} accepts
+ * @see CountMinSketch
+ * @since NEXT
+ */
+@Beta
+@ElementTypesAreNonnullByDefault
+public final class SpaceSaving<T> implements Serializable {
+  private static final int DEFAULT_CONCURRENCY_LEVEL = 4;
+
+  private final int capacity;
+  private final Funnel<? super T> funnel;
+  private final Stripe<T>[] stripes;
+
+  @SuppressWarnings("unchecked") // generic array creation
+  private SpaceSaving(int capacity, int concurrencyLevel, Funnel<? super T> funnel) {
+    checkArgument(capacity > 0, "capacity (%s) must be > 0", capacity);
+    checkArgument(concurrencyLevel > 0, "concurrencyLevel (%s) must be > 0", concurrencyLevel);
+    this.capacity = capacity;
+    this.funnel = checkNotNull(funnel);
+    int stripeCapacity = IntMath.divide(capacity, concurrencyLevel, RoundingMode.CEILING);
+    this.stripes = (Stripe<T>[]) new Stripe<?>[concurrencyLevel];
+    for (int i = 0; i < concurrencyLevel; i++) {
+      stripes[i] = new Stripe<T>(stripeCapacity);
+    }
+  }
+
+  /**
+   * Creates a {@code SpaceSaving} summary with {@code capacity} counters, and the default
+   * concurrency level of 4.
+   *
+   * @param funnel the funnel of T's that the constructed summary will use
+   * @param capacity the number of counters; must be positive
+   */
+  public static <T> SpaceSaving<T> create(Funnel<? super T> funnel, int capacity) {
+    return create(funnel, capacity, DEFAULT_CONCURRENCY_LEVEL);
+  }
+
+  /**
+   * Creates a {@code SpaceSaving} summary with {@code capacity} counters, split into {@code
+   * concurrencyLevel} independently locked stripes.
+   *
+   * @param funnel the funnel of T's that the constructed summary will use
+   * @param capacity the number of counters; must be positive
+   * @param concurrencyLevel the number of stripes; must be positive
+   */
+  public static <T> SpaceSaving<T> create(
+      Funnel<? super T> funnel, int capacity, int concurrencyLevel) {
+    checkNotNull(funnel);
+    return new SpaceSaving<T>(capacity, concurrencyLevel, funnel);
+  }
+
+  private Stripe<T> stripe(T element) {
+    long hash = Hashing.murmur3_128().hashObject(element, funnel).asLong();
+    return stripes[(int) ((hash & Long.MAX_VALUE) % stripes.length)];
+  }
+
+  /** Adds one occurrence of {@code element} to this summary. */
+  public void add(T element) {
+    add(element, 1);
+  }
+
+  /**
+   * Adds {@code occurrences} occurrences of {@code element} to this summary.
+   *
+   * @throws IllegalArgumentException if {@code occurrences} is negative
+   */
+  public void add(T element, long occurrences) {
+    checkNotNull(element);
+    checkArgument(occurrences >= 0, "occurrences (%s) must be >= 0", occurrences);
+    if (occurrences > 0) {
+      stripe(element).add(element, occurrences);
+    }
+  }
+
+  /**
+   * Returns the estimated count of {@code element}, or 0 if it is not monitored. The estimate of a
+   * monitored element is never less than its true count.
+   */
+  public long estimateCount(T element) {
+    checkNotNull(element);
+    Stripe<T> stripe = stripe(element);
+    synchronized (stripe) {
+      Counter<T> counter = stripe.counters.get(element);
+      return (counter == null) ? 0 : counter.count;
+    }
+  }
+
+  /**
+   * Returns the number of occurrences of {@code element} that are certain: its estimated count
+   * minus the count it may have inherited from an evicted element, or 0 if it is not monitored.
+   */
+  public long guaranteedCount(T element) {
+    checkNotNull(element);
+    Stripe<T> stripe = stripe(element);
+    synchronized (stripe) {
+      Counter<T> counter = stripe.counters.get(element);
+      return (counter == null) ? 0 : counter.count - counter.error;
+    }
+  }
+
+  /** Returns the total number of occurrences added to this summary. */
+  public long totalCount() {
+    long total = 0;
+    for (Stripe<T> stripe : stripes) {
+      synchronized (stripe) {
+        total += stripe.totalCount;
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Returns the {@code k} monitored elements with the highest estimated counts, as a multiset whose
+   * iteration order is by descending count. Counts above {@link Integer#MAX_VALUE} are capped to
+   * it.
+   *
+   * <p>Elements whose true count exceeds {@code totalCount() / ceil(capacity / concurrencyLevel)}
+   * are guaranteed to be included, if {@code k} is large enough; see the {@linkplain SpaceSaving
+   * class documentation} for the exact bound. Elements with lower counts may be missing, or may be
+   * included instead of more frequent ones.
+   */
+  public ImmutableMultiset<T> topK(int k) {
+    checkArgument(k >= 0, "k (%s) must be >= 0", k);
+    List<Counter<T>> counters = new ArrayList<>();
+    for (Stripe<T> stripe : stripes) {
+      counters.addAll(stripe.snapshot());
+    }
+    Collections.sort(counters, BY_DESCENDING_COUNT);
+    ImmutableMultiset.Builder<T> builder = ImmutableMultiset.builder();
+    for (Counter<T> counter : counters.subList(0, Math.min(k, counters.size()))) {
+      builder.addCopies(counter.element, Ints.saturatedCast(counter.count));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Merges another summary into this one, so that this summary's estimates are for the
+   * concatenation of both streams. The other summary is not modified.
+   *
+   * @throws IllegalArgumentException if {@code that} has a different capacity, concurrency level,
+   *     or funnel
+   */
+  public void merge(SpaceSaving<T> that) {
+    checkNotNull(that);
+    checkArgument(this != that, "Cannot combine a SpaceSaving with itself.");
+    checkArgument(
+        this.capacity == that.capacity && this.stripes.length == that.stripes.length,
+        "SpaceSavings must have the same capacity and concurrency level");
+    checkArgument(
+        this.funnel.equals(that.funnel),
+        "SpaceSavings must have equal funnels (%s != %s)",
+        this.funnel,
+        that.funnel);
+    for (int i = 0; i < stripes.length; i++) {
+      // Take a snapshot of the other stripe, rather than holding both locks
+      Stripe<T> thatStripe = that.stripes[i];
+      List<Counter<T>> thatCounters;
+      long thatTotalCount;
+      synchronized (thatStripe) {
+        thatCounters = thatStripe.snapshot();
+        thatTotalCount = thatStripe.totalCount;
+      }
+      stripes[i].merge(thatCounters, thatTotalCount);
+    }
+  }
+
+  private static final Comparator<Counter<?>> BY_DESCENDING_COUNT =
+      (a, b) -> Long.compare(b.count, a.count);
+
+  /** An element, its estimated count, and the amount by which that may exceed its true count. */
+  private static final class Counter<T> {
+    T element;
+    long count;
+    long error;
+    int heapIndex;
+
+    Counter(T element, long count, long error) {
+      this.element = element;
+      this.count = count;
+      this.error = error;
+    }
+  }
+
+  /** A Space-Saving summary over a min-heap of counters, guarded by its own lock. */
+  private static final class Stripe<T> {
+    final int capacity;
+
+    @GuardedBy("this")
+    final Map<T, Counter<T>> counters = new HashMap<>();
+
+    /** The counters as a binary min-heap on their counts. */
+    @GuardedBy("this")
+    final List<Counter<T>> heap = new ArrayList<>();
+
+    @GuardedBy("this")
+    long totalCount;
+
+    Stripe(int capacity) {
+      this.capacity = capacity;
+    }
+
+    synchronized void add(T element, long occurrences) {
+      totalCount += occurrences;
+      Counter<T> counter = counters.get(element);
+      if (counter != null) {
+        counter.count += occurrences;
+        siftDown(counter.heapIndex);
+      } else if (heap.size() < capacity) {
+        counter = new Counter<T>(element, occurrences, 0);
+        counters.put(element, counter);
+        counter.heapIndex = heap.size();
+        heap.add(counter);
+        siftUp(counter.heapIndex);
+      } else {
+        // Replace the element with the lowest count
+        counter = heap.get(0);
+        counters.remove(counter.element);
+        counter.element = element;
+        counter.error = counter.count;
+        counter.count += occurrences;
+        counters.put(element, counter);
+        siftDown(0);
+      }
+    }
+
+    /** Returns copies of the counters. */
+    synchronized List<Counter<T>> snapshot() {
+      List<Counter<T>> snapshot = new ArrayList<>(heap.size());
+      for (Counter<T> counter : heap) {
+        snapshot.add(new Counter<T>(counter.element, counter.count, counter.error));
+      }
+      return snapshot;
+    }
+
+    /**
+     * Merges the counters of another summary. An element missing from one of the summaries may
+     * have occurred as often as that summary's lowest count, if it is full.
+     */
+    synchronized void merge(List<Counter<T>> thatCounters, long thatTotalCount) {
+      long thisMin = (heap.size() < capacity) ? 0 : heap.get(0).count;
+      long thatMin = 0;
+      if (thatCounters.size() >= capacity) {
+        thatMin = Long.MAX_VALUE;
+        for (Counter<T> counter : thatCounters) {
+          thatMin = Math.min(thatMin, counter.count);
+        }
+      }
+
+      Map<T, Counter<T>> merged = new HashMap<>();
+      for (Counter<T> counter : heap) {
+        merged.put(
+            counter.element,
+            new Counter<T>(counter.element, counter.count + thatMin, counter.error + thatMin));
+      }
+      for (Counter<T> counter : thatCounters) {
+        Counter<T> existing = merged.get(counter.element);
+        if (existing != null) {
+          // Undo the assumption that it was missing from that summary
+          existing.count += counter.count - thatMin;
+          existing.error += counter.error - thatMin;
+        } else {
+          merged.put(
+              counter.element,
+              new Counter<T>(counter.element, counter.count + thisMin, counter.error + thisMin));
+        }
+      }
+
+      List<Counter<T>> sorted = new ArrayList<>(merged.values());
+      Collections.sort(sorted, BY_DESCENDING_COUNT);
+      counters.clear();
+      heap.clear();
+      for (Counter<T> counter : sorted.subList(0, Math.min(capacity, sorted.size()))) {
+        counters.put(counter.element, counter);
+        counter.heapIndex = heap.size();
+        heap.add(counter);
+        siftUp(counter.heapIndex);
+      }
+      totalCount += thatTotalCount;
+    }
+
+    @GuardedBy("this")
+    private void siftUp(int index) {
+      Counter<T> counter = heap.get(index);
+      while (index > 0) {
+        int parentIndex = (index - 1) / 2;
+        Counter<T> parent = heap.get(parentIndex);
+        if (parent.count <= counter.count) {
+          break;
+        }
+        place(parent, index);
+        index = parentIndex;
+      }
+      place(counter, index);
+    }
+
+    @GuardedBy("this")
+    private void siftDown(int index) {
+      Counter<T> counter = heap.get(index);
+      int size = heap.size();
+      while (true) {
+        int childIndex = 2 * index + 1;
+        if (childIndex >= size) {
+          break;
+        }
+        if (childIndex + 1 < size && heap.get(childIndex + 1).count < heap.get(childIndex).count) {
+          childIndex++;
+        }
+        Counter<T> child = heap.get(childIndex);
+        if (counter.count <= child.count) {
+          break;
+        }
+        place(child, index);
+        index = childIndex;
+      }
+      place(counter, index);
+    }
+
+    @GuardedBy("this")
+    private void place(Counter<T> counter, int index) {
+      heap.set(index, counter);
+      counter.heapIndex = index;
+    }
+  }
+
+  private static final long serialVersionUID = 0;
+
+  private Object writeReplace() {
+    return new SerialForm<T>(this);
+  }
+
+  private static class SerialForm<T> implements Serializable {
+    final int capacity;
+    final int concurrencyLevel;
+    final Funnel<? super T> funnel;
+    final Object[][] elements;
+    final long[][] counts;
+    final long[][] errors;
+    final long[] totalCounts;
+
+    SerialForm(SpaceSaving<T> summary) {
+      this.capacity = summary.capacity;
+      this.concurrencyLevel = summary.stripes.length;
+      this.funnel = summary.funnel;
+      this.elements = new Object[concurrencyLevel][];
+      this.counts = new long[concurrencyLevel][];
+      this.errors = new long[concurrencyLevel][];
+      this.totalCounts = new long[concurrencyLevel];
+      for (int i = 0; i < concurrencyLevel; i++) {
+        Stripe<T> stripe = summary.stripes[i];
+        List<Counter<T>> counters;
+        synchronized (stripe) {
+          counters = stripe.snapshot();
+          totalCounts[i] = stripe.totalCount;
+        }
+        elements[i] = new Object[counters.size()];
+        counts[i] = new long[counters.size()];
+        errors[i] = new long[counters.size()];
+        for (int j = 0; j < counters.size(); j++) {
+          elements[i][j] = counters.get(j).element;
+          counts[i][j] = counters.get(j).count;
+          errors[i][j] = counters.get(j).error;
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked") // the elements were Ts when serialized
+    Object readResolve() {
+      SpaceSaving<T> summary = new SpaceSaving<T>(capacity, concurrencyLevel, funnel);
+      for (int i = 0; i < concurrencyLevel; i++) {
+        List<Counter<T>> counters = new ArrayList<>();
+        for (int j = 0; j < elements[i].length; j++) {
+          counters.add(new Counter<T>((T) elements[i][j], counts[i][j], errors[i][j]));
+        }
+        summary.stripes[i].merge(counters, totalCounts[i]);
+      }
+      return summary;
+    }
+
+    private static final long serialVersionUID = 1;
+  }
+}
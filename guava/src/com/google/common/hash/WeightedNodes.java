@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable snapshot of the nodes of a {@link RendezvousHash}, {@link MaglevHash} or {@link
+ * ConsistentHashRing}, with the weight of each, in the order they were first added. Each of those
+ * classes extends it with the lookup structure that it builds from the nodes, and publishes a new
+ * snapshot on each change.
+ *
+ * @param <N> the type of nodes
+ */
+@ElementTypesAreNonnullByDefault
+class WeightedNodes<N> {
+  final Object[] nodes;
+  final double[] weights;
+
+  WeightedNodes(Object[] nodes, double[] weights) {
+    this.nodes = checkNotNull(nodes);
+    this.weights = checkNotNull(weights);
+  }
+
+  @SuppressWarnings("unchecked") // only instances of N are added
+  final N node(int index) {
+    return (N) nodes[index];
+  }
+
+  /** Returns the index of {@code node}, or -1 if it is not present. */
+  final int indexOf(@Nullable Object node) {
+    for (int i = 0; i < nodes.length; i++) {
+      if (nodes[i].equals(node)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /** Returns an unmodifiable map from the nodes to their weights, in the order of the nodes. */
+  final Map<N, Double> asMap() {
+    Map<N, Double> result = new LinkedHashMap<>();
+    for (int i = 0; i < nodes.length; i++) {
+      result.put(node(i), weights[i]);
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  /** Mixes the bits of {@code hash}, for a second hash of a node or key that is independent. */
+  static long mix(long hash) {
+    return Murmur3_128HashFunction.fmix64(hash);
+  }
+
+  static Object[] removeAt(Object[] array, int index) {
+    Object[] result = Arrays.copyOf(array, array.length - 1);
+    System.arraycopy(array, index + 1, result, index, result.length - index);
+    return result;
+  }
+
+  static int[] removeAt(int[] array, int index) {
+    int[] result = Arrays.copyOf(array, array.length - 1);
+    System.arraycopy(array, index + 1, result, index, result.length - index);
+    return result;
+  }
+
+  static long[] removeAt(long[] array, int index) {
+    long[] result = Arrays.copyOf(array, array.length - 1);
+    System.arraycopy(array, index + 1, result, index, result.length - index);
+    return result;
+  }
+
+  static double[] removeAt(double[] array, int index) {
+    double[] result = Arrays.copyOf(array, array.length - 1);
+    System.arraycopy(array, index + 1, result, index, result.length - index);
+    return result;
+  }
+}
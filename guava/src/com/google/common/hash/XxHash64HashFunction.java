@@ -0,0 +1,253 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+/*
+ * xxHash was written by Yann Collet, and is released under the BSD 2-Clause license.
+ *
+ * Source:
+ * https://github.com/Cyan4973/xxHash/blob/release/xxhash.h
+ * (Modified to adapt to Guava coding conventions and to use the HashFunction interface)
+ */
+
+package com.google.common.hash;
+
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+import static com.google.common.hash.LittleEndianByteArray.load32;
+import static com.google.common.hash.LittleEndianByteArray.load64;
+
+import com.google.errorprone.annotations.Immutable;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import javax.annotation.CheckForNull;
+
+/**
+ * See XXH64 in <a href="https://github.com/Cyan4973/xxHash/blob/release/xxhash.h">the C
+ * implementation</a>.
+ *
+ * <p>Note to maintainers: as in {@link FarmHashFingerprint64}, this implementation relies on signed
+ * arithmetic being bit-wise equivalent to unsigned arithmetic, except that right shifts must be
+ * unsigned.
+ *
+ * @author Yann Collet
+ */
+@Immutable
+@ElementTypesAreNonnullByDefault
+final class XxHash64HashFunction extends AbstractHashFunction implements Serializable {
+  static final HashFunction XXHASH_64 = new XxHash64HashFunction(0);
+
+  private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME64_3 = 0x165667B19E3779F9L;
+  private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+  private static final int STRIPE_LEN = 32;
+
+  private final long seed;
+
+  XxHash64HashFunction(long seed) {
+    this.seed = seed;
+  }
+
+  @Override
+  public int bits() {
+    return 64;
+  }
+
+  @Override
+  public Hasher newHasher() {
+    return new XxHash64Hasher(seed);
+  }
+
+  // The short-input shortcuts below compute exactly what XXH64 computes for a 4- or 8-byte
+  // little-endian input, without going through a Hasher.
+
+  @Override
+  public HashCode hashInt(int input) {
+    long h = seed + PRIME64_5 + 4;
+    h ^= (input & 0xFFFFFFFFL) * PRIME64_1;
+    h = Long.rotateLeft(h, 23) * PRIME64_2 + PRIME64_3;
+    return HashCode.fromLong(avalanche(h));
+  }
+
+  @Override
+  public HashCode hashLong(long input) {
+    return HashCode.fromLong(hashLongToLong(input));
+  }
+
+  @Override
+  public long hashLongToLong(long input) {
+    long h = seed + PRIME64_5 + 8;
+    h ^= round(0, input);
+    h = Long.rotateLeft(h, 27) * PRIME64_1 + PRIME64_4;
+    return avalanche(h);
+  }
+
+  @Override
+  public HashCode hashString(CharSequence input, Charset charset) {
+    return hashBytes(input.toString().getBytes(charset));
+  }
+
+  @Override
+  public HashCode hashBytes(byte[] input, int off, int len) {
+    checkPositionIndexes(off, off + len, input.length);
+    return HashCode.fromLong(hash(seed, input, off, len));
+  }
+
+  @Override
+  public long hashBytesToLong(byte[] input, int off, int len) {
+    checkPositionIndexes(off, off + len, input.length);
+    return hash(seed, input, off, len);
+  }
+
+  @Override
+  public String toString() {
+    return "Hashing.xxHash64(" + seed + ")";
+  }
+
+  @Override
+  public boolean equals(@CheckForNull Object object) {
+    if (object instanceof XxHash64HashFunction) {
+      XxHash64HashFunction other = (XxHash64HashFunction) object;
+      return seed == other.seed;
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode() ^ (int) (seed ^ (seed >>> 32));
+  }
+
+  static long hash(long seed, byte[] input, int off, int len) {
+    int end = off + len;
+    long h;
+    if (len >= STRIPE_LEN) {
+      long v1 = seed + PRIME64_1 + PRIME64_2;
+      long v2 = seed + PRIME64_2;
+      long v3 = seed;
+      long v4 = seed - PRIME64_1;
+      int limit = end - STRIPE_LEN;
+      do {
+        v1 = round(v1, load64(input, off));
+        v2 = round(v2, load64(input, off + 8));
+        v3 = round(v3, load64(input, off + 16));
+        v4 = round(v4, load64(input, off + 24));
+        off += STRIPE_LEN;
+      } while (off <= limit);
+      h = mergeAccumulators(v1, v2, v3, v4);
+    } else {
+      h = seed + PRIME64_5;
+    }
+    h += len;
+    return finish(h, input, off, end - off);
+  }
+
+  private static long round(long acc, long input) {
+    acc += input * PRIME64_2;
+    acc = Long.rotateLeft(acc, 31);
+    return acc * PRIME64_1;
+  }
+
+  private static long mergeRound(long acc, long val) {
+    acc ^= round(0, val);
+    return acc * PRIME64_1 + PRIME64_4;
+  }
+
+  private static long mergeAccumulators(long v1, long v2, long v3, long v4) {
+    long h =
+        Long.rotateLeft(v1, 1)
+            + Long.rotateLeft(v2, 7)
+            + Long.rotateLeft(v3, 12)
+            + Long.rotateLeft(v4, 18);
+    h = mergeRound(h, v1);
+    h = mergeRound(h, v2);
+    h = mergeRound(h, v3);
+    return mergeRound(h, v4);
+  }
+
+  /** Mixes in the last {@code len < 32} bytes of the input and avalanches the result. */
+  private static long finish(long h, byte[] input, int off, int len) {
+    int end = off + len;
+    for (; off + 8 <= end; off += 8) {
+      h ^= round(0, load64(input, off));
+      h = Long.rotateLeft(h, 27) * PRIME64_1 + PRIME64_4;
+    }
+    if (off + 4 <= end) {
+      h ^= (load32(input, off) & 0xFFFFFFFFL) * PRIME64_1;
+      h = Long.rotateLeft(h, 23) * PRIME64_2 + PRIME64_3;
+      off += 4;
+    }
+    for (; off < end; off++) {
+      h ^= (input[off] & 0xFFL) * PRIME64_5;
+      h = Long.rotateLeft(h, 11) * PRIME64_1;
+    }
+    return avalanche(h);
+  }
+
+  private static long avalanche(long h) {
+    h ^= h >>> 33;
+    h *= PRIME64_2;
+    h ^= h >>> 29;
+    h *= PRIME64_3;
+    return h ^ (h >>> 32);
+  }
+
+  private static final class XxHash64Hasher extends AbstractStreamingHasher {
+    private final long seed;
+    private long v1;
+    private long v2;
+    private long v3;
+    private long v4;
+    private long length;
+    // The last bytes of the input, which do not make a whole stripe.
+    private final byte[] tail = new byte[STRIPE_LEN];
+    private int tailLength;
+
+    XxHash64Hasher(long seed) {
+      super(STRIPE_LEN);
+      this.seed = seed;
+      this.v1 = seed + PRIME64_1 + PRIME64_2;
+      this.v2 = seed + PRIME64_2;
+      this.v3 = seed;
+      this.v4 = seed - PRIME64_1;
+    }
+
+    @Override
+    protected void process(ByteBuffer bb) {
+      v1 = round(v1, bb.getLong());
+      v2 = round(v2, bb.getLong());
+      v3 = round(v3, bb.getLong());
+      v4 = round(v4, bb.getLong());
+      length += STRIPE_LEN;
+    }
+
+    @Override
+    protected void processRemaining(ByteBuffer bb) {
+      tailLength = bb.remaining();
+      bb.get(tail, 0, tailLength);
+      length += tailLength;
+    }
+
+    @Override
+    protected HashCode makeHash() {
+      long h = (length >= STRIPE_LEN) ? mergeAccumulators(v1, v2, v3, v4) : seed + PRIME64_5;
+      h += length;
+      return HashCode.fromLong(finish(h, tail, 0, tailLength));
+    }
+  }
+
+  private static final long serialVersionUID = 0L;
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.io;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.j2objc.annotations.J2ObjCIncompatible;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A destination to which bytes can be written, such as a file, without blocking the calling thread.
+ * Like a {@link ByteSink}, an {@code AsyncByteSink} is not an open, stateful channel; it is an
+ * immutable supplier of {@link AsynchronousFileChannel} instances, and each operation opens a new
+ * channel and closes it when it is done.
+ *
+ * <p>See {@link AsyncByteSource} for the threads on which the returned futures complete. Instances
+ * for files are returned by {@link MoreFiles#asAsyncByteSink}.
+ *
+ * @since NEXT
+ */
+@Beta
+@GwtIncompatible
+@J2ObjCIncompatible // java.nio.channels.AsynchronousFileChannel
+@ElementTypesAreNonnullByDefault
+public abstract class AsyncByteSink {
+
+  /** Constructor for use by subclasses. */
+  protected AsyncByteSink() {}
+
+  /**
+   * Opens a new {@link AsynchronousFileChannel} for writing to this sink. This method returns a
+   * new, independent channel each time it is called.
+   *
+   * <p>The caller is responsible for ensuring that the returned channel is closed.
+   *
+   * @throws IOException if an I/O error occurs while opening the channel
+   */
+  public abstract AsynchronousFileChannel openChannel() throws IOException;
+
+  /**
+   * Returns the position in {@code channel} at which writes start. This is 0 unless the sink
+   * appends to the existing contents.
+   */
+  long writePosition(AsynchronousFileChannel channel) throws IOException {
+    return 0;
+  }
+
+  /**
+   * Writes all the given bytes to this sink. The returned future fails with an {@link IOException}
+   * if an I/O error occurs while writing.
+   */
+  public FluentFuture<@Nullable Void> write(byte[] bytes) {
+    return write(ByteBuffer.wrap(checkNotNull(bytes)));
+  }
+
+  /**
+   * Writes all the remaining bytes of the given buffer to this sink. The buffer must not be used
+   * until the returned future completes, after which its position is its limit, if the write
+   * succeeded. The returned future fails with an {@link IOException} if an I/O error occurs while
+   * writing.
+   */
+  public FluentFuture<@Nullable Void> write(ByteBuffer bytes) {
+    checkNotNull(bytes);
+    AsynchronousFileChannel channel;
+    long start;
+    try {
+      channel = openChannel();
+    } catch (IOException e) {
+      return FluentFuture.from(immediateFailedFuture(e));
+    }
+    try {
+      start = writePosition(channel);
+    } catch (IOException e) {
+      return AsyncFileChannels.closingWhenDone(immediateFailedFuture(e), channel);
+    }
+    return AsyncFileChannels.closingWhenDone(
+        AsyncFileChannels.writeFully(channel, bytes, start), channel);
+  }
+
+  /**
+   * Writes all the bytes of the given source to this sink. Equivalent to {@code
+   * source.copyTo(this)}.
+   */
+  public FluentFuture<Long> writeFrom(AsyncByteSource source) {
+    return source.copyTo(this);
+  }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.io;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.util.concurrent.Futures.immediateFailedFuture;
+import static com.google.common.util.concurrent.Futures.immediateVoidFuture;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.j2objc.annotations.J2ObjCIncompatible;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A readable source of bytes, such as a file, whose contents are read without blocking the calling
+ * thread. Like a {@link ByteSource}, an {@code AsyncByteSource} is not an open, stateful channel;
+ * it is an immutable supplier of {@link AsynchronousFileChannel} instances, and each operation
+ * opens a new channel and closes it when it is done.
+ *
+ * <p>Operations return a {@link FluentFuture} that completes on a thread of the channel's thread
+ * pool (see {@link AsynchronousFileChannel#open(java.nio.file.Path, java.util.Set,
+ * java.util.concurrent.ExecutorService, java.nio.file.attribute.FileAttribute[]) open}). Functions
+ * passed to {@link FluentFuture#transform} with {@link
+ * com.google.common.util.concurrent.MoreExecutors#directExecutor directExecutor()} should therefore
+ * be cheap. Cancelling an operation's future stops it and closes its channels.
+ *
+ * <p>Instances for files are returned by {@link MoreFiles#asAsyncByteSource}.
+ *
+ * @since NEXT
+ */
+@Beta
+@GwtIncompatible
+@J2ObjCIncompatible // java.nio.channels.AsynchronousFileChannel
+@ElementTypesAreNonnullByDefault
+public abstract class AsyncByteSource {
+
+  /** The size of the chunks in which {@link #hash} and {@link #copyTo} read. */
+  private static final int CHUNK_SIZE = 64 * 1024;
+
+  /** Constructor for use by subclasses. */
+  protected AsyncByteSource() {}
+
+  /**
+   * Opens a new {@link AsynchronousFileChannel} for reading from this source. This method returns a
+   * new, independent channel each time it is called. Reads start at position 0.
+   *
+   * <p>The caller is responsible for ensuring that the returned channel is closed.
+   *
+   * @throws IOException if an I/O error occurs while opening the channel
+   */
+  public abstract AsynchronousFileChannel openChannel() throws IOException;
+
+  /**
+   * Reads the full contents of this source as a byte array. The returned future fails with an
+   * {@link IOException} if an I/O error occurs while reading.
+   */
+  public FluentFuture<byte[]> read() {
+    AsynchronousFileChannel channel;
+    long size;
+    try {
+      channel = openChannel();
+    } catch (IOException e) {
+      return FluentFuture.from(immediateFailedFuture(e));
+    }
+    try {
+      size = channel.size();
+    } catch (IOException e) {
+      return AsyncFileChannels.closingWhenDone(immediateFailedFuture(e), channel);
+    }
+    if (size > Integer.MAX_VALUE - 8) {
+      return AsyncFileChannels.closingWhenDone(
+          immediateFailedFuture(
+              new OutOfMemoryError(size + " bytes is too large to fit in a byte array")),
+          channel);
+    }
+    SettableFuture<byte[]> result = SettableFuture.create();
+    // The file may have changed since its size was read, so read until EOF regardless.
+    readRemaining(channel, ByteBuffer.allocate((int) size), result);
+    return AsyncFileChannels.closingWhenDone(result, channel);
+  }
+
+  private static void readRemaining(
+      AsynchronousFileChannel channel, ByteBuffer buffer, SettableFuture<byte[]> result) {
+    if (!buffer.hasRemaining()) {
+      probeForEnd(channel, buffer, result);
+      return;
+    }
+    ListenableFuture<Integer> read = AsyncFileChannels.read(channel, buffer, buffer.position());
+    read.addListener(
+        () -> {
+          int n;
+          try {
+            n = Futures.getDone(read);
+          } catch (ExecutionException e) {
+            result.setException(e.getCause());
+            return;
+          }
+          if (n == -1) {
+            result.set(Arrays.copyOf(buffer.array(), buffer.position()));
+          } else if (!result.isDone()) {
+            readRemaining(channel, buffer, result);
+          }
+        },
+        directExecutor());
+  }
+
+  /**
+   * Reads a single byte after the end of the full {@code buffer}, which usually holds the whole
+   * file, and grows the buffer only if there is such a byte. Like {@link
+   * ByteStreams#toByteArray(java.io.InputStream, long)}, this avoids allocating and then trimming a
+   * larger array just to see the end of the file.
+   */
+  private static void probeForEnd(
+      AsynchronousFileChannel channel, ByteBuffer buffer, SettableFuture<byte[]> result) {
+    ByteBuffer probe = ByteBuffer.allocate(1);
+    ListenableFuture<Integer> read = AsyncFileChannels.read(channel, probe, buffer.position());
+    read.addListener(
+        () -> {
+          int n;
+          try {
+            n = Futures.getDone(read);
+          } catch (ExecutionException e) {
+            result.setException(e.getCause());
+            return;
+          }
+          if (n == -1) {
+            result.set(buffer.array());
+            return;
+          } else if (result.isDone()) {
+            return;
+          } else if (n == 0) {
+            probeForEnd(channel, buffer, result);
+            return;
+          }
+          // There are more bytes than there were when the size was read, so grow the buffer.
+          int capacity = buffer.capacity();
+          int newCapacity = (int) Math.min(Math.max(2L * capacity, 8192), Integer.MAX_VALUE - 8);
+          if (newCapacity == capacity) {
+            result.setException(new OutOfMemoryError("input is too large to fit in a byte array"));
+            return;
+          }
+          ByteBuffer grown = ByteBuffer.wrap(Arrays.copyOf(buffer.array(), newCapacity));
+          Java8Compatibility.position(grown, buffer.position());
+          grown.put(probe.get(0));
+          readRemaining(channel, grown, result);
+        },
+        directExecutor());
+  }
+
+  /**
+   * Hashes the contents of this source using the given hash function. The returned future fails
+   * with an {@link IOException} if an I/O error occurs while reading.
+   */
+  public FluentFuture<HashCode> hash(HashFunction hashFunction) {
+    Hasher hasher = hashFunction.newHasher();
+    return processChunks(
+        new ChunkProcessor<HashCode>() {
+          @Override
+          public ListenableFuture<?> process(ByteBuffer chunk, long position) {
+            hasher.putBytes(chunk);
+            return immediateVoidFuture();
+          }
+
+          @Override
+          public HashCode getResult() {
+            return hasher.hash();
+          }
+        });
+  }
+
+  /**
+   * Copies the contents of this source to the given sink. Each chunk is read from this source
+   * while none is being written, so at most 64 KiB of it are in memory at a time. The returned
+   * future resolves to the number of bytes copied, and fails with an {@link IOException} if an I/O
+   * error occurs while reading from this source or writing to {@code sink}.
+   */
+  public FluentFuture<Long> copyTo(AsyncByteSink sink) {
+    checkNotNull(sink);
+    AsynchronousFileChannel out;
+    long start;
+    try {
+      out = sink.openChannel();
+    } catch (IOException e) {
+      return FluentFuture.from(immediateFailedFuture(e));
+    }
+    try {
+      start = sink.writePosition(out);
+    } catch (IOException e) {
+      return AsyncFileChannels.closingWhenDone(immediateFailedFuture(e), out);
+    }
+    FluentFuture<Long> result =
+        processChunks(
+            new ChunkProcessor<Long>() {
+              long copied;
+
+              @Override
+              public ListenableFuture<?> process(ByteBuffer chunk, long position) {
+                copied += chunk.remaining();
+                return AsyncFileChannels.writeFully(out, chunk, start + position);
+              }
+
+              @Override
+              public Long getResult() {
+                return copied;
+              }
+            });
+    return AsyncFileChannels.closingWhenDone(result, out);
+  }
+
+  /** Processes the contents of a source one chunk at a time. */
+  private interface ChunkProcessor<T> {
+    /**
+     * Processes a chunk that was read at {@code position}, returning a future that completes when
+     * the chunk's buffer may be reused.
+     */
+    ListenableFuture<?> process(ByteBuffer chunk, long position);
+
+    T getResult();
+  }
+
+  private <T> FluentFuture<T> processChunks(ChunkProcessor<T> processor) {
+    AsynchronousFileChannel channel;
+    try {
+      channel = openChannel();
+    } catch (IOException e) {
+      return FluentFuture.from(immediateFailedFuture(e));
+    }
+    SettableFuture<T> result = SettableFuture.create();
+    processChunk(channel, ByteBuffer.allocate(CHUNK_SIZE), 0, processor, result);
+    return AsyncFileChannels.closingWhenDone(result, channel);
+  }
+
+  private static <T> void processChunk(
+      AsynchronousFileChannel channel,
+      ByteBuffer buffer,
+      long position,
+      ChunkProcessor<T> processor,
+      SettableFuture<T> result) {
+    Java8Compatibility.clear(buffer);
+    ListenableFuture<Integer> read = AsyncFileChannels.read(channel, buffer, position);
+    read.addListener(
+        () -> {
+          int n;
+          try {
+            n = Futures.getDone(read);
+          } catch (ExecutionException e) {
+            result.setException(e.getCause());
+            return;
+          }
+          if (n == -1) {
+            try {
+              result.set(processor.getResult());
+            } catch (RuntimeException | Error e) {
+              result.setException(e);
+            }
+            return;
+          }
+          Java8Compatibility.flip(buffer);
+          ListenableFuture<?> processed;
+          try {
+            processed = processor.process(buffer, position);
+          } catch (RuntimeException | Error e) {
+            result.setException(e);
+            return;
+          }
+          processed.addListener(
+              () -> {
+                try {
+                  Futures.getDone(processed);
+                } catch (ExecutionException e) {
+                  result.setException(e.getCause());
+                  return;
+                }
+                if (!result.isDone()) {
+                  processChunk(channel, buffer, position + n, processor, result);
+                }
+              },
+              directExecutor());
+        },
+        directExecutor());
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.io;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.j2objc.annotations.J2ObjCIncompatible;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.ExecutionException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/** Adapts the callbacks of {@link AsynchronousFileChannel} to {@link ListenableFuture}. */
+@GwtIncompatible
+@J2ObjCIncompatible // java.nio.channels.AsynchronousFileChannel
+@ElementTypesAreNonnullByDefault
+final class AsyncFileChannels {
+
+  private static final CompletionHandler<Integer, SettableFuture<Integer>> SETTING_HANDLER =
+      new CompletionHandler<Integer, SettableFuture<Integer>>() {
+        @Override
+        public void completed(Integer result, SettableFuture<Integer> future) {
+          future.set(result);
+        }
+
+        @Override
+        public void failed(Throwable t, SettableFuture<Integer> future) {
+          future.setException(t);
+        }
+      };
+
+  private AsyncFileChannels() {}
+
+  /** Reads bytes at {@code position} into {@code dst}; see {@link AsynchronousFileChannel#read}. */
+  static ListenableFuture<Integer> read(
+      AsynchronousFileChannel channel, ByteBuffer dst, long position) {
+    checkNotNull(channel);
+    checkNotNull(dst);
+    SettableFuture<Integer> future = SettableFuture.create();
+    try {
+      channel.read(dst, position, future, SETTING_HANDLER);
+    } catch (RuntimeException e) {
+      future.setException(e);
+    }
+    return future;
+  }
+
+  /** Writes all the remaining bytes of {@code src} at {@code position}. */
+  static ListenableFuture<@Nullable Void> writeFully(
+      AsynchronousFileChannel channel, ByteBuffer src, long position) {
+    checkNotNull(channel);
+    checkNotNull(src);
+    SettableFuture<@Nullable Void> result = SettableFuture.create();
+    writeRemaining(channel, src, position, result);
+    return result;
+  }
+
+  private static void writeRemaining(
+      AsynchronousFileChannel channel,
+      ByteBuffer src,
+      long position,
+      SettableFuture<@Nullable Void> result) {
+    if (!src.hasRemaining()) {
+      result.set(null);
+      return;
+    }
+    if (result.isDone()) {
+      return; // cancelled
+    }
+    SettableFuture<Integer> write = SettableFuture.create();
+    try {
+      channel.write(src, position, write, SETTING_HANDLER);
+    } catch (RuntimeException e) {
+      result.setException(e);
+      return;
+    }
+    write.addListener(
+        () -> {
+          int written;
+          try {
+            written = Futures.getDone(write);
+          } catch (ExecutionException e) {
+            result.setException(e.getCause());
+            return;
+          }
+          writeRemaining(channel, src, position + written, result);
+        },
+        directExecutor());
+  }
+
+  /**
+   * Returns {@code future}, after arranging for the given channels to be closed when it completes
+   * in any way, including by being cancelled. Failures to close the channels are ignored.
+   */
+  static <T extends @Nullable Object> FluentFuture<T> closingWhenDone(
+      ListenableFuture<T> future, AsynchronousFileChannel... channels) {
+    checkNotNull(channels);
+    future.addListener(
+        () -> {
+          for (AsynchronousFileChannel channel : channels) {
+            try {
+              channel.close();
+            } catch (IOException ignored) {
+              // The operation is over; there's nothing useful to do with this.
+            }
+          }
+        },
+        directExecutor());
+    return FluentFuture.from(future);
+  }
+}
@@ -23,6 +23,8 @@ import static com.google.common.math.IntMath.log2;
 import static java.math.RoundingMode.CEILING;
 import static java.math.RoundingMode.FLOOR;
 import static java.math.RoundingMode.UNNECESSARY;
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
 
 import com.google.common.annotations.GwtCompatible;
 import com.google.common.annotations.GwtIncompatible;
@@ -34,6 +36,10 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import javax.annotation.CheckForNull;
 
@@ -257,6 +263,70 @@ public abstract class BaseEncoding {
     };
   }
 
+  /**
+   * Encodes the remaining bytes of {@code src} and puts the encoded characters into {@code dst},
+   * one byte per character. On return, the position of {@code src} is its limit and the position
+   * of {@code dst} is just past the encoded bytes. Either buffer may be direct, and their byte
+   * orders don't matter.
+   *
+   * <p>This encodes its input as a whole, with any padding at the end. To encode bytes that arrive
+   * piece by piece, use {@link #encodingChannel}.
+   *
+   * @throws BufferOverflowException if {@code dst} doesn't have room for the encoded bytes, in
+   *     which case neither buffer is changed
+   * @throws IllegalStateException if a padding character or separator that isn't ASCII needs to be
+   *     put into {@code dst}
+   * @since NEXT
+   */
+  @GwtIncompatible // ByteBuffer
+  public final void encode(ByteBuffer src, ByteBuffer dst) {
+    checkNotNull(src);
+    if (dst.remaining() < encodedSize(src.remaining())) {
+      throw new BufferOverflowException();
+    }
+    encodeTo(dst, src);
+  }
+
+  /**
+   * Decodes the remaining bytes of {@code src}, which are the ASCII characters of an encoded
+   * string, and puts the decoded bytes into {@code dst}. This is the inverse operation to {@link
+   * #encode(ByteBuffer, ByteBuffer)}. On return, the position of {@code src} is its limit and the
+   * position of {@code dst} is just past the decoded bytes.
+   *
+   * @throws IllegalArgumentException if the input is not a valid encoded string according to this
+   *     encoding, in which case the positions of the buffers are unchanged, but bytes of {@code
+   *     dst} past its position may have been overwritten
+   * @throws BufferOverflowException if {@code dst} doesn't have room for the decoded bytes, in
+   *     which case neither buffer is changed
+   * @since NEXT
+   */
+  @GwtIncompatible // ByteBuffer
+  public final void decode(ByteBuffer src, ByteBuffer dst) {
+    checkNotNull(dst);
+    try {
+      decodeTo(dst, src);
+    } catch (DecodingException badInput) {
+      throw new IllegalArgumentException(badInput);
+    }
+  }
+
+  /**
+   * Returns a {@code WritableByteChannel} that encodes the bytes written to it and writes the
+   * encoded characters to {@code channel}, one byte per character. Like the stream returned by
+   * {@link #encodingStream}, the returned channel holds back the bytes of an incomplete chunk until
+   * more are written, and encodes them, with any padding, when it is closed. Closing it also closes
+   * {@code channel}.
+   *
+   * <p>Each write encodes whole chunks of its input in bulk, and writes all of the encoded bytes to
+   * {@code channel} before it returns, so {@code channel} should be in blocking mode.
+   *
+   * @throws IllegalStateException if this encoding has a separator that isn't ASCII; the returned
+   *     channel throws it if a padding character that isn't ASCII needs to be written
+   * @since NEXT
+   */
+  @GwtIncompatible // WritableByteChannel
+  public abstract WritableByteChannel encodingChannel(WritableByteChannel channel);
+
   // Implementations for encoding/decoding
 
   abstract int maxEncodedSize(int bytes);
@@ -267,6 +337,29 @@ public abstract class BaseEncoding {
 
   abstract int decodeTo(byte[] target, CharSequence chars) throws DecodingException;
 
+  /** Returns the exact number of characters that {@code bytes} bytes are encoded to. */
+  abstract long encodedSize(long bytes);
+
+  /**
+   * Encodes the remaining bytes of {@code bytes} into {@code target}, which must have room for
+   * them, and advances the positions of both buffers.
+   */
+  @GwtIncompatible // ByteBuffer
+  abstract void encodeTo(ByteBuffer target, ByteBuffer bytes);
+
+  /**
+   * Decodes the remaining bytes of {@code chars} into {@code target}, and advances the positions of
+   * both buffers.
+   */
+  @GwtIncompatible // ByteBuffer
+  abstract void decodeTo(ByteBuffer target, ByteBuffer chars) throws DecodingException;
+
+  @GwtIncompatible // ByteBuffer
+  static byte asciiByte(char c) {
+    checkState(c <= Ascii.MAX, "Non-ASCII character can't be encoded as a byte: %s", c);
+    return (byte) c;
+  }
+
   CharSequence trimTrailingPadding(CharSequence chars) {
     return checkNotNull(chars);
   }
@@ -563,6 +656,9 @@ public abstract class BaseEncoding {
   }
 
   static class StandardBaseEncoding extends BaseEncoding {
+    /** The size of the buffers that streams and channels encode whole chunks into. */
+    private static final int ENCODING_BUFFER_SIZE = 8192;
+
     // TODO(lowasser): provide a useful toString
     final Alphabet alphabet;
 
@@ -608,6 +704,39 @@ public abstract class BaseEncoding {
           }
         }
 
+        @CheckForNull ByteBuffer encoded;
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+          checkPositionIndexes(off, off + len, b.length);
+          int end = off + len;
+          // The bit buffer is only empty between chunks, so finish any partial one bit by bit.
+          while (off < end && bitBufferLength != 0) {
+            write(b[off]);
+            off++;
+          }
+          int wholeChunksEnd = end - (end - off) % alphabet.bytesPerChunk;
+          if (off < wholeChunksEnd) {
+            ByteBuffer encoded = this.encoded;
+            if (encoded == null) {
+              encoded = this.encoded = ByteBuffer.allocate(ENCODING_BUFFER_SIZE);
+            }
+            ByteBuffer src = ByteBuffer.wrap(b);
+            int batchSize = encoded.capacity() / alphabet.charsPerChunk * alphabet.bytesPerChunk;
+            while (off < wholeChunksEnd) {
+              int batchEnd = off + Math.min(wholeChunksEnd - off, batchSize);
+              int encodedLength = encodeChunks(encoded, 0, src, off, batchEnd);
+              out.write(new String(encoded.array(), 0, encodedLength, ISO_8859_1));
+              writtenChars += encodedLength;
+              off = batchEnd;
+            }
+          }
+          while (off < end) {
+            write(b[off]);
+            off++;
+          }
+        }
+
         @Override
         public void flush() throws IOException {
           out.flush();
@@ -665,6 +794,90 @@ public abstract class BaseEncoding {
       }
     }
 
+    @Override
+    long encodedSize(long bytes) {
+      if (paddingChar == null) {
+        return (bytes * 8 + alphabet.bitsPerChar - 1) / alphabet.bitsPerChar;
+      }
+      long chunks = (bytes + alphabet.bytesPerChunk - 1) / alphabet.bytesPerChunk;
+      return chunks * alphabet.charsPerChunk;
+    }
+
+    @GwtIncompatible // ByteBuffer
+    @Override
+    void encodeTo(ByteBuffer target, ByteBuffer bytes) {
+      // Absolute gets and puts on big-endian duplicates leave the callers' buffers alone.
+      ByteBuffer src = bytes.duplicate().order(BIG_ENDIAN);
+      ByteBuffer dst = target.duplicate().order(BIG_ENDIAN);
+      int limit = src.limit();
+      int wholeChunksEnd = limit - (limit - src.position()) % alphabet.bytesPerChunk;
+      int dstIndex = encodeChunks(dst, dst.position(), src, src.position(), wholeChunksEnd);
+      dstIndex = encodeLastChunk(dst, dstIndex, src, wholeChunksEnd, limit);
+      Java8Compatibility.position(bytes, limit);
+      Java8Compatibility.position(target, dstIndex);
+    }
+
+    /**
+     * Encodes the bytes of {@code src} from {@code srcIndex} to {@code srcEnd}, which must be whole
+     * chunks, into {@code dst} at {@code dstIndex}, and returns the index just past the encoded
+     * bytes. Both buffers must be big-endian. Implementations may read past {@code srcEnd}, up to
+     * the limit of {@code src}.
+     */
+    @GwtIncompatible // ByteBuffer
+    int encodeChunks(ByteBuffer dst, int dstIndex, ByteBuffer src, int srcIndex, int srcEnd) {
+      checkNotNull(dst);
+      checkNotNull(src);
+      int bytesPerChunk = alphabet.bytesPerChunk;
+      int bitsPerChar = alphabet.bitsPerChar;
+      for (; srcIndex < srcEnd; srcIndex += bytesPerChunk) {
+        long bitBuffer = 0;
+        for (int i = 0; i < bytesPerChunk; i++) {
+          bitBuffer = bitBuffer << 8 | (src.get(srcIndex + i) & 0xFF);
+        }
+        for (int shift = bytesPerChunk * 8 - bitsPerChar; shift >= 0; shift -= bitsPerChar) {
+          int charIndex = (int) (bitBuffer >>> shift) & alphabet.mask;
+          dst.put(dstIndex++, (byte) alphabet.encode(charIndex));
+        }
+      }
+      return dstIndex;
+    }
+
+    /**
+     * Encodes the bytes of {@code src} from {@code srcIndex} to {@code srcEnd}, which must be less
+     * than a chunk, into {@code dst} at {@code dstIndex}, with any padding, and returns the index
+     * just past the encoded bytes.
+     */
+    @GwtIncompatible // ByteBuffer
+    final int encodeLastChunk(
+        ByteBuffer dst, int dstIndex, ByteBuffer src, int srcIndex, int srcEnd) {
+      checkNotNull(dst);
+      checkNotNull(src);
+      int len = srcEnd - srcIndex;
+      if (len == 0) {
+        return dstIndex;
+      }
+      long bitBuffer = 0;
+      for (int i = 0; i < len; ++i) {
+        bitBuffer |= src.get(srcIndex + i) & 0xFF;
+        bitBuffer <<= 8; // Add additional zero byte in the end.
+      }
+      final int bitOffset = (len + 1) * 8 - alphabet.bitsPerChar;
+      int bitsProcessed = 0;
+      while (bitsProcessed < len * 8) {
+        int charIndex = (int) (bitBuffer >>> (bitOffset - bitsProcessed)) & alphabet.mask;
+        dst.put(dstIndex++, (byte) alphabet.encode(charIndex));
+        bitsProcessed += alphabet.bitsPerChar;
+      }
+      if (paddingChar != null) {
+        byte padding = asciiByte(paddingChar.charValue());
+        while (bitsProcessed < alphabet.bytesPerChunk * 8) {
+          dst.put(dstIndex++, padding);
+          bitsProcessed += alphabet.bitsPerChar;
+        }
+      }
+      return dstIndex;
+    }
+
     @Override
     int maxDecodedSize(int chars) {
       return (int) ((alphabet.bitsPerChar * (long) chars + 7L) / 8L);
@@ -726,6 +939,106 @@ public abstract class BaseEncoding {
       return bytesWritten;
     }
 
+    @GwtIncompatible // ByteBuffer
+    @Override
+    void decodeTo(ByteBuffer target, ByteBuffer chars) throws DecodingException {
+      ByteBuffer src = chars.duplicate().order(BIG_ENDIAN);
+      ByteBuffer dst = target.duplicate().order(BIG_ENDIAN);
+      int start = src.position();
+      int limit = trimTrailingPadding(src, start, src.limit());
+      int length = limit - start;
+      if (!alphabet.isValidPaddingStartPosition(length)) {
+        throw new DecodingException("Invalid input length " + length);
+      }
+      if (dst.remaining() < (long) alphabet.bitsPerChar * length / 8) {
+        throw new BufferOverflowException();
+      }
+      int wholeChunksEnd = limit - length % alphabet.charsPerChunk;
+      int dstIndex = decodeChunks(dst, dst.position(), src, start, wholeChunksEnd);
+      dstIndex = decodeLastChunk(dst, dstIndex, src, wholeChunksEnd, limit);
+      Java8Compatibility.position(chars, chars.limit());
+      Java8Compatibility.position(target, dstIndex);
+    }
+
+    @GwtIncompatible // ByteBuffer
+    private int trimTrailingPadding(ByteBuffer chars, int start, int limit) {
+      if (paddingChar == null) {
+        return limit;
+      }
+      char padChar = paddingChar.charValue();
+      while (limit > start && (chars.get(limit - 1) & 0xFF) == padChar) {
+        limit--;
+      }
+      return limit;
+    }
+
+    /**
+     * Decodes the characters of {@code src} from {@code srcIndex} to {@code srcEnd}, which must be
+     * whole chunks, into {@code dst} at {@code dstIndex}, and returns the index just past the
+     * decoded bytes. Both buffers must be big-endian.
+     */
+    @GwtIncompatible // ByteBuffer
+    int decodeChunks(ByteBuffer dst, int dstIndex, ByteBuffer src, int srcIndex, int srcEnd)
+        throws DecodingException {
+      checkNotNull(dst);
+      checkNotNull(src);
+      int charsPerChunk = alphabet.charsPerChunk;
+      for (; srcIndex < srcEnd; srcIndex += charsPerChunk) {
+        long chunk = 0;
+        for (int i = 0; i < charsPerChunk; i++) {
+          chunk = chunk << alphabet.bitsPerChar | alphabet.decode(charAt(src, srcIndex + i));
+        }
+        for (int offset = (alphabet.bytesPerChunk - 1) * 8; offset >= 0; offset -= 8) {
+          dst.put(dstIndex++, (byte) (chunk >>> offset));
+        }
+      }
+      return dstIndex;
+    }
+
+    /**
+     * Decodes the characters of {@code src} from {@code srcIndex} to {@code srcEnd}, which must be
+     * less than a chunk, into {@code dst} at {@code dstIndex}, and returns the index just past the
+     * decoded bytes.
+     */
+    @GwtIncompatible // ByteBuffer
+    private int decodeLastChunk(
+        ByteBuffer dst, int dstIndex, ByteBuffer src, int srcIndex, int srcEnd)
+        throws DecodingException {
+      int charsProcessed = srcEnd - srcIndex;
+      if (charsProcessed == 0) {
+        return dstIndex;
+      }
+      long chunk = 0;
+      for (int i = 0; i < alphabet.charsPerChunk; i++) {
+        chunk <<= alphabet.bitsPerChar;
+        if (i < charsProcessed) {
+          chunk |= alphabet.decode(charAt(src, srcIndex + i));
+        }
+      }
+      final int minOffset = alphabet.bytesPerChunk * 8 - charsProcessed * alphabet.bitsPerChar;
+      for (int offset = (alphabet.bytesPerChunk - 1) * 8; offset >= minOffset; offset -= 8) {
+        dst.put(dstIndex++, (byte) (chunk >>> offset));
+      }
+      return dstIndex;
+    }
+
+    @GwtIncompatible // ByteBuffer
+    private static char charAt(ByteBuffer chars, int index) {
+      return (char) (chars.get(index) & 0xFF);
+    }
+
+    /**
+     * Returns a table of the value of each byte as a character of {@code alphabet}, or -1 for bytes
+     * that aren't in it.
+     */
+    static int[] decodedBytes(Alphabet alphabet) {
+      int[] values = new int[256];
+      for (int b = 0; b < 256; b++) {
+        values[b] = alphabet.canDecode((char) b) ? alphabet.decodabet[b] : -1;
+      }
+      return values;
+    }
+
     @Override
     @GwtIncompatible // Reader,InputStream
     public InputStream decodingStream(final Reader reader) {
@@ -798,6 +1111,85 @@ public abstract class BaseEncoding {
       };
     }
 
+    @GwtIncompatible // WritableByteChannel
+    @Override
+    public WritableByteChannel encodingChannel(final WritableByteChannel channel) {
+      checkNotNull(channel);
+      return new WritableByteChannel() {
+        // The bytes of an incomplete chunk, which are encoded once the chunk is complete.
+        final ByteBuffer pending = ByteBuffer.allocate(alphabet.bytesPerChunk);
+        final ByteBuffer encoded = ByteBuffer.allocate(ENCODING_BUFFER_SIZE);
+        boolean open = true;
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+          if (!open) {
+            throw new ClosedChannelException();
+          }
+          int written = src.remaining();
+          if (pending.position() > 0) {
+            while (pending.hasRemaining() && src.hasRemaining()) {
+              pending.put(src.get());
+            }
+            if (pending.hasRemaining()) {
+              return written;
+            }
+            Java8Compatibility.position(
+                encoded, encodeChunks(encoded, encoded.position(), pending, 0, pending.limit()));
+            Java8Compatibility.clear(pending);
+          }
+          ByteBuffer in = src.duplicate().order(BIG_ENDIAN);
+          int index = in.position();
+          int limit = in.limit();
+          int wholeChunksEnd = limit - (limit - index) % alphabet.bytesPerChunk;
+          while (index < wholeChunksEnd) {
+            int room = encoded.remaining() / alphabet.charsPerChunk * alphabet.bytesPerChunk;
+            int batchEnd = index + Math.min(wholeChunksEnd - index, room);
+            Java8Compatibility.position(
+                encoded, encodeChunks(encoded, encoded.position(), in, index, batchEnd));
+            index = batchEnd;
+            if (encoded.remaining() < alphabet.charsPerChunk) {
+              drain();
+            }
+          }
+          drain();
+          for (; index < limit; index++) {
+            pending.put(in.get(index));
+          }
+          Java8Compatibility.position(src, limit);
+          return written;
+        }
+
+        private void drain() throws IOException {
+          Java8Compatibility.flip(encoded);
+          while (encoded.hasRemaining()) {
+            channel.write(encoded);
+          }
+          Java8Compatibility.clear(encoded);
+        }
+
+        @Override
+        public boolean isOpen() {
+          return open;
+        }
+
+        @Override
+        public void close() throws IOException {
+          if (!open) {
+            return;
+          }
+          open = false;
+          try {
+            Java8Compatibility.position(
+                encoded, encodeLastChunk(encoded, 0, pending, 0, pending.position()));
+            drain();
+          } finally {
+            channel.close();
+          }
+        }
+      };
+    }
+
     @Override
     public BaseEncoding omitPadding() {
       return (paddingChar == null) ? this : newInstance(alphabet, null);
@@ -890,6 +1282,10 @@ public abstract class BaseEncoding {
   static final class Base16Encoding extends StandardBaseEncoding {
     final char[] encoding = new char[512];
 
+    // The two characters that each byte is encoded to, as the high and low byte of a char.
+    private final char[] encodedPairs = new char[256];
+    private final int[] decodedBytes;
+
     Base16Encoding(String name, String alphabetChars) {
       this(new Alphabet(name, alphabetChars.toCharArray()));
     }
@@ -900,7 +1296,61 @@ public abstract class BaseEncoding {
       for (int i = 0; i < 256; ++i) {
         encoding[i] = alphabet.encode(i >>> 4);
         encoding[i | 0x100] = alphabet.encode(i & 0xF);
+        encodedPairs[i] = (char) (encoding[i] << 8 | encoding[i | 0x100]);
+      }
+      this.decodedBytes = decodedBytes(alphabet);
+    }
+
+    @GwtIncompatible // ByteBuffer
+    @Override
+    int encodeChunks(ByteBuffer dst, int dstIndex, ByteBuffer src, int srcIndex, int srcEnd) {
+      checkNotNull(dst);
+      checkNotNull(src);
+      char[] pairs = encodedPairs;
+      // Encode 4 bytes to 8 characters at a time.
+      for (; srcIndex + 4 <= srcEnd; srcIndex += 4, dstIndex += 8) {
+        int word = src.getInt(srcIndex);
+        dst.putLong(
+            dstIndex,
+            (long) pairs[word >>> 24] << 48
+                | (long) pairs[(word >>> 16) & 0xFF] << 32
+                | (long) pairs[(word >>> 8) & 0xFF] << 16
+                | pairs[word & 0xFF]);
       }
+      for (; srcIndex < srcEnd; srcIndex++, dstIndex += 2) {
+        dst.putChar(dstIndex, pairs[src.get(srcIndex) & 0xFF]);
+      }
+      return dstIndex;
+    }
+
+    @GwtIncompatible // ByteBuffer
+    @Override
+    int decodeChunks(ByteBuffer dst, int dstIndex, ByteBuffer src, int srcIndex, int srcEnd)
+        throws DecodingException {
+      checkNotNull(dst);
+      checkNotNull(src);
+      int[] values = decodedBytes;
+      // Decode 8 characters to 4 bytes at a time. Invalid characters make the result negative.
+      for (; srcIndex + 8 <= srcEnd; srcIndex += 8, dstIndex += 4) {
+        long word = src.getLong(srcIndex);
+        long decoded = 0;
+        for (int shift = 56; shift >= 0; shift -= 8) {
+          decoded = decoded << 4 | values[(int) (word >>> shift) & 0xFF];
+        }
+        if (decoded < 0) {
+          break;
+        }
+        dst.putInt(dstIndex, (int) decoded);
+      }
+      for (; srcIndex < srcEnd; srcIndex += 2, dstIndex++) {
+        int decoded = values[src.get(srcIndex) & 0xFF] << 4 | values[src.get(srcIndex + 1) & 0xFF];
+        if (decoded < 0) {
+          // Let the general implementation report the invalid character.
+          return super.decodeChunks(dst, dstIndex, src, srcIndex, srcEnd);
+        }
+        dst.put(dstIndex, (byte) decoded);
+      }
+      return dstIndex;
     }
 
     @Override
@@ -935,6 +1385,10 @@ public abstract class BaseEncoding {
   }
 
   static final class Base64Encoding extends StandardBaseEncoding {
+    // The two characters that each 12 bits are encoded to, as the high and low byte of a char.
+    private final char[] encodedPairs = new char[1 << 12];
+    private final int[] decodedBytes;
+
     Base64Encoding(String name, String alphabetChars, @CheckForNull Character paddingChar) {
       this(new Alphabet(name, alphabetChars.toCharArray()), paddingChar);
     }
@@ -942,6 +1396,77 @@ public abstract class BaseEncoding {
     private Base64Encoding(Alphabet alphabet, @CheckForNull Character paddingChar) {
       super(alphabet, paddingChar);
       checkArgument(alphabet.chars.length == 64);
+      for (int i = 0; i < encodedPairs.length; i++) {
+        encodedPairs[i] = (char) (alphabet.encode(i >>> 6) << 8 | alphabet.encode(i & 0x3F));
+      }
+      this.decodedBytes = decodedBytes(alphabet);
+    }
+
+    @GwtIncompatible // ByteBuffer
+    @Override
+    int encodeChunks(ByteBuffer dst, int dstIndex, ByteBuffer src, int srcIndex, int srcEnd) {
+      checkNotNull(dst);
+      checkNotNull(src);
+      char[] pairs = encodedPairs;
+      // Encode 6 bytes to 8 characters at a time, reading them as the high bytes of a long.
+      int wideEnd = Math.min(srcEnd, src.limit() - 2);
+      for (; srcIndex + 6 <= wideEnd; srcIndex += 6, dstIndex += 8) {
+        long word = src.getLong(srcIndex);
+        int high = (int) (word >>> 40);
+        int low = (int) (word >>> 16) & 0xFFFFFF;
+        dst.putLong(
+            dstIndex,
+            (long) pairs[high >>> 12] << 48
+                | (long) pairs[high & 0xFFF] << 32
+                | (long) pairs[low >>> 12] << 16
+                | pairs[low & 0xFFF]);
+      }
+      for (; srcIndex < srcEnd; srcIndex += 3, dstIndex += 4) {
+        int chunk =
+            (src.get(srcIndex) & 0xFF) << 16
+                | (src.get(srcIndex + 1) & 0xFF) << 8
+                | (src.get(srcIndex + 2) & 0xFF);
+        dst.putInt(dstIndex, pairs[chunk >>> 12] << 16 | pairs[chunk & 0xFFF]);
+      }
+      return dstIndex;
+    }
+
+    @GwtIncompatible // ByteBuffer
+    @Override
+    int decodeChunks(ByteBuffer dst, int dstIndex, ByteBuffer src, int srcIndex, int srcEnd)
+        throws DecodingException {
+      checkNotNull(dst);
+      checkNotNull(src);
+      int[] values = decodedBytes;
+      // Decode 8 characters to 6 bytes at a time. Invalid characters make the result negative.
+      for (; srcIndex + 8 <= srcEnd; srcIndex += 8, dstIndex += 6) {
+        long word = src.getLong(srcIndex);
+        int high = decodeChunk(values, (int) (word >>> 32));
+        int low = decodeChunk(values, (int) word);
+        if ((high | low) < 0) {
+          break;
+        }
+        dst.putShort(dstIndex, (short) (high >>> 8));
+        dst.putInt(dstIndex + 2, high << 24 | low);
+      }
+      for (; srcIndex < srcEnd; srcIndex += 4, dstIndex += 3) {
+        int chunk = decodeChunk(values, src.getInt(srcIndex));
+        if (chunk < 0) {
+          // Let the general implementation report the invalid character.
+          return super.decodeChunks(dst, dstIndex, src, srcIndex, srcEnd);
+        }
+        dst.putShort(dstIndex, (short) (chunk >>> 8));
+        dst.put(dstIndex + 2, (byte) chunk);
+      }
+      return dstIndex;
+    }
+
+    /** Decodes 4 characters, given as the bytes of an int, to 24 bits, or a negative number. */
+    private static int decodeChunk(int[] values, int chars) {
+      return values[chars >>> 24] << 18
+          | values[(chars >>> 16) & 0xFF] << 12
+          | values[(chars >>> 8) & 0xFF] << 6
+          | values[chars & 0xFF];
     }
 
     @Override
@@ -1061,7 +1586,10 @@ public abstract class BaseEncoding {
 
       @Override
       public void write(char[] chars, int off, int len) throws IOException {
-        throw new UnsupportedOperationException();
+        checkPositionIndexes(off, off + len, chars.length);
+        for (int i = off; i < off + len; i++) {
+          separatingAppendable.append(chars[i]);
+        }
       }
 
       @Override
@@ -1076,6 +1604,73 @@ public abstract class BaseEncoding {
     };
   }
 
+  @GwtIncompatible // WritableByteChannel
+  static WritableByteChannel separatingChannel(
+      final WritableByteChannel delegate, final String separator, final int afterEveryChars) {
+    checkNotNull(delegate);
+    checkArgument(afterEveryChars > 0);
+    final byte[] separatorBytes = new byte[separator.length()];
+    for (int i = 0; i < separatorBytes.length; i++) {
+      separatorBytes[i] = asciiByte(separator.charAt(i));
+    }
+    return new WritableByteChannel() {
+      final ByteBuffer separated = ByteBuffer.allocate(8192);
+      int bytesUntilSeparator = afterEveryChars;
+
+      @Override
+      public int write(ByteBuffer src) throws IOException {
+        int written = src.remaining();
+        while (src.hasRemaining()) {
+          if (bytesUntilSeparator == 0) {
+            if (separated.remaining() < separatorBytes.length) {
+              drain();
+            }
+            if (separatorBytes.length > separated.capacity()) {
+              writeFully(ByteBuffer.wrap(separatorBytes));
+            } else {
+              separated.put(separatorBytes);
+            }
+            bytesUntilSeparator = afterEveryChars;
+          }
+          if (!separated.hasRemaining()) {
+            drain();
+          }
+          int length =
+              Math.min(src.remaining(), Math.min(bytesUntilSeparator, separated.remaining()));
+          ByteBuffer segment = src.duplicate();
+          Java8Compatibility.limit(segment, segment.position() + length);
+          separated.put(segment);
+          Java8Compatibility.position(src, segment.limit());
+          bytesUntilSeparator -= length;
+        }
+        drain();
+        return written;
+      }
+
+      private void drain() throws IOException {
+        Java8Compatibility.flip(separated);
+        writeFully(separated);
+        Java8Compatibility.clear(separated);
+      }
+
+      private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+          delegate.write(buffer);
+        }
+      }
+
+      @Override
+      public boolean isOpen() {
+        return delegate.isOpen();
+      }
+
+      @Override
+      public void close() throws IOException {
+        delegate.close();
+      }
+    };
+  }
+
   static final class SeparatedBaseEncoding extends BaseEncoding {
     private final BaseEncoding delegate;
     private final String separator;
@@ -1117,6 +1712,53 @@ public abstract class BaseEncoding {
       return delegate.maxDecodedSize(chars);
     }
 
+    @Override
+    long encodedSize(long bytes) {
+      long unseparatedSize = delegate.encodedSize(bytes);
+      return unseparatedSize
+          + separator.length() * (Math.max(0, unseparatedSize - 1) / afterEveryChars);
+    }
+
+    @GwtIncompatible // ByteBuffer
+    @Override
+    void encodeTo(ByteBuffer target, ByteBuffer bytes) {
+      byte[] separatorBytes = new byte[separator.length()];
+      for (int i = 0; i < separatorBytes.length; i++) {
+        separatorBytes[i] = asciiByte(separator.charAt(i));
+      }
+      // target has room for the separated encoding, so the unseparated one fits in an array.
+      ByteBuffer encoded = ByteBuffer.allocate((int) delegate.encodedSize(bytes.remaining()));
+      delegate.encodeTo(encoded, bytes);
+      byte[] array = encoded.array();
+      for (int i = 0; i < array.length; i += afterEveryChars) {
+        if (i > 0) {
+          target.put(separatorBytes);
+        }
+        target.put(array, i, Math.min(afterEveryChars, array.length - i));
+      }
+    }
+
+    @GwtIncompatible // ByteBuffer
+    @Override
+    void decodeTo(ByteBuffer target, ByteBuffer chars) throws DecodingException {
+      ByteBuffer stripped = ByteBuffer.allocate(chars.remaining());
+      for (int i = chars.position(); i < chars.limit(); i++) {
+        byte b = chars.get(i);
+        if (separator.indexOf((char) (b & 0xFF)) < 0) {
+          stripped.put(b);
+        }
+      }
+      Java8Compatibility.flip(stripped);
+      delegate.decodeTo(target, stripped);
+      Java8Compatibility.position(chars, chars.limit());
+    }
+
+    @GwtIncompatible // WritableByteChannel
+    @Override
+    public WritableByteChannel encodingChannel(WritableByteChannel channel) {
+      return delegate.encodingChannel(separatingChannel(channel, separator, afterEveryChars));
+    }
+
     @Override
     public boolean canDecode(CharSequence chars) {
       StringBuilder builder = new StringBuilder();
@@ -14,6 +14,8 @@
 
 package com.google.common.io;
 
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
 import com.google.common.annotations.GwtIncompatible;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import java.io.DataInput;
@@ -29,6 +31,11 @@ import javax.annotation.CheckForNull;
  * IllegalStateException} to signify <i>programmer error</i>. This behavior is a technical violation
  * of the supertype's contract, which specifies a checked exception.
  *
+ * <p>Beyond the methods of {@code DataInput}, this interface can read variable-length integers as
+ * written by {@link ByteArrayDataOutput#writeVarInt} and friends, and whole arrays of {@code int}
+ * and {@code long} values as written by {@link ByteArrayDataOutput#writeInts} and {@link
+ * ByteArrayDataOutput#writeLongs}.
+ *
  * @author Kevin Bourrillion
  * @since 1.0
  */
@@ -94,4 +101,120 @@ public interface ByteArrayDataInput extends DataInput {
   @CanIgnoreReturnValue // to skip a field
   @Override
   String readUTF();
+
+  /**
+   * Reads an {@code int} written by {@link ByteArrayDataOutput#writeVarInt}: 7 bits at a time,
+   * least significant group first, with the high bit of each byte set if more bytes follow.
+   *
+   * @throws IllegalStateException if the input ends before the value does, or if the value is
+   *     longer than the 5 bytes that any {@code int} fits in
+   * @since NEXT
+   */
+  @CanIgnoreReturnValue // to skip a field
+  default int readVarInt() {
+    int result = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      byte b = readByte();
+      result |= (b & 0x7F) << shift;
+      if (b >= 0) {
+        return result;
+      }
+    }
+    throw new IllegalStateException("Malformed varint");
+  }
+
+  /**
+   * Reads a {@code long} written by {@link ByteArrayDataOutput#writeVarLong}, in the format of
+   * {@link #readVarInt}.
+   *
+   * @throws IllegalStateException if the input ends before the value does, or if the value is
+   *     longer than the 10 bytes that any {@code long} fits in
+   * @since NEXT
+   */
+  @CanIgnoreReturnValue // to skip a field
+  default long readVarLong() {
+    long result = 0;
+    for (int shift = 0; shift < 70; shift += 7) {
+      byte b = readByte();
+      result |= (long) (b & 0x7F) << shift;
+      if (b >= 0) {
+        return result;
+      }
+    }
+    throw new IllegalStateException("Malformed varint");
+  }
+
+  /**
+   * Reads an {@code int} written by {@link ByteArrayDataOutput#writeZigZagVarInt}.
+   *
+   * @throws IllegalStateException under the same conditions as {@link #readVarInt}
+   * @since NEXT
+   */
+  @CanIgnoreReturnValue // to skip a field
+  default int readZigZagVarInt() {
+    int n = readVarInt();
+    return (n >>> 1) ^ -(n & 1);
+  }
+
+  /**
+   * Reads a {@code long} written by {@link ByteArrayDataOutput#writeZigZagVarLong}.
+   *
+   * @throws IllegalStateException under the same conditions as {@link #readVarLong}
+   * @since NEXT
+   */
+  @CanIgnoreReturnValue // to skip a field
+  default long readZigZagVarLong() {
+    long n = readVarLong();
+    return (n >>> 1) ^ -(n & 1);
+  }
+
+  /**
+   * Fills {@code dst} with {@code int} values, each read as by {@link #readInt}.
+   *
+   * @throws IllegalStateException if the input ends before {@code dst} is filled
+   * @since NEXT
+   */
+  default void readInts(int[] dst) {
+    readInts(dst, 0, dst.length);
+  }
+
+  /**
+   * Reads {@code len} {@code int} values into {@code dst}, starting at index {@code off}, each read
+   * as by {@link #readInt}.
+   *
+   * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of range for {@code dst}
+   * @throws IllegalStateException if the input ends before {@code len} values are read
+   * @since NEXT
+   */
+  default void readInts(int[] dst, int off, int len) {
+    checkPositionIndexes(off, off + len, dst.length);
+    for (int i = off; i < off + len; i++) {
+      dst[i] = readInt();
+    }
+  }
+
+  /**
+   * Fills {@code dst} with {@code long} values, each read as by {@link #readLong}.
+   *
+   * @throws IllegalStateException if the input ends before {@code dst} is filled
+   * @since NEXT
+   */
+  default void readLongs(long[] dst) {
+    readLongs(dst, 0, dst.length);
+  }
+
+  /**
+   * Reads {@code len} {@code long} values into {@code dst}, starting at index {@code off}, each
+   * read as by {@link #readLong}.
+   *
+   * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of range for {@code dst}
+   * @throws IllegalStateException if the input ends before {@code len} values are read
+   * @since NEXT
+   */
+  default void readLongs(long[] dst, int off, int len) {
+    checkPositionIndexes(off, off + len, dst.length);
+    for (int i = off; i < off + len; i++) {
+      dst[i] = readLong();
+    }
+  }
 }
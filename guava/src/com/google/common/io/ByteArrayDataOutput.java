@@ -14,6 +14,8 @@
 
 package com.google.common.io;
 
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
 import com.google.common.annotations.GwtIncompatible;
 import java.io.DataOutput;
 import java.io.IOException;
@@ -22,6 +24,10 @@ import java.io.IOException;
  * An extension of {@code DataOutput} for writing to in-memory byte arrays; its methods offer
  * identical functionality but do not throw {@link IOException}.
  *
+ * <p>Beyond the methods of {@code DataOutput}, this interface can write variable-length integers,
+ * which {@link ByteArrayDataInput#readVarInt} and friends read back, and whole arrays of {@code
+ * int} and {@code long} values.
+ *
  * @author Jayaprabhakar Kadarkarai
  * @since 1.0
  */
@@ -77,4 +83,106 @@ public interface ByteArrayDataOutput extends DataOutput {
 
   /** Returns the contents that have been written to this instance, as a byte array. */
   byte[] toByteArray();
+
+  /**
+   * Writes {@code v} in 1 to 5 bytes: 7 bits at a time, least significant group first, with the
+   * high bit of each byte set if more bytes follow. This is the varint format of protocol buffers.
+   * Small non-negative values take fewer bytes; negative values always take 5 bytes, so consider
+   * {@link #writeZigZagVarInt} for values that may be negative.
+   *
+   * @since NEXT
+   */
+  default void writeVarInt(int v) {
+    byte[] bytes = new byte[5];
+    int i = 0;
+    while ((v & ~0x7F) != 0) {
+      bytes[i++] = (byte) ((v & 0x7F) | 0x80);
+      v >>>= 7;
+    }
+    bytes[i++] = (byte) v;
+    write(bytes, 0, i);
+  }
+
+  /**
+   * Writes {@code v} in 1 to 10 bytes, in the format of {@link #writeVarInt}.
+   *
+   * @since NEXT
+   */
+  default void writeVarLong(long v) {
+    byte[] bytes = new byte[10];
+    int i = 0;
+    while ((v & ~0x7FL) != 0) {
+      bytes[i++] = (byte) ((v & 0x7F) | 0x80);
+      v >>>= 7;
+    }
+    bytes[i++] = (byte) v;
+    write(bytes, 0, i);
+  }
+
+  /**
+   * Writes {@code v} as by {@link #writeVarInt} after mapping it to an unsigned value by zigzag
+   * encoding (0, -1, 1, -2, ... map to 0, 1, 2, 3, ...), so that values of small magnitude take few
+   * bytes whatever their sign.
+   *
+   * @since NEXT
+   */
+  default void writeZigZagVarInt(int v) {
+    writeVarInt((v << 1) ^ (v >> 31));
+  }
+
+  /**
+   * Writes {@code v} as by {@link #writeVarLong} after mapping it to an unsigned value by zigzag
+   * encoding, as {@link #writeZigZagVarInt} does.
+   *
+   * @since NEXT
+   */
+  default void writeZigZagVarLong(long v) {
+    writeVarLong((v << 1) ^ (v >> 63));
+  }
+
+  /**
+   * Writes each value of {@code src} as by {@link #writeInt}.
+   *
+   * @since NEXT
+   */
+  default void writeInts(int[] src) {
+    writeInts(src, 0, src.length);
+  }
+
+  /**
+   * Writes {@code len} values of {@code src}, starting at index {@code off}, each as by {@link
+   * #writeInt}.
+   *
+   * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of range for {@code src}
+   * @since NEXT
+   */
+  default void writeInts(int[] src, int off, int len) {
+    checkPositionIndexes(off, off + len, src.length);
+    for (int i = off; i < off + len; i++) {
+      writeInt(src[i]);
+    }
+  }
+
+  /**
+   * Writes each value of {@code src} as by {@link #writeLong}.
+   *
+   * @since NEXT
+   */
+  default void writeLongs(long[] src) {
+    writeLongs(src, 0, src.length);
+  }
+
+  /**
+   * Writes {@code len} values of {@code src}, starting at index {@code off}, each as by {@link
+   * #writeLong}.
+   *
+   * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of range for {@code src}
+   * @since NEXT
+   */
+  default void writeLongs(long[] src, int off, int len) {
+    checkPositionIndexes(off, off + len, src.length);
+    for (int i = off; i < off + len; i++) {
+      writeLong(src[i]);
+    }
+  }
 }
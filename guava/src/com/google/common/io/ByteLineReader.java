@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.io;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.annotations.GwtIncompatible;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators.AbstractSpliterator;
+import java.util.function.Consumer;
+import javax.annotation.CheckForNull;
+
+/**
+ * Reads lines of text from a sequence of byte chunks, finding line ends in the bytes themselves
+ * rather than in decoded chars. Only the bytes of each line are decoded, straight into the {@code
+ * String} that is returned for it.
+ *
+ * <p>This only works for charsets in which the bytes {@code '\n'} and {@code '\r'} always encode
+ * those characters and never occur as part of another character; see {@link #supports}. Lines are
+ * terminated as by {@link java.io.BufferedReader#readLine()}: by {@code \r\n}, {@code \r} or {@code
+ * \n}.
+ *
+ * <p>Line ends are searched for 8 bytes at a time, using the "has zero byte" bit trick on words
+ * read with {@link ByteBuffer#getLong(int)}.
+ */
+@GwtIncompatible
+@ElementTypesAreNonnullByDefault
+final class ByteLineReader {
+
+  /** A source of the chunks of bytes that lines are read from. */
+  interface ChunkSource {
+    /**
+     * Returns a buffer whose remaining bytes are the next chunk, or {@code null} at the end of the
+     * input. The buffer must be in {@linkplain ByteOrder#LITTLE_ENDIAN little-endian} order, and
+     * must not be changed by the source until the next call.
+     */
+    @CheckForNull
+    ByteBuffer nextChunk() throws IOException;
+  }
+
+  private static final long ONES = 0x0101010101010101L;
+  private static final long HIGH_BITS = 0x8080808080808080L;
+  private static final long LF_BYTES = '\n' * ONES;
+  private static final long CR_BYTES = '\r' * ONES;
+
+  /** Returns whether lines of text in the given charset can be read with this class. */
+  static boolean supports(Charset charset) {
+    return charset.equals(UTF_8) || charset.equals(US_ASCII) || charset.equals(ISO_8859_1);
+  }
+
+  /** Returns a source of the chunks of bytes read from {@code in}. */
+  static ChunkSource chunksOf(InputStream in) {
+    checkNotNull(in);
+    byte[] bytes = new byte[ScratchBuffers.BYTE_BUFFER_SIZE];
+    ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    return () -> {
+      int read;
+      do {
+        read = in.read(bytes);
+      } while (read == 0);
+      if (read == -1) {
+        return null;
+      }
+      Java8Compatibility.limit(buffer, read);
+      Java8Compatibility.position(buffer, 0);
+      return buffer;
+    };
+  }
+
+  /**
+   * Returns an ordered spliterator over the lines read by {@code reader}, which throws {@link
+   * UncheckedIOException} if reading fails.
+   */
+  static Spliterator<String> spliterator(ByteLineReader reader) {
+    checkNotNull(reader);
+    return new AbstractSpliterator<String>(
+        Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+      @Override
+      public boolean tryAdvance(Consumer<? super String> action) {
+        String line;
+        try {
+          line = reader.readLine();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        if (line == null) {
+          return false;
+        }
+        action.accept(line);
+        return true;
+      }
+    };
+  }
+
+  /**
+   * Returns the index of the first {@code '\n'} or {@code '\r'} byte in {@code buffer} from {@code
+   * from} (inclusive) to {@code to} (exclusive), or -1 if there is none. The buffer must be in
+   * little-endian order.
+   */
+  static int indexOfLineTerminator(ByteBuffer buffer, int from, int to) {
+    checkNotNull(buffer);
+    int i = from;
+    for (; i <= to - 8; i += 8) {
+      long word = buffer.getLong(i);
+      // Bytes above a matching byte may be flagged by mistake, but the lowest flag is always right.
+      long found = matchingBytes(word, LF_BYTES) | matchingBytes(word, CR_BYTES);
+      if (found != 0) {
+        return i + (Long.numberOfTrailingZeros(found) >>> 3);
+      }
+    }
+    for (; i < to; i++) {
+      byte b = buffer.get(i);
+      if (b == '\n' || b == '\r') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns a word with the high bit set in (at least) the lowest byte of {@code word} that is
+   * equal to the corresponding byte of {@code pattern}, or 0 if no byte is.
+   */
+  private static long matchingBytes(long word, long pattern) {
+    long x = word ^ pattern;
+    return (x - ONES) & ~x & HIGH_BITS;
+  }
+
+  private final ChunkSource source;
+  private final Charset charset;
+
+  @CheckForNull private ByteBuffer chunk;
+  private boolean skipLf;
+
+  // The start of a line that spans chunks, or a line read from a buffer without an array.
+  private byte[] pending = new byte[0];
+  private int pendingLength;
+
+  ByteLineReader(ChunkSource source, Charset charset) {
+    this.source = checkNotNull(source);
+    this.charset = checkNotNull(charset);
+  }
+
+  /**
+   * Returns the next line, without its line terminator, or {@code null} if all lines have been
+   * read.
+   */
+  @CheckForNull
+  String readLine() throws IOException {
+    while (true) {
+      ByteBuffer chunk = this.chunk;
+      if (chunk == null || !chunk.hasRemaining()) {
+        chunk = this.chunk = source.nextChunk();
+        if (chunk == null) {
+          if (pendingLength == 0) {
+            return null;
+          }
+          String line = new String(pending, 0, pendingLength, charset);
+          pendingLength = 0;
+          return line;
+        }
+        continue;
+      }
+      int from = chunk.position();
+      int limit = chunk.limit();
+      if (skipLf) {
+        skipLf = false;
+        if (chunk.get(from) == '\n') {
+          Java8Compatibility.position(chunk, from + 1);
+          continue;
+        }
+      }
+      int end = indexOfLineTerminator(chunk, from, limit);
+      if (end == -1) {
+        appendPending(chunk, from, limit);
+        Java8Compatibility.position(chunk, limit);
+        continue;
+      }
+      String line;
+      if (pendingLength == 0 && chunk.hasArray()) {
+        line = new String(chunk.array(), chunk.arrayOffset() + from, end - from, charset);
+      } else {
+        appendPending(chunk, from, end);
+        line = new String(pending, 0, pendingLength, charset);
+        pendingLength = 0;
+      }
+      int next = end + 1;
+      if (chunk.get(end) == '\r') {
+        if (next == limit) {
+          skipLf = true;
+        } else if (chunk.get(next) == '\n') {
+          next++;
+        }
+      }
+      Java8Compatibility.position(chunk, next);
+      return line;
+    }
+  }
+
+  /** Appends the bytes of {@code chunk} from {@code from} to {@code to} to the pending bytes. */
+  private void appendPending(ByteBuffer chunk, int from, int to) {
+    int length = to - from;
+    if (pendingLength + length > pending.length) {
+      pending = Arrays.copyOf(pending, Math.max(pendingLength + length, 2 * pending.length));
+    }
+    ByteBuffer source = chunk.duplicate();
+    Java8Compatibility.position(source, from);
+    source.get(pending, pendingLength, length);
+    pendingLength += length;
+  }
+}
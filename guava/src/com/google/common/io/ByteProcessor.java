@@ -38,6 +38,8 @@ public interface ByteProcessor<T extends @Nullable Object> {
   /**
    * This method will be called for each chunk of bytes in an input stream. The implementation
    * should process the bytes from {@code buf[off]} through {@code buf[off + len - 1]} (inclusive).
+   * The caller may reuse {@code buf} once this method returns, so implementations should copy any
+   * bytes that they need to keep rather than keep a reference to the array.
    *
    * @param buf the byte array containing the data to process
    * @param off the initial offset into the array
@@ -16,6 +16,7 @@ package com.google.common.io;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.annotations.Beta;
 import com.google.common.annotations.GwtIncompatible;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import java.io.BufferedOutputStream;
@@ -24,6 +25,9 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 
 /**
@@ -89,6 +93,26 @@ public abstract class ByteSink {
         : new BufferedOutputStream(out);
   }
 
+  /**
+   * Opens a new {@link WritableByteChannel} for writing to this sink. This method returns a new,
+   * independent channel each time it is called.
+   *
+   * <p>The default implementation wraps the stream returned by {@link #openStream()}. Sinks that
+   * write to a file or a socket should override this method to return the underlying channel (for
+   * example a {@link FileChannel} or a {@link java.nio.channels.SocketChannel SocketChannel}), so
+   * that copying a file-backed {@link ByteSource} to them can use {@link FileChannel#transferTo},
+   * which avoids copying the bytes through the Java heap on most platforms.
+   *
+   * <p>The caller is responsible for ensuring that the returned channel is closed.
+   *
+   * @throws IOException if an I/O error occurs while opening the channel
+   * @since NEXT
+   */
+  @Beta
+  public WritableByteChannel openChannel() throws IOException {
+    return Channels.newChannel(openStream());
+  }
+
   /**
    * Writes all the given bytes to this sink.
    *
@@ -16,7 +16,6 @@ package com.google.common.io;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.io.ByteStreams.createBuffer;
 import static com.google.common.io.ByteStreams.skipUpTo;
 
 import com.google.common.annotations.Beta;
@@ -36,10 +35,18 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.annotation.CheckForNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -122,6 +129,24 @@ public abstract class ByteSource {
         : new BufferedInputStream(in);
   }
 
+  /**
+   * Opens a new {@link ReadableByteChannel} for reading from this source. This method returns a
+   * new, independent channel each time it is called.
+   *
+   * <p>The default implementation wraps the stream returned by {@link #openStream()}. Sources
+   * backed by a file return a {@link FileChannel}, which lets {@link #copyTo(ByteSink)} transfer
+   * bytes with {@link FileChannel#transferTo} instead of copying them through a heap buffer.
+   *
+   * <p>The caller is responsible for ensuring that the returned channel is closed.
+   *
+   * @throws IOException if an I/O error occurs while opening the channel
+   * @since NEXT
+   */
+  @Beta
+  public ReadableByteChannel openChannel() throws IOException {
+    return Channels.newChannel(openStream());
+  }
+
   /**
    * Returns a view of a slice of this byte source that is at most {@code length} bytes long
    * starting at the given {@code offset}. If {@code offset} is greater than the size of this
@@ -285,6 +310,27 @@ public abstract class ByteSource {
     }
   }
 
+  /**
+   * Copies the contents of this byte source to the given {@code ByteSink} using the channels
+   * returned by {@link #openChannel()} and {@link ByteSink#openChannel()}. Meant for sources whose
+   * channel is a {@link FileChannel}, so that {@link ByteStreams#copy(ReadableByteChannel,
+   * WritableByteChannel)} can transfer the bytes without bringing them into the Java heap.
+   */
+  final long copyToUsingChannels(ByteSink sink) throws IOException {
+    checkNotNull(sink);
+
+    Closer closer = Closer.create();
+    try {
+      ReadableByteChannel in = closer.register(openChannel());
+      WritableByteChannel out = closer.register(sink.openChannel());
+      return ByteStreams.copy(in, out);
+    } catch (Throwable e) {
+      throw closer.rethrow(e);
+    } finally {
+      closer.close();
+    }
+  }
+
   /**
    * Reads the full contents of this byte source as a byte array.
    *
@@ -350,27 +396,48 @@ public abstract class ByteSource {
   public boolean contentEquals(ByteSource other) throws IOException {
     checkNotNull(other);
 
-    byte[] buf1 = createBuffer();
-    byte[] buf2 = createBuffer();
-
     Closer closer = Closer.create();
     try {
       InputStream in1 = closer.register(openStream());
       InputStream in2 = closer.register(other.openStream());
+      return contentEquals(in1, in2);
+    } catch (Throwable e) {
+      throw closer.rethrow(e);
+    } finally {
+      closer.close();
+    }
+  }
+
+  private static boolean contentEquals(InputStream in1, InputStream in2) throws IOException {
+    byte[] buf1 = ScratchBuffers.takeBytes(in1);
+    byte[] buf2 = ScratchBuffers.takeBytes(in2);
+    try {
       while (true) {
         int read1 = ByteStreams.read(in1, buf1, 0, buf1.length);
         int read2 = ByteStreams.read(in2, buf2, 0, buf2.length);
-        if (read1 != read2 || !Arrays.equals(buf1, buf2)) {
+        if (read1 != read2 || !rangeEquals(buf1, buf2, read1)) {
           return false;
         } else if (read1 != buf1.length) {
           return true;
         }
       }
-    } catch (Throwable e) {
-      throw closer.rethrow(e);
     } finally {
-      closer.close();
+      ScratchBuffers.recycle(buf1);
+      ScratchBuffers.recycle(buf2);
+    }
+  }
+
+  /**
+   * Returns whether the first {@code length} bytes of the arrays are equal. The rest of the arrays
+   * may hold anything, as they are recycled scratch buffers.
+   */
+  private static boolean rangeEquals(byte[] buf1, byte[] buf2, int length) {
+    for (int i = 0; i < length; i++) {
+      if (buf1[i] != buf2[i]) {
+        return false;
+      }
     }
+    return true;
   }
 
   /**
@@ -474,6 +541,90 @@ public abstract class ByteSource {
       return new InputStreamReader(ByteSource.this.openStream(), charset);
     }
 
+    @Override
+    public Stream<String> lines() throws IOException {
+      if (!ByteLineReader.supports(charset)) {
+        return super.lines();
+      }
+      InputStream in = ByteSource.this.openStream();
+      ByteLineReader reader = new ByteLineReader(ByteLineReader.chunksOf(in), charset);
+      return StreamSupport.stream(ByteLineReader.spliterator(reader), false)
+          .onClose(
+              () -> {
+                try {
+                  in.close();
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              });
+    }
+
+    @Override
+    @CheckForNull
+    public String readFirstLine() throws IOException {
+      if (!ByteLineReader.supports(charset)) {
+        return super.readFirstLine();
+      }
+      Closer closer = Closer.create();
+      try {
+        InputStream in = closer.register(ByteSource.this.openStream());
+        return new ByteLineReader(ByteLineReader.chunksOf(in), charset).readLine();
+      } catch (Throwable e) {
+        throw closer.rethrow(e);
+      } finally {
+        closer.close();
+      }
+    }
+
+    @Override
+    public ImmutableList<String> readLines() throws IOException {
+      if (!ByteLineReader.supports(charset)) {
+        return super.readLines();
+      }
+      Closer closer = Closer.create();
+      try {
+        InputStream in = closer.register(ByteSource.this.openStream());
+        ByteLineReader reader = new ByteLineReader(ByteLineReader.chunksOf(in), charset);
+        ImmutableList.Builder<String> result = ImmutableList.builder();
+        String line;
+        while ((line = reader.readLine()) != null) {
+          result.add(line);
+        }
+        return result.build();
+      } catch (Throwable e) {
+        throw closer.rethrow(e);
+      } finally {
+        closer.close();
+      }
+    }
+
+    @Override
+    @ParametricNullness
+    public <T extends @Nullable Object> T readLines(LineProcessor<T> processor)
+        throws IOException {
+      if (!ByteLineReader.supports(charset)) {
+        return super.readLines(processor);
+      }
+      checkNotNull(processor);
+
+      Closer closer = Closer.create();
+      try {
+        InputStream in = closer.register(ByteSource.this.openStream());
+        ByteLineReader reader = new ByteLineReader(ByteLineReader.chunksOf(in), charset);
+        String line;
+        while ((line = reader.readLine()) != null) {
+          if (!processor.processLine(line)) {
+            break;
+          }
+        }
+        return processor.getResult();
+      } catch (Throwable e) {
+        throw closer.rethrow(e);
+      } finally {
+        closer.close();
+      }
+    }
+
     @Override
     public String read() throws IOException {
       // Reading all the data as a byte array is more efficient than the default read()
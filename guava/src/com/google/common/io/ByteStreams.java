@@ -35,6 +35,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
@@ -57,11 +58,6 @@ public final class ByteStreams {
 
   private static final int BUFFER_SIZE = 8192;
 
-  /** Creates a new byte array for buffering reads or writes. */
-  static byte[] createBuffer() {
-    return new byte[BUFFER_SIZE];
-  }
-
   /**
    * There are three methods to implement {@link FileChannel#transferTo(long, long,
    * WritableByteChannel)}:
@@ -106,17 +102,21 @@ public final class ByteStreams {
   public static long copy(InputStream from, OutputStream to) throws IOException {
     checkNotNull(from);
     checkNotNull(to);
-    byte[] buf = createBuffer();
-    long total = 0;
-    while (true) {
-      int r = from.read(buf);
-      if (r == -1) {
-        break;
+    byte[] buf = ScratchBuffers.takeBytes(from, to);
+    try {
+      long total = 0;
+      while (true) {
+        int r = from.read(buf);
+        if (r == -1) {
+          break;
+        }
+        to.write(buf, 0, r);
+        total += r;
       }
-      to.write(buf, 0, r);
-      total += r;
+      return total;
+    } finally {
+      ScratchBuffers.recycle(buf);
     }
-    return total;
   }
 
   /**
@@ -145,16 +145,21 @@ public final class ByteStreams {
       return position - oldPosition;
     }
 
-    ByteBuffer buf = ByteBuffer.wrap(createBuffer());
-    long total = 0;
-    while (from.read(buf) != -1) {
-      Java8Compatibility.flip(buf);
-      while (buf.hasRemaining()) {
-        total += to.write(buf);
+    byte[] bytes = ScratchBuffers.takeBytes(from, to);
+    try {
+      ByteBuffer buf = ByteBuffer.wrap(bytes);
+      long total = 0;
+      while (from.read(buf) != -1) {
+        Java8Compatibility.flip(buf);
+        while (buf.hasRemaining()) {
+          total += to.write(buf);
+        }
+        Java8Compatibility.clear(buf);
       }
-      Java8Compatibility.clear(buf);
+      return total;
+    } finally {
+      ScratchBuffers.recycle(bytes);
     }
-    return total;
   }
 
   /** Max array length on JVM. */
@@ -173,29 +178,36 @@ public final class ByteStreams {
     // Starting with an 8k buffer, double the size of each successive buffer. Buffers are retained
     // in a deque so that there's no copying between buffers while reading and so all of the bytes
     // in each new allocated buffer are available for reading from the stream.
-    for (int bufSize = BUFFER_SIZE;
-        totalLen < MAX_ARRAY_LEN;
-        bufSize = IntMath.saturatedMultiply(bufSize, 2)) {
-      byte[] buf = new byte[Math.min(bufSize, MAX_ARRAY_LEN - totalLen)];
-      bufs.add(buf);
-      int off = 0;
-      while (off < buf.length) {
-        // always OK to fill buf; its size plus the rest of bufs is never more than MAX_ARRAY_LEN
-        int r = in.read(buf, off, buf.length - off);
-        if (r == -1) {
-          return combineBuffers(bufs, totalLen);
+    // combineBuffers always copies into a new array, so the first buffer can be a scratch buffer.
+    byte[] scratch = ScratchBuffers.takeBytes(in);
+    try {
+      for (int bufSize = BUFFER_SIZE;
+          totalLen < MAX_ARRAY_LEN;
+          bufSize = IntMath.saturatedMultiply(bufSize, 2)) {
+        int len = Math.min(bufSize, MAX_ARRAY_LEN - totalLen);
+        byte[] buf = (len == scratch.length && bufs.isEmpty()) ? scratch : new byte[len];
+        bufs.add(buf);
+        int off = 0;
+        while (off < buf.length) {
+          // always OK to fill buf; its size plus the rest of bufs is never more than MAX_ARRAY_LEN
+          int r = in.read(buf, off, buf.length - off);
+          if (r == -1) {
+            return combineBuffers(bufs, totalLen);
+          }
+          off += r;
+          totalLen += r;
         }
-        off += r;
-        totalLen += r;
       }
-    }
 
-    // read MAX_ARRAY_LEN bytes without seeing end of stream
-    if (in.read() == -1) {
-      // oh, there's the end of the stream
-      return combineBuffers(bufs, MAX_ARRAY_LEN);
-    } else {
-      throw new OutOfMemoryError("input is too large to fit in a byte array");
+      // read MAX_ARRAY_LEN bytes without seeing end of stream
+      if (in.read() == -1) {
+        // oh, there's the end of the stream
+        return combineBuffers(bufs, MAX_ARRAY_LEN);
+      } else {
+        throw new OutOfMemoryError("input is too large to fit in a byte array");
+      }
+    } finally {
+      ScratchBuffers.recycle(scratch);
     }
   }
 
@@ -271,13 +283,17 @@ public final class ByteStreams {
   @CanIgnoreReturnValue
   @Beta
   public static long exhaust(InputStream in) throws IOException {
-    long total = 0;
-    long read;
-    byte[] buf = createBuffer();
-    while ((read = in.read(buf)) != -1) {
-      total += read;
+    byte[] buf = ScratchBuffers.takeBytes(in);
+    try {
+      long total = 0;
+      long read;
+      while ((read = in.read(buf)) != -1) {
+        total += read;
+      }
+      return total;
+    } finally {
+      ScratchBuffers.recycle(buf);
     }
-    return total;
   }
 
   /**
@@ -286,7 +302,7 @@ public final class ByteStreams {
    */
   @Beta
   public static ByteArrayDataInput newDataInput(byte[] bytes) {
-    return newDataInput(new ByteArrayInputStream(bytes));
+    return new ByteBufferDataInput(ByteBuffer.wrap(bytes));
   }
 
   /**
@@ -299,7 +315,25 @@ public final class ByteStreams {
   @Beta
   public static ByteArrayDataInput newDataInput(byte[] bytes, int start) {
     checkPositionIndex(start, bytes.length);
-    return newDataInput(new ByteArrayInputStream(bytes, start, bytes.length - start));
+    return new ByteBufferDataInput(ByteBuffer.wrap(bytes, start, bytes.length - start));
+  }
+
+  /**
+   * Returns a new {@link ByteArrayDataInput} instance to read the remaining bytes of {@code
+   * buffer}, from its position to its limit. Values are read in big-endian order, as {@link
+   * DataInput} specifies, whatever the {@linkplain ByteBuffer#order() order} of {@code buffer}.
+   * Reading does not change the position of {@code buffer}, but the returned instance does see
+   * changes to its contents.
+   *
+   * <p>Bulk reads such as {@link ByteArrayDataInput#readInts(int[])} copy the values straight out
+   * of the buffer, rather than one at a time. A read that would go past the limit throws {@link
+   * IllegalStateException} without consuming any bytes.
+   *
+   * @since NEXT
+   */
+  @Beta
+  public static ByteArrayDataInput newDataInput(ByteBuffer buffer) {
+    return new ByteBufferDataInput(buffer.duplicate().order(ByteOrder.BIG_ENDIAN));
   }
 
   /**
@@ -460,6 +494,147 @@ public final class ByteStreams {
     }
   }
 
+  /** A {@link ByteArrayDataInput} that reads a big-endian {@link ByteBuffer} that it owns. */
+  private static final class ByteBufferDataInput implements ByteArrayDataInput {
+    final ByteBuffer buffer;
+
+    ByteBufferDataInput(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    /** Throws if fewer than {@code n} bytes remain, so that a failed read consumes nothing. */
+    private void require(long n) {
+      if (buffer.remaining() < n) {
+        throw new IllegalStateException(new EOFException());
+      }
+    }
+
+    @Override
+    public void readFully(byte b[]) {
+      readFully(b, 0, b.length);
+    }
+
+    @Override
+    public void readFully(byte b[], int off, int len) {
+      checkPositionIndexes(off, off + len, b.length);
+      require(len);
+      buffer.get(b, off, len);
+    }
+
+    @Override
+    public int skipBytes(int n) {
+      int skipped = Math.max(0, Math.min(n, buffer.remaining()));
+      Java8Compatibility.position(buffer, buffer.position() + skipped);
+      return skipped;
+    }
+
+    @Override
+    public boolean readBoolean() {
+      return readByte() != 0;
+    }
+
+    @Override
+    public byte readByte() {
+      require(1);
+      return buffer.get();
+    }
+
+    @Override
+    public int readUnsignedByte() {
+      return readByte() & 0xFF;
+    }
+
+    @Override
+    public short readShort() {
+      require(2);
+      return buffer.getShort();
+    }
+
+    @Override
+    public int readUnsignedShort() {
+      return readShort() & 0xFFFF;
+    }
+
+    @Override
+    public char readChar() {
+      require(2);
+      return buffer.getChar();
+    }
+
+    @Override
+    public int readInt() {
+      require(4);
+      return buffer.getInt();
+    }
+
+    @Override
+    public long readLong() {
+      require(8);
+      return buffer.getLong();
+    }
+
+    @Override
+    public float readFloat() {
+      require(4);
+      return buffer.getFloat();
+    }
+
+    @Override
+    public double readDouble() {
+      require(8);
+      return buffer.getDouble();
+    }
+
+    @Override
+    @CheckForNull
+    public String readLine() {
+      // Same as DataInputStream.readLine: each byte is one char, and a line ends at \n, \r or \r\n.
+      if (!buffer.hasRemaining()) {
+        return null;
+      }
+      StringBuilder line = new StringBuilder();
+      while (buffer.hasRemaining()) {
+        char c = (char) (buffer.get() & 0xFF);
+        if (c == '\n') {
+          break;
+        }
+        if (c == '\r') {
+          if (buffer.hasRemaining() && buffer.get(buffer.position()) == '\n') {
+            buffer.get();
+          }
+          break;
+        }
+        line.append(c);
+      }
+      return line.toString();
+    }
+
+    @Override
+    public String readUTF() {
+      try {
+        return DataInputStream.readUTF(this);
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    @Override
+    public void readInts(int[] dst, int off, int len) {
+      checkPositionIndexes(off, off + len, dst.length);
+      require(4L * len);
+      buffer.asIntBuffer().get(dst, off, len);
+      Java8Compatibility.position(buffer, buffer.position() + 4 * len);
+    }
+
+    @Override
+    public void readLongs(long[] dst, int off, int len) {
+      checkPositionIndexes(off, off + len, dst.length);
+      require(8L * len);
+      buffer.asLongBuffer().get(dst, off, len);
+      Java8Compatibility.position(buffer, buffer.position() + 8 * len);
+    }
+  }
+
   /** Returns a new {@link ByteArrayDataOutput} instance with a default size. */
   @Beta
   public static ByteArrayDataOutput newDataOutput() {
@@ -635,12 +810,122 @@ public final class ByteStreams {
       }
     }
 
+    @Override
+    public void writeInts(int[] src, int off, int len) {
+      try {
+        ByteStreams.writeInts(byteArrayOutputStream, src, off, len, ByteOrder.BIG_ENDIAN);
+      } catch (IOException impossible) {
+        throw new AssertionError(impossible);
+      }
+    }
+
+    @Override
+    public void writeLongs(long[] src, int off, int len) {
+      try {
+        ByteStreams.writeLongs(byteArrayOutputStream, src, off, len, ByteOrder.BIG_ENDIAN);
+      } catch (IOException impossible) {
+        throw new AssertionError(impossible);
+      }
+    }
+
     @Override
     public byte[] toByteArray() {
       return byteArrayOutputStream.toByteArray();
     }
   }
 
+  /**
+   * Writes {@code len} values of {@code src}, starting at index {@code off}, to {@code out} in the
+   * given byte order. The values are encoded into a scratch buffer in chunks, not one by one.
+   */
+  static void writeInts(OutputStream out, int[] src, int off, int len, ByteOrder order)
+      throws IOException {
+    checkNotNull(out);
+    checkNotNull(order);
+    checkPositionIndexes(off, off + len, src.length);
+    byte[] buf = ScratchBuffers.takeBytes(out);
+    try {
+      int perChunk = buf.length / 4;
+      while (len > 0) {
+        int n = Math.min(len, perChunk);
+        ByteBuffer.wrap(buf).order(order).asIntBuffer().put(src, off, n);
+        out.write(buf, 0, 4 * n);
+        off += n;
+        len -= n;
+      }
+    } finally {
+      ScratchBuffers.recycle(buf);
+    }
+  }
+
+  /** Like {@link #writeInts(OutputStream, int[], int, int, ByteOrder)}, but for {@code long}s. */
+  static void writeLongs(OutputStream out, long[] src, int off, int len, ByteOrder order)
+      throws IOException {
+    checkNotNull(out);
+    checkNotNull(order);
+    checkPositionIndexes(off, off + len, src.length);
+    byte[] buf = ScratchBuffers.takeBytes(out);
+    try {
+      int perChunk = buf.length / 8;
+      while (len > 0) {
+        int n = Math.min(len, perChunk);
+        ByteBuffer.wrap(buf).order(order).asLongBuffer().put(src, off, n);
+        out.write(buf, 0, 8 * n);
+        off += n;
+        len -= n;
+      }
+    } finally {
+      ScratchBuffers.recycle(buf);
+    }
+  }
+
+  /**
+   * Reads {@code len} values from {@code in} in the given byte order into {@code dst}, starting at
+   * index {@code off}. The values are decoded from a scratch buffer in chunks, not one by one.
+   *
+   * @throws EOFException if {@code in} ends before {@code len} values are read
+   */
+  static void readInts(InputStream in, int[] dst, int off, int len, ByteOrder order)
+      throws IOException {
+    checkNotNull(in);
+    checkNotNull(order);
+    checkPositionIndexes(off, off + len, dst.length);
+    byte[] buf = ScratchBuffers.takeBytes(in);
+    try {
+      int perChunk = buf.length / 4;
+      while (len > 0) {
+        int n = Math.min(len, perChunk);
+        readFully(in, buf, 0, 4 * n);
+        ByteBuffer.wrap(buf).order(order).asIntBuffer().get(dst, off, n);
+        off += n;
+        len -= n;
+      }
+    } finally {
+      ScratchBuffers.recycle(buf);
+    }
+  }
+
+  /** Like {@link #readInts(InputStream, int[], int, int, ByteOrder)}, but for {@code long}s. */
+  static void readLongs(InputStream in, long[] dst, int off, int len, ByteOrder order)
+      throws IOException {
+    checkNotNull(in);
+    checkNotNull(order);
+    checkPositionIndexes(off, off + len, dst.length);
+    byte[] buf = ScratchBuffers.takeBytes(in);
+    try {
+      int perChunk = buf.length / 8;
+      while (len > 0) {
+        int n = Math.min(len, perChunk);
+        readFully(in, buf, 0, 8 * n);
+        ByteBuffer.wrap(buf).order(order).asLongBuffer().get(dst, off, n);
+        off += n;
+        len -= n;
+      }
+    } finally {
+      ScratchBuffers.recycle(buf);
+    }
+  }
+
   private static final OutputStream NULL_OUTPUT_STREAM =
       new OutputStream() {
         /** Discards the specified byte. */
@@ -879,11 +1164,15 @@ public final class ByteStreams {
     checkNotNull(input);
     checkNotNull(processor);
 
-    byte[] buf = createBuffer();
-    int read;
-    do {
-      read = input.read(buf);
-    } while (read != -1 && processor.processBytes(buf, 0, read));
+    byte[] buf = ScratchBuffers.takeBytes(input, processor);
+    try {
+      int read;
+      do {
+        read = input.read(buf);
+      } while (read != -1 && processor.processBytes(buf, 0, read));
+    } finally {
+      ScratchBuffers.recycle(buf);
+    }
     return processor.getResult();
   }
 
@@ -49,12 +49,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 @ElementTypesAreNonnullByDefault
 public final class CharStreams {
 
-  // 2K chars (4K bytes)
-  private static final int DEFAULT_BUF_SIZE = 0x800;
-
   /** Creates a new {@code CharBuffer} for buffering reads or writes. */
   static CharBuffer createBuffer() {
-    return CharBuffer.allocate(DEFAULT_BUF_SIZE);
+    return CharBuffer.allocate(ScratchBuffers.CHAR_BUFFER_SIZE);
   }
 
   private CharStreams() {}
@@ -83,15 +80,20 @@ public final class CharStreams {
 
     checkNotNull(from);
     checkNotNull(to);
-    long total = 0;
-    CharBuffer buf = createBuffer();
-    while (from.read(buf) != -1) {
-      Java8Compatibility.flip(buf);
-      to.append(buf);
-      total += buf.remaining();
-      Java8Compatibility.clear(buf);
+    char[] chars = ScratchBuffers.takeChars(from, to);
+    try {
+      long total = 0;
+      CharBuffer buf = CharBuffer.wrap(chars);
+      while (from.read(buf) != -1) {
+        Java8Compatibility.flip(buf);
+        to.append(buf);
+        total += buf.remaining();
+        Java8Compatibility.clear(buf);
+      }
+      return total;
+    } finally {
+      ScratchBuffers.recycle(chars);
     }
-    return total;
   }
 
   // TODO(lukes): consider allowing callers to pass in a buffer to use, some callers would be able
@@ -116,14 +118,18 @@ public final class CharStreams {
   static long copyReaderToBuilder(Reader from, StringBuilder to) throws IOException {
     checkNotNull(from);
     checkNotNull(to);
-    char[] buf = new char[DEFAULT_BUF_SIZE];
-    int nRead;
-    long total = 0;
-    while ((nRead = from.read(buf)) != -1) {
-      to.append(buf, 0, nRead);
-      total += nRead;
+    char[] buf = ScratchBuffers.takeChars(from, to);
+    try {
+      int nRead;
+      long total = 0;
+      while ((nRead = from.read(buf)) != -1) {
+        to.append(buf, 0, nRead);
+        total += nRead;
+      }
+      return total;
+    } finally {
+      ScratchBuffers.recycle(buf);
     }
-    return total;
   }
 
   /**
@@ -144,14 +150,18 @@ public final class CharStreams {
   static long copyReaderToWriter(Reader from, Writer to) throws IOException {
     checkNotNull(from);
     checkNotNull(to);
-    char[] buf = new char[DEFAULT_BUF_SIZE];
-    int nRead;
-    long total = 0;
-    while ((nRead = from.read(buf)) != -1) {
-      to.write(buf, 0, nRead);
-      total += nRead;
+    char[] buf = ScratchBuffers.takeChars(from, to);
+    try {
+      int nRead;
+      long total = 0;
+      while ((nRead = from.read(buf)) != -1) {
+        to.write(buf, 0, nRead);
+        total += nRead;
+      }
+      return total;
+    } finally {
+      ScratchBuffers.recycle(buf);
     }
-    return total;
   }
 
   /**
@@ -242,14 +252,19 @@ public final class CharStreams {
   @Beta
   @CanIgnoreReturnValue
   public static long exhaust(Readable readable) throws IOException {
-    long total = 0;
-    long read;
-    CharBuffer buf = createBuffer();
-    while ((read = readable.read(buf)) != -1) {
-      total += read;
-      Java8Compatibility.clear(buf);
+    char[] chars = ScratchBuffers.takeChars(readable);
+    try {
+      long total = 0;
+      long read;
+      CharBuffer buf = CharBuffer.wrap(chars);
+      while ((read = readable.read(buf)) != -1) {
+        total += read;
+        Java8Compatibility.clear(buf);
+      }
+      return total;
+    } finally {
+      ScratchBuffers.recycle(chars);
     }
-    return total;
   }
 
   /**
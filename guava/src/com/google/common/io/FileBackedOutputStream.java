@@ -19,11 +19,13 @@ import static java.util.Objects.requireNonNull;
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.GwtIncompatible;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Optional;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
 import com.google.errorprone.annotations.concurrent.GuardedBy;
-import java.io.ByteArrayInputStream;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -34,6 +36,11 @@ import javax.annotation.CheckForNull;
  * An {@link OutputStream} that starts buffering to a byte array, but switches to file buffering
  * once the data reaches a configurable size.
  *
+ * <p>The {@link #asByteSource} view reads the data in place: while the data is in memory, methods
+ * such as {@link ByteSource#copyTo(OutputStream)} and {@link ByteSource#hash} read the byte array
+ * directly, and once it is in a file, they read the file as {@link Files#asByteSource} does.
+ * Writes to the file are buffered, and flushed before the data is read.
+ *
  * <p>Temporary files created by this stream may live in the local filesystem until either:
  *
  * <ul>
@@ -70,6 +77,39 @@ public final class FileBackedOutputStream extends OutputStream {
   @CheckForNull
   private File file;
 
+  /** Buffers writes to the file, failing them once closed, as {@link FileOutputStream} would. */
+  private static final class FileOutput extends BufferedOutputStream {
+    private boolean closed;
+
+    FileOutput(File file) throws IOException {
+      super(new FileOutputStream(file), 8192);
+    }
+
+    @Override
+    public synchronized void write(int b) throws IOException {
+      checkOpen();
+      super.write(b);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) throws IOException {
+      checkOpen();
+      super.write(b, off, len);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+      closed = true;
+      super.close();
+    }
+
+    private void checkOpen() throws IOException {
+      if (closed) {
+        throw new IOException("Stream closed");
+      }
+    }
+  }
+
   /** ByteArrayOutputStream that exposes its internals. */
   private static class MemoryOutput extends ByteArrayOutputStream {
     byte[] getBuffer() {
@@ -120,12 +160,7 @@ public final class FileBackedOutputStream extends OutputStream {
 
     if (resetOnFinalize) {
       source =
-          new ByteSource() {
-            @Override
-            public InputStream openStream() throws IOException {
-              return openInputStream();
-            }
-
+          new Source() {
             @Override
             protected void finalize() {
               try {
@@ -136,13 +171,54 @@ public final class FileBackedOutputStream extends OutputStream {
             }
           };
     } else {
-      source =
-          new ByteSource() {
-            @Override
-            public InputStream openStream() throws IOException {
-              return openInputStream();
-            }
-          };
+      source = new Source();
+    }
+  }
+
+  /** A view of the data that delegates each operation to a source that reads it in place. */
+  private class Source extends ByteSource {
+    @Override
+    public InputStream openStream() throws IOException {
+      return currentSource().openStream();
+    }
+
+    @Override
+    public boolean isEmpty() throws IOException {
+      return currentSource().isEmpty();
+    }
+
+    @Override
+    public Optional<Long> sizeIfKnown() {
+      try {
+        return currentSource().sizeIfKnown();
+      } catch (IOException e) {
+        return Optional.absent();
+      }
+    }
+
+    @Override
+    public long size() throws IOException {
+      return currentSource().size();
+    }
+
+    @Override
+    public byte[] read() throws IOException {
+      return currentSource().read();
+    }
+
+    @Override
+    public long copyTo(OutputStream output) throws IOException {
+      return currentSource().copyTo(output);
+    }
+
+    @Override
+    public long copyTo(ByteSink sink) throws IOException {
+      return currentSource().copyTo(sink);
+    }
+
+    @Override
+    public HashCode hash(HashFunction hashFunction) throws IOException {
+      return currentSource().hash(hashFunction);
     }
   }
 
@@ -155,13 +231,18 @@ public final class FileBackedOutputStream extends OutputStream {
     return source;
   }
 
-  private synchronized InputStream openInputStream() throws IOException {
+  /**
+   * Returns a source that reads the data written so far in place: the file, once its buffered
+   * writes are flushed, or a view of the byte array.
+   */
+  private synchronized ByteSource currentSource() throws IOException {
     if (file != null) {
-      return new FileInputStream(file);
+      out.flush();
+      return Files.asByteSource(file);
     } else {
       // requireNonNull is safe because we always have either `file` or `memory`.
       requireNonNull(memory);
-      return new ByteArrayInputStream(memory.getBuffer(), 0, memory.getCount());
+      return ByteSource.wrap(memory.getBuffer()).slice(0, memory.getCount());
     }
   }
 
@@ -232,7 +313,7 @@ public final class FileBackedOutputStream extends OutputStream {
         temp.deleteOnExit();
       }
       try {
-        FileOutputStream transfer = new FileOutputStream(temp);
+        FileOutput transfer = new FileOutput(temp);
         transfer.write(memory.getBuffer(), 0, memory.getCount());
         transfer.flush();
         // We've successfully transferred the data; switch to writing to file
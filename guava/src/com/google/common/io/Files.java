@@ -133,6 +133,11 @@ public final class Files {
       return new FileInputStream(file);
     }
 
+    @Override
+    public FileChannel openChannel() throws IOException {
+      return openStream().getChannel();
+    }
+
     @Override
     public Optional<Long> sizeIfKnown() {
       if (file.isFile()) {
@@ -163,6 +168,37 @@ public final class Files {
       }
     }
 
+    @Override
+    public long copyTo(OutputStream output) throws IOException {
+      // Subclasses of FileOutputStream may override write, so they only get streamed to.
+      if (!isTransferable() || output.getClass() != FileOutputStream.class) {
+        return super.copyTo(output);
+      }
+      Closer closer = Closer.create();
+      try {
+        FileChannel in = closer.register(openChannel());
+        return ByteStreams.copy(in, ((FileOutputStream) output).getChannel());
+      } catch (Throwable e) {
+        throw closer.rethrow(e);
+      } finally {
+        closer.close();
+      }
+    }
+
+    @Override
+    public long copyTo(ByteSink sink) throws IOException {
+      return isTransferable() ? copyToUsingChannels(sink) : super.copyTo(sink);
+    }
+
+    /**
+     * Returns whether the file can be copied by transferring from its channel, which stops at the
+     * size of the file. Pipes and devices can't be transferred from by position, and special files
+     * like those in /proc report a size of 0 despite having content, so they are copied as streams.
+     */
+    private boolean isTransferable() {
+      return file.isFile() && file.length() > 0;
+    }
+
     @Override
     public String toString() {
       return "Files.asByteSource(" + file + ")";
@@ -196,6 +232,11 @@ public final class Files {
       return new FileOutputStream(file, modes.contains(APPEND));
     }
 
+    @Override
+    public FileChannel openChannel() throws IOException {
+      return openStream().getChannel();
+    }
+
     @Override
     public String toString() {
       return "Files.asByteSink(" + file + ", " + modes + ")";
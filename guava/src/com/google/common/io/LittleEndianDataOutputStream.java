@@ -23,6 +23,7 @@ import java.io.DataOutputStream;
 import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteOrder;
 
 /**
  * An implementation of {@link DataOutput} that uses little-endian byte ordering for writing {@code
@@ -159,6 +160,52 @@ public final class LittleEndianDataOutputStream extends FilterOutputStream imple
     out.write(0xFF & (v >> 8));
   }
 
+  /**
+   * Writes each value of {@code src} as by {@link #writeInt(int)}. This is equivalent to writing
+   * the values one by one, but faster.
+   *
+   * @throws IOException if an I/O error occurs
+   * @since NEXT
+   */
+  public void writeInts(int[] src) throws IOException {
+    writeInts(src, 0, src.length);
+  }
+
+  /**
+   * Writes {@code len} values of {@code src}, starting at index {@code off}, each as by {@link
+   * #writeInt(int)}.
+   *
+   * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of range for {@code src}
+   * @throws IOException if an I/O error occurs
+   * @since NEXT
+   */
+  public void writeInts(int[] src, int off, int len) throws IOException {
+    ByteStreams.writeInts(out, src, off, len, ByteOrder.LITTLE_ENDIAN);
+  }
+
+  /**
+   * Writes each value of {@code src} as by {@link #writeLong(long)}. This is equivalent to writing
+   * the values one by one, but faster.
+   *
+   * @throws IOException if an I/O error occurs
+   * @since NEXT
+   */
+  public void writeLongs(long[] src) throws IOException {
+    writeLongs(src, 0, src.length);
+  }
+
+  /**
+   * Writes {@code len} values of {@code src}, starting at index {@code off}, each as by {@link
+   * #writeLong(long)}.
+   *
+   * @throws IndexOutOfBoundsException if {@code off} or {@code len} is out of range for {@code src}
+   * @throws IOException if an I/O error occurs
+   * @since NEXT
+   */
+  public void writeLongs(long[] src, int off, int len) throws IOException {
+    ByteStreams.writeLongs(out, src, off, len, ByteOrder.LITTLE_ENDIAN);
+  }
+
   @Override
   public void writeUTF(String str) throws IOException {
     ((DataOutputStream) out).writeUTF(str);
@@ -0,0 +1,495 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.io;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+import static java.nio.file.StandardOpenOption.READ;
+
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.base.Optional;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.j2objc.annotations.J2ObjCIncompatible;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.annotation.CheckForNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A {@link ByteSource} that reads a range of a file by mapping it into memory, one segment of at
+ * most {@code segmentSize} bytes at a time, so that files larger than a single {@link
+ * java.nio.MappedByteBuffer} can hold are supported.
+ *
+ * <p>Mappings are only held for the duration of an operation (or, for {@link #openStream()}, until
+ * the stream moves on to the next segment or is closed), so a source can be kept around for a long
+ * time without holding on to address space. Java provides no safe way to unmap a buffer, so the
+ * memory is released when the garbage collector reclaims the buffers, which never escape this
+ * class.
+ *
+ * <p>For charsets supported by {@link ByteLineReader}, the {@link CharSource#lines() lines} of
+ * {@link #asCharSource the char source view} are read straight from the mapped segments, and the
+ * stream can be split at line ends to be processed in parallel.
+ */
+@GwtIncompatible
+@J2ObjCIncompatible // java.nio.file
+@ElementTypesAreNonnullByDefault
+final class MappedByteSource extends ByteSource {
+
+  /** The default size of the mapped segments: large enough to make mapping costs negligible. */
+  static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+  private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+  private final Path path;
+  private final long offset;
+  private final long length;
+  private final int segmentSize;
+
+  MappedByteSource(Path path, long offset, long length, int segmentSize) {
+    checkArgument(offset >= 0, "offset (%s) may not be negative", offset);
+    checkArgument(length >= 0, "length (%s) may not be negative", length);
+    checkArgument(segmentSize > 0, "segmentSize (%s) must be positive", segmentSize);
+    this.path = checkNotNull(path);
+    this.offset = offset;
+    this.length = length;
+    this.segmentSize = segmentSize;
+  }
+
+  private FileChannel openFileChannel() throws IOException {
+    return FileChannel.open(path, READ);
+  }
+
+  /** Returns the position in the file at which this source starts, given the file's size. */
+  private long start(long fileSize) {
+    return Math.min(offset, fileSize);
+  }
+
+  /** Returns the position in the file at which this source ends, given the file's size. */
+  private long end(long fileSize) {
+    long start = start(fileSize);
+    return start + Math.min(length, fileSize - start);
+  }
+
+  private interface SegmentProcessor {
+    /** Processes a mapped segment, returning {@code false} to stop processing. */
+    boolean process(long position, ByteBuffer segment) throws IOException;
+  }
+
+  /**
+   * Maps the bytes in {@code [start, end)} of the given channel one segment at a time and passes
+   * each segment to {@code processor}. Returns {@code false} if the processor stopped early.
+   */
+  private boolean processSegments(
+      FileChannel channel, long start, long end, SegmentProcessor processor) throws IOException {
+    for (long position = start; position < end; ) {
+      long segmentLength = Math.min(segmentSize, end - position);
+      if (!processor.process(position, channel.map(MapMode.READ_ONLY, position, segmentLength))) {
+        return false;
+      }
+      position += segmentLength;
+    }
+    return true;
+  }
+
+  @Override
+  public InputStream openStream() throws IOException {
+    FileChannel channel = openFileChannel();
+    try {
+      long size = channel.size();
+      return new MappedInputStream(channel, start(size), end(size));
+    } catch (Throwable e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public ByteSource slice(long offset, long length) {
+    checkArgument(offset >= 0, "offset (%s) may not be negative", offset);
+    checkArgument(length >= 0, "length (%s) may not be negative", length);
+    long maxLength = this.length - offset;
+    return maxLength <= 0
+        ? ByteSource.empty()
+        : new MappedByteSource(
+            path, this.offset + offset, Math.min(length, maxLength), segmentSize);
+  }
+
+  @Override
+  public boolean isEmpty() throws IOException {
+    return size() == 0;
+  }
+
+  @Override
+  public Optional<Long> sizeIfKnown() {
+    try {
+      return Optional.of(size());
+    } catch (IOException e) {
+      // Failed to get the file's size; we don't know the size.
+      return Optional.absent();
+    }
+  }
+
+  @Override
+  public long size() throws IOException {
+    long fileSize = Files.size(path);
+    return end(fileSize) - start(fileSize);
+  }
+
+  @Override
+  public byte[] read() throws IOException {
+    try (FileChannel channel = openFileChannel()) {
+      long fileSize = channel.size();
+      long start = start(fileSize);
+      long end = end(fileSize);
+      if (end - start > Integer.MAX_VALUE - 8) {
+        throw new OutOfMemoryError((end - start) + " bytes is too large to fit in a byte array");
+      }
+      ByteBuffer result = ByteBuffer.allocate((int) (end - start));
+      processSegments(
+          channel,
+          start,
+          end,
+          (position, segment) -> {
+            result.put(segment);
+            return true;
+          });
+      return result.array();
+    }
+  }
+
+  @Override
+  @ParametricNullness
+  public <T extends @Nullable Object> T read(ByteProcessor<T> processor) throws IOException {
+    checkNotNull(processor);
+    byte[] buf = ScratchBuffers.takeBytes(processor);
+    try (FileChannel channel = openFileChannel()) {
+      long fileSize = channel.size();
+      processSegments(
+          channel,
+          start(fileSize),
+          end(fileSize),
+          (position, segment) -> {
+            while (segment.hasRemaining()) {
+              int len = Math.min(buf.length, segment.remaining());
+              segment.get(buf, 0, len);
+              if (!processor.processBytes(buf, 0, len)) {
+                return false;
+              }
+            }
+            return true;
+          });
+    } finally {
+      ScratchBuffers.recycle(buf);
+    }
+    return processor.getResult();
+  }
+
+  @Override
+  public HashCode hash(HashFunction hashFunction) throws IOException {
+    Hasher hasher = hashFunction.newHasher();
+    try (FileChannel channel = openFileChannel()) {
+      long fileSize = channel.size();
+      processSegments(
+          channel,
+          start(fileSize),
+          end(fileSize),
+          (position, segment) -> {
+            hasher.putBytes(segment);
+            return true;
+          });
+    }
+    return hasher.hash();
+  }
+
+  @Override
+  public boolean contentEquals(ByteSource other) throws IOException {
+    checkNotNull(other);
+    if (!(other instanceof MappedByteSource)) {
+      return super.contentEquals(other);
+    }
+    MappedByteSource that = (MappedByteSource) other;
+    try (FileChannel channel = openFileChannel();
+        FileChannel otherChannel = that.openFileChannel()) {
+      long fileSize = channel.size();
+      long start = start(fileSize);
+      long end = end(fileSize);
+      long otherFileSize = otherChannel.size();
+      long otherStart = that.start(otherFileSize);
+      if (end - start != that.end(otherFileSize) - otherStart) {
+        return false;
+      }
+      return processSegments(
+          channel,
+          start,
+          end,
+          (position, segment) ->
+              segment.equals(
+                  otherChannel.map(
+                      MapMode.READ_ONLY, otherStart + (position - start), segment.remaining())));
+    }
+  }
+
+  @Override
+  public CharSource asCharSource(Charset charset) {
+    return ByteLineReader.supports(charset)
+        ? new MappedCharSource(charset)
+        : super.asCharSource(charset);
+  }
+
+  @Override
+  public String toString() {
+    return "MoreFiles.asMappedByteSource("
+        + path
+        + ")"
+        + (offset == 0 && length == Long.MAX_VALUE ? "" : ".slice(" + offset + ", " + length + ")");
+  }
+
+  /** A char source whose lines are read from mapped segments, and can be split at line ends. */
+  private final class MappedCharSource extends AsCharSource {
+    MappedCharSource(Charset charset) {
+      super(charset);
+    }
+
+    @Override
+    public Stream<String> lines() throws IOException {
+      FileChannel channel = openFileChannel();
+      try {
+        long size = channel.size();
+        return StreamSupport.stream(new LinesSpliterator(channel, start(size), end(size)), false)
+            .onClose(
+                () -> {
+                  try {
+                    channel.close();
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                });
+      } catch (Throwable e) {
+        channel.close();
+        throw e;
+      }
+    }
+
+    /**
+     * A spliterator over the lines in a range of the file. Until it starts reading lines, it can be
+     * split in two at the first line end after the middle of the range.
+     */
+    private final class LinesSpliterator implements Spliterator<String> {
+      /** Ranges shorter than this are not split. */
+      private static final int MIN_SPLIT_SIZE = 1 << 16;
+
+      /** How many bytes are mapped at a time while searching for a line end to split at. */
+      private static final int SCAN_SIZE = 8192;
+
+      private final FileChannel channel;
+      private final long end;
+      private long position; // the start of the part of the range that hasn't been mapped yet
+      @CheckForNull private ByteLineReader reader;
+
+      LinesSpliterator(FileChannel channel, long start, long end) {
+        this.channel = channel;
+        this.position = start;
+        this.end = end;
+      }
+
+      @CheckForNull
+      private ByteBuffer nextSegment() throws IOException {
+        if (position >= end) {
+          return null;
+        }
+        long segmentLength = Math.min(segmentSize, end - position);
+        ByteBuffer segment = channel.map(MapMode.READ_ONLY, position, segmentLength);
+        position += segmentLength;
+        return segment.order(ByteOrder.LITTLE_ENDIAN);
+      }
+
+      @Override
+      public boolean tryAdvance(Consumer<? super String> action) {
+        if (reader == null) {
+          reader = new ByteLineReader(this::nextSegment, charset);
+        }
+        String line;
+        try {
+          line = reader.readLine();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        if (line == null) {
+          return false;
+        }
+        action.accept(line);
+        return true;
+      }
+
+      @Override
+      @CheckForNull
+      public Spliterator<String> trySplit() {
+        if (reader != null || end - position < MIN_SPLIT_SIZE) {
+          return null;
+        }
+        long split;
+        try {
+          split = lineStartAfter(position + (end - position) / 2);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        if (split >= end) {
+          return null;
+        }
+        LinesSpliterator prefix = new LinesSpliterator(channel, position, split);
+        position = split;
+        return prefix;
+      }
+
+      /**
+       * Returns the position just after the first line terminator at or after {@code from}, or
+       * {@code end} if there is none.
+       */
+      private long lineStartAfter(long from) throws IOException {
+        for (long p = from; p < end; p += SCAN_SIZE) {
+          // Map one more byte than is searched, to see whether a '\r' is followed by a '\n'.
+          int length = (int) Math.min(SCAN_SIZE + 1, end - p);
+          ByteBuffer window = channel.map(MapMode.READ_ONLY, p, length);
+          window.order(ByteOrder.LITTLE_ENDIAN);
+          int i = ByteLineReader.indexOfLineTerminator(window, 0, Math.min(SCAN_SIZE, length));
+          if (i != -1) {
+            int next = i + 1;
+            if (window.get(i) == '\r' && next < length && window.get(next) == '\n') {
+              next++;
+            }
+            return p + next;
+          }
+        }
+        return end;
+      }
+
+      @Override
+      public long estimateSize() {
+        // Like the JDK's Files.lines, estimate the number of lines by the number of bytes.
+        return end - position;
+      }
+
+      @Override
+      public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.NONNULL;
+      }
+    }
+  }
+
+  /** An input stream that maps the next segment of the file whenever it reaches a segment's end. */
+  private final class MappedInputStream extends InputStream {
+    private final FileChannel channel;
+    private final long end;
+    private long position; // the position in the file where the next segment starts
+    private ByteBuffer segment = EMPTY;
+    private boolean closed;
+
+    MappedInputStream(FileChannel channel, long start, long end) {
+      this.channel = channel;
+      this.position = start;
+      this.end = end;
+    }
+
+    /**
+     * Ensures that the current segment has bytes remaining, mapping the next one if needed.
+     * Returns {@code false} at the end of the stream.
+     */
+    private boolean ensureSegment() throws IOException {
+      if (closed) {
+        throw new IOException("stream closed");
+      }
+      if (segment.hasRemaining()) {
+        return true;
+      }
+      if (position >= end) {
+        return false;
+      }
+      long segmentLength = Math.min(segmentSize, end - position);
+      segment = channel.map(MapMode.READ_ONLY, position, segmentLength);
+      position += segmentLength;
+      return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+      return ensureSegment() ? segment.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      checkPositionIndexes(off, off + len, b.length);
+      if (len == 0) {
+        return 0;
+      }
+      if (!ensureSegment()) {
+        return -1;
+      }
+      int read = Math.min(len, segment.remaining());
+      segment.get(b, off, read);
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      if (closed) {
+        throw new IOException("stream closed");
+      }
+      if (n <= 0) {
+        return 0;
+      }
+      int remaining = segment.remaining();
+      if (n <= remaining) {
+        Java8Compatibility.position(segment, segment.position() + (int) n);
+        return n;
+      }
+      segment = EMPTY;
+      long skipped = Math.min(n - remaining, end - position);
+      position += skipped;
+      return remaining + skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+      if (closed) {
+        throw new IOException("stream closed");
+      }
+      return segment.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (!closed) {
+        closed = true;
+        segment = EMPTY;
+        channel.close();
+      }
+    }
+  }
+}
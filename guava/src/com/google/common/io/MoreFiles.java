@@ -19,6 +19,10 @@ package com.google.common.io;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.Beta;
@@ -32,6 +36,7 @@ import com.google.j2objc.annotations.J2ObjCIncompatible;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.Channels;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
@@ -54,8 +59,16 @@ import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import javax.annotation.CheckForNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Static utilities for use with {@link Path} instances, intended to complement {@link Files}.
@@ -116,6 +129,11 @@ public final class MoreFiles {
       return Files.newInputStream(path, options);
     }
 
+    @Override
+    public SeekableByteChannel openChannel() throws IOException {
+      return Files.newByteChannel(path, options);
+    }
+
     private BasicFileAttributes readAttributes() throws IOException {
       return Files.readAttributes(
           path,
@@ -164,6 +182,26 @@ public final class MoreFiles {
       }
     }
 
+    @Override
+    public long copyTo(ByteSink sink) throws IOException {
+      return isTransferable() ? copyToUsingChannels(sink) : super.copyTo(sink);
+    }
+
+    /**
+     * Returns whether the path is a regular file with a nonzero size, which is what copying with
+     * {@link java.nio.channels.FileChannel#transferTo} needs. Other files, such as those in /proc
+     * that read as nonempty but report a size of 0, are copied as streams.
+     */
+    private boolean isTransferable() {
+      try {
+        BasicFileAttributes attrs = readAttributes();
+        return attrs.isRegularFile() && attrs.size() > 0;
+      } catch (IOException e) {
+        // Let the stream-based copy report the failure.
+        return false;
+      }
+    }
+
     @Override
     public CharSource asCharSource(Charset charset) {
       if (options.length == 0) {
@@ -189,6 +227,31 @@ public final class MoreFiles {
     }
   }
 
+  /**
+   * Returns a view of the given {@code path} as a {@link ByteSource} that reads the file by mapping
+   * it into memory instead of reading it through streams. Unlike {@link
+   * com.google.common.io.Files#map(java.io.File)}, files of any size are supported: the file is
+   * mapped as a sequence of segments of up to 1 GiB.
+   *
+   * <p>{@link ByteSource#slice slice} only maps the bytes of the slice, making this a good fit for
+   * reading small parts of very large files at random. {@link ByteSource#hash hash} and {@link
+   * ByteSource#contentEquals contentEquals} (with another mapped source) read the mapped buffers
+   * directly, without copying the file's contents to the Java heap.
+   *
+   * <p>The returned source holds no mappings itself; each operation maps only what it reads, and
+   * drops its mappings when done. Because Java provides no way to unmap a buffer explicitly, the
+   * mapped memory is released once the garbage collector reclaims those buffers.
+   *
+   * <p>The file must be in a file system that supports {@link
+   * java.nio.channels.FileChannel#map FileChannel.map}, such as the
+   * {@linkplain java.nio.file.FileSystems#getDefault default} one.
+   *
+   * @since NEXT
+   */
+  public static ByteSource asMappedByteSource(Path path) {
+    return new MappedByteSource(path, 0, Long.MAX_VALUE, MappedByteSource.DEFAULT_SEGMENT_SIZE);
+  }
+
   /**
    * Returns a view of the given {@code path} as a {@link ByteSink}.
    *
@@ -219,6 +282,18 @@ public final class MoreFiles {
       return Files.newOutputStream(path, options);
     }
 
+    @Override
+    public SeekableByteChannel openChannel() throws IOException {
+      // Open the channel with the same options that Files.newOutputStream would use.
+      Set<OpenOption> writeOptions = new HashSet<>(Arrays.asList(options));
+      if (writeOptions.isEmpty()) {
+        writeOptions.add(CREATE);
+        writeOptions.add(TRUNCATE_EXISTING);
+      }
+      writeOptions.add(WRITE);
+      return Files.newByteChannel(path, writeOptions);
+    }
+
     @Override
     public String toString() {
       return "MoreFiles.asByteSink(" + path + ", " + Arrays.toString(options) + ")";
@@ -252,6 +327,93 @@ public final class MoreFiles {
     return asByteSink(path, options).asCharSink(charset);
   }
 
+  /**
+   * Returns a view of the given {@code path} as an {@link AsyncByteSource}, which reads the file
+   * through an {@link AsynchronousFileChannel}.
+   *
+   * <p>Any {@linkplain OpenOption open options} provided are used when opening channels to the
+   * file. Providing no options is equivalent to providing the {@link StandardOpenOption#READ READ}
+   * option.
+   *
+   * @since NEXT
+   */
+  public static AsyncByteSource asAsyncByteSource(Path path, OpenOption... options) {
+    return new PathAsyncByteSource(path, options);
+  }
+
+  private static final class PathAsyncByteSource extends AsyncByteSource {
+
+    private final Path path;
+    private final OpenOption[] options;
+
+    private PathAsyncByteSource(Path path, OpenOption... options) {
+      this.path = checkNotNull(path);
+      this.options = options.clone();
+    }
+
+    @Override
+    public AsynchronousFileChannel openChannel() throws IOException {
+      return AsynchronousFileChannel.open(path, options);
+    }
+
+    @Override
+    public String toString() {
+      return "MoreFiles.asAsyncByteSource(" + path + ", " + Arrays.toString(options) + ")";
+    }
+  }
+
+  /**
+   * Returns a view of the given {@code path} as an {@link AsyncByteSink}, which writes the file
+   * through an {@link AsynchronousFileChannel}.
+   *
+   * <p>Any {@linkplain OpenOption open options} provided are used when opening channels to the
+   * file. Providing no options is equivalent to providing the {@link StandardOpenOption#CREATE
+   * CREATE}, {@link StandardOpenOption#TRUNCATE_EXISTING TRUNCATE_EXISTING} and {@link
+   * StandardOpenOption#WRITE WRITE} options. Asynchronous channels don't support {@link
+   * StandardOpenOption#APPEND APPEND}; instead, if it is provided, each write operation starts at
+   * the size that the file has when the operation begins.
+   *
+   * @since NEXT
+   */
+  public static AsyncByteSink asAsyncByteSink(Path path, OpenOption... options) {
+    return new PathAsyncByteSink(path, options);
+  }
+
+  private static final class PathAsyncByteSink extends AsyncByteSink {
+
+    private final Path path;
+    private final OpenOption[] options;
+    private final boolean append;
+
+    private PathAsyncByteSink(Path path, OpenOption... options) {
+      this.path = checkNotNull(path);
+      this.options = options.clone();
+      this.append = Arrays.asList(this.options).contains(APPEND);
+    }
+
+    @Override
+    public AsynchronousFileChannel openChannel() throws IOException {
+      Set<OpenOption> writeOptions = new HashSet<>(Arrays.asList(options));
+      if (writeOptions.isEmpty()) {
+        writeOptions.add(CREATE);
+        writeOptions.add(TRUNCATE_EXISTING);
+      }
+      writeOptions.remove(APPEND);
+      writeOptions.add(WRITE);
+      return AsynchronousFileChannel.open(path, writeOptions, null);
+    }
+
+    @Override
+    long writePosition(AsynchronousFileChannel channel) throws IOException {
+      return append ? channel.size() : 0;
+    }
+
+    @Override
+    public String toString() {
+      return "MoreFiles.asAsyncByteSink(" + path + ", " + Arrays.toString(options) + ")";
+    }
+  }
+
   /**
    * Returns an immutable list of paths to the files contained in the given directory.
    *
@@ -315,6 +477,115 @@ public final class MoreFiles {
     return ImmutableList.of();
   }
 
+  /**
+   * Passes {@code start} and, if it is a directory, every file and directory under it to {@code
+   * visitor}, listing directories and visiting their entries in parallel on {@code pool}. This
+   * visits the same paths as {@code fileTraverser().depthFirstPreOrder(start)}, and like that
+   * traverser, it attempts to avoid following symbolic links to directories but cannot guarantee
+   * that it will not.
+   *
+   * <p>{@code visitor} is called concurrently from the threads of {@code pool}, in no particular
+   * order, except that a directory is always visited before its entries. If {@code visitor} throws
+   * an exception, this method rethrows it, possibly after more paths have been visited.
+   *
+   * <p>If an I/O exception occurs listing any directory, this method skips that directory's entries
+   * and continues. All such exceptions are collected and, after visiting all other files, an {@code
+   * IOException} is thrown containing those exceptions as {@linkplain Throwable#getSuppressed()
+   * suppressed exceptions}.
+   *
+   * @throws IOException if any directory in the tree rooted at {@code start} can't be listed
+   * @since NEXT
+   */
+  public static void traverseInParallel(
+      Path start, ForkJoinPool pool, Consumer<? super Path> visitor) throws IOException {
+    checkNotNull(visitor);
+    Collection<IOException> exceptions =
+        pool.invoke(new VisitTask(ImmutableList.of(start), visitor));
+    if (exceptions != null) {
+      FileSystemException traversalFailed =
+          new FileSystemException(
+              start.toString(),
+              null,
+              "failed to list one or more directories; see suppressed exceptions for details");
+      for (IOException e : exceptions) {
+        traversalFailed.addSuppressed(e);
+      }
+      throw traversalFailed;
+    }
+  }
+
+  /** Visits a batch of paths and the trees under them for {@link #traverseInParallel}. */
+  @SuppressWarnings("serial") // never serialized
+  private static final class VisitTask extends RecursiveTask<@Nullable Collection<IOException>> {
+    private final List<Path> paths;
+    private final Consumer<? super Path> visitor;
+
+    VisitTask(List<Path> paths, Consumer<? super Path> visitor) {
+      this.paths = paths;
+      this.visitor = visitor;
+    }
+
+    @Override
+    @CheckForNull
+    protected Collection<IOException> compute() {
+      Collection<IOException> exceptions = null;
+      for (Path path : paths) {
+        visitor.accept(path);
+        if (Files.isDirectory(path, NOFOLLOW_LINKS)) {
+          try (DirectoryStream<Path> dir = Files.newDirectoryStream(path)) {
+            exceptions =
+                concat(exceptions, forkInBatches(dir, batch -> new VisitTask(batch, visitor)));
+          } catch (IOException e) {
+            exceptions = addException(exceptions, e);
+          }
+        }
+      }
+      return exceptions;
+    }
+  }
+
+  /**
+   * The number of directory entries that one task of a parallel traversal or delete handles, so
+   * that directories with many entries are split across threads without a task for each entry.
+   */
+  private static final int ENTRIES_PER_TASK = 64;
+
+  /**
+   * Forks a task for each batch of the entries of {@code dir}, and joins them all before returning,
+   * so that {@code dir} may be used by the tasks until it is closed. Returns a collection of the
+   * exceptions that occurred or null if no exceptions were thrown. Must be called from a task
+   * running in a {@link ForkJoinPool}.
+   */
+  @CheckForNull
+  private static Collection<IOException> forkInBatches(
+      DirectoryStream<Path> dir,
+      Function<List<Path>, RecursiveTask<@Nullable Collection<IOException>>> newTask) {
+    Collection<IOException> exceptions = null;
+    List<RecursiveTask<@Nullable Collection<IOException>>> tasks = new ArrayList<>();
+    try {
+      List<Path> batch = new ArrayList<>(ENTRIES_PER_TASK);
+      for (Path entry : dir) {
+        batch.add(entry);
+        if (batch.size() == ENTRIES_PER_TASK) {
+          RecursiveTask<@Nullable Collection<IOException>> task = newTask.apply(batch);
+          task.fork();
+          tasks.add(task);
+          batch = new ArrayList<>(ENTRIES_PER_TASK);
+        }
+      }
+      if (!batch.isEmpty()) {
+        // The last batch runs on this thread, which would otherwise just wait for the others.
+        exceptions = newTask.apply(batch).invoke();
+      }
+    } catch (DirectoryIteratorException e) {
+      exceptions = addException(exceptions, e.getCause());
+    }
+    for (RecursiveTask<@Nullable Collection<IOException>> task : tasks) {
+      exceptions = concat(exceptions, task.join());
+    }
+    return exceptions;
+  }
+
   /**
    * Returns a predicate that returns the result of {@link java.nio.file.Files#isDirectory(Path,
    * LinkOption...)} on input paths with the given link options.
@@ -523,6 +794,37 @@ public final class MoreFiles {
    */
   public static void deleteRecursively(Path path, RecursiveDeleteOption... options)
       throws IOException {
+    deleteRecursivelyInternal(path, null, options);
+  }
+
+  /**
+   * Deletes the file or directory at the given {@code path} recursively, like {@link
+   * #deleteRecursively(Path, RecursiveDeleteOption...)}, but lists directories and deletes their
+   * entries in parallel on {@code pool}. This is typically faster for large trees on storage that
+   * serves concurrent requests well, such as SSDs. The same guarantees apply: when the file system
+   * supports {@link SecureDirectoryStream}, each directory is opened relative to its parent without
+   * following symbolic links, so the delete can't escape {@code path}.
+   *
+   * <p>Each directory in the tree stays open until its entries have been deleted, so deep trees
+   * may have up to about {@code pool.getParallelism()} times their depth in directories open at
+   * once.
+   *
+   * @throws NoSuchFileException if {@code path} does not exist <i>(optional specific exception)</i>
+   * @throws InsecureRecursiveDeleteException if the security of recursive deletes can't be
+   *     guaranteed for the file system and {@link RecursiveDeleteOption#ALLOW_INSECURE} was not
+   *     specified
+   * @throws IOException if {@code path} or any file in the subtree rooted at it can't be deleted
+   *     for any reason
+   * @since NEXT
+   */
+  public static void deleteRecursively(
+      Path path, ForkJoinPool pool, RecursiveDeleteOption... options) throws IOException {
+    deleteRecursivelyInternal(path, checkNotNull(pool), options);
+  }
+
+  private static void deleteRecursivelyInternal(
+      Path path, @CheckForNull ForkJoinPool pool, RecursiveDeleteOption[] options)
+      throws IOException {
     Path parentPath = getParentPath(path);
     if (parentPath == null) {
       throw new FileSystemException(path.toString(), null, "can't delete recursively");
@@ -534,20 +836,25 @@ public final class MoreFiles {
       try (DirectoryStream<Path> parent = Files.newDirectoryStream(parentPath)) {
         if (parent instanceof SecureDirectoryStream) {
           sdsSupported = true;
+          SecureDirectoryStream<Path> sds = (SecureDirectoryStream<Path>) parent;
+          /*
+           * requireNonNull is safe because paths have file names when they have parents, and we
+           * checked for a parent at the beginning of the method.
+           */
+          Path fileName = requireNonNull(path.getFileName());
           exceptions =
-              deleteRecursivelySecure(
-                  (SecureDirectoryStream<Path>) parent,
-                  /*
-                   * requireNonNull is safe because paths have file names when they have parents,
-                   * and we checked for a parent at the beginning of the method.
-                   */
-                  requireNonNull(path.getFileName()));
+              pool == null
+                  ? deleteRecursivelySecure(sds, fileName)
+                  : pool.invoke(new SecureDeleteTask(sds, ImmutableList.of(fileName)));
         }
       }
 
       if (!sdsSupported) {
         checkAllowsInsecure(path, options);
-        exceptions = deleteRecursivelyInsecure(path);
+        exceptions =
+            pool == null
+                ? deleteRecursivelyInsecure(path)
+                : pool.invoke(new InsecureDeleteTask(ImmutableList.of(path)));
       }
     } catch (IOException e) {
       if (exceptions == null) {
@@ -595,14 +902,47 @@ public final class MoreFiles {
    */
   public static void deleteDirectoryContents(Path path, RecursiveDeleteOption... options)
       throws IOException {
+    deleteDirectoryContentsInternal(path, null, options);
+  }
+
+  /**
+   * Deletes all files within the directory at the given {@code path} recursively, like {@link
+   * #deleteDirectoryContents(Path, RecursiveDeleteOption...)}, but lists directories and deletes
+   * their entries in parallel on {@code pool}, as {@link #deleteRecursively(Path, ForkJoinPool,
+   * RecursiveDeleteOption...)} does.
+   *
+   * @throws NoSuchFileException if {@code path} does not exist <i>(optional specific exception)</i>
+   * @throws NotDirectoryException if the file at {@code path} is not a directory <i>(optional
+   *     specific exception)</i>
+   * @throws InsecureRecursiveDeleteException if the security of recursive deletes can't be
+   *     guaranteed for the file system and {@link RecursiveDeleteOption#ALLOW_INSECURE} was not
+   *     specified
+   * @throws IOException if one or more files can't be deleted for any reason
+   * @since NEXT
+   */
+  public static void deleteDirectoryContents(
+      Path path, ForkJoinPool pool, RecursiveDeleteOption... options) throws IOException {
+    deleteDirectoryContentsInternal(path, checkNotNull(pool), options);
+  }
+
+  private static void deleteDirectoryContentsInternal(
+      Path path, @CheckForNull ForkJoinPool pool, RecursiveDeleteOption[] options)
+      throws IOException {
     Collection<IOException> exceptions = null; // created lazily if needed
     try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
       if (stream instanceof SecureDirectoryStream) {
         SecureDirectoryStream<Path> sds = (SecureDirectoryStream<Path>) stream;
-        exceptions = deleteDirectoryContentsSecure(sds);
+        exceptions =
+            pool == null
+                ? deleteDirectoryContentsSecure(sds)
+                : pool.invoke(
+                    new ContentsDeleteTask(sds, batch -> new SecureDeleteTask(sds, batch)));
       } else {
         checkAllowsInsecure(path, options);
-        exceptions = deleteDirectoryContentsInsecure(stream);
+        exceptions =
+            pool == null
+                ? deleteDirectoryContentsInsecure(stream)
+                : pool.invoke(new ContentsDeleteTask(stream, InsecureDeleteTask::new));
       }
     } catch (IOException e) {
       if (exceptions == null) {
@@ -711,6 +1051,125 @@ public final class MoreFiles {
     }
   }
 
+  /**
+   * Parallel version of {@link #deleteRecursivelySecure}, for a batch of entries of {@code dir}.
+   * Returns a collection of exceptions that occurred or null if no exceptions were thrown.
+   */
+  @SuppressWarnings("serial") // never serialized
+  private static final class SecureDeleteTask
+      extends RecursiveTask<@Nullable Collection<IOException>> {
+    private final SecureDirectoryStream<Path> dir;
+    private final List<Path> entries;
+
+    SecureDeleteTask(SecureDirectoryStream<Path> dir, List<Path> entries) {
+      this.dir = dir;
+      this.entries = entries;
+    }
+
+    @Override
+    @CheckForNull
+    protected Collection<IOException> compute() {
+      Collection<IOException> exceptions = null;
+      for (Path entry : entries) {
+        exceptions = concat(exceptions, delete(requireNonNull(entry.getFileName())));
+      }
+      return exceptions;
+    }
+
+    @CheckForNull
+    private Collection<IOException> delete(Path path) {
+      Collection<IOException> exceptions = null;
+      try {
+        if (isDirectory(dir, path, NOFOLLOW_LINKS)) {
+          try (SecureDirectoryStream<Path> childDir =
+              dir.newDirectoryStream(path, NOFOLLOW_LINKS)) {
+            exceptions = forkInBatches(childDir, batch -> new SecureDeleteTask(childDir, batch));
+          }
+
+          // As in deleteRecursivelySecure, don't try to delete a directory whose contents remain.
+          if (exceptions == null) {
+            dir.deleteDirectory(path);
+          }
+        } else {
+          dir.deleteFile(path);
+        }
+
+        return exceptions;
+      } catch (IOException e) {
+        return addException(exceptions, e);
+      }
+    }
+  }
+
+  /**
+   * Parallel version of {@link #deleteRecursivelyInsecure}, for a batch of paths. Returns a
+   * collection of exceptions that occurred or null if no exceptions were thrown.
+   */
+  @SuppressWarnings("serial") // never serialized
+  private static final class InsecureDeleteTask
+      extends RecursiveTask<@Nullable Collection<IOException>> {
+    private final List<Path> paths;
+
+    InsecureDeleteTask(List<Path> paths) {
+      this.paths = paths;
+    }
+
+    @Override
+    @CheckForNull
+    protected Collection<IOException> compute() {
+      Collection<IOException> exceptions = null;
+      for (Path path : paths) {
+        exceptions = concat(exceptions, delete(path));
+      }
+      return exceptions;
+    }
+
+    @CheckForNull
+    private static Collection<IOException> delete(Path path) {
+      Collection<IOException> exceptions = null;
+      try {
+        if (Files.isDirectory(path, NOFOLLOW_LINKS)) {
+          try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
+            exceptions = forkInBatches(stream, InsecureDeleteTask::new);
+          }
+        }
+
+        // As in deleteRecursivelyInsecure, don't try to delete a directory whose contents remain.
+        if (exceptions == null) {
+          Files.delete(path);
+        }
+
+        return exceptions;
+      } catch (IOException e) {
+        return addException(exceptions, e);
+      }
+    }
+  }
+
+  /**
+   * Deletes the entries of an open directory in parallel, for {@link #deleteDirectoryContents(Path,
+   * ForkJoinPool, RecursiveDeleteOption...)}.
+   */
+  @SuppressWarnings("serial") // never serialized
+  private static final class ContentsDeleteTask
+      extends RecursiveTask<@Nullable Collection<IOException>> {
+    private final DirectoryStream<Path> dir;
+    private final Function<List<Path>, RecursiveTask<@Nullable Collection<IOException>>> newTask;
+
+    ContentsDeleteTask(
+        DirectoryStream<Path> dir,
+        Function<List<Path>, RecursiveTask<@Nullable Collection<IOException>>> newTask) {
+      this.dir = dir;
+      this.newTask = newTask;
+    }
+
+    @Override
+    @CheckForNull
+    protected Collection<IOException> compute() {
+      return forkInBatches(dir, newTask);
+    }
+  }
+
   /**
    * Returns a path to the parent directory of the given path. If the path actually has a parent
    * path, this is simple. Otherwise, we need to do some trickier things. Returns null if the path
@@ -0,0 +1,300 @@
+/*
+ * Copyright (C) 2026 The Guava Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package com.google.common.io;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.GwtIncompatible;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Optional;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+import javax.annotation.CheckForNull;
+
+/**
+ * Reads classpath resources like {@link Resources} does, but more cheaply when the same resources
+ * are read repeatedly, as during the startup of an application that loads many plugins.
+ *
+ * <p>{@link Resources#asByteSource(URL)} opens a new {@link java.net.URLConnection} on each read,
+ * which, for a resource in a jar file, looks up the jar file and inflates the entry each time. For
+ * {@code jar:file:} URLs, a {@code ResourceCache} instead opens each jar file once and keeps it
+ * open, looking entries up in the index that {@link JarFile} keeps of them. The contents of small
+ * entries are kept, decompressed, in a cache bounded by the total size given to {@link #create};
+ * larger entries are read from the open jar file each time. Resources at other URLs, including
+ * jars nested in jars, are read as by {@code Resources}, without caching.
+ *
+ * <p>Jar files are opened with verification enabled, as a {@code jar:} URL connection opens them,
+ * so reading an entry of a signed jar file whose contents don't match its signature throws a
+ * {@link SecurityException}. An entry is verified when it is first read, before its contents are
+ * cached.
+ *
+ * <p>Like the JDK's class loaders, this class assumes that jar files are not modified while they
+ * are open. Call {@link #close} to close the jar files that it has opened and discard its cached
+ * contents.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since NEXT
+ */
+@Beta
+@GwtIncompatible
+@ElementTypesAreNonnullByDefault
+public final class ResourceCache implements Closeable {
+
+  /** The size of the largest entry whose contents are cached. */
+  private static final int MAX_CACHED_ENTRY_SIZE = 64 * 1024;
+
+  /**
+   * Returns a new {@code ResourceCache} that keeps at most {@code maximumCachedBytes} bytes of
+   * resource contents in memory. Resources larger than 64 KiB are never cached.
+   *
+   * @throws IllegalArgumentException if {@code maximumCachedBytes} is negative
+   */
+  public static ResourceCache create(long maximumCachedBytes) {
+    checkArgument(
+        maximumCachedBytes >= 0, "maximumCachedBytes (%s) must be >= 0", maximumCachedBytes);
+    return new ResourceCache(maximumCachedBytes);
+  }
+
+  /** The open jar files, by their paths. */
+  private final ConcurrentMap<String, JarFile> jars = new ConcurrentHashMap<>();
+
+  /** The contents of small entries, by their URLs. */
+  private final Cache<String, byte[]> contents;
+
+  private ResourceCache(long maximumCachedBytes) {
+    this.contents =
+        CacheBuilder.newBuilder()
+            .maximumWeight(maximumCachedBytes)
+            .weigher((String url, byte[] bytes) -> bytes.length)
+            .recordStats()
+            .build();
+  }
+
+  /** Returns a {@link ByteSource} that reads from the given URL, using this cache. */
+  public ByteSource asByteSource(URL url) {
+    return new CachedResourceByteSource(url);
+  }
+
+  /** Returns a {@link CharSource} that reads from the given URL, using this cache. */
+  public CharSource asCharSource(URL url, Charset charset) {
+    return asByteSource(url).asCharSource(charset);
+  }
+
+  /**
+   * Reads all bytes from a URL into a byte array, using this cache.
+   *
+   * @throws IOException if an I/O error occurs
+   */
+  public byte[] toByteArray(URL url) throws IOException {
+    return asByteSource(url).read();
+  }
+
+  /**
+   * Closes the jar files that this cache has opened and discards its cached contents. This must not
+   * be called while resources are being read through this cache. The cache remains usable, and
+   * reopens jar files when they are next read.
+   *
+   * @throws IOException if an I/O error occurs closing a jar file
+   */
+  @Override
+  public void close() throws IOException {
+    contents.invalidateAll();
+    Closer closer = Closer.create();
+    for (String path : jars.keySet()) {
+      JarFile jar = jars.remove(path);
+      if (jar != null) {
+        closer.register(jar);
+      }
+    }
+    closer.close();
+  }
+
+  @VisibleForTesting
+  CacheStats stats() {
+    return contents.stats();
+  }
+
+  /** The location of an entry in a jar file on the local file system. */
+  private static final class JarEntryLocation {
+    final File jar;
+    final String entryName;
+
+    JarEntryLocation(File jar, String entryName) {
+      this.jar = jar;
+      this.entryName = entryName;
+    }
+
+    /**
+     * Returns the location of the entry that {@code url} refers to, or null if it is not a {@code
+     * jar:file:} URL for an entry of a jar file that is not itself in a jar file.
+     */
+    @CheckForNull
+    static JarEntryLocation of(URL url) {
+      if (!url.getProtocol().equals("jar")) {
+        return null;
+      }
+      String spec = url.getFile();
+      int separator = spec.indexOf("!/");
+      // Leave nested jars, and entry names that would need decoding, to the URL's own handler.
+      if (separator == -1
+          || spec.indexOf("!/", separator + 2) != -1
+          || spec.indexOf('%', separator) != -1) {
+        return null;
+      }
+      try {
+        URL jarUrl = new URL(spec.substring(0, separator));
+        if (!jarUrl.getProtocol().equals("file")) {
+          return null;
+        }
+        return new JarEntryLocation(new File(jarUrl.toURI()), spec.substring(separator + 2));
+      } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+        return null; // let the URL's own handler deal with it
+      }
+    }
+  }
+
+  private JarFile openJar(File file) throws IOException {
+    String path = file.getPath();
+    JarFile jar = jars.get(path);
+    if (jar == null) {
+      JarFile opened = new JarFile(file); // verifies signed entries
+      jar = jars.putIfAbsent(path, opened);
+      if (jar == null) {
+        jar = opened;
+      } else {
+        opened.close(); // another thread opened it first
+      }
+    }
+    return jar;
+  }
+
+  /** A byte source that reads from a URL through the enclosing cache. */
+  private final class CachedResourceByteSource extends ByteSource {
+
+    private final URL url;
+
+    CachedResourceByteSource(URL url) {
+      this.url = checkNotNull(url);
+    }
+
+    /** Returns the source to read from, which is only valid until the end of the read. */
+    private ByteSource delegate() throws IOException {
+      JarEntryLocation location = JarEntryLocation.of(url);
+      if (location == null) {
+        return Resources.asByteSource(url);
+      }
+      JarFile jar = openJar(location.jar);
+      ZipEntry entry = jar.getEntry(location.entryName);
+      if (entry == null || entry.isDirectory()) {
+        throw new FileNotFoundException(
+            "JAR entry " + location.entryName + " not found in " + location.jar);
+      }
+      long size = entry.getSize();
+      if (size < 0 || size > MAX_CACHED_ENTRY_SIZE) {
+        return new JarEntryByteSource(jar, entry);
+      }
+      try {
+        return ByteSource.wrap(
+            contents.get(
+                url.toString(),
+                () -> {
+                  try (InputStream in = jar.getInputStream(entry)) {
+                    return ByteStreams.toByteArray(in, size);
+                  }
+                }));
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        Throwables.throwIfInstanceOf(cause, IOException.class);
+        throw new AssertionError(cause); // the loader throws only IOException
+      } catch (UncheckedExecutionException e) {
+        // such as the SecurityException of an entry that fails verification
+        Throwables.throwIfUnchecked(e.getCause());
+        throw e;
+      }
+    }
+
+    @Override
+    public InputStream openStream() throws IOException {
+      return delegate().openStream();
+    }
+
+    @Override
+    public Optional<Long> sizeIfKnown() {
+      JarEntryLocation location = JarEntryLocation.of(url);
+      if (location == null) {
+        return Optional.absent();
+      }
+      try {
+        ZipEntry entry = openJar(location.jar).getEntry(location.entryName);
+        return entry == null || entry.getSize() < 0
+            ? Optional.<Long>absent()
+            : Optional.of(entry.getSize());
+      } catch (IOException e) {
+        return Optional.absent();
+      }
+    }
+
+    @Override
+    public byte[] read() throws IOException {
+      return delegate().read();
+    }
+
+    @Override
+    public String toString() {
+      return "ResourceCache.asByteSource(" + url + ")";
+    }
+  }
+
+  /** A byte source for an entry that is too large to cache, read from its open jar file. */
+  private static final class JarEntryByteSource extends ByteSource {
+    private final JarFile jar;
+    private final ZipEntry entry;
+
+    JarEntryByteSource(JarFile jar, ZipEntry entry) {
+      this.jar = jar;
+      this.entry = entry;
+    }
+
+    @Override
+    public InputStream openStream() throws IOException {
+      return jar.getInputStream(entry);
+    }
+
+    @Override
+    public Optional<Long> sizeIfKnown() {
+      long size = entry.getSize();
+      return size < 0 ? Optional.<Long>absent() : Optional.of(size);
+    }
+  }
+}
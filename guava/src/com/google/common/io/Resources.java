@@ -38,6 +38,8 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  *
  * <p>All method parameters must be non-null unless documented otherwise.
  *
+ * <p>To read the same resources from jar files many times, consider a {@link ResourceCache}.
+ *
  * @author Chris Nokleberg
  * @author Ben Yu
  * @author Colin Decker